@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.export.core;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import junit.framework.TestCase;
+
+public class SeparatedValueWriter_1_Test extends TestCase {
+
+	private static final String SERIES = "Series \u00e4";
+	//
+	private File file;
+
+	@Override
+	protected void setUp() throws Exception {
+
+		super.setUp();
+		file = File.createTempFile("export", ".csv");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+
+		file.delete();
+		super.tearDown();
+	}
+
+	public void test1() {
+
+		double[] values = new double[]{1, 2, 2, 3, 4, 4, 5};
+		assertWindow(0, 7, SeparatedValueWriter.getWindow(values, 0, 10));
+		assertWindow(1, 6, SeparatedValueWriter.getWindow(values, 2, 4));
+		assertWindow(3, 4, SeparatedValueWriter.getWindow(values, 2.5, 3.5));
+		assertWindow(7, 7, SeparatedValueWriter.getWindow(values, 6, 7));
+		assertWindow(0, 0, SeparatedValueWriter.getWindow(values, -2, -1));
+	}
+
+	public void test2() {
+
+		double[] values = new double[]{3, 1, 2};
+		assertWindow(0, 3, SeparatedValueWriter.getWindow(values, 1.5, 2.5));
+	}
+
+	public void test3() throws Exception {
+
+		double[] xSeries = new double[]{1, 2, 3, 4, 5};
+		double[] ySeries = new double[]{10, 20, 30, 40, 50};
+		try (SeparatedValueWriter writer = new SeparatedValueWriter(file, ",")) {
+			writer.writeLine("X", "Y");
+			writer.writeLine(SERIES);
+			int[] window = SeparatedValueWriter.getWindow(xSeries, 2, 4);
+			writer.writeSeries(xSeries, ySeries, window[0], window[1], 2, 4, new ValueFormatter(), new ValueFormatter(), null);
+		}
+		List<String> lines = Files.readAllLines(file.toPath(), Charset.defaultCharset());
+		assertEquals(5, lines.size());
+		assertEquals("X,Y", lines.get(0));
+		assertEquals(new String(SERIES.getBytes(Charset.defaultCharset()), Charset.defaultCharset()), lines.get(1));
+		assertEquals("2.0,20.0", lines.get(2));
+		assertEquals("4.0,40.0", lines.get(4));
+	}
+
+	public void test4() throws Exception {
+
+		double[] xSeries = new double[]{4, 1, 3, 2};
+		double[] ySeries = new double[]{40, 10, 30, 20};
+		try (SeparatedValueWriter writer = new SeparatedValueWriter(file, "\t")) {
+			writer.writeSeries(xSeries, ySeries, 0, xSeries.length, 2, 3, new ValueFormatter(), new ValueFormatter(), null);
+		}
+		List<String> lines = Files.readAllLines(file.toPath(), Charset.defaultCharset());
+		assertEquals(2, lines.size());
+		assertEquals("3.0\t30.0", lines.get(0));
+		assertEquals("2.0\t20.0", lines.get(1));
+	}
+
+	public void test5() throws Exception {
+
+		int size = 1000000;
+		double[] xSeries = new double[size];
+		double[] ySeries = new double[size];
+		for(int i = 0; i < size; i++) {
+			xSeries[i] = i;
+			ySeries[i] = Math.sin(i);
+		}
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		try (SeparatedValueWriter writer = new SeparatedValueWriter(file, ",")) {
+			writer.writeSeries(xSeries, ySeries, 0, size, 0, size, new ValueFormatter(), new ValueFormatter(), monitor);
+			fail("The export should have been canceled.");
+		} catch(OperationCanceledException e) {
+			/*
+			 * The whole series has more than 10 bytes per point.
+			 */
+			assertTrue(file.length() < size * 10L);
+		}
+	}
+
+	private static void assertWindow(int start, int end, int[] window) {
+
+		assertEquals(start, window[0]);
+		assertEquals(end, window[1]);
+	}
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.export.core;
+
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+import org.eclipse.swtchart.extensions.axisconverter.MillisecondsToSecondsConverter;
+
+import junit.framework.TestCase;
+
+public class ValueFormatter_1_Test extends TestCase {
+
+	private static final String[] PATTERNS = new String[]{"0.0##", "#,##0.###", "0.00", "0", "#.##", "00.0000", "#,##0.0#####", "0.###E0", "0.0%"};
+	private static final Locale[] LOCALES = new Locale[]{Locale.ENGLISH, Locale.GERMAN};
+
+	public void test1() {
+
+		ValueFormatter valueFormatter = new ValueFormatter();
+		assertEquals("1.0", valueFormatter.format(1.0d));
+		assertEquals("-2.5E-7", valueFormatter.format(-2.5e-7d));
+		assertEquals("1.2345678E7", valueFormatter.format(12345678.0d));
+	}
+
+	public void test2() {
+
+		Random random = new Random(4711);
+		for(String pattern : PATTERNS) {
+			for(Locale locale : LOCALES) {
+				DecimalFormat decimalFormat = new DecimalFormat(pattern, new DecimalFormatSymbols(locale));
+				ValueFormatter valueFormatter = new ValueFormatter(decimalFormat, null);
+				for(int i = 0; i < 10000; i++) {
+					double value = createValue(random);
+					assertEquals(pattern + " " + value, decimalFormat.format(value), valueFormatter.format(value));
+				}
+			}
+		}
+	}
+
+	public void test3() {
+
+		DecimalFormat decimalFormat = new DecimalFormat("0.0#", new DecimalFormatSymbols(Locale.ENGLISH));
+		decimalFormat.setRoundingMode(RoundingMode.HALF_UP);
+		ValueFormatter valueFormatter = new ValueFormatter(decimalFormat, null);
+		double[] values = new double[]{0.0d, -0.0d, -0.001d, 0.125d, 0.135d, 2.675d, 1.005d, -1.005d, Double.NaN, Double.POSITIVE_INFINITY, 1.0e20d};
+		for(double value : values) {
+			assertEquals(Double.toString(value), decimalFormat.format(value), valueFormatter.format(value));
+		}
+	}
+
+	public void test4() {
+
+		DecimalFormat decimalFormat = new DecimalFormat("0.0", new DecimalFormatSymbols(Locale.ENGLISH));
+		ValueFormatter valueFormatter = new ValueFormatter(decimalFormat, new MillisecondsToSecondsConverter());
+		assertEquals("1.5", valueFormatter.format(1500.0d));
+	}
+
+	private static double createValue(Random random) {
+
+		switch(random.nextInt(5)) {
+			case 0:
+				return random.nextInt(2000) - 1000;
+			case 1:
+				return (random.nextInt(200000) - 100000) / 1000.0d;
+			case 2:
+				return (random.nextInt(2000) - 1000) / 8.0d;
+			case 3:
+				return random.nextGaussian() * Math.pow(10.0d, random.nextInt(16) - 6);
+			default:
+				return random.nextDouble() * 1.0e6d;
+		}
+	}
+}
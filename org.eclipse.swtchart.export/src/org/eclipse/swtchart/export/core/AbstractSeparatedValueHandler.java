@@ -14,17 +14,23 @@
 package org.eclipse.swtchart.export.core;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.PrintWriter;
-import java.text.DecimalFormat;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.dialogs.ProgressMonitorDialog;
+import org.eclipse.jface.operation.IRunnableWithProgress;
 import org.eclipse.jface.window.Window;
 import org.eclipse.swt.SWT;
-import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swtchart.IAxis;
 import org.eclipse.swtchart.ISeries;
+import org.eclipse.swtchart.Range;
 import org.eclipse.swtchart.extensions.core.BaseChart;
 import org.eclipse.swtchart.extensions.core.IAxisScaleConverter;
 import org.eclipse.swtchart.extensions.core.IAxisSettings;
@@ -89,41 +95,44 @@ public abstract class AbstractSeparatedValueHandler extends AbstractSeriesExport
 						axisScaleConverterY = secondaryAxisSettings.getAxisScaleConverter();
 					}
 					/*
-					 * Print the XY data.
+					 * Collect the data in the UI thread, the file is written in the background.
 					 */
-					try (PrintWriter printWriter = new PrintWriter(new File(fileName))) {
-						/*
-						 * Header
-						 */
-						printWriter.print(axisSettingsX.getLabel());
-						printWriter.print(delimiter);
-						printWriter.println(axisSettingsY.getLabel());
-						/*
-						 * Axis settings.
-						 */
-						AxisSettings axisSettings = new AxisSettings();
-						axisSettings.setIndexAxisX(indexAxisX);
-						axisSettings.setIndexAxisY(indexAxisY);
-						axisSettings.setAxisSettingsX(axisSettingsX);
-						axisSettings.setAxisScaleConverterX(axisScaleConverterX);
-						axisSettings.setAxisSettingsY(axisSettingsY);
-						axisSettings.setAxisScaleConverterY(axisScaleConverterY);
-						/*
-						 * Data
-						 */
-						int widthPlotArea = baseChart.getPlotArea().getSize().x;
-						ISeries<?>[] series = baseChart.getSeriesSet().getSeries();
-						for(ISeries<?> dataSeries : series) {
-							if(dataSeries != null && dataSeries.isVisible()) {
-								exportSeries(dataSeries, widthPlotArea, axisSettings, printWriter);
-							}
+					AxisSettings axisSettings = new AxisSettings();
+					axisSettings.setIndexAxisX(indexAxisX);
+					axisSettings.setIndexAxisY(indexAxisY);
+					axisSettings.setAxisSettingsX(axisSettingsX);
+					axisSettings.setAxisScaleConverterX(axisScaleConverterX);
+					axisSettings.setAxisSettingsY(axisSettingsY);
+					axisSettings.setAxisScaleConverterY(axisScaleConverterY);
+					//
+					String header = axisSettingsX.getLabel() + delimiter + axisSettingsY.getLabel();
+					List<SeriesExport> seriesExports = new ArrayList<>();
+					for(ISeries<?> dataSeries : baseChart.getSeriesSet().getSeries()) {
+						if(dataSeries != null && dataSeries.isVisible()) {
+							seriesExports.add(createSeriesExport(baseChart, dataSeries, axisSettings));
 						}
-						//
-						printWriter.flush();
+					}
+					//
+					File file = new File(fileName);
+					try {
+						ProgressMonitorDialog monitorDialog = new ProgressMonitorDialog(shell);
+						monitorDialog.run(true, true, new IRunnableWithProgress() {
+
+							@Override
+							public void run(IProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
+
+								exportSeries(file, header, seriesExports, monitor);
+							}
+						});
 						MessageDialog.openInformation(shell, title, MESSAGE_OK);
-					} catch(FileNotFoundException e) {
+					} catch(InvocationTargetException e) {
 						MessageDialog.openError(shell, title, MESSAGE_ERROR);
 						e.printStackTrace();
+					} catch(InterruptedException e) {
+						/*
+						 * Canceled, don't keep an incomplete file.
+						 */
+						file.delete();
 					}
 				}
 			}
@@ -133,51 +142,81 @@ public abstract class AbstractSeparatedValueHandler extends AbstractSeriesExport
 		}
 	}
 
-	private void exportSeries(ISeries<?> dataSeries, int widthPlotArea, AxisSettings axisSettings, PrintWriter printWriter) {
+	private SeriesExport createSeriesExport(BaseChart baseChart, ISeries<?> dataSeries, AxisSettings axisSettings) {
 
-		int indexAxisX = axisSettings.getIndexAxisX();
-		int indexAxisY = axisSettings.getIndexAxisY();
-		IAxisSettings axisSettingsX = axisSettings.getAxisSettingsX();
-		DecimalFormat decimalFormatX = axisSettingsX.getDecimalFormat();
-		IAxisScaleConverter axisScaleConverterX = axisSettings.getAxisScaleConverterX();
-		IAxisSettings axisSettingsY = axisSettings.getAxisSettingsY();
-		DecimalFormat decimalFormatY = axisSettingsY.getDecimalFormat();
-		IAxisScaleConverter axisScaleConverterY = axisSettings.getAxisScaleConverterY();
+		SeriesExport seriesExport = new SeriesExport();
+		seriesExport.identifier = getIdentifier(dataSeries);
+		seriesExport.xSeries = dataSeries.getXSeries();
+		seriesExport.ySeries = dataSeries.getYSeries();
+		seriesExport.formatterX = createValueFormatter(axisSettings.getIndexAxisX(), BaseChart.ID_PRIMARY_X_AXIS, axisSettings.getAxisSettingsX(), axisSettings.getAxisScaleConverterX());
+		seriesExport.formatterY = createValueFormatter(axisSettings.getIndexAxisY(), BaseChart.ID_PRIMARY_Y_AXIS, axisSettings.getAxisSettingsY(), axisSettings.getAxisScaleConverterY());
 		/*
-		 * Series
+		 * Only the data points within the visible X range are exported.
+		 * The window is searched once instead of mapping each point to pixels.
 		 */
-		printWriter.println(getIdentifier(dataSeries));
-		//
-		double[] xSeries = dataSeries.getXSeries();
-		double[] ySeries = dataSeries.getYSeries();
-		int size = dataSeries.getXSeries().length;
-		//
-		for(int i = 0; i < size; i++) {
-			/*
-			 * Only export if the data point is visible.
-			 */
-			Point point = dataSeries.getPixelCoordinates(i);
-			if(point.x >= 0 && point.x <= widthPlotArea) {
-				printValue(printWriter, xSeries[i], indexAxisX, BaseChart.ID_PRIMARY_X_AXIS, decimalFormatX, axisScaleConverterX);
-				printWriter.print(delimiter);
-				printValue(printWriter, ySeries[i], indexAxisY, BaseChart.ID_PRIMARY_Y_AXIS, decimalFormatY, axisScaleConverterY);
-				printWriter.println(""); //$NON-NLS-1$
-			}
+		IAxis axisX = baseChart.getAxisSet().getXAxis(dataSeries.getXAxisId());
+		Range range = axisX.getRange();
+		if(axisX.isCategoryEnabled()) {
+			seriesExport.start = (int)Math.max(0, Math.ceil(range.lower));
+			seriesExport.end = (int)Math.max(seriesExport.start, Math.min(seriesExport.xSeries.length, Math.floor(range.upper) + 1));
+			seriesExport.lower = Double.NEGATIVE_INFINITY;
+			seriesExport.upper = Double.POSITIVE_INFINITY;
+		} else {
+			int[] window = SeparatedValueWriter.getWindow(seriesExport.xSeries, range.lower, range.upper);
+			seriesExport.start = window[0];
+			seriesExport.end = window[1];
+			seriesExport.lower = range.lower;
+			seriesExport.upper = range.upper;
 		}
-		//
-		printWriter.println(""); //$NON-NLS-1$
+		return seriesExport;
 	}
 
-	private void printValue(PrintWriter printWriter, double value, int indexAxis, int indexPrimaryAxis, DecimalFormat decimalFormat, IAxisScaleConverter axisScaleConverter) {
+	private ValueFormatter createValueFormatter(int indexAxis, int indexPrimaryAxis, IAxisSettings axisSettings, IAxisScaleConverter axisScaleConverter) {
 
 		if(indexAxis == indexPrimaryAxis) {
-			printWriter.print(value);
+			return new ValueFormatter();
 		} else {
-			if(axisScaleConverter != null) {
-				printWriter.print(decimalFormat.format(axisScaleConverter.convertToSecondaryUnit(value)));
-			} else {
-				printWriter.print(decimalFormat.format(value));
+			return new ValueFormatter(axisSettings.getDecimalFormat(), axisScaleConverter);
+		}
+	}
+
+	private void exportSeries(File file, String header, List<SeriesExport> seriesExports, IProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
+
+		int points = 0;
+		for(SeriesExport seriesExport : seriesExports) {
+			points += seriesExport.end - seriesExport.start;
+		}
+		//
+		monitor.beginTask(title, points);
+		try (SeparatedValueWriter separatedValueWriter = new SeparatedValueWriter(file, delimiter)) {
+			separatedValueWriter.writeLine(header);
+			for(SeriesExport seriesExport : seriesExports) {
+				separatedValueWriter.writeLine(seriesExport.identifier);
+				separatedValueWriter.writeSeries(seriesExport.xSeries, seriesExport.ySeries, seriesExport.start, seriesExport.end, seriesExport.lower, seriesExport.upper, seriesExport.formatterX, seriesExport.formatterY, monitor);
+				separatedValueWriter.writeLine(""); //$NON-NLS-1$
 			}
+		} catch(OperationCanceledException e) {
+			throw new InterruptedException();
+		} catch(IOException e) {
+			throw new InvocationTargetException(e);
+		} finally {
+			monitor.done();
 		}
 	}
+
+	/**
+	 * The data of a series, collected in the UI thread.
+	 */
+	private static final class SeriesExport {
+
+		private String identifier;
+		private double[] xSeries;
+		private double[] ySeries;
+		private int start;
+		private int end;
+		private double lower;
+		private double upper;
+		private ValueFormatter formatterX;
+		private ValueFormatter formatterY;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.export.core;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Streams series data as separated values into a file. The writer has no
+ * access to the chart, hence it can be used off the UI thread once the data
+ * has been collected.
+ */
+public class SeparatedValueWriter implements Closeable {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final int PROGRESS_STEP = 1 << 16;
+	//
+	private final FileChannel fileChannel;
+	private final ByteBuffer byteBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+	private final Charset charset = Charset.defaultCharset();
+	private final StringBuilder line = new StringBuilder();
+	private final String delimiter;
+	private final String lineSeparator = System.lineSeparator();
+
+	public SeparatedValueWriter(File file, String delimiter) throws IOException {
+
+		this.fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		this.delimiter = delimiter;
+	}
+
+	/**
+	 * Writes the text and a line separator.
+	 *
+	 * @param text
+	 * @throws IOException
+	 */
+	public void writeLine(String text) throws IOException {
+
+		line.setLength(0);
+		line.append(text);
+		line.append(lineSeparator);
+		write(line);
+	}
+
+	/**
+	 * Writes the values separated by the delimiter.
+	 *
+	 * @param values
+	 * @throws IOException
+	 */
+	public void writeLine(String... values) throws IOException {
+
+		writeLine(String.join(delimiter, values));
+	}
+
+	/**
+	 * Writes the points [start, end) whose X value is in the range [lower, upper]
+	 * and reports the progress every 65536 points.
+	 *
+	 * @param xSeries
+	 * @param ySeries
+	 * @param start
+	 * @param end
+	 * @param lower
+	 * @param upper
+	 * @param formatterX
+	 * @param formatterY
+	 * @param monitor
+	 *            the monitor or null
+	 * @throws IOException
+	 * @throws OperationCanceledException
+	 *             if the monitor has been canceled
+	 */
+	public void writeSeries(double[] xSeries, double[] ySeries, int start, int end, double lower, double upper, ValueFormatter formatterX, ValueFormatter formatterY, IProgressMonitor monitor) throws IOException {
+
+		int length = Math.min(end, Math.min(xSeries.length, ySeries.length));
+		for(int i = start; i < length; i++) {
+			double x = xSeries[i];
+			if(x >= lower && x <= upper) {
+				line.setLength(0);
+				formatterX.format(x, line);
+				line.append(delimiter);
+				formatterY.format(ySeries[i], line);
+				line.append(lineSeparator);
+				write(line);
+			}
+			//
+			if((i - start + 1) % PROGRESS_STEP == 0 && monitor != null) {
+				if(monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				monitor.worked(PROGRESS_STEP);
+			}
+		}
+		if(monitor != null) {
+			monitor.worked(Math.max(0, length - start) % PROGRESS_STEP);
+		}
+	}
+
+	/**
+	 * Returns the window [start, end) of the values within [lower, upper]. If
+	 * the values are sorted ascending, the window is searched binary. Otherwise,
+	 * the window contains all values and they need to be checked one by one.
+	 *
+	 * @param values
+	 * @param lower
+	 * @param upper
+	 * @return int[]{start, end}
+	 */
+	public static int[] getWindow(double[] values, double lower, double upper) {
+
+		if(!isSortedAscending(values)) {
+			return new int[]{0, values.length};
+		}
+		/*
+		 * First index >= lower and first index > upper.
+		 */
+		int start = Arrays.binarySearch(values, lower);
+		if(start < 0) {
+			start = -start - 1;
+		} else {
+			while(start > 0 && values[start - 1] == lower) {
+				start--;
+			}
+		}
+		int end = Arrays.binarySearch(values, upper);
+		if(end < 0) {
+			end = -end - 1;
+		} else {
+			while(end < values.length && values[end] == upper) {
+				end++;
+			}
+		}
+		return new int[]{start, Math.max(start, end)};
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		try {
+			flush();
+		} finally {
+			fileChannel.close();
+		}
+	}
+
+	private void write(CharSequence text) throws IOException {
+
+		int length = text.length();
+		if(byteBuffer.remaining() < length) {
+			flush();
+		}
+		/*
+		 * Numbers are ASCII, hence they are copied without an encoder.
+		 */
+		if(length <= byteBuffer.remaining()) {
+			int position = byteBuffer.position();
+			boolean ascii = true;
+			for(int i = 0; i < length; i++) {
+				char c = text.charAt(i);
+				if(c >= 0x80) {
+					ascii = false;
+					break;
+				}
+				byteBuffer.put((byte)c);
+			}
+			if(ascii) {
+				return;
+			}
+			byteBuffer.position(position);
+		}
+		flush();
+		ByteBuffer encoded = charset.encode(CharBuffer.wrap(text));
+		while(encoded.hasRemaining()) {
+			fileChannel.write(encoded);
+		}
+	}
+
+	private void flush() throws IOException {
+
+		byteBuffer.flip();
+		while(byteBuffer.hasRemaining()) {
+			fileChannel.write(byteBuffer);
+		}
+		byteBuffer.clear();
+	}
+
+	private static boolean isSortedAscending(double[] values) {
+
+		for(int i = 1; i < values.length; i++) {
+			if(Double.compare(values[i - 1], values[i]) > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
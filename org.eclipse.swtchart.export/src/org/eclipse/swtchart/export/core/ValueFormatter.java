@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.export.core;
+
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+
+import org.eclipse.swtchart.extensions.core.IAxisScaleConverter;
+
+/**
+ * Formats the values of an axis for the text export. Values of a primary axis
+ * are written as by {@link Double#toString(double)}, values of a secondary axis
+ * are converted and formatted like the axis labels.
+ * <p>
+ * Simple decimal formats, e.g. "0.0##" or "#,##0.###", are formatted with long
+ * arithmetic, which is much faster than {@link DecimalFormat} and gives the
+ * same text. Other formats and values close to a rounding tie are delegated to
+ * a copy of the decimal format. A formatter must be used by one thread only.
+ */
+public class ValueFormatter {
+
+	private static final int MAX_FAST_FRACTION_DIGITS = 15;
+	private static final double MAX_FAST_VALUE = 1.0e15d;
+	private static final double TIE_TOLERANCE = 1.0e-6d;
+	private static final long[] POWERS_OF_TEN = new long[MAX_FAST_FRACTION_DIGITS + 1];
+	static {
+		POWERS_OF_TEN[0] = 1L;
+		for(int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+		}
+	}
+
+	private final DecimalFormat decimalFormat;
+	private final IAxisScaleConverter axisScaleConverter;
+	private final boolean fastFormat;
+	private final char[] digits = new char[20];
+	//
+	private int minimumIntegerDigits;
+	private int minimumFractionDigits;
+	private int maximumFractionDigits;
+	private int groupingSize;
+	private char groupingSeparator;
+	private char decimalSeparator;
+	private char minusSign;
+	private boolean decimalSeparatorAlwaysShown;
+
+	/**
+	 * Creates a formatter for a primary axis.
+	 */
+	public ValueFormatter() {
+
+		this(null, null);
+	}
+
+	/**
+	 * Creates a formatter for a secondary axis.
+	 *
+	 * @param decimalFormat
+	 *            the format of the axis, which is copied
+	 * @param axisScaleConverter
+	 *            the converter of the axis or null
+	 */
+	public ValueFormatter(DecimalFormat decimalFormat, IAxisScaleConverter axisScaleConverter) {
+
+		this.decimalFormat = decimalFormat != null ? (DecimalFormat)decimalFormat.clone() : null;
+		this.axisScaleConverter = axisScaleConverter;
+		fastFormat = this.decimalFormat != null && initializeFastFormat(this.decimalFormat);
+	}
+
+	public String format(double value) {
+
+		StringBuilder builder = new StringBuilder();
+		format(value, builder);
+		return builder.toString();
+	}
+
+	/**
+	 * Appends the formatted value.
+	 *
+	 * @param value
+	 * @param builder
+	 */
+	public void format(double value, StringBuilder builder) {
+
+		if(decimalFormat == null) {
+			builder.append(value);
+			return;
+		}
+		//
+		if(axisScaleConverter != null) {
+			value = axisScaleConverter.convertToSecondaryUnit(value);
+		}
+		//
+		if(!fastFormat || !appendFast(value, builder)) {
+			builder.append(decimalFormat.format(value));
+		}
+	}
+
+	private boolean initializeFastFormat(DecimalFormat decimalFormat) {
+
+		DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+		String minus = String.valueOf(symbols.getMinusSign());
+		if(decimalFormat.toPattern().indexOf('E') >= 0 || decimalFormat.getMultiplier() != 1 || symbols.getZeroDigit() != '0') {
+			return false;
+		}
+		if(!decimalFormat.getPositivePrefix().isEmpty() || !decimalFormat.getPositiveSuffix().isEmpty() || !minus.equals(decimalFormat.getNegativePrefix()) || !decimalFormat.getNegativeSuffix().isEmpty()) {
+			return false;
+		}
+		RoundingMode roundingMode = decimalFormat.getRoundingMode();
+		if(roundingMode != RoundingMode.HALF_EVEN && roundingMode != RoundingMode.HALF_UP && roundingMode != RoundingMode.HALF_DOWN) {
+			return false;
+		}
+		if(decimalFormat.getMaximumFractionDigits() > MAX_FAST_FRACTION_DIGITS || decimalFormat.getMaximumIntegerDigits() < digits.length) {
+			return false;
+		}
+		//
+		minimumIntegerDigits = Math.min(decimalFormat.getMinimumIntegerDigits(), digits.length);
+		minimumFractionDigits = decimalFormat.getMinimumFractionDigits();
+		maximumFractionDigits = decimalFormat.getMaximumFractionDigits();
+		groupingSize = decimalFormat.isGroupingUsed() ? decimalFormat.getGroupingSize() : 0;
+		groupingSeparator = symbols.getGroupingSeparator();
+		decimalSeparator = symbols.getDecimalSeparator();
+		minusSign = symbols.getMinusSign();
+		decimalSeparatorAlwaysShown = decimalFormat.isDecimalSeparatorAlwaysShown();
+		return true;
+	}
+
+	/**
+	 * Appends the value if it can be rounded exactly with long arithmetic,
+	 * otherwise false is returned and nothing is appended.
+	 */
+	private boolean appendFast(double value, StringBuilder builder) {
+
+		double scaled = Math.abs(value) * POWERS_OF_TEN[maximumFractionDigits];
+		if(!(scaled < MAX_FAST_VALUE)) {
+			return false; // NaN, infinite or too large
+		}
+		/*
+		 * The product is not exact, hence values close to x.5 are left to the
+		 * decimal format, which rounds the exact binary value.
+		 */
+		double fraction = scaled - Math.floor(scaled);
+		if(Math.abs(fraction - 0.5d) < TIE_TOLERANCE) {
+			return false;
+		}
+		//
+		long rounded = (long)Math.floor(scaled + 0.5d);
+		long integerPart = rounded / POWERS_OF_TEN[maximumFractionDigits];
+		long fractionPart = rounded % POWERS_OF_TEN[maximumFractionDigits];
+		int fractionDigits = maximumFractionDigits;
+		while(fractionDigits > minimumFractionDigits && fractionPart % 10L == 0) {
+			fractionPart /= 10L;
+			fractionDigits--;
+		}
+		/*
+		 * Like DecimalFormat, negative values rounded to zero keep their sign.
+		 */
+		if(value < 0.0d || (value == 0.0d && 1.0d / value < 0.0d)) {
+			builder.append(minusSign);
+		}
+		//
+		int integerDigits = 0;
+		for(long remainder = integerPart; remainder > 0; remainder /= 10L) {
+			digits[integerDigits++] = (char)('0' + remainder % 10L);
+		}
+		while(integerDigits < minimumIntegerDigits) {
+			digits[integerDigits++] = '0';
+		}
+		if(integerDigits == 0 && fractionDigits == 0) {
+			digits[integerDigits++] = '0';
+		}
+		for(int i = integerDigits - 1; i >= 0; i--) {
+			builder.append(digits[i]);
+			if(groupingSize > 0 && i > 0 && i % groupingSize == 0) {
+				builder.append(groupingSeparator);
+			}
+		}
+		//
+		if(fractionDigits > 0 || decimalSeparatorAlwaysShown) {
+			builder.append(decimalSeparator);
+		}
+		for(int i = fractionDigits - 1; i >= 0; i--) {
+			builder.append((char)('0' + (fractionPart / POWERS_OF_TEN[i]) % 10L));
+		}
+		return true;
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import junit.framework.TestCase;
+
+public class LargestTriangleThreeBucketsDownsampler_1_Test extends TestCase {
+
+	private static final int LENGTH = 100000;
+	private static final int SPIKE = 45678;
+	private ISeriesData seriesData;
+
+	@Override
+	protected void setUp() throws Exception {
+
+		super.setUp();
+		double[] xSeries = new double[LENGTH];
+		double[] ySeries = new double[LENGTH];
+		for(int i = 0; i < LENGTH; i++) {
+			xSeries[i] = i;
+			ySeries[i] = Math.sin(i / 100.0d);
+		}
+		ySeries[SPIKE] = 100;
+		seriesData = new SeriesData(xSeries, ySeries, "Test");
+	}
+
+	public void test1() {
+
+		ISeriesData result = new LargestTriangleThreeBucketsDownsampler().downsample(seriesData, 2000);
+		double[] xSeries = result.getXSeries();
+		double[] ySeries = result.getYSeries();
+		assertEquals(2000, xSeries.length);
+		assertEquals(2000, ySeries.length);
+		assertEquals(0.0d, xSeries[0]);
+		assertEquals(LENGTH - 1.0d, xSeries[xSeries.length - 1]);
+		boolean containsSpike = false;
+		for(int i = 0; i < xSeries.length; i++) {
+			if(i > 0) {
+				assertTrue(xSeries[i - 1] < xSeries[i]);
+			}
+			containsSpike |= xSeries[i] == SPIKE;
+		}
+		assertTrue(containsSpike);
+	}
+
+	public void test2() {
+
+		ISeriesData result = new ModuloDownsampler().downsample(seriesData, 2000);
+		double[] xSeries = result.getXSeries();
+		assertEquals(2001, xSeries.length);
+		assertEquals(0.0d, xSeries[0]);
+		assertEquals(50.0d, xSeries[1]);
+		assertEquals(LENGTH - 1.0d, xSeries[xSeries.length - 1]);
+	}
+
+	public void test3() {
+
+		assertSame(seriesData, new LargestTriangleThreeBucketsDownsampler().downsample(seriesData, LENGTH));
+		assertSame(seriesData, new ModuloDownsampler().downsample(seriesData, LENGTH));
+	}
+
+	public void test4() {
+
+		for(int compressToLength : new int[]{0, -1, Integer.MIN_VALUE}) {
+			double[] xSeries = new ModuloDownsampler().downsample(seriesData, compressToLength).getXSeries();
+			assertEquals(2, xSeries.length);
+			assertEquals(0.0d, xSeries[0]);
+			assertEquals(LENGTH - 1.0d, xSeries[1]);
+		}
+	}
+
+	public void test5() {
+
+		/*
+		 * The series are requested once, so that data
+		 * which copies its series isn't copied per bucket.
+		 */
+		int[] requests = new int[2];
+		ISeriesData countingSeriesData = new ISeriesData() {
+
+			@Override
+			public double[] getXSeries() {
+
+				requests[0]++;
+				return seriesData.getXSeries();
+			}
+
+			@Override
+			public double[] getYSeries() {
+
+				requests[1]++;
+				return seriesData.getYSeries();
+			}
+
+			@Override
+			public String getId() {
+
+				return seriesData.getId();
+			}
+		};
+		assertEquals(2000, new LargestTriangleThreeBucketsDownsampler().downsample(countingSeriesData, 2000).getXSeries().length);
+		assertEquals(1, requests[0]);
+		assertEquals(1, requests[1]);
+	}
+}
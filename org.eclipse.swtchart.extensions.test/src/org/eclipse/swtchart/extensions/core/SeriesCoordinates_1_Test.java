@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import junit.framework.TestCase;
+
+public class SeriesCoordinates_1_Test extends TestCase {
+
+	private SeriesCoordinates seriesCoordinates = new SeriesCoordinates();
+
+	@Override
+	protected void setUp() throws Exception {
+
+		super.setUp();
+		seriesCoordinates.put("A", 0.0d, 10.0d, -5.0d, 5.0d, 100);
+		seriesCoordinates.put("B", -2.0d, 8.0d, 0.0d, 20.0d, 50);
+		seriesCoordinates.put("C", 1.0d, 10.0d, -1.0d, 3.0d, 100);
+	}
+
+	public void test1() {
+
+		assertEquals(-2.0d, seriesCoordinates.getMinX());
+		assertEquals(10.0d, seriesCoordinates.getMaxX());
+		assertEquals(-5.0d, seriesCoordinates.getMinY());
+		assertEquals(20.0d, seriesCoordinates.getMaxY());
+		assertEquals(100, seriesCoordinates.getMaxLength());
+	}
+
+	public void test2() {
+
+		seriesCoordinates.remove("B");
+		assertEquals(0.0d, seriesCoordinates.getMinX());
+		assertEquals(5.0d, seriesCoordinates.getMaxY());
+		seriesCoordinates.remove("A");
+		assertEquals(10.0d, seriesCoordinates.getMaxX());
+		assertEquals(-1.0d, seriesCoordinates.getMinY());
+		assertEquals(100, seriesCoordinates.getMaxLength());
+	}
+
+	public void test3() {
+
+		seriesCoordinates.put("B", 3.0d, 4.0d, 0.0d, 1.0d, 200);
+		assertEquals(0.0d, seriesCoordinates.getMinX());
+		assertEquals(5.0d, seriesCoordinates.getMaxY());
+		assertEquals(200, seriesCoordinates.getMaxLength());
+	}
+
+	public void test4() {
+
+		seriesCoordinates.extend(null, -10.0d, 0.0d, 0.0d, 0.0d, 0);
+		assertEquals(-10.0d, seriesCoordinates.getMinX());
+		seriesCoordinates.extend(null, 0.0d, 0.0d, 0.0d, 30.0d, 0);
+		assertEquals(-10.0d, seriesCoordinates.getMinX());
+		assertEquals(30.0d, seriesCoordinates.getMaxY());
+		seriesCoordinates.remove(null);
+		assertEquals(-2.0d, seriesCoordinates.getMinX());
+		assertEquals(20.0d, seriesCoordinates.getMaxY());
+	}
+
+	public void test5() {
+
+		seriesCoordinates.clear();
+		assertTrue(seriesCoordinates.isEmpty());
+		assertEquals(Double.POSITIVE_INFINITY, seriesCoordinates.getMinX());
+		assertEquals(Double.NEGATIVE_INFINITY, seriesCoordinates.getMaxY());
+		assertEquals(0, seriesCoordinates.getMaxLength());
+	}
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.internal.support;
+
+import junit.framework.TestCase;
+
+public class SearchIndex_1_Test extends TestCase {
+
+	private SearchIndex searchIndex = new SearchIndex(element -> ((String)element).split("\\|"));
+
+	@Override
+	protected void setUp() throws Exception {
+
+		super.setUp();
+		searchIndex.setElements(new Object[]{"Alpha|first", "beta|Second", "gamma|third", "ALPHABET|fourth"});
+	}
+
+	public void test1() {
+
+		assertEquals(4, searchIndex.getMatchCount());
+		assertFalse(searchIndex.setSearchText("", false));
+		assertTrue(searchIndex.setSearchText("alpha", false));
+		assertEquals(2, searchIndex.getMatchCount());
+		assertEquals("Alpha|first", searchIndex.getMatches()[0]);
+		assertEquals("ALPHABET|fourth", searchIndex.getMatches()[1]);
+	}
+
+	public void test2() {
+
+		searchIndex.setSearchText("Alpha", true);
+		assertEquals(1, searchIndex.getMatchCount());
+		searchIndex.setSearchText("Alpha", false);
+		assertEquals(2, searchIndex.getMatchCount());
+	}
+
+	public void test3() {
+
+		searchIndex.setSearchText("alph", false);
+		assertEquals(2, searchIndex.getMatchCount());
+		searchIndex.setSearchText("alphab", false);
+		assertEquals(1, searchIndex.getMatchCount());
+		searchIndex.setSearchText("alph", false);
+		assertEquals(2, searchIndex.getMatchCount());
+	}
+
+	public void test4() {
+
+		/*
+		 * Terms are searched separately.
+		 */
+		searchIndex.setSearchText("afirst", false);
+		assertEquals(0, searchIndex.getMatchCount());
+		searchIndex.setSearchText("second", false);
+		assertEquals(1, searchIndex.getMatchCount());
+	}
+
+	public void test5() {
+
+		searchIndex.setSearchText("beta", false);
+		searchIndex.setElements(new Object[]{"beta|1", "beta|2", "delta|3"});
+		assertEquals(2, searchIndex.getMatchCount());
+	}
+
+	public void test6() {
+
+		int size = 970;
+		Object[] elements = new Object[size];
+		for(int i = 0; i < size; i++) {
+			elements[i] = "Chromatogram " + i + "|Sample " + (i % 97);
+		}
+		int[] calls = new int[1];
+		SearchIndex countingIndex = new SearchIndex(element -> {
+			calls[0]++;
+			return ((String)element).split("\\|");
+		});
+		countingIndex.setElements(elements);
+		String text = "";
+		for(char c : "sample 42".toCharArray()) {
+			text += c;
+			countingIndex.setSearchText(text, false);
+		}
+		assertEquals(size / 97, countingIndex.getMatchCount());
+		/*
+		 * The terms are collected once, not per typed character.
+		 */
+		assertEquals(size, calls[0]);
+		countingIndex.invalidate();
+		assertEquals(2 * size, calls[0]);
+		assertEquals(size / 97, countingIndex.getMatchCount());
+	}
+}
@@ -32,6 +32,7 @@ import org.eclipse.swtchart.ISeries;
 import org.eclipse.swtchart.ISeries.SeriesType;
 import org.eclipse.swtchart.ISeriesSet;
 import org.eclipse.swtchart.Range;
+import org.eclipse.swtchart.SeriesTransform;
 import org.eclipse.swtchart.extensions.barcharts.IBarSeriesSettings;
 import org.eclipse.swtchart.extensions.core.RangeRestriction.ExtendType;
 import org.eclipse.swtchart.extensions.exceptions.SeriesException;
@@ -40,8 +41,11 @@ import org.eclipse.swtchart.extensions.piecharts.CircularSeriesData;
 import org.eclipse.swtchart.extensions.piecharts.ICircularSeriesData;
 import org.eclipse.swtchart.extensions.piecharts.ICircularSeriesSettings;
 import org.eclipse.swtchart.extensions.scattercharts.IScatterSeriesSettings;
+import org.eclipse.swtchart.model.CartesianSeriesModel;
+import org.eclipse.swtchart.model.IndexedSeriesModel;
 import org.eclipse.swtchart.model.Node;
 import org.eclipse.swtchart.model.NodeDataModel;
+import org.eclipse.swtchart.model.RingBufferSeriesModel;
 
 public abstract class AbstractExtendedChart extends AbstractHandledChart implements IChartDataCoordinates, IRangeSupport, IExtendedChart {
 
@@ -51,6 +55,12 @@ public abstract class AbstractExtendedChart extends AbstractHandledChart impleme
 	private double minY;
 	private double maxY;
 	private RangeRestriction rangeRestriction = new RangeRestriction();
+	/*
+	 * The min/max values and the length of each series are cached,
+	 * so that adding, appending or deleting a series doesn't require
+	 * to scan the data of the other series again.
+	 */
+	private final SeriesCoordinates seriesCoordinates = new SeriesCoordinates();
 	/*
 	 * The extended values are only used internally.
 	 */
@@ -341,7 +351,8 @@ public abstract class AbstractExtendedChart extends AbstractHandledChart impleme
 				ICircularSeries<?> circularSeries = (ICircularSeries<?>)series;
 				circularSeries.setNodeDataModel(nodeDataModel);
 				double depth = nodeDataModel.getRootPointer().getMaxSubTreeDepth() - 1;
-				updateCoordinates(-depth, depth, -depth, depth);
+				seriesCoordinates.put(id, -depth, depth, -depth, depth, 0);
+				calculateCoordinates();
 				/*
 				 * Create the series settings.
 				 */
@@ -407,13 +418,17 @@ public abstract class AbstractExtendedChart extends AbstractHandledChart impleme
 
 		ISeriesSet seriesSet = getSeriesSet();
 		if(seriesSet.getSeries(id) != null) {
-			resetCoordinates();
 			seriesSet.deleteSeries(id);
 			seriesSettingsMap.remove(id);
 			seriesSettingsMapReset.remove(id);
-			for(ISeries<?> series : seriesSet.getSeries()) {
-				calculateCoordinates(series);
-			}
+			/*
+			 * Coordinates which are not related to a series
+			 * might stem from the deleted series, hence
+			 * they are discarded as well.
+			 */
+			seriesCoordinates.remove(id);
+			seriesCoordinates.remove(null);
+			calculateCoordinates();
 		}
 	}
 
@@ -447,13 +462,43 @@ public abstract class AbstractExtendedChart extends AbstractHandledChart impleme
 			ISeries<?> series = seriesSet.getSeries(seriesData.getId());
 			if(series != null) {
 				/*
-				 * Append the data.
+				 * Append the data. The model provides the
+				 * min/max values without scanning the data.
+				 */
+				series.appendSeries(seriesData.getXSeries(), seriesData.getYSeries());
+				calculateCoordinates(series);
+			}
+		}
+	}
+
+	/**
+	 * Appends the data to an existing series, which only keeps the data within
+	 * the given X span, measured from the last data point (sliding window).
+	 * This is meant for streaming data, e.g. to show the last seconds of an
+	 * acquisition. The series is switched to a {@link RingBufferSeriesModel}
+	 * with the given span if necessary.
+	 * 
+	 * @param seriesData
+	 * @param span
+	 */
+	@SuppressWarnings("unchecked")
+	public void appendSeries(ISeriesData seriesData, double span) {
+
+		if(seriesData != null) {
+			ISeriesSet seriesSet = getSeriesSet();
+			ISeries<?> series = seriesSet.getSeries(seriesData.getId());
+			if(series != null) {
+				if(!(series.getDataModel() instanceof RingBufferSeriesModel ringBufferSeriesModel) || ringBufferSeriesModel.getSpan() != span) {
+					RingBufferSeriesModel dataModel = new RingBufferSeriesModel(0, span);
+					dataModel.append(series.getXSeries(), series.getYSeries());
+					((ISeries<Integer>)series).setDataModel(dataModel);
+				}
+				series.appendSeries(seriesData.getXSeries(), seriesData.getYSeries());
+				/*
+				 * The range of the series shrinks when old data is removed,
+				 * hence its coordinates are replaced. The models provide
+				 * their min/max values without scanning the data.
 				 */
-				double[] xSeriesNew = concatenateSeries(series.getXSeries(), seriesData.getXSeries());
-				series.setXSeries(xSeriesNew);
-				double[] ySeriesNew = concatenateSeries(series.getYSeries(), seriesData.getYSeries());
-				series.setYSeries(ySeriesNew);
-				//
 				calculateCoordinates(series);
 			}
 		}
@@ -493,15 +538,6 @@ public abstract class AbstractExtendedChart extends AbstractHandledChart impleme
 		return seriesType;
 	}
 
-	private double[] concatenateSeries(double[] a, double[] b) {
-
-		int length = a.length + b.length;
-		double[] c = new double[length];
-		System.arraycopy(a, 0, c, 0, a.length);
-		System.arraycopy(b, 0, c, a.length, b.length);
-		return c;
-	}
-
 	@Override
 	public void setRange(String axis, double start, double stop) {
 
@@ -592,6 +628,7 @@ public abstract class AbstractExtendedChart extends AbstractHandledChart impleme
 	 */
 	private void resetCoordinates() {
 
+		seriesCoordinates.clear();
 		seriesMaxDataPoints = 0;
 		minX = Double.POSITIVE_INFINITY;
 		maxX = Double.NEGATIVE_INFINITY;
@@ -599,33 +636,88 @@ public abstract class AbstractExtendedChart extends AbstractHandledChart impleme
 		maxY = Double.NEGATIVE_INFINITY;
 	}
 
+	/**
+	 * Replaces the cached coordinates of the given series.
+	 * 
+	 * @param series
+	 */
 	private void calculateCoordinates(ISeries<?> series) {
 
-		double[] xSeries = series.getXSeries();
-		double[] ySeries = series.getYSeries();
-		//
-		if(xSeries.length != 0) {
-			double seriesMinX = Arrays.stream(xSeries).min().getAsDouble();
-			double seriesMaxX = Arrays.stream(xSeries).max().getAsDouble();
-			double seriesMinY = Arrays.stream(ySeries).min().getAsDouble();
-			double seriesMaxY = Arrays.stream(ySeries).max().getAsDouble();
-			seriesMaxDataPoints = Math.max(seriesMaxDataPoints, xSeries.length);
-			updateCoordinates(seriesMinX, seriesMaxX, seriesMinY, seriesMaxY);
+		String id = series.getId();
+		double[] extent = getExtent(series);
+		if(extent != null) {
+			seriesCoordinates.put(id, extent[0], extent[1], extent[2], extent[3], (int)extent[4]);
+		} else {
+			seriesCoordinates.remove(id);
 		}
-		//
+		calculateCoordinates();
+	}
+
+	/**
+	 * Returns the transformed min/max values and the length of the series or
+	 * null if it is empty. The min/max values of an indexed data model are
+	 * transformed without scanning the series.
+	 * 
+	 * @param series
+	 * @return {minX, maxX, minY, maxY, length}
+	 */
+	private double[] getExtent(ISeries<?> series) {
+
+		CartesianSeriesModel<?> dataModel = series.getDataModel();
+		if(dataModel instanceof IndexedSeriesModel<?> indexedSeriesModel) {
+			int seriesLength = indexedSeriesModel.size();
+			if(seriesLength != 0) {
+				SeriesTransform transform = series.getTransform();
+				Range rangeX = transform.transformX(new Range(dataModel.getMinX().doubleValue(), dataModel.getMaxX().doubleValue()));
+				Range rangeY = transform.transformY(new Range(dataModel.getMinY().doubleValue(), dataModel.getMaxY().doubleValue()));
+				return new double[]{rangeX.lower, rangeX.upper, rangeY.lower, rangeY.upper, seriesLength};
+			}
+		} else {
+			double[] xSeries = series.getXSeries();
+			double[] ySeries = series.getYSeries();
+			if(xSeries.length != 0) {
+				return new double[]{Arrays.stream(xSeries).min().getAsDouble(), Arrays.stream(xSeries).max().getAsDouble(), Arrays.stream(ySeries).min().getAsDouble(), Arrays.stream(ySeries).max().getAsDouble(), xSeries.length};
+			}
+		}
+		return null;
 	}
 
 	protected void updateCoordinates(double seriesMinX, double seriesMaxX, double seriesMinY, double seriesMaxY) {
 
-		minX = Math.min(minX, seriesMinX);
-		minX = (rangeRestriction.isZeroX() && minX < 0.0d) ? 0.0d : minX;
-		maxX = Math.max(maxX, seriesMaxX);
-		minY = Math.min(minY, seriesMinY);
-		minY = (rangeRestriction.isZeroY() && minY < 0.0d) ? 0.0d : minY;
-		minY = (rangeRestriction.isForceZeroMinY()) ? 0.0d : minY;
-		maxY = Math.max(maxY, seriesMaxY);
-		//
-		calculateExtendedCoordinates();
+		seriesCoordinates.extend(null, seriesMinX, seriesMaxX, seriesMinY, seriesMaxY, 0);
+		calculateCoordinates();
+	}
+
+	/**
+	 * Extends the coordinates by the current extent of the given series, e.g.
+	 * after it has been shifted.
+	 * 
+	 * @param series
+	 */
+	protected void updateCoordinates(ISeries<?> series) {
+
+		double[] extent = getExtent(series);
+		if(extent != null) {
+			updateCoordinates(extent[0], extent[1], extent[2], extent[3]);
+		}
+	}
+
+	/**
+	 * Takes the min/max values over all series.
+	 */
+	private void calculateCoordinates() {
+
+		seriesMaxDataPoints = seriesCoordinates.getMaxLength();
+		minX = seriesCoordinates.getMinX();
+		maxX = seriesCoordinates.getMaxX();
+		minY = seriesCoordinates.getMinY();
+		maxY = seriesCoordinates.getMaxY();
+		if(!seriesCoordinates.isEmpty()) {
+			minX = (rangeRestriction.isZeroX() && minX < 0.0d) ? 0.0d : minX;
+			minY = (rangeRestriction.isZeroY() && minY < 0.0d) ? 0.0d : minY;
+			minY = (rangeRestriction.isForceZeroMinY()) ? 0.0d : minY;
+			calculateExtendedCoordinates();
+		}
 	}
 
 	private void calculateExtendedCoordinates() {
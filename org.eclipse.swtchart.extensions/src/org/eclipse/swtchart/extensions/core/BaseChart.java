@@ -16,7 +16,6 @@ package org.eclipse.swtchart.extensions.core;
 
 import java.text.DecimalFormat;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EmptyStackException;
@@ -43,6 +42,7 @@ import org.eclipse.swtchart.ISeries;
 import org.eclipse.swtchart.ITitle;
 import org.eclipse.swtchart.LineStyle;
 import org.eclipse.swtchart.Range;
+import org.eclipse.swtchart.SeriesTransform;
 import org.eclipse.swtchart.extensions.barcharts.IBarSeriesSettings;
 import org.eclipse.swtchart.extensions.clipboard.IImageClipboardSupplier;
 import org.eclipse.swtchart.extensions.dialogs.ClickBindingHelpDialog;
@@ -87,6 +87,11 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 	 */
 	private static final int MIN_SELECTION_PERCENTAGE = 30;
 	public static final long DELTA_CLICK_TIME = 100;
+	/*
+	 * The distance in pixels a data point may be away
+	 * from the mouse cursor to be selected.
+	 */
+	public static final int SELECTION_DELTA = 8;
 	/*
 	 * To prevent that the data is redrawn on mouse events too
 	 * often, a trigger determines e.g. that the redraw event
@@ -929,6 +934,7 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		scatterSeries.setSymbolSize(scatterSeriesSettings.getSymbolSize());
 		scatterSeries.setSymbolColor(scatterSeriesSettings.getSymbolColor());
 		scatterSeries.setLineStyle(LineStyle.NONE);
+		scatterSeries.enableDensity(scatterSeriesSettings.isDensityEnabled());
 	}
 
 	private void applyBarSeriesSettings(IBarSeries<?> barSeries, IBarSeriesSettings barSeriesSettings) {
@@ -1001,36 +1007,41 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		this.shiftConstraints = shiftConstraints;
 	}
 
+	/**
+	 * Shifts the series. The shift is applied by the transform of the series,
+	 * hence the data isn't copied. Only if values shifted below zero have to
+	 * be deleted, see {@link #setShiftConstraints(int)}, the shifted values
+	 * are stored.
+	 * 
+	 * @param selectedSeriesId
+	 * @param shiftX
+	 * @param shiftY
+	 */
 	public void shiftSeries(String selectedSeriesId, double shiftX, double shiftY) {
 
 		ISeries<?> dataSeries = getSeriesSet().getSeries(selectedSeriesId);
 		if(dataSeries != null) {
 			//
 			if(shiftX != 0.0d || shiftY != 0.0d) {
-				//
-				double seriesMinX = Double.MAX_VALUE;
-				double seriesMaxX = Double.MIN_VALUE;
-				double seriesMinY = Double.MAX_VALUE;
-				double seriesMaxY = Double.MIN_VALUE;
-				//
-				if(shiftX != 0.0d) {
-					/*
-					 * Shift X
-					 */
-					double[] xSeriesShifted = adjustArray(dataSeries.getXSeries(), shiftX, IExtendedChart.X_AXIS);
-					dataSeries.setXSeries(xSeriesShifted);
-					seriesMinX = xSeriesShifted[0];
-					seriesMaxX = xSeriesShifted[xSeriesShifted.length - 1];
+				/*
+				 * Deleting the values shifted below zero can't be
+				 * expressed by the transform.
+				 */
+				boolean deleteShiftedDataX = shiftX != 0.0d && isDeleteShiftedData(IExtendedChart.X_AXIS);
+				boolean deleteShiftedDataY = shiftY != 0.0d && isDeleteShiftedData(IExtendedChart.Y_AXIS);
+				if(deleteShiftedDataX) {
+					dataSeries.setXSeries(adjustArrayWithConstraints(dataSeries.getXSeries(), shiftX));
 				}
-				//
-				if(shiftY != 0.0d) {
-					/*
-					 * Shift Y
-					 */
-					double[] ySeriesShifted = adjustArray(dataSeries.getYSeries(), shiftY, IExtendedChart.Y_AXIS);
-					dataSeries.setYSeries(ySeriesShifted);
-					seriesMinY = ySeriesShifted[0];
-					seriesMaxY = ySeriesShifted[ySeriesShifted.length - 1];
+				if(deleteShiftedDataY) {
+					dataSeries.setYSeries(adjustArrayWithConstraints(dataSeries.getYSeries(), shiftY));
+				}
+				/*
+				 * Shift X/Y
+				 */
+				double transformShiftX = deleteShiftedDataX ? 0.0d : shiftX;
+				double transformShiftY = deleteShiftedDataY ? 0.0d : shiftY;
+				if(transformShiftX != 0.0d || transformShiftY != 0.0d) {
+					dataSeries.setTransform(dataSeries.getTransform().shift(transformShiftX, transformShiftY));
 				}
 				/*
 				 * Track the shifts.
@@ -1040,7 +1051,7 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 				List<double[]> shiftRecord = getShiftRecord(selectedSeriesId);
 				shiftRecord.add(new double[]{rangeX.lower, rangeX.upper, shiftX, rangeY.lower, rangeY.upper, shiftY, shiftConstraints});
 				//
-				updateCoordinates(seriesMinX, seriesMaxX, seriesMinY, seriesMaxY);
+				updateCoordinates(dataSeries);
 				fireSeriesModificationEvent();
 			}
 		}
@@ -1056,32 +1067,6 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		return shiftRecord;
 	}
 
-	private double[] adjustArray(double[] series, double shift, String axisOrientation) {
-
-		if(shiftConstraints == SHIFT_CONSTRAINT_NONE) {
-			series = adjustArrayWithoutConstraints(series, shift);
-		} else {
-			/*
-			 * Take the constraints into consideration.
-			 */
-			boolean deleteShiftedData = isDeleteShiftedData(axisOrientation);
-			if(deleteShiftedData) {
-				series = adjustArrayWithConstraints(series, shift);
-			} else {
-				series = adjustArrayWithoutConstraints(series, shift);
-			}
-		}
-		return series;
-	}
-
-	private double[] adjustArrayWithoutConstraints(double[] series, double shift) {
-
-		for(int i = 0; i < series.length; i++) {
-			series[i] += shift;
-		}
-		return series;
-	}
-
 	private double[] adjustArrayWithConstraints(double[] series, double shift) {
 
 		double lowerBorder = 0.0d;
@@ -1117,6 +1102,9 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 
 	/**
 	 * axisId = IExtendedChart.X_AXIS or IExtendedChart.Y_AXIS.
+	 * The factor is applied by the transform of the series, hence the data
+	 * isn't copied. A factor of 0 or a non-finite factor can't be expressed by
+	 * the transform, hence the multiplied values are stored then.
 	 * 
 	 * @param selectedSeriesId
 	 * @param axisId
@@ -1127,21 +1115,23 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		ISeries<?> dataSeries = getSeriesSet().getSeries(selectedSeriesId);
 		if(dataSeries != null) {
 			//
-			double[] xSeries = dataSeries.getXSeries();
-			double[] ySeries = dataSeries.getYSeries();
-			//
+			SeriesTransform transform = dataSeries.getTransform();
+			boolean storeValues = factor == 0.0d || !Double.isFinite(factor);
 			if(IExtendedChart.X_AXIS.equals(axisId)) {
-				dataSeries.setXSeries(multiplySeries(xSeries, factor));
+				if(storeValues) {
+					dataSeries.setXSeries(multiplySeries(dataSeries.getXSeries(), factor));
+				} else {
+					dataSeries.setTransform(transform.scale(factor, 1.0d));
+				}
 			} else if(IExtendedChart.Y_AXIS.equals(axisId)) {
-				dataSeries.setYSeries(multiplySeries(ySeries, factor));
+				if(storeValues) {
+					dataSeries.setYSeries(multiplySeries(dataSeries.getYSeries(), factor));
+				} else {
+					dataSeries.setTransform(transform.scale(1.0d, factor));
+				}
 			}
 			//
-			double seriesMinX = Arrays.stream(xSeries).min().getAsDouble();
-			double seriesMaxX = Arrays.stream(xSeries).max().getAsDouble();
-			double seriesMinY = Arrays.stream(ySeries).min().getAsDouble();
-			double seriesMaxY = Arrays.stream(ySeries).max().getAsDouble();
-			//
-			updateCoordinates(seriesMinX, seriesMaxX, seriesMinY, seriesMaxY);
+			updateCoordinates(dataSeries);
 			fireSeriesModificationEvent();
 		}
 	}
@@ -1268,12 +1258,24 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 
 	public void fireUpdateCustomPointSelectionHandlers(Event event) {
 
+		fireUpdateCustomPointSelectionHandlers(event, null);
+	}
+
+	/**
+	 * Notifies the point selection handlers.
+	 * 
+	 * @param event
+	 * @param dataPoint
+	 *            the selected data point or null
+	 */
+	public void fireUpdateCustomPointSelectionHandlers(Event event, SelectedDataPoint dataPoint) {
+
 		/*
 		 * Handle the custom user selection handlers.
 		 */
 		for(ICustomSelectionHandler customSelectionHandler : customPointSelectionHandlers) {
 			try {
-				customSelectionHandler.handleUserSelection(event);
+				customSelectionHandler.handleUserSelection(event, dataPoint);
 			} catch(Exception e) {
 				e.printStackTrace();
 			}
@@ -1357,36 +1359,45 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 
 	public String getSelectedseriesId(Event event) {
 
-		ISeries<?>[] series = getSeriesSet().getSeries();
-		String selectedSeriesId = ""; //$NON-NLS-1$
-		/*
-		 * Get the selected series id.
-		 */
-		exitloop:
-		for(ISeries<?> dataSeries : series) {
-			if(dataSeries != null && dataSeries.isVisible()) {
-				int size = dataSeries.getXSeries().length;
-				for(int i = 0; i < size; i++) {
-					Point point = dataSeries.getPixelCoordinates(i);
-					if(isDataSeriesSelected(point, event, 8)) {
-						selectedSeriesId = dataSeries.getId();
-						break exitloop;
+		SelectedDataPoint dataPoint = getNearestDataPoint(event.x, event.y, SELECTION_DELTA);
+		return dataPoint != null ? dataPoint.getSeries().getId() : ""; //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the data point of the visible series which is nearest to the
+	 * given pixel coordinates of the plot area. The data points are looked up
+	 * in the spatial index of each series instead of iterating over all
+	 * points.
+	 * 
+	 * @param x
+	 *            the X pixel coordinate
+	 * @param y
+	 *            the Y pixel coordinate
+	 * @param maxDistance
+	 *            the maximum horizontal and vertical distance in pixels
+	 * @return the data point or null if no data point is in the distance
+	 */
+	public SelectedDataPoint getNearestDataPoint(int x, int y, int maxDistance) {
+
+		SelectedDataPoint nearestDataPoint = null;
+		long nearestDistance = Long.MAX_VALUE;
+		for(ISeries<?> dataSeries : getSeriesSet().getSeries()) {
+			if(dataSeries != null && dataSeries.isVisible() && !(dataSeries instanceof ICircularSeries)) {
+				int index = dataSeries.getNearestIndex(x, y, maxDistance);
+				if(index >= 0) {
+					Point point = dataSeries.getPixelCoordinates(index);
+					long dx = point.x - x;
+					long dy = point.y - y;
+					long distance = dx * dx + dy * dy;
+					if(distance < nearestDistance) {
+						nearestDistance = distance;
+						nearestDataPoint = new SelectedDataPoint(dataSeries, index);
 					}
 				}
 			}
 		}
 		//
-		return selectedSeriesId;
-	}
-
-	private boolean isDataSeriesSelected(Point point, Event event, int delta) {
-
-		if(point.x >= event.x - delta && point.x <= event.x + delta) {
-			if(point.y >= event.y - delta && point.y <= event.y + delta) {
-				return true;
-			}
-		}
-		return false;
+		return nearestDataPoint;
 	}
 
 	public void handleUserSelection(Event event) {
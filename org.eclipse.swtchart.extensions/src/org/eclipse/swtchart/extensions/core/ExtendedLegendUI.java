@@ -76,6 +76,46 @@ public class ExtendedLegendUI extends Composite {
 	//
 	private ScrollableChart scrollableChart;
 	private ISeriesSet seriesSet;
+	/*
+	 * Update single items on changes instead of the whole list.
+	 */
+	private ISeriesStatusListener seriesStatusListener = new ISeriesStatusListener() {
+
+		@Override
+		public void handleSeriesSelectionEvent(String seriesId) {
+
+			updateSeries(seriesId);
+		}
+
+		@Override
+		public void handleSeriesHideEvent(String seriesId) {
+
+			updateSeries(seriesId);
+		}
+
+		@Override
+		public void handleSeriesResetEvent(String seriesId) {
+
+			updateItems();
+		}
+
+		@Override
+		public void handleRedrawEvent() {
+
+		}
+	};
+	private ISeriesModificationListener seriesModificationListener = new ISeriesModificationListener() {
+
+		@Override
+		public void handleSeriesModificationEvent() {
+
+			if(scrollableChart != null) {
+				for(String seriesId : scrollableChart.getBaseChart().getSelectedSeriesIds()) {
+					updateSeries(seriesId);
+				}
+			}
+		}
+	};
 	//
 	private IPreferenceStore preferenceStore = ResourceSupport.getPreferenceStore();
 
@@ -87,9 +127,12 @@ public class ExtendedLegendUI extends Composite {
 
 	public void setScrollableChart(ScrollableChart scrollableChart) {
 
+		removeSeriesListeners();
 		this.scrollableChart = scrollableChart;
 		toolbarInChartLegend.get().setScrollableChart(scrollableChart);
 		listControl.get().setBaseChart(scrollableChart.getBaseChart());
+		scrollableChart.getBaseChart().addSeriesStatusListener(seriesStatusListener);
+		scrollableChart.getBaseChart().addSeriesModificationListener(seriesModificationListener);
 	}
 
 	public void setInput(ISeriesSet seriesSet) {
@@ -105,6 +148,7 @@ public class ExtendedLegendUI extends Composite {
 		createToolbarMain(this);
 		createToolbarInChartLegend(this);
 		createListSection(this);
+		addDisposeListener(e -> removeSeriesListeners());
 		//
 		initialize();
 	}
@@ -456,15 +500,48 @@ public class ExtendedLegendUI extends Composite {
 
 	private void updateSeriesList() {
 
+		SeriesListUI seriesListUI = listControl.get();
 		if(seriesSet != null) {
 			ICircularSeries<?> circularSeries = getCircularSeries();
 			if(circularSeries != null) {
-				listControl.get().setInput(getCalculatedCircularSeries(circularSeries));
+				seriesListUI.setInput(getCalculatedCircularSeries(circularSeries));
+			} else if(seriesListUI.getInput() == seriesSet) {
+				/*
+				 * Keeps the selection and scroll position.
+				 */
+				seriesListUI.refresh();
 			} else {
-				listControl.get().setInput(seriesSet);
+				seriesListUI.setInput(seriesSet);
 			}
 		} else {
-			listControl.get().clear();
+			seriesListUI.clear();
+		}
+	}
+
+	private void updateSeries(String seriesId) {
+
+		SeriesListUI seriesListUI = listControl.get();
+		if(seriesSet != null && seriesListUI != null && !seriesListUI.getTable().isDisposed()) {
+			ISeries<?> series = seriesSet.getSeries(seriesId);
+			if(series != null) {
+				seriesListUI.update(series, null);
+			}
+		}
+	}
+
+	private void updateItems() {
+
+		SeriesListUI seriesListUI = listControl.get();
+		if(seriesListUI != null && !seriesListUI.getTable().isDisposed()) {
+			seriesListUI.getTable().clearAll();
+		}
+	}
+
+	private void removeSeriesListeners() {
+
+		if(scrollableChart != null) {
+			scrollableChart.getBaseChart().removeSeriesStatusListener(seriesStatusListener);
+			scrollableChart.getBaseChart().removeSeriesModificationListener(seriesModificationListener);
 		}
 	}
 
@@ -17,4 +17,17 @@ import org.eclipse.swt.widgets.Event;
 public interface ICustomSelectionHandler {
 
 	void handleUserSelection(Event event);
+
+	/**
+	 * Handles the selection of a data point. The default implementation
+	 * ignores the data point.
+	 * 
+	 * @param event
+	 * @param dataPoint
+	 *            the data point nearest to the selected position or null
+	 */
+	default void handleUserSelection(Event event, SelectedDataPoint dataPoint) {
+
+		handleUserSelection(event);
+	}
 }
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+/**
+ * Reduces the number of data points of a series before it is added to the
+ * chart.
+ */
+public interface ISeriesDownsampler {
+
+	/**
+	 * Returns the downsampled series data. If the series is not longer than the
+	 * given length, the series data is returned as it is.
+	 * 
+	 * @param seriesData
+	 *            the series data
+	 * @param compressToLength
+	 *            the maximum number of data points
+	 * @return ISeriesData
+	 */
+	ISeriesData downsample(ISeriesData seriesData, int compressToLength);
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+/**
+ * Largest-Triangle-Three-Buckets (LTTB) downsampling, see
+ * Sveinn Steinarsson, "Downsampling Time Series for Visual Representation".
+ * The series is split into buckets and the point of each bucket is selected,
+ * which spans the largest triangle with the previously selected point and the
+ * average of the next bucket. This keeps the visual shape including peaks.
+ * The X values are expected to be sorted.
+ */
+public class LargestTriangleThreeBucketsDownsampler implements ISeriesDownsampler {
+
+	private static final int MIN_LENGTH = 3;
+
+	@Override
+	public ISeriesData downsample(ISeriesData seriesData, int compressToLength) {
+
+		double[] xSeries = seriesData.getXSeries();
+		double[] ySeries = seriesData.getYSeries();
+		int seriesLength = Math.min(xSeries.length, ySeries.length);
+		int threshold = Math.max(MIN_LENGTH, compressToLength);
+		//
+		if(seriesLength <= threshold) {
+			return seriesData;
+		}
+		//
+		double[] xCompressed = new double[threshold];
+		double[] yCompressed = new double[threshold];
+		/*
+		 * The first and last point are always kept.
+		 */
+		xCompressed[0] = xSeries[0];
+		yCompressed[0] = ySeries[0];
+		double bucketSize = (double)(seriesLength - 2) / (threshold - 2);
+		int selected = 0;
+		for(int bucket = 0; bucket < threshold - 2; bucket++) {
+			/*
+			 * Average of the next bucket.
+			 */
+			int nextStart = (int)((bucket + 1) * bucketSize) + 1;
+			int nextEnd = Math.min((int)((bucket + 2) * bucketSize) + 1, seriesLength);
+			double xAverage = 0;
+			double yAverage = 0;
+			for(int i = nextStart; i < nextEnd; i++) {
+				xAverage += xSeries[i];
+				yAverage += ySeries[i];
+			}
+			int nextLength = nextEnd - nextStart;
+			xAverage /= nextLength;
+			yAverage /= nextLength;
+			/*
+			 * Point of the current bucket with the largest triangle.
+			 */
+			int start = (int)(bucket * bucketSize) + 1;
+			int end = nextStart;
+			double xSelected = xSeries[selected];
+			double ySelected = ySeries[selected];
+			double maxArea = -1;
+			int next = start;
+			for(int i = start; i < end; i++) {
+				double area = Math.abs((xSelected - xAverage) * (ySeries[i] - ySelected) - (xSelected - xSeries[i]) * (yAverage - ySelected));
+				if(area > maxArea) {
+					maxArea = area;
+					next = i;
+				}
+			}
+			selected = next;
+			xCompressed[bucket + 1] = xSeries[selected];
+			yCompressed[bucket + 1] = ySeries[selected];
+		}
+		xCompressed[threshold - 1] = xSeries[seriesLength - 1];
+		yCompressed[threshold - 1] = ySeries[seriesLength - 1];
+		//
+		return new SeriesData(xCompressed, yCompressed, seriesData.getId());
+	}
+}
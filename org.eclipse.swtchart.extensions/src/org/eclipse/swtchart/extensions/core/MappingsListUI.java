@@ -15,8 +15,6 @@ package org.eclipse.swtchart.extensions.core;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.eclipse.jface.viewers.ArrayContentProvider;
-import org.eclipse.jface.viewers.IContentProvider;
 import org.eclipse.jface.viewers.ILabelProvider;
 import org.eclipse.jface.viewers.TableViewer;
 import org.eclipse.jface.viewers.TableViewerColumn;
@@ -26,41 +24,62 @@ import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swtchart.extensions.internal.support.LazyListContentProvider;
 import org.eclipse.swtchart.extensions.internal.support.MappingsComparator;
-import org.eclipse.swtchart.extensions.internal.support.MappingsFilter;
 import org.eclipse.swtchart.extensions.internal.support.MappingsLabelProvider;
 
+/**
+ * The table is virtual, see {@link SeriesListUI}.
+ */
 public class MappingsListUI extends TableViewer {
 
 	private static final String[] TITLES = MappingsLabelProvider.TITLES;
 	private static final int[] BOUNDS = MappingsLabelProvider.BOUNDS;
 	//
 	private ILabelProvider labelProvider = new MappingsLabelProvider();
-	private IContentProvider contentProvider = ArrayContentProvider.getInstance();
+	private LazyListContentProvider contentProvider = new LazyListContentProvider(MappingsListUI::getSearchTerms);
 	private MappingsComparator comparator = new MappingsComparator();
-	private MappingsFilter filter = new MappingsFilter();
 	//
 	private List<TableViewerColumn> columns = new ArrayList<>();
 
 	public MappingsListUI(Composite parent, int style) {
 
-		super(parent, style);
+		super(parent, style | SWT.VIRTUAL);
 		createControl();
 	}
 
 	public void setSearchText(String searchText, boolean caseSensitive) {
 
-		filter.setSearchText(searchText, caseSensitive);
-		refresh();
+		if(contentProvider.setSearchText(searchText, caseSensitive)) {
+			super.refresh();
+		}
+	}
+
+	/**
+	 * Reads the mappings of the input again and sorts them.
+	 */
+	@Override
+	public void refresh() {
+
+		contentProvider.update();
+		super.refresh();
 	}
 
 	private void createControl() {
 
 		createColumns(TITLES, BOUNDS);
 		setLabelProvider(labelProvider);
+		setUseHashlookup(true);
+		contentProvider.setComparator(comparator);
 		setContentProvider(contentProvider);
-		setComparator(comparator);
-		setFilters(filter);
+	}
+
+	private static String[] getSearchTerms(Object element) {
+
+		if(element instanceof MappedSeriesSettings mappedSeriesSettings) {
+			return new String[]{mappedSeriesSettings.getMappingsType().label(), mappedSeriesSettings.getIdentifier(), mappedSeriesSettings.getDescription()};
+		}
+		return new String[0];
 	}
 
 	private void createColumns(String[] titles, int[] bounds) {
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+/**
+ * Keeps the first and last data point and every n-th data point in between.
+ * This is fast, but peaks may get lost. It is the default downsampler of the
+ * charts.
+ */
+public class ModuloDownsampler implements ISeriesDownsampler {
+
+	@Override
+	public ISeriesData downsample(ISeriesData seriesData, int compressToLength) {
+
+		double[] xSeries = seriesData.getXSeries();
+		double[] ySeries = seriesData.getYSeries();
+		int seriesLength = Math.min(xSeries.length, ySeries.length);
+		/*
+		 * A length below 1 would give a modulo value of 0 or
+		 * a negative one, hence only first and last are kept.
+		 */
+		int length = Math.max(1, compressToLength);
+		if(seriesLength <= length || seriesLength < 2) {
+			return seriesData;
+		}
+		/*
+		 * The size is known in advance: first, last and the
+		 * multiples of the modulo value in between.
+		 */
+		int moduloValue = seriesLength / length;
+		int size = 2 + (seriesLength - 2) / moduloValue;
+		double[] xCompressed = new double[size];
+		double[] yCompressed = new double[size];
+		//
+		xCompressed[0] = xSeries[0];
+		yCompressed[0] = ySeries[0];
+		int index = 1;
+		for(int i = moduloValue; i < seriesLength - 1; i += moduloValue) {
+			xCompressed[index] = xSeries[i];
+			yCompressed[index] = ySeries[i];
+			index++;
+		}
+		xCompressed[index] = xSeries[seriesLength - 1];
+		yCompressed[index] = ySeries[seriesLength - 1];
+		//
+		return new SeriesData(xCompressed, yCompressed, seriesData.getId());
+	}
+}
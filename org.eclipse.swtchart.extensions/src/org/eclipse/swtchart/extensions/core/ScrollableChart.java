@@ -146,6 +146,10 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 	 * Menu listener for receiving open/close updates.
 	 */
 	private MenuListener menuListener = null;
+	/*
+	 * Used to reduce large series, see calculateSeries(...).
+	 */
+	private ISeriesDownsampler seriesDownsampler = new ModuloDownsampler();
 
 	/**
 	 * This constructor is used, when clazz.newInstance() is needed.
@@ -378,6 +382,28 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 		adjustRange(true);
 	}
 
+	/**
+	 * Appends the data to an existing series, which only keeps the data within
+	 * the given X span (sliding window). The X axis follows the last data
+	 * point and shows the whole span.
+	 * 
+	 * @param seriesData
+	 * @param span
+	 */
+	public void appendSeries(ISeriesData seriesData, double span) {
+
+		baseChart.appendSeries(seriesData, span);
+		baseChart.adjustRange(true);
+		ISeries<?> series = baseChart.getSeriesSet().getSeries(seriesData.getId());
+		if(series != null && span > 0) {
+			IAxis xAxis = baseChart.getAxisSet().getXAxis(series.getXAxisId());
+			double maxX = series.getDataModel().getMaxX().doubleValue();
+			baseChart.setRange(xAxis, maxX - span, maxX, false);
+		}
+		resetSlider();
+		updateLegend();
+	}
+
 	@Override
 	public void setRange(String axis, Range range) {
 
@@ -475,13 +501,11 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 
 	private void redrawPlotArea() {
 
-		BaseChart chart = getBaseChart();
-		IPlotArea plot = chart.getPlotArea();
-		if(plot instanceof Control control) {
-			control.redraw();
-		} else {
-			chart.redraw();
-		}
+		/*
+		 * The markers are drawn over the series,
+		 * hence the series needn't be drawn again.
+		 */
+		getBaseChart().getPlotArea().redrawOverlay();
 	}
 
 	@Override
@@ -591,6 +615,29 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 		return calculateSeries(seriesData, NO_COMPRESS_TO_LENGTH); // No compression.
 	}
 
+	/**
+	 * Sets the strategy that is used to downsample large series in
+	 * calculateSeries to the length of the compression level, e.g.
+	 * HIGH_COMPRESSION. By default, every n-th data point is kept, see
+	 * ModuloDownsampler. The LargestTriangleThreeBucketsDownsampler keeps
+	 * the peaks. Null restores the default.
+	 * 
+	 * @param seriesDownsampler
+	 */
+	public void setSeriesDownsampler(ISeriesDownsampler seriesDownsampler) {
+
+		if(seriesDownsampler != null) {
+			this.seriesDownsampler = seriesDownsampler;
+		} else {
+			this.seriesDownsampler = new ModuloDownsampler();
+		}
+	}
+
+	public ISeriesDownsampler getSeriesDownsampler() {
+
+		return seriesDownsampler;
+	}
+
 	/**
 	 * Use compress series only if it's absolutely necessary.
 	 * 
@@ -600,52 +647,8 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 	 */
 	protected ISeriesData calculateSeries(ISeriesData seriesData, int compressToLength) {
 
-		double[] xSeries = seriesData.getXSeries();
-		double[] ySeries = seriesData.getYSeries();
-		int seriesLength = ySeries.length;
-		//
-		if(seriesLength > compressToLength) {
-			/*
-			 * Capture the compressed data.
-			 * The final size is not known yet.
-			 */
-			List<Double> xSeriesCompressed = new ArrayList<>();
-			List<Double> ySeriesCompressed = new ArrayList<>();
-			/*
-			 * First x,y value.
-			 */
-			xSeriesCompressed.add(xSeries[0]);
-			ySeriesCompressed.add(ySeries[0]);
-			//
-			int moduloValue = seriesLength / compressToLength;
-			for(int i = 1; i < ySeries.length - 1; i++) {
-				/*
-				 * Filter the values.
-				 */
-				double y = ySeries[i];
-				boolean addValue = false;
-				//
-				if(moduloValue > 0 && i % moduloValue == 0) {
-					addValue = true;
-				}
-				//
-				if(addValue) {
-					xSeriesCompressed.add(xSeries[i]);
-					ySeriesCompressed.add(y);
-				}
-			}
-			/*
-			 * Last x,y value.
-			 */
-			xSeriesCompressed.add(xSeries[xSeries.length - 1]);
-			ySeriesCompressed.add(ySeries[ySeries.length - 1]);
-			/*
-			 * Compression
-			 */
-			double[] xCompressed = xSeriesCompressed.stream().mapToDouble(d -> d).toArray();
-			double[] yCompressed = ySeriesCompressed.stream().mapToDouble(d -> d).toArray();
-			//
-			return new SeriesData(xCompressed, yCompressed, seriesData.getId());
+		if(seriesData.getYSeries().length > compressToLength) {
+			return seriesDownsampler.downsample(seriesData, compressToLength);
 		} else {
 			/*
 			 * No compression.
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import org.eclipse.swtchart.ISeries;
+
+/**
+ * A data point of a series, which has been selected in the plot area, see
+ * {@link BaseChart#getNearestDataPoint(int, int, int)}.
+ */
+public class SelectedDataPoint {
+
+	private final ISeries<?> series;
+	private final int index;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param series
+	 *            the series of the data point
+	 * @param index
+	 *            the index of the data point in the series
+	 */
+	public SelectedDataPoint(ISeries<?> series, int index) {
+
+		this.series = series;
+		this.index = index;
+	}
+
+	public ISeries<?> getSeries() {
+
+		return series;
+	}
+
+	public int getIndex() {
+
+		return index;
+	}
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregates the min/max coordinates and the length of each series. The
+ * extents are kept per series id and in sorted multisets, so that putting or
+ * removing the extent of one series updates the min/max of all series in
+ * O(log S) without scanning the data of the other series.
+ */
+public class SeriesCoordinates {
+
+	private static final int MIN_X = 0;
+	private static final int MAX_X = 1;
+	private static final int MIN_Y = 2;
+	private static final int MAX_Y = 3;
+	//
+	private final Map<String, double[]> extents = new HashMap<>();
+	private final Map<String, Integer> lengths = new HashMap<>();
+	private final TreeMap<Double, Integer> minXValues = new TreeMap<>();
+	private final TreeMap<Double, Integer> maxXValues = new TreeMap<>();
+	private final TreeMap<Double, Integer> minYValues = new TreeMap<>();
+	private final TreeMap<Double, Integer> maxYValues = new TreeMap<>();
+	private final TreeMap<Integer, Integer> lengthValues = new TreeMap<>();
+
+	/**
+	 * Sets the extent of the given series, replacing the previous one.
+	 *
+	 * @param id
+	 *            the series id, null for coordinates not related to a series
+	 * @param minX
+	 * @param maxX
+	 * @param minY
+	 * @param maxY
+	 * @param length
+	 *            the number of data points
+	 */
+	public void put(String id, double minX, double maxX, double minY, double maxY, int length) {
+
+		remove(id);
+		double[] extent = new double[]{minX, maxX, minY, maxY};
+		extents.put(id, extent);
+		lengths.put(id, length);
+		add(minXValues, extent[MIN_X]);
+		add(maxXValues, extent[MAX_X]);
+		add(minYValues, extent[MIN_Y]);
+		add(maxYValues, extent[MAX_Y]);
+		add(lengthValues, length);
+	}
+
+	/**
+	 * Extends the extent of the given series, if it exists, otherwise it is
+	 * set.
+	 *
+	 * @param id
+	 *            the series id, null for coordinates not related to a series
+	 * @param minX
+	 * @param maxX
+	 * @param minY
+	 * @param maxY
+	 * @param length
+	 *            the number of data points
+	 */
+	public void extend(String id, double minX, double maxX, double minY, double maxY, int length) {
+
+		double[] extent = extents.get(id);
+		if(extent != null) {
+			put(id, Math.min(extent[MIN_X], minX), Math.max(extent[MAX_X], maxX), Math.min(extent[MIN_Y], minY), Math.max(extent[MAX_Y], maxY), Math.max(lengths.get(id), length));
+		} else {
+			put(id, minX, maxX, minY, maxY, length);
+		}
+	}
+
+	/**
+	 * Removes the extent of the given series.
+	 *
+	 * @param id
+	 *            the series id, null for coordinates not related to a series
+	 */
+	public void remove(String id) {
+
+		double[] extent = extents.remove(id);
+		if(extent != null) {
+			removeValue(minXValues, extent[MIN_X]);
+			removeValue(maxXValues, extent[MAX_X]);
+			removeValue(minYValues, extent[MIN_Y]);
+			removeValue(maxYValues, extent[MAX_Y]);
+			removeValue(lengthValues, lengths.remove(id));
+		}
+	}
+
+	public void clear() {
+
+		extents.clear();
+		lengths.clear();
+		minXValues.clear();
+		maxXValues.clear();
+		minYValues.clear();
+		maxYValues.clear();
+		lengthValues.clear();
+	}
+
+	public boolean isEmpty() {
+
+		return extents.isEmpty();
+	}
+
+	public double getMinX() {
+
+		return minXValues.isEmpty() ? Double.POSITIVE_INFINITY : minXValues.firstKey();
+	}
+
+	public double getMaxX() {
+
+		return maxXValues.isEmpty() ? Double.NEGATIVE_INFINITY : maxXValues.lastKey();
+	}
+
+	public double getMinY() {
+
+		return minYValues.isEmpty() ? Double.POSITIVE_INFINITY : minYValues.firstKey();
+	}
+
+	public double getMaxY() {
+
+		return maxYValues.isEmpty() ? Double.NEGATIVE_INFINITY : maxYValues.lastKey();
+	}
+
+	public int getMaxLength() {
+
+		return lengthValues.isEmpty() ? 0 : lengthValues.lastKey();
+	}
+
+	private static <T> void add(TreeMap<T, Integer> values, T value) {
+
+		values.merge(value, 1, Integer::sum);
+	}
+
+	private static <T> void removeValue(TreeMap<T, Integer> values, T value) {
+
+		values.computeIfPresent(value, (key, count) -> count > 1 ? count - 1 : null);
+	}
+}
@@ -16,7 +16,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.jface.preference.IPreferenceStore;
-import org.eclipse.jface.viewers.IContentProvider;
 import org.eclipse.jface.viewers.StyledCellLabelProvider;
 import org.eclipse.jface.viewers.TableViewerColumn;
 import org.eclipse.jface.viewers.ViewerCell;
@@ -31,12 +30,16 @@ import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
 import org.eclipse.swtchart.ISeries;
+import org.eclipse.swtchart.extensions.internal.support.LazyListContentProvider;
 import org.eclipse.swtchart.extensions.internal.support.SeriesComparator;
 import org.eclipse.swtchart.extensions.internal.support.SeriesContentProvider;
 import org.eclipse.swtchart.extensions.internal.support.SeriesEditingSupport;
-import org.eclipse.swtchart.extensions.internal.support.SeriesFilter;
 import org.eclipse.swtchart.extensions.preferences.PreferenceConstants;
 
+/**
+ * The table is virtual, hence only the visible items are created. That keeps
+ * the legend fast even if thousands of series are displayed.
+ */
 public class SeriesListUI extends AbstractSeriesListUI {
 
 	private static final String[] TITLES = SeriesLabelProvider.TITLES;
@@ -45,9 +48,8 @@ public class SeriesListUI extends AbstractSeriesListUI {
 	private static final String COLUMN_DELIMITER = " "; //$NON-NLS-1$
 	//
 	private SeriesLabelProvider labelProvider = new SeriesLabelProvider();
-	private IContentProvider contentProvider = new SeriesContentProvider();
+	private LazyListContentProvider contentProvider = new LazyListContentProvider(new SeriesContentProvider()::getElements, SeriesListUI::getSearchTerms);
 	private SeriesComparator comparator = new SeriesComparator();
-	private SeriesFilter filter = new SeriesFilter();
 	private List<TableViewerColumn> columns = new ArrayList<>();
 	//
 	private IPreferenceStore preferenceStore = ResourceSupport.getPreferenceStore();
@@ -55,23 +57,43 @@ public class SeriesListUI extends AbstractSeriesListUI {
 
 	public SeriesListUI(Composite parent, int style) {
 
-		super(parent, style);
+		super(parent, style | SWT.VIRTUAL);
 		createControl();
 	}
 
 	public void setTableSortable(boolean enable) {
 
 		if(enable) {
-			setComparator(comparator);
+			contentProvider.setComparator(comparator);
 		} else {
-			setComparator(null);
+			contentProvider.setComparator(null);
 		}
+		refresh();
+	}
+
+	@Override
+	public boolean isTableSortable() {
+
+		return contentProvider.getComparator() != null;
 	}
 
 	public void setSearchText(String searchText, boolean caseSensitive) {
 
-		filter.setSearchText(searchText, caseSensitive);
-		refresh();
+		if(contentProvider.setSearchText(searchText, caseSensitive)) {
+			super.refresh();
+		}
+	}
+
+	/**
+	 * Reads the series of the input again, as they might have been added,
+	 * removed or renamed. Use update(Object, String[]) if only the settings of a
+	 * series have changed.
+	 */
+	@Override
+	public void refresh() {
+
+		contentProvider.update();
+		super.refresh();
 	}
 
 	public void setBaseChart(BaseChart baseChart) {
@@ -90,9 +112,8 @@ public class SeriesListUI extends AbstractSeriesListUI {
 
 		createColumns(TITLES, BOUNDS);
 		setLabelProvider(labelProvider);
+		setUseHashlookup(true);
 		setContentProvider(contentProvider);
-		setComparator(null);
-		setFilters(filter);
 		setCellColorAndEditSupport();
 		setColumnOrder(getTable());
 	}
@@ -205,6 +226,14 @@ public class SeriesListUI extends AbstractSeriesListUI {
 		});
 	}
 
+	private static String[] getSearchTerms(Object element) {
+
+		if(element instanceof ISeries<?> series) {
+			return new String[]{series.getId(), series.getDescription()};
+		}
+		return new String[0];
+	}
+
 	private void setColumnOrder(Table table) {
 
 		if(preferenceStore != null) {
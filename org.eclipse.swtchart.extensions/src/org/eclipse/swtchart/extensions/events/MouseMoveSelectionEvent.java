@@ -46,7 +46,7 @@ public class MouseMoveSelectionEvent extends AbstractHandledEventProcessor imple
 		 * Buffer the selection on the first event.
 		 */
 		IPlotArea plotArea = baseChart.getPlotArea();
-		if(!plotArea.isBuffered()) {
+		if(!plotArea.isBuffered() && !plotArea.isLayerCacheEnabled()) {
 			if(baseChart.getChartSettings().isBufferSelection()) {
 				baseChart.suspendUpdate(true);
 				Image image = new Image(Display.getDefault(), baseChart.getPlotArea().getImageData());
@@ -82,8 +82,13 @@ public class MouseMoveSelectionEvent extends AbstractHandledEventProcessor imple
 			/*
 			 * Rectangle is drawn here:
 			 * void paintControl(PaintEvent e)
+			 * It is drawn over the cached series if available.
 			 */
-			baseChart.redraw();
+			if(plotArea.isLayerCacheEnabled()) {
+				plotArea.redrawOverlay();
+			} else {
+				baseChart.redraw();
+			}
 			baseChart.resetRedrawCounter();
 		}
 	}
@@ -16,6 +16,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swtchart.extensions.core.BaseChart;
 import org.eclipse.swtchart.extensions.core.IMouseSupport;
+import org.eclipse.swtchart.extensions.core.SelectedDataPoint;
 
 public class SelectDataPointEvent extends AbstractHandledEventProcessor implements IHandledEventProcessor {
 
@@ -44,8 +45,10 @@ public class SelectDataPointEvent extends AbstractHandledEventProcessor implemen
 		 * Get the primary position e.g. by using the following code.
 		 * double x = getSelectedPrimaryAxisValue(event.x, IExtendedChart.X_AXIS);
 		 * double y = getSelectedPrimaryAxisValue(event.y, IExtendedChart.Y_AXIS);
+		 * The data point nearest to the position is passed to the handlers, if any.
 		 */
-		baseChart.fireUpdateCustomPointSelectionHandlers(event);
+		SelectedDataPoint dataPoint = baseChart.getNearestDataPoint(event.x, event.y, BaseChart.SELECTION_DELTA);
+		baseChart.fireUpdateCustomPointSelectionHandlers(event, dataPoint);
 		showClickbindingHelp(baseChart, "Select", "Select a data point.");
 	}
 }
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.internal.support;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+
+import org.eclipse.jface.viewers.ILazyContentProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+
+/**
+ * Content provider of a virtual table (SWT.VIRTUAL). The items are created
+ * when they are shown, hence large lists are displayed fast. A lazy content
+ * provider has to filter and sort the elements itself, as the viewer doesn't
+ * apply its filters and comparator.
+ */
+public class LazyListContentProvider implements ILazyContentProvider {
+
+	private final Function<Object, Object[]> elementProvider;
+	private final SearchIndex searchIndex;
+	private ViewerComparator comparator = null;
+	//
+	private TableViewer tableViewer;
+	private Object[] visibleElements = new Object[0];
+
+	/**
+	 * @param termProvider
+	 *            returns the searchable texts of an element
+	 */
+	public LazyListContentProvider(Function<Object, String[]> termProvider) {
+
+		this(LazyListContentProvider::getElements, termProvider);
+	}
+
+	/**
+	 * @param elementProvider
+	 *            returns the elements of the input
+	 * @param termProvider
+	 *            returns the searchable texts of an element
+	 */
+	public LazyListContentProvider(Function<Object, Object[]> elementProvider, Function<Object, String[]> termProvider) {
+
+		this.elementProvider = elementProvider;
+		this.searchIndex = new SearchIndex(termProvider);
+	}
+
+	@Override
+	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+
+		tableViewer = (TableViewer)viewer;
+		searchIndex.setElements(newInput != null ? elementProvider.apply(newInput) : null);
+		updateVisibleElements();
+	}
+
+	@Override
+	public void updateElement(int index) {
+
+		if(index >= 0 && index < visibleElements.length) {
+			tableViewer.replace(visibleElements[index], index);
+		}
+	}
+
+	/**
+	 * Sets the search text.
+	 *
+	 * @param searchText
+	 * @param caseSensitive
+	 * @return true if the visible elements have changed
+	 */
+	public boolean setSearchText(String searchText, boolean caseSensitive) {
+
+		if(searchIndex.setSearchText(searchText, caseSensitive)) {
+			updateVisibleElements();
+			return true;
+		}
+		return false;
+	}
+
+	public ViewerComparator getComparator() {
+
+		return comparator;
+	}
+
+	/**
+	 * Sets the comparator or null to show the elements in the order of the
+	 * input. The elements are sorted by the next update.
+	 *
+	 * @param comparator
+	 */
+	public void setComparator(ViewerComparator comparator) {
+
+		this.comparator = comparator;
+	}
+
+	/**
+	 * Reads the elements of the input again and filters and sorts them. The
+	 * items of the table need to be refreshed afterwards.
+	 */
+	public void update() {
+
+		if(tableViewer != null) {
+			Object input = tableViewer.getInput();
+			searchIndex.setElements(input != null ? elementProvider.apply(input) : null);
+			updateVisibleElements();
+		}
+	}
+
+	private void updateVisibleElements() {
+
+		Object[] elements = searchIndex.getMatches();
+		if(comparator != null && tableViewer != null) {
+			Arrays.sort(elements, (e1, e2) -> comparator.compare(tableViewer, e1, e2));
+		}
+		visibleElements = elements;
+		if(tableViewer != null && !tableViewer.getTable().isDisposed()) {
+			tableViewer.setItemCount(elements.length);
+		}
+	}
+
+	private static Object[] getElements(Object input) {
+
+		if(input instanceof Object[] array) {
+			return array;
+		} else if(input instanceof Collection<?> collection) {
+			return collection.toArray();
+		} else {
+			return new Object[0];
+		}
+	}
+}
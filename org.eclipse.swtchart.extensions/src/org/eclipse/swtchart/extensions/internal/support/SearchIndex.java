@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.internal.support;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Finds the elements whose search terms contain a text. The terms are
+ * collected once per element, in lower case too. While the search text is
+ * extended, e.g. while typing, only the elements which have matched the
+ * previous text are searched again.
+ */
+public class SearchIndex {
+
+	/** separates the terms of an element, so that a match doesn't span two terms */
+	private static final String TERM_DELIMITER = "\n"; //$NON-NLS-1$
+	//
+	private final Function<Object, String[]> termProvider;
+	private Object[] elements = new Object[0];
+	private String[] terms;
+	private String[] termsLowerCase;
+	//
+	private String searchText = ""; //$NON-NLS-1$
+	private boolean caseSensitive = false;
+	private int[] matches = new int[0];
+	private int matchCount = 0;
+
+	/**
+	 * @param termProvider
+	 *            returns the searchable texts of an element, e.g. id and description
+	 */
+	public SearchIndex(Function<Object, String[]> termProvider) {
+
+		this.termProvider = termProvider;
+	}
+
+	/**
+	 * Sets the elements and searches them with the current text.
+	 *
+	 * @param elements
+	 */
+	public void setElements(Object[] elements) {
+
+		this.elements = elements != null ? elements : new Object[0];
+		invalidate();
+	}
+
+	/**
+	 * The terms of the elements have changed, e.g. a description has been
+	 * edited. They are collected again with the next search.
+	 */
+	public void invalidate() {
+
+		terms = null;
+		termsLowerCase = null;
+		search(false);
+	}
+
+	/**
+	 * Sets the search text.
+	 *
+	 * @param searchText
+	 * @param caseSensitive
+	 * @return true if the matching elements may have changed
+	 */
+	public boolean setSearchText(String searchText, boolean caseSensitive) {
+
+		String text = searchText != null ? searchText : ""; //$NON-NLS-1$
+		if(text.equals(this.searchText) && caseSensitive == this.caseSensitive) {
+			return false;
+		}
+		/*
+		 * An extended text matches a subset of the previous matches.
+		 */
+		boolean narrow = caseSensitive == this.caseSensitive && text.contains(this.searchText) && terms != null;
+		this.searchText = text;
+		this.caseSensitive = caseSensitive;
+		search(narrow);
+		return true;
+	}
+
+	public String getSearchText() {
+
+		return searchText;
+	}
+
+	/**
+	 * Returns the matching elements in the order of the elements.
+	 *
+	 * @return Object[]
+	 */
+	public Object[] getMatches() {
+
+		Object[] result = new Object[matchCount];
+		for(int i = 0; i < matchCount; i++) {
+			result[i] = elements[matches[i]];
+		}
+		return result;
+	}
+
+	public int getMatchCount() {
+
+		return matchCount;
+	}
+
+	private void search(boolean narrow) {
+
+		if(searchText.isEmpty()) {
+			matches = new int[elements.length];
+			for(int i = 0; i < elements.length; i++) {
+				matches[i] = i;
+			}
+			matchCount = elements.length;
+			return;
+		}
+		//
+		String[] searchTerms = getTerms(caseSensitive);
+		String text = caseSensitive ? searchText : searchText.toLowerCase(Locale.ROOT);
+		if(narrow) {
+			int count = 0;
+			for(int i = 0; i < matchCount; i++) {
+				int index = matches[i];
+				if(searchTerms[index].contains(text)) {
+					matches[count++] = index;
+				}
+			}
+			matchCount = count;
+		} else {
+			int[] result = new int[elements.length];
+			int count = 0;
+			for(int i = 0; i < elements.length; i++) {
+				if(searchTerms[i].contains(text)) {
+					result[count++] = i;
+				}
+			}
+			matches = result;
+			matchCount = count;
+		}
+	}
+
+	private String[] getTerms(boolean caseSensitive) {
+
+		if(terms == null) {
+			terms = new String[elements.length];
+			termsLowerCase = new String[elements.length];
+			StringBuilder builder = new StringBuilder();
+			for(int i = 0; i < elements.length; i++) {
+				builder.setLength(0);
+				for(String term : termProvider.apply(elements[i])) {
+					if(term != null) {
+						builder.append(term);
+						builder.append(TERM_DELIMITER);
+					}
+				}
+				String term = builder.toString();
+				terms[i] = term;
+				termsLowerCase[i] = term.toLowerCase(Locale.ROOT);
+			}
+		}
+		return caseSensitive ? terms : termsLowerCase;
+	}
+}
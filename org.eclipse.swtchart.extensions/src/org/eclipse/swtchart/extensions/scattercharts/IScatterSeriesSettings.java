@@ -15,4 +15,14 @@ package org.eclipse.swtchart.extensions.scattercharts;
 import org.eclipse.swtchart.extensions.core.IPointSeriesSettings;
 
 public interface IScatterSeriesSettings extends IPointSeriesSettings {
+
+	/**
+	 * If enabled, the number of points per pixel is drawn as color-mapped image
+	 * instead of drawing the symbols.
+	 * 
+	 * @return true if the density rendering is enabled
+	 */
+	boolean isDensityEnabled();
+
+	void setDensityEnabled(boolean densityEnabled);
 }
\ No newline at end of file
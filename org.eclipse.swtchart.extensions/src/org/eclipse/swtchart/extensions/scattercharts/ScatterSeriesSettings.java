@@ -17,8 +17,21 @@ import org.eclipse.swtchart.extensions.core.ISeriesSettings;
 
 public class ScatterSeriesSettings extends AbstractPointSeriesSettings implements IScatterSeriesSettings {
 
+	private boolean densityEnabled = false;
 	private IScatterSeriesSettings seriesSettingsHighlight = null;
 
+	@Override
+	public boolean isDensityEnabled() {
+
+		return densityEnabled;
+	}
+
+	@Override
+	public void setDensityEnabled(boolean densityEnabled) {
+
+		this.densityEnabled = densityEnabled;
+	}
+
 	@Override
 	public ISeriesSettings getSeriesSettingsHighlight() {
 
@@ -54,6 +67,7 @@ public class ScatterSeriesSettings extends AbstractPointSeriesSettings implement
 			sink.setSymbolType(source.getSymbolType());
 			sink.setSymbolSize(source.getSymbolSize());
 			sink.setSymbolColor(source.getSymbolColor());
+			sink.setDensityEnabled(source.isDensityEnabled());
 			sink.setHighlight(source.isHighlight());
 			success = true;
 		}
@@ -25,7 +25,9 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swtchart.IAxis.Position;
 import org.eclipse.swtchart.ISeries.SeriesType;
+import org.eclipse.swtchart.internal.axis.Axis;
 import org.eclipse.swtchart.internal.axis.AxisTick;
+import org.eclipse.swtchart.internal.axis.PixelTransform;
 import org.eclipse.swtchart.util.ChartTestCase;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -1245,4 +1247,44 @@ public class AxisTest extends ChartTestCase {
 			assertTrue(axis.getPixelCoordinate(actualSeries[i]) > axis.getPixelCoordinate(actualSeries[i + 1]));
 		}
 	}
+
+	/**
+	 * Test that the pixel transform gives the same pixel coordinates as the
+	 * axis.
+	 */
+	@Test
+	public void testPixelTransform()  {
+
+		PixelTransform transform = new PixelTransform();
+		for(int orientation : new int[]{SWT.HORIZONTAL, SWT.VERTICAL}) {
+			chart.setOrientation(orientation);
+			for(boolean reversed : new boolean[]{false, true}) {
+				xAxis.setReversed(reversed);
+				// linear scale
+				xAxis.enableLogScale(false);
+				xAxis.setRange(new Range(-3.5, 1234.5));
+				assertPixelTransform(transform, -10, 1300);
+				// log scale
+				xAxis.enableLogScale(true);
+				xAxis.setRange(new Range(0.01, 1000));
+				assertPixelTransform(transform, 0.001, 2000);
+				xAxis.enableLogScale(false);
+				// category
+				xAxis.setCategorySeries(categorySeries);
+				xAxis.enableCategory(true);
+				xAxis.adjustRange();
+				assertPixelTransform(transform, 0, categorySeries.length - 1);
+				xAxis.enableCategory(false);
+			}
+		}
+	}
+
+	private void assertPixelTransform(PixelTransform transform, double lower, double upper) {
+
+		((Axis)xAxis).updatePixelTransform(transform);
+		for(int i = 0; i <= 1000; i++) {
+			double value = lower + (upper - lower) * i / 1000;
+			assertEquals(xAxis.getPixelCoordinate(value), transform.getPixelCoordinate(value));
+		}
+	}
 }
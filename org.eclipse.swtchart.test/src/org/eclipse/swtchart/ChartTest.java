@@ -419,4 +419,45 @@ public class ChartTest extends ChartTestCase {
 		}
 		assertEquals(0, getSwtResourceCount());
 	}
+
+	/**
+	 * Test for partial redraw.
+	 */
+	@Test
+	public void testPartialRedraw() {
+
+		ISeries<?> series = chart.getSeriesSet().createSeries(SeriesType.LINE, "line series");
+		series.setXSeries(xSeries);
+		series.setYSeries(ySeries1);
+		chart.getAxisSet().adjustRange();
+		chart.enablePartialRedraw(true);
+		assertTrue(chart.isPartialRedrawEnabled());
+		showChart();
+		IChangeTracker tracker = chart.getChangeTracker();
+		chart.redraw();
+		assertEquals(0, tracker.getDirtyComponents());
+		// zooming changes the axes and the plot area only
+		chart.getAxisSet().getYAxis(0).setRange(new Range(0.2, 0.4));
+		assertEquals(IChangeTracker.AXES | IChangeTracker.PLOT_AREA, tracker.getDirtyComponents());
+		assertEquals(IChangeTracker.RANGE, tracker.getChanges());
+		chart.redraw();
+		assertEquals(0, tracker.getDirtyComponents());
+		// a color of the series is shown in the legend and the plot area
+		((ILineSeries<?>)series).setLineColor(Display.getDefault().getSystemColor(SWT.COLOR_RED));
+		assertEquals(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, tracker.getDirtyComponents());
+		chart.redraw();
+		// the title color is shown in the title only
+		chart.getTitle().setForeground(Display.getDefault().getSystemColor(SWT.COLOR_RED));
+		assertEquals(IChangeTracker.TITLE, tracker.getDirtyComponents());
+		tracker.resetRepaintCounts();
+		chart.redraw();
+		// give UI thread a chance to redraw chart
+		long time = System.currentTimeMillis();
+		while(System.currentTimeMillis() - time < 100) {
+			Display.getDefault().readAndDispatch();
+		}
+		assertEquals(0, tracker.getRepaintCount(IChangeTracker.LEGEND));
+		assertEquals(0, tracker.getRepaintCount(IChangeTracker.PLOT_AREA));
+		chart.enablePartialRedraw(false);
+	}
 }
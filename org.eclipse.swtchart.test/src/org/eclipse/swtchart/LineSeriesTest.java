@@ -14,6 +14,7 @@ package org.eclipse.swtchart;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import org.eclipse.swt.SWT;
@@ -23,6 +24,7 @@ import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.ILineSeries.PlotSymbolType;
 import org.eclipse.swtchart.ISeries.SeriesType;
+import org.eclipse.swtchart.internal.series.Series;
 import org.eclipse.swtchart.util.ChartTestCase;
 import org.junit.Test;
 
@@ -146,6 +148,42 @@ public class LineSeriesTest extends ChartTestCase {
 		}
 	}
 
+	/**
+	 * Test for the transform of the series.
+	 */
+	@Test
+	public void testTransform() {
+
+		ISeries<?> series = seriesSet.createSeries(SeriesType.LINE, "series");
+		series.setXSeries(xSeries1);
+		series.setYSeries(ySeries1);
+		assertSame(SeriesTransform.IDENTITY, series.getTransform());
+		// shift and scale
+		series.setTransform(series.getTransform().shift(10, 0).scale(1, -2));
+		double[] xSeries = series.getXSeries();
+		double[] ySeries = series.getYSeries();
+		for(int i = 0; i < xSeries.length; i++) {
+			assertEquals(xSeries1[i] + 10, xSeries[i], 0);
+			assertEquals(ySeries1[i] * -2, ySeries[i], 0);
+		}
+		assertEquals(xSeries1[0], series.getDataModel().getMinX().doubleValue(), 0);
+		Range xRange = ((Series<?>)series).getXRange();
+		assertEquals(11, xRange.lower, 0);
+		assertEquals(15, xRange.upper, 0);
+		Range yRange = ((Series<?>)series).getYRange();
+		assertEquals(-1, yRange.lower, 0.0001);
+		assertEquals(-0.2, yRange.upper, 0.0001);
+		// undo
+		series.setTransform(SeriesTransform.IDENTITY);
+		assertEquals(xSeries1[0], series.getXSeries()[0], 0);
+		// setting the values resets the transform of the values
+		series.setTransform(new SeriesTransform(1, 1, 1, 1));
+		series.setYSeries(ySeries2);
+		assertEquals(new SeriesTransform(1, 1, 0, 1), series.getTransform());
+		assertEquals(ySeries2[0], series.getYSeries()[0], 0);
+		assertEquals(xSeries1[0] + 1, series.getXSeries()[0], 0);
+	}
+
 	/**
 	 * Test for axis id.
 	 */
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.graphics.RGB;
+import org.junit.Test;
+
+/**
+ * Test case for the resource cache, with a simple resource instead of SWT
+ * resources.
+ */
+public class ResourceCacheTest {
+
+	private final List<TestResource> disposedResources = new ArrayList<>();
+
+	@Test
+	public void testGet() {
+
+		ResourceCache<String, TestResource> cache = createCache(2);
+		TestResource a = cache.get("a");
+		assertSame(a, cache.get("a"));
+		cache.get("b");
+		cache.get("c");
+		/*
+		 * Pinned resources are kept, even if the capacity is exceeded.
+		 */
+		assertEquals(3, cache.getSize());
+		assertTrue(disposedResources.isEmpty());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(3, cache.getMissCount());
+		assertEquals(0.25, cache.getHitRate(), 0);
+	}
+
+	@Test
+	public void testAcquireAndRelease() {
+
+		ResourceCache<String, TestResource> cache = createCache(2);
+		TestResource a = cache.acquire("a");
+		TestResource b = cache.acquire("b");
+		TestResource c = cache.acquire("c");
+		assertEquals(3, cache.getSize());
+		cache.release(b);
+		assertEquals(2, cache.getSize());
+		assertTrue(b.disposed);
+		assertFalse(a.disposed);
+		assertFalse(c.disposed);
+		assertEquals(1, cache.getEvictionCount());
+		/*
+		 * An evicted resource is created again.
+		 */
+		TestResource b2 = cache.acquire("b");
+		assertNotSame(b, b2);
+		assertEquals(3, cache.getSize());
+	}
+
+	@Test
+	public void testLeastRecentlyUsed() {
+
+		ResourceCache<String, TestResource> cache = createCache(2);
+		TestResource a = cache.acquire("a");
+		TestResource b = cache.acquire("b");
+		cache.release(a);
+		cache.release(b);
+		cache.acquire("a");
+		cache.release(a);
+		cache.acquire("c");
+		assertTrue(b.disposed);
+		assertFalse(a.disposed);
+		assertEquals(2, cache.getSize());
+	}
+
+	@Test
+	public void testReferenceCount() {
+
+		ResourceCache<String, TestResource> cache = createCache(1);
+		TestResource a = cache.acquire("a");
+		assertSame(a, cache.acquire("a"));
+		cache.release(a);
+		cache.acquire("b");
+		assertFalse(a.disposed);
+		cache.release(a);
+		assertTrue(a.disposed);
+	}
+
+	@Test
+	public void testPinnedExceedCapacity() {
+
+		ResourceCache<String, TestResource> cache = createCache(2);
+		for(int i = 0; i < 5; i++) {
+			cache.get("p" + i);
+		}
+		TestResource a = cache.acquire("a");
+		cache.release(a);
+		cache.release(a);
+		/*
+		 * Only the unreferenced resource can be evicted.
+		 */
+		assertTrue(a.disposed);
+		assertEquals(5, cache.getSize());
+		assertEquals(1, cache.getEvictionCount());
+		TestResource b = cache.acquire("b");
+		cache.get("b");
+		cache.release(b);
+		assertFalse(b.disposed);
+		assertEquals(6, cache.getSize());
+	}
+
+	@Test
+	public void testSetCapacity() {
+
+		ResourceCache<String, TestResource> cache = createCache(10);
+		for(int i = 0; i < 10; i++) {
+			cache.release(cache.acquire("r" + i));
+		}
+		cache.setCapacity(4);
+		assertEquals(4, cache.getSize());
+		assertEquals(6, disposedResources.size());
+		assertEquals("r0", disposedResources.get(0).key);
+	}
+
+	@Test
+	public void testDispose() {
+
+		ResourceCache<String, TestResource> cache = createCache(10);
+		cache.get("a");
+		cache.acquire("b");
+		cache.dispose();
+		assertEquals(0, cache.getSize());
+		assertEquals(2, disposedResources.size());
+	}
+
+	@Test
+	public void testQuantize() {
+
+		assertEquals(new RGB(0, 0, 255), Resources.quantize(new RGB(10, 100, 200), 2));
+		assertEquals(new RGB(0, 85, 170), Resources.quantize(new RGB(10, 100, 200), 4));
+		assertEquals(new RGB(10, 100, 200), Resources.quantize(new RGB(10, 100, 200), 256));
+	}
+
+	private ResourceCache<String, TestResource> createCache(int capacity) {
+
+		return new ResourceCache<>(TestResource::new, resource -> {
+			resource.disposed = true;
+			disposedResources.add(resource);
+		}, capacity);
+	}
+
+	private static final class TestResource {
+
+		private final String key;
+		private boolean disposed;
+
+		private TestResource(String key) {
+
+			this.key = key;
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.swtchart.IChangeTracker;
+import org.junit.Test;
+
+/**
+ * Test case for the change tracker.
+ */
+public class ChangeTrackerTest {
+
+	@Test
+	public void testMarkChanged() {
+
+		ChangeTracker tracker = new ChangeTracker();
+		assertEquals(0, tracker.getDirtyComponents());
+		tracker.markChanged(IChangeTracker.AXES | IChangeTracker.PLOT_AREA, IChangeTracker.RANGE);
+		tracker.markChanged(IChangeTracker.LEGEND, IChangeTracker.STYLE);
+		assertEquals(IChangeTracker.AXES | IChangeTracker.PLOT_AREA | IChangeTracker.LEGEND, tracker.getDirtyComponents());
+		assertEquals(IChangeTracker.RANGE | IChangeTracker.STYLE, tracker.getChanges());
+		assertEquals(IChangeTracker.AXES | IChangeTracker.PLOT_AREA | IChangeTracker.LEGEND, tracker.takeDirtyComponents());
+		assertEquals(0, tracker.getDirtyComponents());
+		assertEquals(0, tracker.getChanges());
+	}
+
+	@Test
+	public void testRepaintCounts() {
+
+		ChangeTracker tracker = new ChangeTracker();
+		tracker.repainted(IChangeTracker.PLOT_AREA);
+		tracker.repainted(IChangeTracker.PLOT_AREA);
+		tracker.repainted(IChangeTracker.AXES);
+		// combined components are not counted
+		tracker.repainted(IChangeTracker.ALL);
+		assertEquals(2, tracker.getRepaintCount(IChangeTracker.PLOT_AREA));
+		assertEquals(1, tracker.getRepaintCount(IChangeTracker.AXES));
+		assertEquals(0, tracker.getRepaintCount(IChangeTracker.TITLE));
+		assertEquals(0, tracker.getRepaintCount(IChangeTracker.ALL));
+		tracker.resetRepaintCounts();
+		assertEquals(0, tracker.getRepaintCount(IChangeTracker.PLOT_AREA));
+	}
+}
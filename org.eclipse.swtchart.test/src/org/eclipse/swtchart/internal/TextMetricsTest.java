@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Display;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test case for the text metrics.
+ */
+public class TextMetricsTest {
+
+	private Font font;
+
+	@Before
+	public void setUp() {
+
+		font = new Font(Display.getDefault(), "Arial", 12, SWT.NORMAL);
+	}
+
+	@After
+	public void tearDown() {
+
+		font.dispose();
+		TextMetrics.clear();
+	}
+
+	/**
+	 * Test that the cached extents are the same as the measured ones.
+	 */
+	@Test
+	public void testGetExtent() {
+
+		TextMetrics metrics = TextMetrics.getTextMetrics(font);
+		assertSame(metrics, TextMetrics.getTextMetrics(font));
+		Point extent = metrics.getExtent("1.0E-5");
+		assertTrue(extent.x > 0);
+		assertEquals(metrics.getHeight(), metrics.getExtent(null).y);
+		assertEquals(0, metrics.getExtent(" ").x);
+		// the cached extent can't be modified by the caller
+		Point cachedExtent = metrics.getExtent("1.0E-5");
+		assertNotSame(extent, cachedExtent);
+		assertEquals(extent, cachedExtent);
+		extent.x = -1;
+		assertEquals(cachedExtent, metrics.getExtent("1.0E-5"));
+		assertEquals(cachedExtent, Util.getExtentInGC(font, "1.0E-5"));
+	}
+
+	/**
+	 * Test that the metrics of a disposed font are not available.
+	 */
+	@Test
+	public void testDisposedFont() {
+
+		TextMetrics metrics = TextMetrics.getTextMetrics(font);
+		font.dispose();
+		assertNull(TextMetrics.getTextMetrics(font));
+		assertEquals(new Point(0, 0), Util.getExtentInGC(font, "text"));
+		font = new Font(Display.getDefault(), "Arial", 12, SWT.NORMAL);
+		assertNotSame(metrics, TextMetrics.getTextMetrics(font));
+		assertNull(TextMetrics.getTextMetrics(null));
+	}
+}
@@ -0,0 +1,579 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.compress;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import org.eclipse.swtchart.CompressMode;
+import org.eclipse.swtchart.SeriesTransform;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Test case for the line series compressor.
+ */
+public class CompressLineSeriesTest {
+
+	private static final int WIDTH = 800;
+	private static final int HEIGHT = 600;
+
+	/**
+	 * Test for the uncompressed state.
+	 */
+	@Test
+	public void testUncompressed() {
+
+		CompressLineSeries compressor = createCompressor(5);
+		assertArrayEquals(new double[]{0, 1, 2, 3, 4}, compressor.getCompressedXSeries(), 0);
+		assertArrayEquals(new int[]{0, 1, 2, 3, 4}, compressor.getCompressedIndexes());
+	}
+
+	/**
+	 * Test for compressing a series which is smaller than the plot area.
+	 */
+	@Test
+	public void testCompressSmallSeries() {
+
+		CompressLineSeries compressor = createCompressor(10);
+		assertTrue(compressor.compress(createConfig(10)));
+		int[] indexes = compressor.getCompressedIndexes();
+		assertEquals(10, indexes.length);
+		double[] xSeries = compressor.getCompressedXSeries();
+		double[] ySeries = compressor.getCompressedYSeries();
+		for(int i = 0; i < indexes.length; i++) {
+			assertEquals(i, indexes[i]);
+			assertEquals(i, xSeries[i], 0);
+			assertEquals(getY(i), ySeries[i], 0);
+		}
+	}
+
+	/**
+	 * Test for compressing a series which is much larger than the plot area.
+	 */
+	@Test
+	public void testCompressLargeSeries() {
+
+		int length = 1000000;
+		CompressLineSeries compressor = createCompressor(length);
+		assertTrue(compressor.compress(createConfig(length)));
+		int[] indexes = compressor.getCompressedIndexes();
+		assertTrue(indexes.length > 0);
+		assertTrue(indexes.length < length);
+		for(int i = 1; i < indexes.length; i++) {
+			assertTrue(indexes[i - 1] <= indexes[i]);
+		}
+	}
+
+	/**
+	 * Test that the min/max compression keeps spikes and at most 4 plots per
+	 * column.
+	 */
+	@Test
+	public void testCompressMinMax() {
+
+		int length = 1000000;
+		int spike = 123457;
+		double[] xSeries = new double[length];
+		double[] ySeries = new double[length];
+		for(int i = 0; i < length; i++) {
+			xSeries[i] = i;
+		}
+		ySeries[spike] = 1;
+		CompressLineSeries compressor = new CompressLineSeries();
+		compressor.setXSeries(xSeries);
+		compressor.setYSeries(ySeries);
+		CompressConfig config = createConfig(length);
+		config.setSizeInPixel(WIDTH * CompressConfig.PRECISION, HEIGHT * CompressConfig.PRECISION);
+		config.setCompressMode(CompressMode.MIN_MAX);
+		assertTrue(compressor.compress(config));
+		int[] indexes = compressor.getCompressedIndexes();
+		assertTrue(indexes.length <= WIDTH * 4);
+		boolean containsSpike = false;
+		int[] plotsPerPixel = new int[WIDTH];
+		for(int i = 0; i < indexes.length; i++) {
+			if(i > 0) {
+				assertTrue(indexes[i - 1] < indexes[i]);
+			}
+			containsSpike |= indexes[i] == spike;
+			int pixel = (int)((xSeries[indexes[i]] - config.getXLowerValue()) / (config.getXUpperValue() - config.getXLowerValue()) * WIDTH);
+			plotsPerPixel[Math.min(pixel, WIDTH - 1)]++;
+		}
+		for(int pixel = 0; pixel < WIDTH; pixel++) {
+			assertTrue("plots of pixel " + pixel + ": " + plotsPerPixel[pixel], plotsPerPixel[pixel] <= 4);
+		}
+		assertTrue(containsSpike);
+		assertEquals(0, indexes[0]);
+		assertEquals(length - 1, indexes[indexes.length - 1]);
+	}
+
+	/**
+	 * Test that changing the compress mode triggers a new compression.
+	 */
+	@Test
+	public void testCompressModeChanged() {
+
+		CompressLineSeries compressor = createCompressor(10000);
+		CompressConfig config = createConfig(10000);
+		assertTrue(compressor.compress(config));
+		config = new CompressConfig(config);
+		assertFalse(compressor.compress(config));
+		config.setCompressMode(CompressMode.MIN_MAX);
+		assertTrue(compressor.compress(config));
+	}
+
+	/**
+	 * Test that the accessors give the same values as the copied series.
+	 */
+	@Test
+	public void testCompressedAccessors() {
+
+		int length = 100000;
+		CompressLineSeries compressor = createCompressor(length);
+		assertEquals(length, compressor.getCompressedLength());
+		compressor.compress(createConfig(length));
+		double[] xSeries = compressor.getCompressedXSeries();
+		double[] ySeries = compressor.getCompressedYSeries();
+		int[] indexes = compressor.getCompressedIndexes();
+		assertEquals(indexes.length, compressor.getCompressedLength());
+		for(int i = 0; i < indexes.length; i++) {
+			assertEquals(xSeries[i], compressor.getCompressedX(i), 0);
+			assertEquals(ySeries[i], compressor.getCompressedY(i), 0);
+			assertEquals(indexes[i], compressor.getCompressedIndex(i));
+		}
+	}
+
+	/**
+	 * Test that the compressed series buffers are reused between compressions.
+	 */
+	@Test
+	public void testBuffersReused() {
+
+		int length = 100000;
+		CompressLineSeries compressor = createCompressor(length);
+		compressor.compress(createConfig(length));
+		double[] xBuffer = compressor.compressedXSeries;
+		double[] yBuffer = compressor.compressedYSeries;
+		int[] indexBuffer = compressor.compressedIndexes;
+		for(int i = 1; i < 10; i++) {
+			CompressConfig config = createConfig(length);
+			config.setXRange(-i * length * 0.01d, length - 1);
+			assertTrue(compressor.compress(config));
+			assertSame(xBuffer, compressor.compressedXSeries);
+			assertSame(yBuffer, compressor.compressedYSeries);
+			assertSame(indexBuffer, compressor.compressedIndexes);
+		}
+	}
+
+	/**
+	 * Test that appending to a compressed series gives the same result as
+	 * compressing the whole series.
+	 */
+	@Test
+	public void testAppendSeries() {
+
+		int length = 100000;
+		CompressLineSeries expected = createCompressor(length);
+		CompressConfig config = createConfig(length);
+		config.setXRange(0, 2 * length);
+		expected.compress(config);
+		CompressLineSeries compressor = createCompressor(length / 2);
+		compressor.compress(config);
+		for(int i = length / 2; i < length; i += 1000) {
+			double[] xSeries = new double[1000];
+			double[] ySeries = new double[1000];
+			for(int j = 0; j < xSeries.length; j++) {
+				xSeries[j] = i + j;
+				ySeries[j] = getY(i + j);
+			}
+			compressor.appendSeries(xSeries, ySeries);
+		}
+		assertFalse(compressor.compress(config));
+		assertArrayEquals(expected.getCompressedIndexes(), compressor.getCompressedIndexes());
+		compressor.trimSeries(length / 2);
+		assertEquals(length / 2, compressor.getCompressedLength());
+		assertEquals(length / 2, compressor.getCompressedX(0), 0);
+	}
+
+	/**
+	 * Test that sliding the window keeps the compressed series as long as the
+	 * removed points are left of the X range, also when the removed points
+	 * are dropped from the buffers.
+	 */
+	@Test
+	public void testSlidingWindow() {
+
+		int length = 10000;
+		int step = 100;
+		CompressLineSeries compressor = createCompressor(length);
+		CompressConfig config = createConfig(length);
+		config.setXRange(0.8d * length, 0.9d * length);
+		assertTrue(compressor.compress(config));
+		for(int i = length; i < 1.6d * length; i += step) {
+			double[] xSeries = new double[step];
+			double[] ySeries = new double[step];
+			for(int j = 0; j < step; j++) {
+				xSeries[j] = i + j;
+				ySeries[j] = getY(i + j);
+			}
+			compressor.appendSeries(xSeries, ySeries);
+			compressor.trimSeries(step);
+			assertTrue(compressor.compressed);
+			assertFalse(compressor.compress(config));
+		}
+		int first = (int)compressor.getCompressedX(0);
+		CompressLineSeries expected = new CompressLineSeries();
+		double[] xSeries = new double[length];
+		double[] ySeries = new double[length];
+		int offset = (int)(0.6d * length);
+		for(int i = 0; i < length; i++) {
+			xSeries[i] = offset + i;
+			ySeries[i] = getY(offset + i);
+		}
+		expected.setXSeries(xSeries);
+		expected.setYSeries(ySeries);
+		expected.compress(config);
+		assertEquals(expected.getCompressedX(0), first, 0);
+		assertArrayEquals(expected.getCompressedIndexes(), compressor.getCompressedIndexes());
+		assertArrayEquals(expected.getCompressedYSeries(), compressor.getCompressedYSeries(), 0);
+		// the compression is done again once a visible point is removed
+		compressor.trimSeries(2050);
+		assertFalse(compressor.compressed);
+		assertTrue(compressor.compress(config));
+		assertEquals(8050, compressor.getCompressedX(0), 0);
+	}
+
+	/**
+	 * Test that the binary search for the visible range gives the same result
+	 * as iterating over all points, when being zoomed in.
+	 */
+	@Test
+	public void testCompressZoomed() {
+
+		int length = 1000000;
+		for(CompressMode compressMode : CompressMode.values()) {
+			CompressConfig config = createConfig(length);
+			config.setXRange(123456.5d, 124456.5d);
+			config.setYRange(-0.5d, 0.5d);
+			config.setCompressMode(compressMode);
+			CompressLineSeries compressor = createCompressor(length);
+			assertTrue(compressor.isXMonotoneIncreasing);
+			compressor.compress(config);
+			CompressLineSeries expected = createCompressor(length);
+			expected.isXMonotoneIncreasing = false;
+			expected.compress(config);
+			assertArrayEquals(compressMode.label(), expected.getCompressedIndexes(), compressor.getCompressedIndexes());
+		}
+	}
+
+	/**
+	 * Test that compressing a transformed series gives the same result as
+	 * compressing the transformed values, without copying the series when the
+	 * transform changes.
+	 */
+	@Test
+	public void testTransform() {
+
+		int length = 1000000;
+		SeriesTransform transform = new SeriesTransform(1000, 2, 0.5d, 4);
+		for(CompressMode compressMode : CompressMode.values()) {
+			CompressConfig config = createConfig(length);
+			config.setXRange(transform.transformX(123456.5d), transform.transformX(124456.5d));
+			config.setYRange(transform.transformY(-1.1d), transform.transformY(1.1d));
+			config.setCompressMode(compressMode);
+			CompressLineSeries compressor = createCompressor(length);
+			compressor.compress(config);
+			int modificationCount = compressor.getModificationCount();
+			compressor.setTransform(transform);
+			assertTrue(compressor.getModificationCount() > modificationCount);
+			assertTrue(compressor.compress(config));
+			CompressLineSeries expected = new CompressLineSeries();
+			expected.setXSeries(transform.transformX(compressor.xSeries, length));
+			expected.setYSeries(transform.transformY(compressor.ySeries, length));
+			expected.compress(config);
+			assertArrayEquals(compressMode.label(), expected.getCompressedIndexes(), compressor.getCompressedIndexes());
+			assertArrayEquals(compressMode.label(), expected.getCompressedXSeries(), compressor.getCompressedXSeries(), 0);
+			assertArrayEquals(compressMode.label(), expected.getCompressedYSeries(), compressor.getCompressedYSeries(), 0);
+			for(int i = 0; i < compressor.getCompressedLength(); i++) {
+				int index = compressor.getCompressedIndex(i);
+				assertEquals(transform.transformX(index), compressor.getCompressedX(i), 0);
+				assertEquals(transform.transformY(getY(index)), compressor.getCompressedY(i), 0);
+			}
+		}
+	}
+
+	/**
+	 * Test that on log scale axes, a transform with offset gives the same
+	 * compressed series as compressing the transformed values.
+	 */
+	@Test
+	public void testTransformLogScale() {
+
+		int length = 100000;
+		SeriesTransform transform = new SeriesTransform(1, 3, 2, 1);
+		for(CompressMode compressMode : CompressMode.values()) {
+			CompressConfig config = createConfig(length);
+			config.setXRange(transform.transformX(0), transform.transformX(length - 1));
+			config.setYRange(transform.transformY(-1.1d), transform.transformY(1.1d));
+			config.setXLogScale(true);
+			config.setYLogScale(true);
+			config.setCompressMode(compressMode);
+			CompressLineSeries compressor = createCompressor(length);
+			compressor.setTransform(transform);
+			assertTrue(compressor.compress(config));
+			CompressLineSeries expected = new CompressLineSeries();
+			expected.setXSeries(transform.transformX(compressor.xSeries, length));
+			expected.setYSeries(transform.transformY(compressor.ySeries, length));
+			expected.compress(config);
+			assertArrayEquals(compressMode.label(), expected.getCompressedIndexes(), compressor.getCompressedIndexes());
+			assertArrayEquals(compressMode.label(), expected.getCompressedXSeries(), compressor.getCompressedXSeries(), 0);
+			assertArrayEquals(compressMode.label(), expected.getCompressedYSeries(), compressor.getCompressedYSeries(), 0);
+		}
+	}
+
+	/**
+	 * Test that the transformed series kept for a log scale axis follow the
+	 * changes of the range and of the transform.
+	 */
+	@Test
+	public void testTransformLogScaleZoom() {
+
+		int length = 10000;
+		SeriesTransform transform = new SeriesTransform(1, 3, 2, 1);
+		CompressLineSeries compressor = createCompressor(length);
+		CompressConfig config = createConfig(length);
+		config.setYRange(transform.transformY(-1.1d), transform.transformY(1.1d));
+		config.setXLogScale(true);
+		for(int i = 0; i < 3; i++) {
+			compressor.setTransform(transform);
+			config.setXRange(transform.transformX(i * 1000), transform.transformX(length - 1));
+			assertTrue(compressor.compress(config));
+			CompressLineSeries expected = new CompressLineSeries();
+			expected.setXSeries(transform.transformX(compressor.xSeries, length));
+			expected.setYSeries(transform.transformY(compressor.ySeries, length));
+			expected.compress(config);
+			assertArrayEquals(expected.getCompressedIndexes(), compressor.getCompressedIndexes());
+			assertArrayEquals(expected.getCompressedXSeries(), compressor.getCompressedXSeries(), 0);
+			// the next compression is done with another transform
+			if(i == 1) {
+				transform = transform.shift(5, 0);
+			}
+		}
+	}
+
+	/**
+	 * Test that the compressed series of a mirrored transform contains the
+	 * visible points in the order of the source series.
+	 */
+	@Test
+	public void testTransformMirrored() {
+
+		int length = 10000;
+		SeriesTransform transform = new SeriesTransform(0, -1, 0, 1);
+		CompressLineSeries compressor = createCompressor(length);
+		compressor.setTransform(transform);
+		CompressConfig config = createConfig(length);
+		config.setXRange(-2000.5d, -1000.5d);
+		assertTrue(compressor.compress(config));
+		int[] indexes = compressor.getCompressedIndexes();
+		assertTrue(indexes.length > 0);
+		for(int i = 0; i < indexes.length; i++) {
+			if(i > 0) {
+				assertTrue(indexes[i - 1] < indexes[i]);
+			}
+			assertEquals(-indexes[i], compressor.getCompressedX(i), 0);
+		}
+		assertEquals(1000, indexes[0]);
+		assertEquals(2001, indexes[indexes.length - 1]);
+	}
+
+	/**
+	 * Test that the level of detail index gives the same result as the min/max
+	 * compression iterating over all points, for different ranges and after
+	 * appending points.
+	 */
+	@Test
+	public void testLevelOfDetail() {
+
+		int length = 1000000;
+		Random random = new Random(4711);
+		double[] xSeries = new double[length];
+		double[] ySeries = new double[length];
+		for(int i = 0; i < length; i++) {
+			xSeries[i] = i;
+			ySeries[i] = random.nextDouble();
+		}
+		CompressLineSeries compressor = new CompressLineSeries();
+		compressor.setLevelOfDetailEnabled(true);
+		compressor.setXSeries(xSeries);
+		compressor.setYSeries(ySeries);
+		CompressLineSeries expected = new CompressLineSeries();
+		expected.setXSeries(xSeries);
+		expected.setYSeries(ySeries);
+		double[][] ranges = {{0, length - 1}, {-100000.5d, length + 100000.5d}, {123456.5d, 124456.5d}, {100, 163}, {length - 10, length + 10}, {-10, -1}};
+		for(double[] range : ranges) {
+			CompressConfig config = createConfig(length);
+			config.setXRange(range[0], range[1]);
+			config.setCompressMode(CompressMode.MIN_MAX);
+			compressor.compress(config);
+			expected.compress(config);
+			assertArrayEquals(range[0] + " - " + range[1], expected.getCompressedIndexes(), compressor.getCompressedIndexes());
+			// the index is independent of the compress mode
+			config = new CompressConfig(config);
+			config.setCompressMode(CompressMode.GRID);
+			compressor.compress(config);
+			assertArrayEquals(range[0] + " - " + range[1], expected.getCompressedIndexes(), compressor.getCompressedIndexes());
+		}
+		// append points to the index
+		CompressConfig config = createConfig(2 * length);
+		config.setCompressMode(CompressMode.MIN_MAX);
+		compressor.compress(config);
+		for(int i = length; i < 2 * length; i += 100000) {
+			double[] appendedXSeries = new double[100000];
+			double[] appendedYSeries = new double[100000];
+			for(int j = 0; j < appendedXSeries.length; j++) {
+				appendedXSeries[j] = i + j;
+				appendedYSeries[j] = random.nextDouble();
+			}
+			compressor.appendSeries(appendedXSeries, appendedYSeries);
+			expected.appendSeries(appendedXSeries, appendedYSeries);
+			compressor.compress(config);
+			expected.compress(config);
+			assertArrayEquals(expected.getCompressedIndexes(), compressor.getCompressedIndexes());
+		}
+		compressor.trimSeries(length / 3);
+		expected.trimSeries(length / 3);
+		config = new CompressConfig(config);
+		config.setXRange(length / 3d, 2 * length);
+		compressor.compress(config);
+		expected.compress(config);
+		assertArrayEquals(expected.getCompressedIndexes(), compressor.getCompressedIndexes());
+	}
+
+	/**
+	 * Test that compressing in parallel gives the same result as compressing
+	 * sequentially.
+	 */
+	@Test
+	public void testCompressParallel() {
+
+		int length = 5000000;
+		CompressLineSeries compressor = createCompressor(length);
+		CompressLineSeries expected = createCompressor(length);
+		double[][] ranges = {{0, length - 1}, {-1000000.5d, length + 1000000.5d}, {123456.5d, 2345678.5d}, {100, 163}};
+		for(double[] range : ranges) {
+			CompressConfig config = createConfig(length);
+			config.setXRange(range[0], range[1]);
+			config.setCompressMode(CompressMode.MIN_MAX);
+			expected.compress(config);
+			config = new CompressConfig(config);
+			config.setParallel(true);
+			compressor.compress(config);
+			assertArrayEquals(range[0] + " - " + range[1], expected.getCompressedIndexes(), compressor.getCompressedIndexes());
+		}
+	}
+
+	/**
+	 * Benchmark that the memory allocated by a compression doesn't grow with
+	 * the length of the series once the buffers are warmed up.
+	 */
+	@Test
+	public void testAllocationPerCompress() throws Exception {
+
+		Method method = getThreadAllocatedBytesMethod();
+		Assume.assumeTrue(method != null);
+		long[] allocated = new long[3];
+		int[] lengths = {100000, 1000000, 5000000};
+		for(int i = 0; i < lengths.length; i++) {
+			CompressLineSeries compressor = createCompressor(lengths[i]);
+			// warm up
+			for(int j = 0; j < 5; j++) {
+				compress(compressor, lengths[i], j);
+			}
+			int iterations = 20;
+			long start = getThreadAllocatedBytes(method);
+			for(int j = 0; j < iterations; j++) {
+				compress(compressor, lengths[i], j);
+			}
+			allocated[i] = (getThreadAllocatedBytes(method) - start) / iterations;
+		}
+		// a boxed point alone would be 16 bytes, so flat means far below that
+		assertTrue("allocated bytes per compress: " + allocated[2], allocated[2] < allocated[0] + 16 * 1024);
+	}
+
+	private static void compress(CompressLineSeries compressor, int length, int iteration) {
+
+		CompressConfig config = createConfig(length);
+		// shift the range so that the compression is not skipped
+		config.setXRange(-(iteration % 2) * length * 0.1d, length - 1);
+		compressor.compress(config);
+	}
+
+	private static CompressLineSeries createCompressor(int length) {
+
+		double[] xSeries = new double[length];
+		double[] ySeries = new double[length];
+		for(int i = 0; i < length; i++) {
+			xSeries[i] = i;
+			ySeries[i] = getY(i);
+		}
+		CompressLineSeries compressor = new CompressLineSeries();
+		compressor.setXSeries(xSeries);
+		compressor.setYSeries(ySeries);
+		return compressor;
+	}
+
+	private static CompressConfig createConfig(int length) {
+
+		CompressConfig config = new CompressConfig();
+		config.setSizeInPixel(WIDTH, HEIGHT);
+		config.setXRange(0, length - 1);
+		config.setYRange(-1.1d, 1.1d);
+		return config;
+	}
+
+	private static double getY(int index) {
+
+		return Math.sin(index / 100d);
+	}
+
+	private static Method getThreadAllocatedBytesMethod() {
+
+		/*
+		 * Accessed via reflection, as com.sun.management
+		 * is not part of the execution environment.
+		 */
+		for(Class<?> type : ManagementFactory.getThreadMXBean().getClass().getInterfaces()) {
+			if("com.sun.management.ThreadMXBean".equals(type.getName())) {
+				try {
+					return type.getMethod("getThreadAllocatedBytes", long.class);
+				} catch(NoSuchMethodException e) {
+					return null;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static long getThreadAllocatedBytes(Method method) throws Exception {
+
+		return (Long)method.invoke(ManagementFactory.getThreadMXBean(), Thread.currentThread().getId());
+	}
+}
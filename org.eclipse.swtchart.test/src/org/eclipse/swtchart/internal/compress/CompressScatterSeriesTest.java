@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.compress;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test case for the scatter series compressor.
+ */
+public class CompressScatterSeriesTest {
+
+	private static final int WIDTH = 400;
+	private static final int HEIGHT = 300;
+
+	/**
+	 * Test for counting the points per grid.
+	 */
+	@Test
+	public void testDensity() {
+
+		CompressScatterSeries compressor = createCompressor(10000);
+		assertTrue(compressor.compress(createConfig()));
+		assertNull(compressor.getDensityGrid());
+		compressor.setDensityEnabled(true);
+		CompressConfig config = createConfig();
+		config.setXRange(-5, 5);
+		assertTrue(compressor.compress(config));
+		DensityGrid densityGrid = compressor.getDensityGrid();
+		assertNotNull(densityGrid);
+		assertEquals(WIDTH, densityGrid.getWidth());
+		assertEquals(HEIGHT, densityGrid.getHeight());
+		// every point is in range, the occupied grids keep one point each
+		assertEquals(10000, getTotal(densityGrid));
+		assertEquals(compressor.getCompressedLength(), getOccupied(densityGrid));
+		// the center of the normal distribution is the densest
+		assertTrue(densityGrid.getCount(WIDTH / 2, HEIGHT / 2) > densityGrid.getCount(10, 10));
+		assertEquals(0, densityGrid.getX(WIDTH / 2), 10d / WIDTH);
+		// appended points are counted, too
+		compressor.appendSeries(new double[]{0, 0, 100}, new double[]{0, 0, 0});
+		assertEquals(10002, getTotal(densityGrid));
+	}
+
+	/**
+	 * Test that counting in parallel gives the same result.
+	 */
+	@Test
+	public void testDensityParallel() {
+
+		int length = 2000000;
+		CompressScatterSeries compressor = createCompressor(length);
+		CompressScatterSeries expected = createCompressor(length);
+		compressor.setDensityEnabled(true);
+		expected.setDensityEnabled(true);
+		CompressConfig config = createConfig();
+		expected.compress(config);
+		config = new CompressConfig(config);
+		config.setParallel(true);
+		compressor.compress(config);
+		assertArrayEquals(expected.getDensityGrid().getCounts(), compressor.getDensityGrid().getCounts());
+		assertArrayEquals(expected.getCompressedIndexes(), compressor.getCompressedIndexes());
+	}
+
+	/**
+	 * Test that counting a sorted series in parallel, where each chunk only
+	 * counts the columns of its points, gives the same result.
+	 */
+	@Test
+	public void testDensityParallelSorted() {
+
+		int length = 2000000;
+		CompressScatterSeries compressor = createCompressor(length, true);
+		CompressScatterSeries expected = createCompressor(length, true);
+		assertTrue(compressor.isXMonotoneIncreasing);
+		compressor.setDensityEnabled(true);
+		expected.setDensityEnabled(true);
+		CompressConfig config = createConfig();
+		config.setXRange(-2, 3);
+		expected.compress(config);
+		config = new CompressConfig(config);
+		config.setParallel(true);
+		compressor.compress(config);
+		assertArrayEquals(expected.getDensityGrid().getCounts(), compressor.getDensityGrid().getCounts());
+		assertArrayEquals(expected.getCompressedIndexes(), compressor.getCompressedIndexes());
+	}
+
+	private static CompressScatterSeries createCompressor(int length) {
+
+		return createCompressor(length, false);
+	}
+
+	private static CompressScatterSeries createCompressor(int length, boolean sorted) {
+
+		Random random = new Random(1);
+		double[] xSeries = new double[length];
+		double[] ySeries = new double[length];
+		for(int i = 0; i < length; i++) {
+			xSeries[i] = random.nextGaussian();
+			ySeries[i] = random.nextGaussian();
+		}
+		if(sorted) {
+			Arrays.sort(xSeries);
+		}
+		CompressScatterSeries compressor = new CompressScatterSeries();
+		compressor.setLineVisible(false);
+		compressor.setXSeries(xSeries);
+		compressor.setYSeries(ySeries);
+		return compressor;
+	}
+
+	private static CompressConfig createConfig() {
+
+		CompressConfig config = new CompressConfig();
+		config.setSizeInPixel(WIDTH, HEIGHT);
+		config.setXRange(-10, 10);
+		config.setYRange(-10, 10);
+		return config;
+	}
+
+	private static long getTotal(DensityGrid densityGrid) {
+
+		long total = 0;
+		for(int count : densityGrid.getCounts()) {
+			total += count;
+		}
+		return total;
+	}
+
+	private static int getOccupied(DensityGrid densityGrid) {
+
+		int occupied = 0;
+		for(int count : densityGrid.getCounts()) {
+			if(count > 0) {
+				occupied++;
+			}
+		}
+		return occupied;
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.series;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.Test;
+
+/**
+ * Test case for the spatial index.
+ */
+public class SpatialIndexTest {
+
+	private static final int WIDTH = 400;
+	private static final int HEIGHT = 300;
+
+	/**
+	 * Test for the nearest point.
+	 */
+	@Test
+	public void testNearestIndex() {
+
+		SpatialIndex index = new SpatialIndex();
+		int[] pixels = new int[]{10, 10, 20, 12, 100, 100, -5, 10, 399, 299};
+		int[] indexes = new int[]{3, 4, 5, 6, 7};
+		index.build(pixels, indexes, 5, WIDTH, HEIGHT);
+		// the point outside of the plot area is not indexed
+		assertEquals(4, index.size());
+		assertEquals(3, index.getNearestIndex(12, 10, 8));
+		assertEquals(4, index.getNearestIndex(17, 12, 8));
+		assertEquals(-1, index.getNearestIndex(50, 50, 8));
+		assertEquals(-1, index.getNearestIndex(0, 10, 8));
+		assertEquals(5, index.getNearestIndex(108, 108, 8));
+		assertEquals(-1, index.getNearestIndex(109, 100, 8));
+		assertEquals(7, index.getNearestIndex(405, 305, 8));
+	}
+
+	/**
+	 * Test that the queries give the same result as iterating over all points.
+	 */
+	@Test
+	public void testRandomPoints() {
+
+		int length = 10000;
+		Random random = new Random(1);
+		int[] pixels = new int[length * 2];
+		int[] indexes = new int[length];
+		for(int i = 0; i < length; i++) {
+			pixels[i * 2] = random.nextInt(WIDTH);
+			pixels[i * 2 + 1] = random.nextInt(HEIGHT);
+			indexes[i] = i;
+		}
+		SpatialIndex index = new SpatialIndex();
+		index.build(pixels, indexes, length, WIDTH, HEIGHT);
+		for(int i = 0; i < 100; i++) {
+			int x = random.nextInt(WIDTH);
+			int y = random.nextInt(HEIGHT);
+			assertEquals(getNearestIndex(pixels, length, x, y, 5), index.getNearestIndex(x, y, 5));
+		}
+		Rectangle rectangle = new Rectangle(30, 40, 100, 50);
+		assertArrayEquals(getIndexes(pixels, length, rectangle), index.getIndexes(rectangle));
+		assertEquals(0, index.getIndexes(new Rectangle(30, 40, 0, 50)).length);
+		// the index is reused for fewer points
+		index.build(pixels, indexes, 10, WIDTH, HEIGHT);
+		assertEquals(10, index.size());
+		assertArrayEquals(getIndexes(pixels, 10, rectangle), index.getIndexes(rectangle));
+	}
+
+	private static int getNearestIndex(int[] pixels, int length, int x, int y, int maxDistance) {
+
+		int nearestIndex = -1;
+		long nearestDistance = Long.MAX_VALUE;
+		for(int i = 0; i < length; i++) {
+			long dx = pixels[i * 2] - x;
+			long dy = pixels[i * 2 + 1] - y;
+			if(Math.abs(dx) <= maxDistance && Math.abs(dy) <= maxDistance && dx * dx + dy * dy < nearestDistance) {
+				nearestDistance = dx * dx + dy * dy;
+				nearestIndex = i;
+			}
+		}
+		return nearestIndex;
+	}
+
+	private static int[] getIndexes(int[] pixels, int length, Rectangle rectangle) {
+
+		return IntStream.range(0, length).filter(i -> rectangle.contains(pixels[i * 2], pixels[i * 2 + 1])).toArray();
+	}
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.eclipse.swtchart.testmodel.BusinessObject;
+import org.eclipse.swtchart.testmodel.BusinessObjectModel;
+import org.junit.Test;
+
+/**
+ * Test case for the bulk access of the series models.
+ */
+public class DoubleArraySeriesModelTest {
+
+	private static final double[] X_SERIES = {3, 1, 4, 1, 5};
+	private static final double[] Y_SERIES = {-2, 7, 1, 8, 2};
+
+	/**
+	 * Test that the array based model gives access to its arrays without
+	 * copying them.
+	 */
+	@Test
+	public void testValues() {
+
+		DoubleArraySeriesModel model = new DoubleArraySeriesModel(X_SERIES, Y_SERIES);
+		assertSame(X_SERIES, model.getXValues());
+		assertSame(Y_SERIES, model.getYValues());
+		assertEquals(1, model.getMinX().doubleValue(), 0);
+		assertEquals(5, model.getMaxX().doubleValue(), 0);
+		assertEquals(-2, model.getMinY().doubleValue(), 0);
+		assertEquals(8, model.getMaxY().doubleValue(), 0);
+	}
+
+	/**
+	 * Test that the default implementation extracts the values of the items.
+	 */
+	@Test
+	public void testDefaultValues() {
+
+		BusinessObject[] objects = new BusinessObject[X_SERIES.length];
+		for(int i = 0; i < objects.length; i++) {
+			Date timeOfBuying = new Date((long)X_SERIES[i]);
+			double price = Y_SERIES[i];
+			objects[i] = new BusinessObject() {
+
+				@Override
+				public double getPrice() {
+
+					return price;
+				}
+
+				@Override
+				public Date getTimeOfBuying() {
+
+					return timeOfBuying;
+				}
+			};
+		}
+		BusinessObjectModel model = new BusinessObjectModel(() -> Arrays.asList(objects).iterator());
+		assertArrayEquals(X_SERIES, model.getXValues(), 0);
+		assertArrayEquals(Y_SERIES, model.getYValues(), 0);
+	}
+}
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures loading trees of 1k to 1M nodes in a batch, changing single values
+ * and updating the whole tree. This is not a unit test, run it as a Java
+ * application.
+ */
+public class NodeDataModelBenchmark {
+
+	public static void main(String[] args) {
+
+		Random random = new Random(4711);
+		int changes = 1000;
+		for(int size : new int[]{1000, 10000, 100000, 1000000}) {
+			List<Node> nodes = new ArrayList<>();
+			long start = System.nanoTime();
+			NodeDataModel model = NodeDataModelTest.createModel(random, size, nodes);
+			long load = System.nanoTime() - start;
+			//
+			start = System.nanoTime();
+			for(int i = 0; i < changes; i++) {
+				nodes.get(1 + random.nextInt(size)).setValue(random.nextInt(100) + 1);
+			}
+			long change = System.nanoTime() - start;
+			//
+			start = System.nanoTime();
+			model.update();
+			long update = System.nanoTime() - start;
+			System.out.println(String.format("%d nodes: batch load %.1f ms, setValue %.1f us, full update %.1f ms", size, load / 1e6, change / 1e3 / changes, update / 1e6)); //$NON-NLS-1$
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test case for the incremental update of the node data model.
+ */
+public class NodeDataModelTest {
+
+	/**
+	 * Test that a changed value is propagated to the ancestors.
+	 */
+	@Test
+	public void testPropagateValue() {
+
+		NodeDataModel model = new NodeDataModel("root");
+		Node a = model.getRootNode().addChild("a", 10);
+		Node b = model.getRootNode().addChild("b", 30);
+		Node a1 = a.addChild("a1", 4);
+		Node a2 = a.addChild("a2", 6);
+		a2.setValue(16);
+		assertEquals(20, a.getValue(), 0);
+		assertEquals(50, model.getRootNode().getValue(), 0);
+		assertEquals(360, a.getAngleBounds().y + b.getAngleBounds().y);
+		assertEquals(0, a1.getAngleBounds().x);
+		assertEquals(a.getAngleBounds().y, a1.getAngleBounds().y + a2.getAngleBounds().y);
+	}
+
+	/**
+	 * Test that the incremental update gives the same result as the full
+	 * update, with and without a batch.
+	 */
+	@Test
+	public void testIncrementalEqualsFullUpdate() {
+
+		Random random = new Random(4711);
+		for(int test = 0; test < 50; test++) {
+			List<Node> nodes = new ArrayList<>();
+			NodeDataModel model = createModel(random, 200, nodes);
+			if(test % 3 == 1) {
+				model.setRootPointer(nodes.get(1 + random.nextInt(nodes.size() - 1)));
+			}
+			boolean batch = test % 2 == 0;
+			if(batch) {
+				model.suspendUpdate(true);
+			}
+			for(int i = 0; i < 20; i++) {
+				nodes.get(1 + random.nextInt(nodes.size() - 1)).setValue(random.nextInt(300) + 1);
+			}
+			if(batch) {
+				model.suspendUpdate(false);
+			}
+			String incremental = toString(model);
+			model.update();
+			assertEquals(toString(model), incremental);
+		}
+	}
+
+	/**
+	 * Test that the nodes added in a batch are laid out when it is resumed.
+	 */
+	@Test
+	public void testSuspendUpdate() {
+
+		NodeDataModel model = new NodeDataModel("root");
+		model.suspendUpdate(true);
+		assertTrue(model.isUpdateSuspended());
+		Node a = model.getRootNode().addChild("a", 1);
+		Node b = model.getRootNode().addChild("b", 3);
+		assertEquals(null, a.getAngleBounds());
+		model.suspendUpdate(false);
+		assertFalse(model.isUpdateSuspended());
+		assertEquals(90, a.getAngleBounds().y);
+		assertEquals(270, b.getAngleBounds().y);
+		assertEquals(2, model.getNodes()[1].size());
+	}
+
+	/**
+	 * Test that many small leaves don't overflow the angle of the parent.
+	 */
+	@Test
+	public void testAngleBounds() {
+
+		NodeDataModel model = new NodeDataModel("root");
+		model.suspendUpdate(true);
+		Node a = model.getRootNode().addChild("a", 10000);
+		Node b = model.getRootNode().addChild("b", 10000);
+		for(int i = 0; i < 10000; i++) {
+			b.addChild("b" + i, 1);
+		}
+		model.suspendUpdate(false);
+		assertEquals(180, a.getAngleWidth(), 0);
+		double angleWidth = 0;
+		int angleBounds = 0;
+		for(Node node : b.getChildren()) {
+			assertEquals(0.018, node.getAngleWidth(), 1e-9);
+			angleWidth += node.getAngleWidth();
+			angleBounds += node.getAngleBounds().y;
+		}
+		assertEquals(180, angleWidth, 1e-6);
+		assertEquals(180, angleBounds);
+		Node last = b.getChildren().get(9999);
+		assertEquals(360, last.getAngleBounds().x + last.getAngleBounds().y);
+	}
+
+	/**
+	 * Test that changing a single value is much cheaper than updating the
+	 * whole tree.
+	 */
+	@Test
+	public void testSetValueCost() {
+
+		Random random = new Random(4711);
+		int size = 5000;
+		List<Node> nodes = new ArrayList<>();
+		NodeDataModel model = createModel(random, size, nodes);
+		int changes = 100;
+		long start = model.getLayoutCount();
+		for(int i = 0; i < changes; i++) {
+			nodes.get(1 + random.nextInt(size)).setValue(random.nextInt(100) + 1);
+		}
+		long change = model.getLayoutCount() - start;
+		start = model.getLayoutCount();
+		model.update();
+		long update = model.getLayoutCount() - start;
+		/*
+		 * The full update lays out each node, a changed value only the
+		 * siblings of the changed node and of its ancestors.
+		 */
+		assertEquals(size, update);
+		assertTrue("nodes laid out per change: " + change / changes, change / changes < size / 10);
+	}
+
+	static NodeDataModel createModel(Random random, int size, List<Node> nodes) {
+
+		NodeDataModel model = new NodeDataModel("root");
+		nodes.add(model.getRootNode());
+		try {
+			model.suspendUpdate(true);
+			for(int i = 0; i < size; i++) {
+				Node parent = nodes.get(i < 50 ? 0 : random.nextInt(nodes.size()));
+				nodes.add(parent.addChild("n" + i, random.nextInt(100) + 1));
+			}
+		} finally {
+			model.suspendUpdate(false);
+		}
+		return model;
+	}
+
+	private static String toString(NodeDataModel model) {
+
+		StringBuilder builder = new StringBuilder();
+		for(List<Node> level : model.getNodes()) {
+			for(Node node : level) {
+				builder.append(node.getId()).append('=').append(node.getValue()).append(node.getAngleBounds()).append(';');
+			}
+			builder.append('|');
+		}
+		return builder.toString();
+	}
+}
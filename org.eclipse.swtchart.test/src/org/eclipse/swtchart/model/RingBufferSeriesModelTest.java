@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Test case for the ring buffer series model.
+ */
+public class RingBufferSeriesModelTest {
+
+	/**
+	 * Test that a model without capacity grows.
+	 */
+	@Test
+	public void testGrow() {
+
+		RingBufferSeriesModel model = new RingBufferSeriesModel();
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(0, model.append(new double[]{i}, new double[]{-i}));
+		}
+		assertEquals(1000, model.size());
+		assertEquals(0, model.getMinX().doubleValue(), 0);
+		assertEquals(999, model.getMaxX().doubleValue(), 0);
+		assertEquals(-999, model.getMinY().doubleValue(), 0);
+		assertEquals(0, model.getMaxY().doubleValue(), 0);
+		assertEquals(500, model.getX(500).doubleValue(), 0);
+		assertNull(model.getX(1000));
+		assertTrue(model.isXMonotoneIncreasing());
+	}
+
+	/**
+	 * Test that a model without capacity ignores NaN values in the range.
+	 */
+	@Test
+	public void testGrowNaN() {
+
+		RingBufferSeriesModel model = new RingBufferSeriesModel();
+		model.append(new double[]{Double.NaN, 2, 1}, new double[]{Double.NaN, Double.NaN, Double.NaN});
+		assertEquals(1, model.getMinX().doubleValue(), 0);
+		assertEquals(2, model.getMaxX().doubleValue(), 0);
+		assertTrue(Double.isNaN(model.getMinY().doubleValue()));
+		model.append(new double[]{3}, new double[]{-1});
+		assertEquals(3, model.getMaxX().doubleValue(), 0);
+		assertEquals(-1, model.getMinY().doubleValue(), 0);
+		assertEquals(-1, model.getMaxY().doubleValue(), 0);
+	}
+
+	/**
+	 * Test that a model with capacity removes the oldest data points and
+	 * updates the range.
+	 */
+	@Test
+	public void testCapacity() {
+
+		RingBufferSeriesModel model = new RingBufferSeriesModel(4);
+		assertEquals(0, model.append(new double[]{0, 1, 2}, new double[]{9, 1, 2}));
+		assertEquals(2, model.append(new double[]{3, 4, 5}, new double[]{3, 4, 5}));
+		assertArrayEquals(new double[]{2, 3, 4, 5}, model.getXValues(), 0);
+		assertArrayEquals(new double[]{2, 3, 4, 5}, model.getYValues(), 0);
+		assertEquals(2, model.getMinY().doubleValue(), 0);
+		assertEquals(5, model.getMaxY().doubleValue(), 0);
+		assertEquals(6, model.append(new double[]{6, 7, 8, 9, 10, 11}, new double[]{6, 7, 8, 9, 10, 11}));
+		assertArrayEquals(new double[]{8, 9, 10, 11}, model.getXValues(), 0);
+		assertEquals(8, model.getMinX().doubleValue(), 0);
+		assertEquals(11, model.getMaxX().doubleValue(), 0);
+		// the indexed access follows the wrapped buffer
+		assertEquals(8, model.getXAt(0), 0);
+		assertEquals(11, model.getYAt(3), 0);
+	}
+
+	/**
+	 * Test that the monotone state is tracked.
+	 */
+	@Test
+	public void testMonotone() {
+
+		RingBufferSeriesModel model = new RingBufferSeriesModel();
+		model.append(new double[]{1, 2}, new double[]{0, 0});
+		assertTrue(model.isXMonotoneIncreasing());
+		model.append(new double[]{1}, new double[]{0});
+		assertFalse(model.isXMonotoneIncreasing());
+	}
+
+	/**
+	 * Test that the sliding window removes the old data points and keeps the
+	 * range of the window.
+	 */
+	@Test
+	public void testSpan() {
+
+		RingBufferSeriesModel model = new RingBufferSeriesModel(0, 10);
+		long removed = 0;
+		for(int i = 0; i < 100000; i++) {
+			// the maximum moves out of the window every 20 points
+			double y = (i % 20 == 0) ? 100 + i : i % 7;
+			removed += model.append(new double[]{i}, new double[]{y});
+			assertEquals(Math.max(0, i - 10), model.getMinX().doubleValue(), 0);
+			assertEquals(i, model.getMaxX().doubleValue(), 0);
+			double maxY = Double.NEGATIVE_INFINITY;
+			for(int j = 0; j < model.size(); j++) {
+				maxY = Math.max(maxY, model.getY(j).doubleValue());
+			}
+			assertEquals(maxY, model.getMaxY().doubleValue(), 0);
+		}
+		assertEquals(11, model.size());
+		assertEquals(100000 - 11, removed);
+	}
+}
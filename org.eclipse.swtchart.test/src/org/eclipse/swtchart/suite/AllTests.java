@@ -23,14 +23,23 @@ import org.eclipse.swtchart.ErrorBarTest;
 import org.eclipse.swtchart.GridTest;
 import org.eclipse.swtchart.LegendTest;
 import org.eclipse.swtchart.LineSeriesTest;
+import org.eclipse.swtchart.ResourceCacheTest;
 import org.eclipse.swtchart.SeriesLabelTest;
 import org.eclipse.swtchart.SeriesSetTest;
+import org.eclipse.swtchart.internal.ChangeTrackerTest;
+import org.eclipse.swtchart.internal.TextMetricsTest;
+import org.eclipse.swtchart.internal.compress.CompressLineSeriesTest;
+import org.eclipse.swtchart.internal.compress.CompressScatterSeriesTest;
+import org.eclipse.swtchart.internal.series.SpatialIndexTest;
+import org.eclipse.swtchart.model.DoubleArraySeriesModelTest;
+import org.eclipse.swtchart.model.NodeDataModelTest;
+import org.eclipse.swtchart.model.RingBufferSeriesModelTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ChartTest.class, ChartTitleTest.class, LegendTest.class, AxisSetTest.class, AxisTest.class, AxisTickTest.class, AxisTitleTest.class, GridTest.class, SeriesLabelTest.class, SeriesSetTest.class, LineSeriesTest.class, BarSeriesTest.class, ErrorBarTest.class,})
+@SuiteClasses({ChartTest.class, ChartTitleTest.class, LegendTest.class, AxisSetTest.class, AxisTest.class, AxisTickTest.class, AxisTitleTest.class, GridTest.class, SeriesLabelTest.class, SeriesSetTest.class, LineSeriesTest.class, BarSeriesTest.class, ErrorBarTest.class, CompressLineSeriesTest.class, CompressScatterSeriesTest.class, DoubleArraySeriesModelTest.class, RingBufferSeriesModelTest.class, TextMetricsTest.class, ChangeTrackerTest.class, SpatialIndexTest.class, NodeDataModelTest.class, ResourceCacheTest.class,})
 public class AllTests {
 	//
 }
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.vectorgraphics2d.headless;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * Measures the throughput of the headless rendering service in charts per
+ * second. This is not a unit test, run it as a Java application:
+ * <p>
+ * ChartRenderServiceBenchmark [charts] [points]
+ */
+public class ChartRenderServiceBenchmark {
+
+	private static final int WARM_UP_CHARTS = 20;
+
+	public static void main(String[] args) throws Exception {
+
+		int charts = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+		int points = args.length > 1 ? Integer.parseInt(args[1]) : 100000;
+		int processors = Runtime.getRuntime().availableProcessors();
+		ChartDescription chart = ChartRenderServiceTest.createChart(points);
+		for(ChartFormat format : new ChartFormat[]{ChartFormat.PNG, ChartFormat.SVG}) {
+			for(int threads = 1; threads <= processors; threads *= 2) {
+				try (ChartRenderService service = new ChartRenderService(threads)) {
+					render(service, chart, format, WARM_UP_CHARTS);
+					long start = System.nanoTime();
+					render(service, chart, format, charts);
+					double seconds = (System.nanoTime() - start) / 1.0e9;
+					System.out.println(String.format("%s, %d threads, %d points: %.1f charts/s", format, threads, points, charts / seconds)); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
+	private static void render(ChartRenderService service, ChartDescription chart, ChartFormat format, int charts) throws Exception {
+
+		List<Future<byte[]>> futures = new ArrayList<>();
+		for(int i = 0; i < charts; i++) {
+			futures.add(service.submit(chart, format));
+		}
+		for(Future<byte[]> future : futures) {
+			future.get();
+		}
+	}
+}
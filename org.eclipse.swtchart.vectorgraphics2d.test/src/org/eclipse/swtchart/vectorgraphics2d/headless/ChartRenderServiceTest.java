@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.vectorgraphics2d.headless;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+public class ChartRenderServiceTest {
+
+	private static final double DELTA = 1e-9;
+
+	@Test
+	public void testPngHasTheSizeOfTheChart() throws Exception {
+
+		ChartDescription chart = createChart(1000);
+		chart.setSize(320, 240);
+		try (ChartRenderService service = new ChartRenderService(1)) {
+			BufferedImage image = ImageIO.read(new ByteArrayInputStream(service.render(chart, ChartFormat.PNG)));
+			assertEquals(320, image.getWidth());
+			assertEquals(240, image.getHeight());
+			assertEquals(1, service.getRenderedCount());
+		}
+	}
+
+	@Test
+	public void testVectorFormatsAreWritten() throws Exception {
+
+		ChartDescription chart = createChart(1000);
+		try (ChartRenderService service = new ChartRenderService(2)) {
+			Future<byte[]> svg = service.submit(chart, ChartFormat.SVG);
+			Future<byte[]> pdf = service.submit(chart, ChartFormat.PDF);
+			Future<byte[]> eps = service.submit(chart, ChartFormat.EPS);
+			assertTrue(new String(svg.get(), StandardCharsets.UTF_8).contains("<svg"));
+			assertTrue(new String(pdf.get(), StandardCharsets.US_ASCII).startsWith("%PDF"));
+			assertTrue(new String(eps.get(), StandardCharsets.US_ASCII).startsWith("%!PS"));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testChartsLargerThanMaxPixelsAreRejected() {
+
+		ChartDescription chart = createChart(10);
+		chart.setSize(200, 200);
+		try (ChartRenderService service = new ChartRenderService(1, 1, 100 * 100)) {
+			service.submit(chart, ChartFormat.PNG);
+		}
+	}
+
+	@Test
+	public void testTicksAreRoundNumbers() {
+
+		assertArrayEquals(new double[]{0, 2, 4, 6, 8, 10}, ChartRenderer.calculateTicks(new double[]{0, 10}, 5), DELTA);
+		assertArrayEquals(new double[]{-0.5, 0, 0.5}, ChartRenderer.calculateTicks(new double[]{-0.7, 0.7}, 3), DELTA);
+		assertArrayEquals(new String[]{"-0.5", "0.0", "0.5"}, ChartRenderer.formatTicks(new double[]{-0.5, 0, 0.5}));
+	}
+
+	@Test
+	public void testBarsIncludeZeroInTheRange() {
+
+		SeriesDescription series = new SeriesDescription("bar", new double[]{1, 2, 3}, new double[]{5, 7, 6});
+		series.setType(SeriesDescription.Type.BAR);
+		assertArrayEquals(new double[]{0, 7}, ChartRenderer.calculateRange(Collections.singletonList(series), false), DELTA);
+	}
+
+	@Test
+	public void testConcurrentRendering() throws Exception {
+
+		int charts = 8;
+		ChartDescription chart = createChart(1000);
+		try (ChartRenderService service = new ChartRenderService(4)) {
+			List<Future<byte[]>> futures = new ArrayList<>();
+			for(int i = 0; i < charts; i++) {
+				futures.add(service.submit(chart, ChartFormat.PNG));
+			}
+			for(Future<byte[]> future : futures) {
+				assertTrue(future.get().length > 0);
+			}
+			assertEquals(charts, service.getRenderedCount());
+		}
+	}
+
+	static ChartDescription createChart(int points) {
+
+		double[] x = new double[points];
+		double[] y = new double[points];
+		double[] z = new double[points];
+		for(int i = 0; i < points; i++) {
+			x[i] = i;
+			y[i] = Math.sin(i * 0.01d) * 100.0d;
+			z[i] = Math.cos(i * 0.013d) * 50.0d;
+		}
+		ChartDescription chart = new ChartDescription();
+		chart.setTitle("Headless");
+		chart.setXAxisTitle("Time");
+		chart.setYAxisTitle("Intensity");
+		chart.addSeries(new SeriesDescription("line", x, y));
+		SeriesDescription scatter = new SeriesDescription("scatter", x, z);
+		scatter.setType(SeriesDescription.Type.SCATTER);
+		chart.addSeries(scatter);
+		return chart;
+	}
+}
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.vectorgraphics2d.headless;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The display-free description of a chart, which can be rendered without an
+ * SWT display, e.g. on a server. The axis ranges are calculated from the data
+ * unless they have been set explicitly.
+ */
+public class ChartDescription {
+
+	private int width = 800;
+	private int height = 600;
+	private String title = "";
+	private String xAxisTitle = "";
+	private String yAxisTitle = "";
+	private double[] xRange = null;
+	private double[] yRange = null;
+	private Color background = Color.WHITE;
+	private Color foreground = Color.BLACK;
+	private Color gridColor = Color.LIGHT_GRAY;
+	private Font font = new Font(Font.SANS_SERIF, Font.PLAIN, 11);
+	private boolean legendVisible = true;
+	private final List<SeriesDescription> series = new ArrayList<>();
+
+	public int getWidth() {
+
+		return width;
+	}
+
+	public int getHeight() {
+
+		return height;
+	}
+
+	/**
+	 * Sets the size of the chart in pixels (PNG) or points (SVG, PDF, EPS).
+	 *
+	 * @param width
+	 * @param height
+	 */
+	public void setSize(int width, int height) {
+
+		if(width <= 0 || height <= 0) {
+			throw new IllegalArgumentException("The size must be positive.");
+		}
+		this.width = width;
+		this.height = height;
+	}
+
+	public String getTitle() {
+
+		return title;
+	}
+
+	public void setTitle(String title) {
+
+		this.title = title;
+	}
+
+	public String getXAxisTitle() {
+
+		return xAxisTitle;
+	}
+
+	public void setXAxisTitle(String xAxisTitle) {
+
+		this.xAxisTitle = xAxisTitle;
+	}
+
+	public String getYAxisTitle() {
+
+		return yAxisTitle;
+	}
+
+	public void setYAxisTitle(String yAxisTitle) {
+
+		this.yAxisTitle = yAxisTitle;
+	}
+
+	/**
+	 * Returns the X range or null, if it is calculated from the data.
+	 *
+	 * @return double[]
+	 */
+	public double[] getXRange() {
+
+		return xRange;
+	}
+
+	public void setXRange(double lower, double upper) {
+
+		xRange = createRange(lower, upper);
+	}
+
+	/**
+	 * Returns the Y range or null, if it is calculated from the data.
+	 *
+	 * @return double[]
+	 */
+	public double[] getYRange() {
+
+		return yRange;
+	}
+
+	public void setYRange(double lower, double upper) {
+
+		yRange = createRange(lower, upper);
+	}
+
+	public Color getBackground() {
+
+		return background;
+	}
+
+	public void setBackground(Color background) {
+
+		this.background = background;
+	}
+
+	public Color getForeground() {
+
+		return foreground;
+	}
+
+	public void setForeground(Color foreground) {
+
+		this.foreground = foreground;
+	}
+
+	public Color getGridColor() {
+
+		return gridColor;
+	}
+
+	public void setGridColor(Color gridColor) {
+
+		this.gridColor = gridColor;
+	}
+
+	public Font getFont() {
+
+		return font;
+	}
+
+	public void setFont(Font font) {
+
+		this.font = font;
+	}
+
+	public boolean isLegendVisible() {
+
+		return legendVisible;
+	}
+
+	public void setLegendVisible(boolean legendVisible) {
+
+		this.legendVisible = legendVisible;
+	}
+
+	public void addSeries(SeriesDescription seriesDescription) {
+
+		series.add(seriesDescription);
+	}
+
+	public List<SeriesDescription> getSeries() {
+
+		return Collections.unmodifiableList(series);
+	}
+
+	private static double[] createRange(double lower, double upper) {
+
+		if(!(lower < upper)) {
+			throw new IllegalArgumentException("The lower value must be less than the upper value.");
+		}
+		return new double[]{lower, upper};
+	}
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.vectorgraphics2d.headless;
+
+/**
+ * The output formats of the headless chart rendering. PNG is rendered by AWT,
+ * the vector formats by the processors of VectorGraphics2D.
+ */
+public enum ChartFormat {
+
+	PNG("png", false),
+	SVG("svg", true),
+	PDF("pdf", true),
+	EPS("eps", true);
+
+	private final String extension;
+	private final boolean vector;
+
+	private ChartFormat(String extension, boolean vector) {
+
+		this.extension = extension;
+		this.vector = vector;
+	}
+
+	/**
+	 * Returns the file extension, which is also the format name of the
+	 * VectorGraphics2D processors.
+	 *
+	 * @return String
+	 */
+	public String getExtension() {
+
+		return extension;
+	}
+
+	public boolean isVector() {
+
+		return vector;
+	}
+}
@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.vectorgraphics2d.headless;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.eclipse.swtchart.vectorgraphics2d.core.Document;
+import org.eclipse.swtchart.vectorgraphics2d.core.Processors;
+import org.eclipse.swtchart.vectorgraphics2d.core.VectorGraphics2D;
+import org.eclipse.swtchart.vectorgraphics2d.util.PageSize;
+
+/**
+ * Renders charts to PNG, SVG, PDF or EPS without an SWT display, e.g. to
+ * generate report charts on a server. The JVM should be started with
+ * <tt>-Djava.awt.headless=true</tt> in that case.
+ * <p>
+ * The charts are rendered by a fixed number of worker threads. If all workers
+ * are busy and the queue is full, the submitting thread renders the chart
+ * itself, so that the number of pending jobs and hence the memory is bounded.
+ * The memory per job is bounded as well: the size of a chart is limited to a
+ * maximum number of pixels, each worker reuses its image for PNG output and
+ * the number of drawing operations per series depends on the size of the
+ * chart instead of the number of data points, see {@link ChartRenderer}.
+ */
+public class ChartRenderService implements AutoCloseable {
+
+	public static final long DEFAULT_MAX_PIXELS = 4096L * 4096L;
+	//
+	private static final float PNG_COMPRESSION_QUALITY = 0.75f;
+	private final ThreadPoolExecutor executor;
+	private final ChartRenderer chartRenderer = new ChartRenderer();
+	private final long maxPixels;
+	private final AtomicLong renderedCharts = new AtomicLong();
+
+	/**
+	 * Creates a service with a queue of four jobs per thread.
+	 *
+	 * @param threads
+	 *            the number of worker threads
+	 */
+	public ChartRenderService(int threads) {
+
+		this(threads, 4 * threads, DEFAULT_MAX_PIXELS);
+	}
+
+	/**
+	 * Creates a service.
+	 *
+	 * @param threads
+	 *            the number of worker threads
+	 * @param queueCapacity
+	 *            the number of jobs waiting for a worker
+	 * @param maxPixels
+	 *            the maximum width * height of a chart
+	 */
+	public ChartRenderService(int threads, int queueCapacity, long maxPixels) {
+
+		if(threads <= 0 || queueCapacity <= 0 || maxPixels <= 0) {
+			throw new IllegalArgumentException("The threads, queue capacity and max pixels must be positive.");
+		}
+		this.maxPixels = maxPixels;
+		AtomicInteger threadCounter = new AtomicInteger();
+		executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), //
+				runnable -> new RenderThread(runnable, "ChartRenderService-" + threadCounter.incrementAndGet()), //
+				new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * Renders the chart asynchronously.
+	 *
+	 * @param chart
+	 * @param format
+	 * @return the future of the rendered document
+	 */
+	public Future<byte[]> submit(ChartDescription chart, ChartFormat format) {
+
+		checkSize(chart);
+		return executor.submit(() -> render(chart, format));
+	}
+
+	/**
+	 * Renders the chart asynchronously to the given file.
+	 *
+	 * @param chart
+	 * @param format
+	 * @param file
+	 * @return the future of the written file
+	 */
+	public Future<Path> submit(ChartDescription chart, ChartFormat format, Path file) {
+
+		checkSize(chart);
+		return executor.submit(() -> {
+			try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file))) {
+				render(chart, format, outputStream);
+			}
+			return file;
+		});
+	}
+
+	/**
+	 * Renders the chart in the calling thread.
+	 *
+	 * @param chart
+	 * @param format
+	 * @return the rendered document
+	 * @throws IOException
+	 */
+	public byte[] render(ChartDescription chart, ChartFormat format) throws IOException {
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		render(chart, format, outputStream);
+		return outputStream.toByteArray();
+	}
+
+	/**
+	 * Renders the chart in the calling thread.
+	 *
+	 * @param chart
+	 * @param format
+	 * @param outputStream
+	 *            the stream, which is not closed
+	 * @throws IOException
+	 */
+	public void render(ChartDescription chart, ChartFormat format, OutputStream outputStream) throws IOException {
+
+		checkSize(chart);
+		if(format.isVector()) {
+			VectorGraphics2D graphics = new VectorGraphics2D();
+			try {
+				chartRenderer.render(chart, graphics);
+			} finally {
+				graphics.dispose();
+			}
+			Document document = Processors.get(format.getExtension()).getDocument(graphics.getCommands(), new PageSize(chart.getWidth(), chart.getHeight()));
+			document.writeTo(outputStream);
+		} else {
+			BufferedImage image = getImage(chart.getWidth(), chart.getHeight());
+			Graphics2D graphics = image.createGraphics();
+			try {
+				graphics.setComposite(AlphaComposite.Clear);
+				graphics.fillRect(0, 0, chart.getWidth(), chart.getHeight());
+				graphics.setComposite(AlphaComposite.SrcOver);
+				chartRenderer.render(chart, graphics);
+			} finally {
+				graphics.dispose();
+			}
+			writeImage(image, format, outputStream);
+		}
+		renderedCharts.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of charts rendered so far.
+	 *
+	 * @return long
+	 */
+	public long getRenderedCount() {
+
+		return renderedCharts.get();
+	}
+
+	/**
+	 * Renders the submitted charts and stops the workers.
+	 */
+	@Override
+	public void close() {
+
+		executor.shutdown();
+		try {
+			while(!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+				// wait until the submitted charts are rendered
+			}
+		} catch(InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Writes the image with a fast deflate level. The charts consist mostly of
+	 * flat colors, hence higher levels barely reduce the size. The stream is
+	 * cached in memory instead of a temporary file.
+	 */
+	private static void writeImage(BufferedImage image, ChartFormat format, OutputStream outputStream) throws IOException {
+
+		Iterator<ImageWriter> imageWriters = ImageIO.getImageWritersByFormatName(format.getExtension());
+		if(!imageWriters.hasNext()) {
+			throw new IOException("No image writer available for " + format.getExtension());
+		}
+		ImageWriter imageWriter = imageWriters.next();
+		try (ImageOutputStream imageOutputStream = new MemoryCacheImageOutputStream(outputStream)) {
+			ImageWriteParam imageWriteParam = imageWriter.getDefaultWriteParam();
+			if(imageWriteParam.canWriteCompressed()) {
+				imageWriteParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				imageWriteParam.setCompressionQuality(PNG_COMPRESSION_QUALITY);
+			}
+			imageWriter.setOutput(imageOutputStream);
+			imageWriter.write(null, new IIOImage(image, null, null), imageWriteParam);
+		} finally {
+			imageWriter.dispose();
+		}
+	}
+
+	private void checkSize(ChartDescription chart) {
+
+		if((long)chart.getWidth() * chart.getHeight() > maxPixels) {
+			throw new IllegalArgumentException("The chart is larger than " + maxPixels + " pixels.");
+		}
+	}
+
+	/**
+	 * Gets an image of the given size. The workers reuse their image, other
+	 * threads get a new one.
+	 */
+	private static BufferedImage getImage(int width, int height) {
+
+		if(Thread.currentThread() instanceof RenderThread renderThread) {
+			BufferedImage image = renderThread.image;
+			if(image == null || image.getWidth() != width || image.getHeight() != height) {
+				image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+				renderThread.image = image;
+			}
+			return image;
+		}
+		return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+	}
+
+	private static final class RenderThread extends Thread {
+
+		private BufferedImage image;
+
+		private RenderThread(Runnable runnable, String name) {
+
+			super(runnable, name);
+			setDaemon(true);
+		}
+	}
+}
@@ -0,0 +1,521 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.vectorgraphics2d.headless;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.swtchart.vectorgraphics2d.core.VectorGraphics2D;
+
+/**
+ * Renders a {@link ChartDescription} to an AWT {@link Graphics2D}, e.g. a
+ * {@link java.awt.image.BufferedImage} or a
+ * {@link org.eclipse.swtchart.vectorgraphics2d.core.VectorGraphics2D}. The
+ * renderer has no state, hence it can be used by several threads at the same
+ * time.
+ * <p>
+ * The number of drawing operations per series is bounded by the size of the
+ * plot area instead of the number of data points: lines are reduced to the
+ * first, minimum, maximum and last point per pixel column if the X values are
+ * sorted, otherwise points in the same pixel as the previous point are
+ * skipped. Scatter symbols are drawn once per pixel and bars once per pixel
+ * column.
+ */
+public class ChartRenderer {
+
+	private static final int MARGIN = 10;
+	private static final int TICK_LENGTH = 5;
+	private static final int MIN_TICK_SPACING_X = 80;
+	private static final int MIN_TICK_SPACING_Y = 40;
+	private static final int MAX_TICKS = 1000;
+	private static final float[] GRID_DASH = new float[]{2.0f, 4.0f};
+
+	/**
+	 * Renders the chart in the area (0, 0, width, height) of the graphics.
+	 *
+	 * @param chart
+	 * @param graphics
+	 */
+	public void render(ChartDescription chart, Graphics2D graphics) {
+
+		int width = chart.getWidth();
+		int height = chart.getHeight();
+		graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+		graphics.setColor(chart.getBackground());
+		graphics.fillRect(0, 0, width, height);
+		graphics.setFont(chart.getFont());
+		FontMetrics fontMetrics = graphics.getFontMetrics(chart.getFont());
+		int lineHeight = fontMetrics.getHeight();
+		/*
+		 * Ranges
+		 */
+		List<SeriesDescription> seriesList = chart.getSeries();
+		double[] xRange = chart.getXRange() != null ? chart.getXRange() : calculateRange(seriesList, true);
+		double[] yRange = chart.getYRange() != null ? chart.getYRange() : calculateRange(seriesList, false);
+		/*
+		 * Layout, the left margin depends on the width of the Y tick labels.
+		 */
+		int top = MARGIN + (isEmpty(chart.getTitle()) ? 0 : lineHeight + MARGIN);
+		int bottom = MARGIN + lineHeight + TICK_LENGTH + 2 + (isEmpty(chart.getXAxisTitle()) ? 0 : lineHeight + MARGIN / 2);
+		double[] yTicks = calculateTicks(yRange, (height - top - bottom) / MIN_TICK_SPACING_Y);
+		String[] yLabels = formatTicks(yTicks);
+		int yLabelWidth = 0;
+		for(String label : yLabels) {
+			yLabelWidth = Math.max(yLabelWidth, fontMetrics.stringWidth(label));
+		}
+		int left = MARGIN + yLabelWidth + TICK_LENGTH + 2 + (isEmpty(chart.getYAxisTitle()) ? 0 : lineHeight + MARGIN / 2);
+		int right = 2 * MARGIN;
+		int plotWidth = width - left - right;
+		int plotHeight = height - top - bottom;
+		//
+		graphics.setColor(chart.getForeground());
+		if(!isEmpty(chart.getTitle())) {
+			int titleWidth = fontMetrics.stringWidth(chart.getTitle());
+			graphics.drawString(chart.getTitle(), (width - titleWidth) / 2, MARGIN + fontMetrics.getAscent());
+		}
+		if(plotWidth <= 0 || plotHeight <= 0) {
+			return;
+		}
+		Plot plot = new Plot(left, top, plotWidth, plotHeight, xRange, yRange);
+		double[] xTicks = calculateTicks(xRange, plotWidth / MIN_TICK_SPACING_X);
+		drawGrid(chart, graphics, plot, xTicks, yTicks);
+		/*
+		 * Series
+		 */
+		Shape oldClip = graphics.getClip();
+		graphics.clipRect(left, top, plotWidth, plotHeight);
+		for(SeriesDescription series : seriesList) {
+			graphics.setColor(series.getColor());
+			switch(series.getType()) {
+				case BAR:
+					drawBars(graphics, plot, series);
+					break;
+				case SCATTER:
+					drawSymbols(graphics, plot, series);
+					break;
+				case LINE:
+				default:
+					drawLine(graphics, plot, series);
+					break;
+			}
+		}
+		graphics.setClip(oldClip);
+		/*
+		 * Axes
+		 */
+		graphics.setColor(chart.getForeground());
+		graphics.setStroke(new BasicStroke(1.0f));
+		graphics.drawRect(left, top, plotWidth, plotHeight);
+		String[] xLabels = formatTicks(xTicks);
+		for(int i = 0; i < xTicks.length; i++) {
+			int x = (int)Math.round(plot.getX(xTicks[i]));
+			graphics.drawLine(x, top + plotHeight, x, top + plotHeight + TICK_LENGTH);
+			int labelWidth = fontMetrics.stringWidth(xLabels[i]);
+			graphics.drawString(xLabels[i], x - labelWidth / 2, top + plotHeight + TICK_LENGTH + 2 + fontMetrics.getAscent());
+		}
+		for(int i = 0; i < yTicks.length; i++) {
+			int y = (int)Math.round(plot.getY(yTicks[i]));
+			graphics.drawLine(left - TICK_LENGTH, y, left, y);
+			int labelWidth = fontMetrics.stringWidth(yLabels[i]);
+			graphics.drawString(yLabels[i], left - TICK_LENGTH - 2 - labelWidth, y + fontMetrics.getAscent() / 2);
+		}
+		if(!isEmpty(chart.getXAxisTitle())) {
+			int titleWidth = fontMetrics.stringWidth(chart.getXAxisTitle());
+			graphics.drawString(chart.getXAxisTitle(), left + (plotWidth - titleWidth) / 2, height - MARGIN - fontMetrics.getDescent());
+		}
+		if(!isEmpty(chart.getYAxisTitle())) {
+			int titleWidth = fontMetrics.stringWidth(chart.getYAxisTitle());
+			AffineTransform oldTransform = graphics.getTransform();
+			graphics.translate(MARGIN + fontMetrics.getAscent(), top + (plotHeight + titleWidth) / 2.0d);
+			graphics.rotate(-Math.PI / 2.0d);
+			graphics.drawString(chart.getYAxisTitle(), 0, 0);
+			graphics.setTransform(oldTransform);
+		}
+		if(chart.isLegendVisible() && !seriesList.isEmpty()) {
+			drawLegend(chart, graphics, fontMetrics, plot);
+		}
+	}
+
+	private void drawGrid(ChartDescription chart, Graphics2D graphics, Plot plot, double[] xTicks, double[] yTicks) {
+
+		graphics.setColor(chart.getGridColor());
+		graphics.setStroke(new BasicStroke(1.0f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 10.0f, GRID_DASH, 0.0f));
+		for(double tick : xTicks) {
+			int x = (int)Math.round(plot.getX(tick));
+			graphics.drawLine(x, plot.top, x, plot.top + plot.height);
+		}
+		for(double tick : yTicks) {
+			int y = (int)Math.round(plot.getY(tick));
+			graphics.drawLine(plot.left, y, plot.left + plot.width, y);
+		}
+	}
+
+	private void drawLine(Graphics2D graphics, Plot plot, SeriesDescription series) {
+
+		double[] xSeries = series.getXSeries();
+		double[] ySeries = series.getYSeries();
+		Path2D.Float path = new Path2D.Float(Path2D.WIND_NON_ZERO, Math.min(xSeries.length, 4 * plot.width + 16));
+		if(xSeries.length > 4 * plot.width && isSorted(xSeries)) {
+			appendColumns(path, plot, xSeries, ySeries);
+		} else {
+			appendPoints(path, plot, xSeries, ySeries);
+		}
+		graphics.setStroke(new BasicStroke(series.getLineWidth(), BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+		graphics.draw(path);
+	}
+
+	/**
+	 * Appends the first, minimum, maximum and last point of each pixel column,
+	 * which gives the same image as all points.
+	 */
+	private static void appendColumns(Path2D.Float path, Plot plot, double[] xSeries, double[] ySeries) {
+
+		boolean connected = false;
+		int i = 0;
+		while(i < xSeries.length) {
+			if(!isValid(xSeries[i], ySeries[i])) {
+				connected = false;
+				i++;
+				continue;
+			}
+			long column = (long)Math.floor(plot.getX(xSeries[i]));
+			int first = i;
+			int min = i;
+			int max = i;
+			int last = i;
+			i++;
+			while(i < xSeries.length && isValid(xSeries[i], ySeries[i]) && (long)Math.floor(plot.getX(xSeries[i])) == column) {
+				if(ySeries[i] < ySeries[min]) {
+					min = i;
+				}
+				if(ySeries[i] > ySeries[max]) {
+					max = i;
+				}
+				last = i;
+				i++;
+			}
+			connected = appendPoint(path, plot, xSeries[first], ySeries[first], connected);
+			appendPoint(path, plot, xSeries[Math.min(min, max)], ySeries[Math.min(min, max)], true);
+			appendPoint(path, plot, xSeries[Math.max(min, max)], ySeries[Math.max(min, max)], true);
+			appendPoint(path, plot, xSeries[last], ySeries[last], true);
+		}
+	}
+
+	/**
+	 * Appends the points, skipping those in the same pixel as the previous one.
+	 */
+	private static void appendPoints(Path2D.Float path, Plot plot, double[] xSeries, double[] ySeries) {
+
+		boolean connected = false;
+		long previousX = Long.MIN_VALUE;
+		long previousY = Long.MIN_VALUE;
+		for(int i = 0; i < xSeries.length; i++) {
+			if(!isValid(xSeries[i], ySeries[i])) {
+				connected = false;
+				continue;
+			}
+			long x = (long)Math.floor(plot.getX(xSeries[i]));
+			long y = (long)Math.floor(plot.getY(ySeries[i]));
+			if(!connected || x != previousX || y != previousY) {
+				connected = appendPoint(path, plot, xSeries[i], ySeries[i], connected);
+				previousX = x;
+				previousY = y;
+			}
+		}
+	}
+
+	private static boolean appendPoint(Path2D.Float path, Plot plot, double x, double y, boolean connected) {
+
+		float px = (float)plot.getX(x);
+		float py = (float)plot.getY(y);
+		if(connected) {
+			path.lineTo(px, py);
+		} else {
+			path.moveTo(px, py);
+		}
+		return true;
+	}
+
+	private void drawSymbols(Graphics2D graphics, Plot plot, SeriesDescription series) {
+
+		double[] xSeries = series.getXSeries();
+		double[] ySeries = series.getYSeries();
+		int size = Math.max(0, series.getSymbolSize());
+		BitSet drawn = new BitSet(plot.width * plot.height);
+		/*
+		 * Raster targets copy a prerendered symbol, which is much faster than
+		 * filling thousands of antialiased ellipses. Vector targets get shapes.
+		 */
+		BufferedImage symbol = graphics instanceof VectorGraphics2D ? null : createSymbol(series.getColor(), size);
+		Path2D.Float path = new Path2D.Float();
+		for(int i = 0; i < xSeries.length; i++) {
+			if(!isValid(xSeries[i], ySeries[i])) {
+				continue;
+			}
+			double x = plot.getX(xSeries[i]);
+			double y = plot.getY(ySeries[i]);
+			long column = (long)Math.floor(x) - plot.left;
+			long row = (long)Math.floor(y) - plot.top;
+			if(column < 0 || column >= plot.width || row < 0 || row >= plot.height) {
+				continue;
+			}
+			int pixel = (int)(row * plot.width + column);
+			if(!drawn.get(pixel)) {
+				drawn.set(pixel);
+				if(symbol != null) {
+					graphics.drawImage(symbol, (int)(column + plot.left) - size, (int)(row + plot.top) - size, null);
+				} else {
+					path.append(new Ellipse2D.Float((float)x - size, (float)y - size, 2.0f * size, 2.0f * size), false);
+				}
+			}
+		}
+		if(symbol == null) {
+			graphics.fill(path);
+		}
+	}
+
+	/**
+	 * Creates the image of a symbol centered in the pixel (size, size).
+	 */
+	private static BufferedImage createSymbol(Color color, int size) {
+
+		BufferedImage image = new BufferedImage(2 * size + 2, 2 * size + 2, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = image.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+			graphics.setColor(color);
+			graphics.fill(new Ellipse2D.Float(0.5f, 0.5f, 2.0f * size, 2.0f * size));
+		} finally {
+			graphics.dispose();
+		}
+		return image;
+	}
+
+	private void drawBars(Graphics2D graphics, Plot plot, SeriesDescription series) {
+
+		double[] xSeries = series.getXSeries();
+		double[] ySeries = series.getYSeries();
+		double baseline = Math.max(plot.yRange[0], Math.min(plot.yRange[1], 0.0d));
+		/*
+		 * Keep the value furthest from the baseline per pixel column.
+		 */
+		double[] columns = new double[plot.width];
+		BitSet used = new BitSet(plot.width);
+		for(int i = 0; i < xSeries.length; i++) {
+			if(!isValid(xSeries[i], ySeries[i])) {
+				continue;
+			}
+			long column = (long)Math.floor(plot.getX(xSeries[i])) - plot.left;
+			if(column < 0 || column >= plot.width) {
+				continue;
+			}
+			int index = (int)column;
+			if(!used.get(index) || Math.abs(ySeries[i] - baseline) > Math.abs(columns[index] - baseline)) {
+				columns[index] = ySeries[i];
+				used.set(index);
+			}
+		}
+		int count = Math.max(1, used.cardinality());
+		float barWidth = Math.max(1.0f, 0.8f * plot.width / count);
+		float baseY = (float)plot.getY(baseline);
+		Path2D.Float path = new Path2D.Float();
+		for(int index = used.nextSetBit(0); index >= 0; index = used.nextSetBit(index + 1)) {
+			float x = plot.left + index + 0.5f - barWidth / 2.0f;
+			float y = (float)plot.getY(columns[index]);
+			path.append(new Rectangle2D.Float(x, Math.min(y, baseY), barWidth, Math.abs(y - baseY)), false);
+		}
+		graphics.fill(path);
+	}
+
+	private void drawLegend(ChartDescription chart, Graphics2D graphics, FontMetrics fontMetrics, Plot plot) {
+
+		List<SeriesDescription> seriesList = chart.getSeries();
+		int lineHeight = fontMetrics.getHeight();
+		int symbolWidth = lineHeight;
+		int legendWidth = 0;
+		for(SeriesDescription series : seriesList) {
+			legendWidth = Math.max(legendWidth, fontMetrics.stringWidth(getLabel(series)));
+		}
+		legendWidth += symbolWidth + 3 * MARGIN / 2;
+		int legendHeight = seriesList.size() * lineHeight + MARGIN;
+		int x = plot.left + plot.width - legendWidth - MARGIN / 2;
+		int y = plot.top + MARGIN / 2;
+		graphics.setStroke(new BasicStroke(1.0f));
+		graphics.setColor(chart.getBackground());
+		graphics.fillRect(x, y, legendWidth, legendHeight);
+		graphics.setColor(chart.getGridColor());
+		graphics.drawRect(x, y, legendWidth, legendHeight);
+		int rowY = y + MARGIN / 2;
+		for(SeriesDescription series : seriesList) {
+			graphics.setColor(series.getColor());
+			graphics.fillRect(x + MARGIN / 2, rowY + lineHeight / 4, symbolWidth, lineHeight / 2);
+			graphics.setColor(chart.getForeground());
+			graphics.drawString(getLabel(series), x + MARGIN + symbolWidth, rowY + fontMetrics.getAscent());
+			rowY += lineHeight;
+		}
+	}
+
+	private static String getLabel(SeriesDescription series) {
+
+		return isEmpty(series.getDescription()) ? series.getId() : series.getDescription();
+	}
+
+	/**
+	 * Calculates the range of the X or Y values of all series. Bars start at
+	 * zero, hence zero is included in the Y range if there are bars.
+	 */
+	static double[] calculateRange(List<SeriesDescription> seriesList, boolean isX) {
+
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		for(SeriesDescription series : seriesList) {
+			double[] values = isX ? series.getXSeries() : series.getYSeries();
+			for(double value : values) {
+				if(Double.isFinite(value)) {
+					min = Math.min(min, value);
+					max = Math.max(max, value);
+				}
+			}
+			if(!isX && series.getType() == SeriesDescription.Type.BAR && values.length > 0) {
+				min = Math.min(min, 0.0d);
+				max = Math.max(max, 0.0d);
+			}
+		}
+		if(min > max) {
+			return new double[]{0.0d, 1.0d};
+		}
+		if(min == max) {
+			double delta = min == 0.0d ? 0.5d : Math.abs(min) * 0.05d;
+			return new double[]{min - delta, max + delta};
+		}
+		return new double[]{min, max};
+	}
+
+	/**
+	 * Calculates the tick values in the given range, with a step of 1, 2 or 5
+	 * times a power of ten.
+	 */
+	static double[] calculateTicks(double[] range, int maxTicks) {
+
+		double span = range[1] - range[0];
+		if(!(span > 0.0d) || !Double.isFinite(span)) {
+			return new double[0];
+		}
+		double rawStep = span / Math.max(1, Math.min(maxTicks, MAX_TICKS));
+		double magnitude = Math.pow(10.0d, Math.floor(Math.log10(rawStep)));
+		double normalized = rawStep / magnitude;
+		double step;
+		if(normalized <= 1.0d) {
+			step = magnitude;
+		} else if(normalized <= 2.0d) {
+			step = 2.0d * magnitude;
+		} else if(normalized <= 5.0d) {
+			step = 5.0d * magnitude;
+		} else {
+			step = 10.0d * magnitude;
+		}
+		long first = (long)Math.ceil(range[0] / step);
+		long last = (long)Math.floor(range[1] / step);
+		int count = (int)Math.max(0, Math.min(MAX_TICKS, last - first + 1));
+		double[] ticks = new double[count];
+		for(int i = 0; i < count; i++) {
+			ticks[i] = (first + i) * step;
+		}
+		return ticks;
+	}
+
+	static String[] formatTicks(double[] ticks) {
+
+		String[] labels = new String[ticks.length];
+		int decimals = 0;
+		if(ticks.length > 1) {
+			decimals = (int)Math.max(0, Math.min(10, -Math.floor(Math.log10(ticks[1] - ticks[0]) + 1.0e-9)));
+		}
+		String format = "%." + decimals + "f";
+		for(int i = 0; i < ticks.length; i++) {
+			double value = Math.abs(ticks[i]) < 1.0e-12 ? 0.0d : ticks[i];
+			labels[i] = String.format(Locale.ROOT, format, value);
+		}
+		return labels;
+	}
+
+	private static boolean isSorted(double[] values) {
+
+		for(int i = 1; i < values.length; i++) {
+			if(values[i] < values[i - 1]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isValid(double x, double y) {
+
+		return Double.isFinite(x) && Double.isFinite(y);
+	}
+
+	private static boolean isEmpty(String text) {
+
+		return text == null || text.isEmpty();
+	}
+
+	/**
+	 * The plot area and the transformation of data coordinates to pixels.
+	 */
+	private static final class Plot {
+
+		private final int left;
+		private final int top;
+		private final int width;
+		private final int height;
+		private final double[] xRange;
+		private final double[] yRange;
+		private final double xScale;
+		private final double yScale;
+
+		private Plot(int left, int top, int width, int height, double[] xRange, double[] yRange) {
+
+			this.left = left;
+			this.top = top;
+			this.width = width;
+			this.height = height;
+			this.xRange = xRange;
+			this.yRange = yRange;
+			xScale = width / (xRange[1] - xRange[0]);
+			yScale = height / (yRange[1] - yRange[0]);
+		}
+
+		private double getX(double value) {
+
+			return left + (value - xRange[0]) * xScale;
+		}
+
+		private double getY(double value) {
+
+			return top + height - (value - yRange[0]) * yScale;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.vectorgraphics2d.headless;
+
+import java.awt.Color;
+
+/**
+ * The display-free description of a series. The data arrays are not copied,
+ * hence they must not be modified while the chart is being rendered.
+ */
+public class SeriesDescription {
+
+	public enum Type {
+		LINE, //
+		SCATTER, //
+		BAR;
+	}
+
+	private final String id;
+	private final double[] xSeries;
+	private final double[] ySeries;
+	private Type type = Type.LINE;
+	private String description = "";
+	private Color color = Color.RED;
+	private float lineWidth = 1.0f;
+	private int symbolSize = 3;
+
+	/**
+	 * Creates a series description.
+	 *
+	 * @param id
+	 *            the series id
+	 * @param xSeries
+	 *            the X values
+	 * @param ySeries
+	 *            the Y values, of the same length as the X values
+	 */
+	public SeriesDescription(String id, double[] xSeries, double[] ySeries) {
+
+		if(id == null || xSeries == null || ySeries == null) {
+			throw new NullPointerException("The id and the series must not be null.");
+		}
+		if(xSeries.length != ySeries.length) {
+			throw new IllegalArgumentException("The X and Y series must have the same length.");
+		}
+		this.id = id;
+		this.xSeries = xSeries;
+		this.ySeries = ySeries;
+	}
+
+	public String getId() {
+
+		return id;
+	}
+
+	public double[] getXSeries() {
+
+		return xSeries;
+	}
+
+	public double[] getYSeries() {
+
+		return ySeries;
+	}
+
+	public Type getType() {
+
+		return type;
+	}
+
+	public void setType(Type type) {
+
+		this.type = type;
+	}
+
+	/**
+	 * Returns the description shown in the legend.
+	 * The id is used if the description is empty.
+	 *
+	 * @return String
+	 */
+	public String getDescription() {
+
+		return description;
+	}
+
+	public void setDescription(String description) {
+
+		this.description = description;
+	}
+
+	public Color getColor() {
+
+		return color;
+	}
+
+	public void setColor(Color color) {
+
+		this.color = color;
+	}
+
+	public float getLineWidth() {
+
+		return lineWidth;
+	}
+
+	public void setLineWidth(float lineWidth) {
+
+		this.lineWidth = lineWidth;
+	}
+
+	public int getSymbolSize() {
+
+		return symbolSize;
+	}
+
+	public void setSymbolSize(int symbolSize) {
+
+		this.symbolSize = symbolSize;
+	}
+}
@@ -35,6 +35,7 @@ import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swtchart.internal.ChangeTracker;
 import org.eclipse.swtchart.internal.ChartLayout;
 import org.eclipse.swtchart.internal.ChartLayoutData;
 import org.eclipse.swtchart.internal.ChartTitle;
@@ -64,7 +65,11 @@ public class Chart extends Composite implements Listener {
 	private IPlotArea plotArea;
 	private int orientation; // SWT.HORIZONTAL or SWT.VERTICAL
 	private boolean compressEnabled;
+	private CompressMode compressMode;
+	private boolean parallelCompressEnabled;
 	private boolean updateSuspended;
+	private boolean partialRedrawEnabled;
+	private final ChangeTracker changeTracker = new ChangeTracker();
 	//
 	private final List<PaintListener> paintListener = new ArrayList<>();
 
@@ -103,7 +108,7 @@ public class Chart extends Composite implements Listener {
 					for(IAxis axis : axisSet.getAxes()) {
 						axis.updatePositionMarker(e);
 					}
-					redraw();
+					redrawPositionMarkers();
 				}
 			});
 		}
@@ -127,6 +132,8 @@ public class Chart extends Composite implements Listener {
 		super(parent, style | SWT.DOUBLE_BUFFERED);
 		orientation = SWT.HORIZONTAL;
 		compressEnabled = true;
+		compressMode = CompressMode.GRID;
+		parallelCompressEnabled = false;
 		updateSuspended = false;
 		parent.layout();
 		setLayout(new ChartLayout());
@@ -195,6 +202,17 @@ public class Chart extends Composite implements Listener {
 		return seriesSet;
 	}
 
+	/**
+	 * Gets the change tracker which records the changed components and counts
+	 * the repaints of each component.
+	 * 
+	 * @return the change tracker
+	 */
+	public IChangeTracker getChangeTracker() {
+
+		return changeTracker;
+	}
+
 	@Override
 	public void setBackground(Color color) {
 
@@ -282,6 +300,33 @@ public class Chart extends Composite implements Listener {
 		compressEnabled = enabled;
 	}
 
+	/**
+	 * Enables compressing series with the given mode. The mode applies to line
+	 * series with monotone increasing X values. {@link CompressMode#MIN_MAX}
+	 * keeps the first, minimum, maximum and last point of each pixel column,
+	 * which renders large series without losing spikes.
+	 * 
+	 * @param enabled
+	 *            true if enabling compressing series
+	 * @param mode
+	 *            the compress mode, null resets to {@link CompressMode#GRID}
+	 */
+	public void enableCompress(boolean enabled, CompressMode mode) {
+
+		compressEnabled = enabled;
+		compressMode = mode == null ? CompressMode.GRID : mode;
+	}
+
+	/**
+	 * Gets the mode used to compress series.
+	 * 
+	 * @return the compress mode
+	 */
+	public CompressMode getCompressMode() {
+
+		return compressMode;
+	}
+
 	/**
 	 * Gets the state indicating if compressing series is enabled.
 	 * 
@@ -292,6 +337,59 @@ public class Chart extends Composite implements Listener {
 		return compressEnabled;
 	}
 
+	/**
+	 * Enables compressing series in parallel. If enabled, the series are
+	 * compressed concurrently in the common fork-join pool and large line
+	 * series are additionally split into chunks which are compressed
+	 * concurrently. The compression is still completed before the plot area is
+	 * painted and the result is the same as when compressing sequentially. By
+	 * default, compressing in parallel is disabled.
+	 * 
+	 * @param enabled
+	 *            true if enabling compressing series in parallel
+	 */
+	public void enableParallelCompress(boolean enabled) {
+
+		parallelCompressEnabled = enabled;
+	}
+
+	/**
+	 * Gets the state indicating if compressing series in parallel is enabled.
+	 * 
+	 * @return true if compressing series in parallel is enabled
+	 */
+	public boolean isParallelCompressEnabled() {
+
+		return parallelCompressEnabled;
+	}
+
+	/**
+	 * Enables redrawing only the changed components. If enabled,
+	 * {@link #redraw()} repaints only the components which have been recorded
+	 * as changed by the change tracker, e.g. only the axes and the plot area
+	 * when zooming, and the layout data is only updated for the changed
+	 * components. If no change has been recorded or the layout has moved a
+	 * component, the whole chart is redrawn. By default, partial redraw is
+	 * disabled.
+	 * 
+	 * @param enabled
+	 *            true if enabling partial redraw
+	 */
+	public void enablePartialRedraw(boolean enabled) {
+
+		partialRedrawEnabled = enabled;
+	}
+
+	/**
+	 * Gets the state indicating if partial redraw is enabled.
+	 * 
+	 * @return true if partial redraw is enabled
+	 */
+	public boolean isPartialRedrawEnabled() {
+
+		return partialRedrawEnabled;
+	}
+
 	/**
 	 * Suspends the update of chart appearance.
 	 * 
@@ -369,22 +467,52 @@ public class Chart extends Composite implements Listener {
 	 */
 	public void updateLayout() {
 
+		updateLayout(IChangeTracker.ALL, 0);
+	}
+
+	/**
+	 * Records a change of the given components and updates the layout. If
+	 * partial redraw is enabled, the layout data is only updated for the
+	 * changed components.
+	 * 
+	 * @param components
+	 *            the changed components, e.g. {@link IChangeTracker#AXES}
+	 * @param changes
+	 *            the kinds of change, e.g. {@link IChangeTracker#RANGE}
+	 */
+	public void updateLayout(int components, int changes) {
+
+		changeTracker.markChanged(components, changes);
 		if(updateSuspended) {
 			return;
 		}
-		if(legend != null) {
+		if(!partialRedrawEnabled) {
+			components = IChangeTracker.ALL;
+		}
+		if(legend != null && (components & IChangeTracker.LEGEND) != 0) {
 			legend.updateLayoutData();
 		}
-		if(title != null) {
+		if(title != null && (components & IChangeTracker.TITLE) != 0) {
 			title.updateLayoutData();
 		}
-		if(axisSet != null) {
+		if(axisSet != null && (components & IChangeTracker.AXES) != 0) {
 			axisSet.updateLayoutData();
 		}
+		Rectangle legendBounds = legend != null ? legend.getBounds() : null;
+		Rectangle plotAreaBounds = plotArea != null ? plotArea.getControl().getBounds() : null;
 		layout();
 		if(axisSet != null) {
 			axisSet.refresh();
 		}
+		/*
+		 * Moved or resized components and the gaps left behind need a repaint.
+		 */
+		if(legendBounds != null && !legendBounds.equals(legend.getBounds())) {
+			changeTracker.markChanged(IChangeTracker.ALL, 0);
+		}
+		if(plotAreaBounds != null && !plotAreaBounds.equals(plotArea.getControl().getBounds())) {
+			changeTracker.markChanged(IChangeTracker.ALL, 0);
+		}
 	}
 
 	@Override
@@ -408,9 +536,44 @@ public class Chart extends Composite implements Listener {
 	@Override
 	public void redraw() {
 
+		int components = changeTracker.takeDirtyComponents();
+		if(!partialRedrawEnabled || components == 0 || components == IChangeTracker.ALL) {
+			/*
+			 * Not all components mark the plot area when they change (e.g. the
+			 * grid), hence the cached series are only kept in partial mode.
+			 */
+			super.redraw();
+			for(Control child : getChildren()) {
+				child.redraw();
+			}
+			return;
+		}
+		/*
+		 * The title and the axes are painted on the chart itself.
+		 */
+		if((components & IChangeTracker.AXES) != 0) {
+			super.redraw();
+		} else if((components & IChangeTracker.TITLE) != 0) {
+			Rectangle bounds = title.getBounds();
+			super.redraw(bounds.x, bounds.y, bounds.width, bounds.height, false);
+		}
+		if((components & IChangeTracker.LEGEND) != 0) {
+			legend.redraw();
+		}
+		if((components & IChangeTracker.PLOT_AREA) != 0 && plotArea != null) {
+			plotArea.getControl().redraw();
+		}
+	}
+
+	/**
+	 * Redraws the position markers, which are drawn on the chart, and the
+	 * overlay of the plot area. The series are not drawn again.
+	 */
+	private void redrawPositionMarkers() {
+
 		super.redraw();
-		for(Control child : getChildren()) {
-			child.redraw();
+		if(plotArea != null) {
+			plotArea.redrawOverlay();
 		}
 	}
 
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart;
+
+/**
+ * The mode used to compress line series with monotone increasing X values.
+ */
+public enum CompressMode implements IEnumLabel {
+
+	/** skips points which are in the same grid as the previous point */
+	GRID("Grid"), //$NON-NLS-1$
+	/**
+	 * keeps the first, minimum, maximum and last point of each pixel column
+	 * (M4), so that spikes are not lost
+	 */
+	MIN_MAX("Min/Max"); //$NON-NLS-1$
+
+	private String label;
+
+	private CompressMode(String label) {
+
+		this.label = label;
+	}
+
+	@Override
+	public String label() {
+
+		return label;
+	}
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart;
+
+/**
+ * The change tracker records which chart components have been changed since
+ * the last redraw and counts how often each component has been repainted.
+ * <p>
+ * The components and the kinds of change are bit masks which can be combined
+ * with the bitwise OR operator.
+ */
+public interface IChangeTracker {
+
+	/** the chart title */
+	int TITLE = 1 << 0;
+	/** the legend */
+	int LEGEND = 1 << 1;
+	/** the axes, i.e. the axis titles, tick labels and tick marks */
+	int AXES = 1 << 2;
+	/** the plot area */
+	int PLOT_AREA = 1 << 3;
+	/** all components */
+	int ALL = TITLE | LEGEND | AXES | PLOT_AREA;
+	/** the range of an axis has been changed */
+	int RANGE = 1 << 0;
+	/** the style, e.g. a color, font or visibility has been changed */
+	int STYLE = 1 << 1;
+	/** the data of a series has been changed */
+	int DATA = 1 << 2;
+	/** a text has been changed */
+	int TEXT = 1 << 3;
+
+	/**
+	 * Gets the components which have been changed since the last redraw.
+	 *
+	 * @return the components, 0 if no change has been recorded
+	 */
+	int getDirtyComponents();
+
+	/**
+	 * Gets the kinds of change which have been recorded since the last redraw.
+	 *
+	 * @return the kinds of change, e.g. {@link #RANGE} | {@link #DATA}
+	 */
+	int getChanges();
+
+	/**
+	 * Gets the number of times the given component has been repainted since
+	 * the counters have been reset. The axes are counted once per axis.
+	 *
+	 * @param component
+	 *            the component, e.g. {@link #LEGEND}
+	 * @return the number of repaints
+	 */
+	int getRepaintCount(int component);
+
+	/**
+	 * Resets the repaint counters.
+	 */
+	void resetRepaintCounts();
+}
@@ -57,6 +57,42 @@ public interface ICircularSeries<T> extends ISeries<T> {
 
 	void setBorderStyleHighlight(int borderStyle);
 
+	/**
+	 * Adjacent slices which are narrower than the threshold are drawn as
+	 * one aggregated slice. Their children are shown after a drill-down.
+	 * 
+	 * @return the threshold in pixels, 0 if the series doesn't aggregate
+	 *         slices
+	 */
+	default int getAggregationThreshold() {
+
+		return 0;
+	}
+
+	/**
+	 * Sets the threshold in pixels. 0 disables the aggregation. The default
+	 * implementation ignores the threshold, as it doesn't aggregate slices.
+	 * 
+	 * @param aggregationThreshold
+	 */
+	default void setAggregationThreshold(int aggregationThreshold) {
+
+	}
+
+	/**
+	 * Gets the color of the aggregated slices.
+	 * 
+	 * @return the color or null if the series doesn't aggregate slices
+	 */
+	default Color getAggregatedSliceColor() {
+
+		return null;
+	}
+
+	default void setAggregatedSliceColor(Color aggregatedSliceColor) {
+
+	}
+
 	/**
 	 * gets the label series
 	 * 
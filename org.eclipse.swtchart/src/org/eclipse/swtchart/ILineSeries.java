@@ -142,7 +142,8 @@ public interface ILineSeries<T> extends ISeries<T> {
 	 * Sets the symbol colors. Typically, the number of symbol colors is the same as the
 	 * number of plots. If the number of symbol colors is less than the number of plots,
 	 * the rest of plots will have the common color which is set with
-	 * <tt>setSymbolColor(Color)</tt>.
+	 * <tt>setSymbolColor(Color)</tt>. Computed colors can be mapped to a palette
+	 * with <tt>Resources.quantize(Color[], int)</tt> to limit the number of colors.
 	 *
 	 * @param colors
 	 *            the symbol colors. If <tt>null</tt> or empty array is given, the color
@@ -242,6 +243,61 @@ public interface ILineSeries<T> extends ISeries<T> {
 	 */
 	boolean isStepEnabled();
 
+	/**
+	 * Enables the level of detail index. If enabled, a min/max pyramid of the
+	 * Y series is built once, so that the series can be compressed for any
+	 * visible range in a time depending on the plot width rather than on the
+	 * number of points. The index is only used if the X series is sorted in
+	 * increasing order and takes additional memory of about 1/32 of the series.
+	 *
+	 * @param enabled
+	 *            true if enabling the level of detail index
+	 */
+	void enableLevelOfDetail(boolean enabled);
+
+	/**
+	 * Gets the state indicating if the level of detail index is enabled.
+	 *
+	 * @return true if the level of detail index is enabled
+	 */
+	boolean isLevelOfDetailEnabled();
+
+	/**
+	 * Enables the density rendering. If enabled, the points are counted per
+	 * pixel while compressing the series and the series is drawn as an image
+	 * whose colors show the number of points per pixel on a logarithmic scale,
+	 * instead of drawing the line and the symbols. The legend shows a color bar.
+	 * The density is only drawn if compressing series is enabled in the chart.
+	 *
+	 * @param enabled
+	 *            true if enabling the density rendering
+	 */
+	void enableDensity(boolean enabled);
+
+	/**
+	 * Gets the state indicating if the density rendering is enabled.
+	 *
+	 * @return true if the density rendering is enabled
+	 */
+	boolean isDensityEnabled();
+
+	/**
+	 * Sets the colors of the density rendering, from the lowest to the highest
+	 * density. The colors in between are interpolated. If null or an empty
+	 * array is given, the default colors will be used.
+	 *
+	 * @param colors
+	 *            the density colors
+	 */
+	void setDensityColors(Color[] colors);
+
+	/**
+	 * Gets the colors of the density rendering.
+	 *
+	 * @return the density colors, or empty array if no density colors are set.
+	 */
+	Color[] getDensityColors();
+
 	/**
 	 * Gets the anti-aliasing value for drawing line. The default value is
 	 * <tt>SWT.DEFAULT<tt>.
@@ -94,6 +94,33 @@ public interface IPlotArea {
 	 */
 	void setBuffered(boolean buffered);
 
+	/**
+	 * Enables caching the background, grid, series and the custom paint
+	 * listeners drawn behind the series in an image. The image is only drawn
+	 * again after {@link Control#redraw()} or when the size changes, whereas
+	 * {@link #redrawOverlay()} repaints the plot area from the image. By
+	 * default, the cache is enabled.
+	 * 
+	 * @param enabled
+	 *            true if enabling the cache
+	 */
+	void setLayerCacheEnabled(boolean enabled);
+
+	/**
+	 * Gets the state indicating if the layer cache is enabled.
+	 * 
+	 * @return true if the layer cache is enabled
+	 */
+	boolean isLayerCacheEnabled();
+
+	/**
+	 * Redraws the plot area without drawing the series again, e.g. to move a
+	 * cursor. Only the custom paint listeners which are not drawn behind the
+	 * series and the paint listeners of the control are called. If the layer
+	 * cache is disabled, the whole plot area is redrawn.
+	 */
+	void redrawOverlay();
+
 	/**
 	 * When buffering the chart to speed up performance, an image of
 	 * the chart is created on the fly and set as the background.
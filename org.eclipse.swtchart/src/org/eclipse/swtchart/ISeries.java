@@ -17,9 +17,11 @@ package org.eclipse.swtchart;
 
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.Arrays;
 import java.util.Date;
 
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swtchart.model.CartesianSeriesModel;
 
 /**
@@ -165,6 +167,30 @@ public interface ISeries<DataType> {
 	 */
 	double[] getYSeries();
 
+	/**
+	 * Appends the given X and Y series to the series. Implementations might
+	 * switch to a data model which supports appending the data without
+	 * copying the whole series, e.g. for streaming data.
+	 * 
+	 * @param xSeries
+	 *            the X series to append
+	 * @param ySeries
+	 *            the Y series to append
+	 */
+	default void appendSeries(double[] xSeries, double[] ySeries) {
+
+		double[] xSeriesOld = getXSeries();
+		double[] ySeriesOld = getYSeries();
+		double[] xSeriesNew = new double[xSeriesOld.length + xSeries.length];
+		System.arraycopy(xSeriesOld, 0, xSeriesNew, 0, xSeriesOld.length);
+		System.arraycopy(xSeries, 0, xSeriesNew, xSeriesOld.length, xSeries.length);
+		double[] ySeriesNew = new double[ySeriesOld.length + ySeries.length];
+		System.arraycopy(ySeriesOld, 0, ySeriesNew, 0, ySeriesOld.length);
+		System.arraycopy(ySeries, 0, ySeriesNew, ySeriesOld.length, ySeries.length);
+		setXSeries(xSeriesNew);
+		setYSeries(ySeriesNew);
+	}
+
 	/**
 	 * Set the model for this series
 	 * 
@@ -178,6 +204,41 @@ public interface ISeries<DataType> {
 	 */
 	CartesianSeriesModel<DataType> getDataModel();
 
+	/**
+	 * Sets the transform of the X and Y values, e.g. to shift or scale the
+	 * series interactively. The transform is applied when the series is
+	 * compressed and drawn, the data model keeps the original values. Hence,
+	 * changing the transform doesn't copy the data and it can be undone by
+	 * setting the previous transform.
+	 * <p>
+	 * {@link #getXSeries()} and {@link #getYSeries()} return the transformed
+	 * values. Setting the X or Y series resets the transform of the
+	 * respective values.
+	 * 
+	 * <p>
+	 * The default implementation only accepts the identity transform.
+	 * 
+	 * @param transform
+	 *            the transform, {@link SeriesTransform#IDENTITY} to show the
+	 *            values of the data model
+	 */
+	default void setTransform(SeriesTransform transform) {
+
+		if(!SeriesTransform.IDENTITY.equals(transform)) {
+			throw new UnsupportedOperationException("The series doesn't support transforms."); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Gets the transform of the X and Y values.
+	 * 
+	 * @return the transform
+	 */
+	default SeriesTransform getTransform() {
+
+		return SeriesTransform.IDENTITY;
+	}
+
 	/**
 	 * Gets the X axis id.
 	 * 
@@ -273,6 +334,69 @@ public interface ISeries<DataType> {
 	 */
 	Point getPixelCoordinates(int index);
 
+	/**
+	 * Gets the index of the point nearest to the given pixel coordinates in the
+	 * plot area. Only the points which are drawn and whose horizontal and
+	 * vertical distance are both not larger than the given maximum distance are
+	 * taken into account. The points are looked up in a spatial index which is
+	 * rebuilt lazily after the series has been compressed again, so that
+	 * repeated lookups, e.g. while moving the mouse, don't iterate over the
+	 * whole series.
+	 * 
+	 * @param x
+	 *            the X pixel coordinate
+	 * @param y
+	 *            the Y pixel coordinate
+	 * @param maxDistance
+	 *            the maximum distance in pixels
+	 * @return the series index, or -1 if there is no point in the distance
+	 */
+	default int getNearestIndex(int x, int y, int maxDistance) {
+
+		/*
+		 * Without a spatial index, all points are compared.
+		 */
+		double[] xSeries = getXSeries();
+		int nearestIndex = -1;
+		long nearestDistance = Long.MAX_VALUE;
+		for(int i = 0; xSeries != null && i < xSeries.length; i++) {
+			Point point = getPixelCoordinates(i);
+			if(point == null) {
+				continue;
+			}
+			long dx = Math.abs(point.x - x);
+			long dy = Math.abs(point.y - y);
+			if(dx <= maxDistance && dy <= maxDistance && dx * dx + dy * dy < nearestDistance) {
+				nearestDistance = dx * dx + dy * dy;
+				nearestIndex = i;
+			}
+		}
+		return nearestIndex;
+	}
+
+	/**
+	 * Gets the indexes of the points which are drawn in the given rectangle of
+	 * the plot area.
+	 * 
+	 * @param rectangle
+	 *            the rectangle in pixel coordinates
+	 * @return the series indexes in increasing order
+	 */
+	default int[] getIndexes(Rectangle rectangle) {
+
+		double[] xSeries = getXSeries();
+		int length = xSeries == null ? 0 : xSeries.length;
+		int[] indexes = new int[length];
+		int size = 0;
+		for(int i = 0; i < length; i++) {
+			Point point = getPixelCoordinates(i);
+			if(point != null && rectangle.contains(point)) {
+				indexes[size++] = i;
+			}
+		}
+		return Arrays.copyOf(indexes, size);
+	}
+
 	/**
 	 * Adds the dispose listener. The newly created color or font for series can be
 	 * disposed with the dispose listener when they are no longer needed.
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of resources like colors and fonts, which is safe to be
+ * used by several threads.
+ * <p>
+ * A resource is either acquired and released by its user or it is requested
+ * by {@link #get(Object)}. Acquired resources are reference counted. If the
+ * cache exceeds its capacity, the least recently used resources which are no
+ * longer referenced are disposed. Resources requested by get() are pinned,
+ * because it is unknown how long they are used. Hence, they are kept until
+ * the cache is disposed.
+ *
+ * @param <K>
+ *            the key, e.g. RGB
+ * @param <R>
+ *            the resource
+ */
+public class ResourceCache<K, R> {
+
+	private final Function<K, R> factory;
+	private final Consumer<R> disposer;
+	/** the entries in access order, the eldest is evicted first */
+	private final LinkedHashMap<K, Entry<R>> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<R, K> keys = new IdentityHashMap<>();
+	private int capacity;
+	/** the number of entries which are neither referenced nor pinned */
+	private int evictableCount;
+	//
+	private long hitCount;
+	private long missCount;
+	private long evictionCount;
+
+	/**
+	 * Creates a cache.
+	 *
+	 * @param factory
+	 *            creates the resource of a key
+	 * @param disposer
+	 *            disposes an evicted resource
+	 * @param capacity
+	 *            the number of resources above which unreferenced ones are
+	 *            evicted
+	 */
+	public ResourceCache(Function<K, R> factory, Consumer<R> disposer, int capacity) {
+
+		this.factory = factory;
+		this.disposer = disposer;
+		setCapacity(capacity);
+	}
+
+	/**
+	 * Returns the resource of the key. The resource is not disposed until the
+	 * cache is disposed.
+	 *
+	 * @param key
+	 * @return resource
+	 */
+	public synchronized R get(K key) {
+
+		Entry<R> entry = getEntry(key);
+		if(entry.isEvictable()) {
+			evictableCount--;
+		}
+		entry.pinned = true;
+		evict();
+		return entry.resource;
+	}
+
+	/**
+	 * Returns the resource of the key and increments its reference count. The
+	 * resource must be released when it is no longer used.
+	 *
+	 * @param key
+	 * @return resource
+	 */
+	public synchronized R acquire(K key) {
+
+		Entry<R> entry = getEntry(key);
+		if(entry.isEvictable()) {
+			evictableCount--;
+		}
+		entry.references++;
+		evict();
+		return entry.resource;
+	}
+
+	/**
+	 * Decrements the reference count of an acquired resource. An unreferenced
+	 * resource stays in the cache until it is evicted.
+	 *
+	 * @param resource
+	 */
+	public synchronized void release(R resource) {
+
+		K key = keys.get(resource);
+		if(key != null) {
+			Entry<R> entry = entries.get(key);
+			if(entry.references > 0) {
+				entry.references--;
+				if(entry.isEvictable()) {
+					evictableCount++;
+				}
+			}
+			evict();
+		}
+	}
+
+	public synchronized int getCapacity() {
+
+		return capacity;
+	}
+
+	/**
+	 * Sets the capacity and evicts unreferenced resources if it is exceeded.
+	 *
+	 * @param capacity
+	 */
+	public synchronized void setCapacity(int capacity) {
+
+		if(capacity <= 0) {
+			throw new IllegalArgumentException("The capacity must be positive.");
+		}
+		this.capacity = capacity;
+		evict();
+	}
+
+	/**
+	 * Returns the number of resources in the cache, which are not disposed.
+	 *
+	 * @return int
+	 */
+	public synchronized int getSize() {
+
+		return entries.size();
+	}
+
+	public synchronized long getHitCount() {
+
+		return hitCount;
+	}
+
+	public synchronized long getMissCount() {
+
+		return missCount;
+	}
+
+	public synchronized long getEvictionCount() {
+
+		return evictionCount;
+	}
+
+	/**
+	 * Returns the ratio of requests which have been served from the cache.
+	 *
+	 * @return the hit rate between 0 and 1
+	 */
+	public synchronized double getHitRate() {
+
+		long requests = hitCount + missCount;
+		return requests > 0 ? hitCount / (double)requests : 0;
+	}
+
+	/**
+	 * Disposes all resources, including the referenced and pinned ones.
+	 */
+	public void dispose() {
+
+		List<R> resources;
+		synchronized(this) {
+			resources = new ArrayList<>(keys.keySet());
+			entries.clear();
+			keys.clear();
+			evictableCount = 0;
+		}
+		for(R resource : resources) {
+			disposer.accept(resource);
+		}
+	}
+
+	private Entry<R> getEntry(K key) {
+
+		Entry<R> entry = entries.get(key);
+		if(entry != null) {
+			hitCount++;
+			return entry;
+		}
+		//
+		missCount++;
+		entry = new Entry<>(factory.apply(key));
+		entries.put(key, entry);
+		keys.put(entry.resource, key);
+		evictableCount++;
+		return entry;
+	}
+
+	/**
+	 * Evicts the least recently used unreferenced resources until the capacity
+	 * is met. Referenced and pinned resources are skipped, hence nothing is
+	 * done if all resources are referenced or pinned.
+	 */
+	private void evict() {
+
+		int excess = entries.size() - capacity;
+		if(excess <= 0 || evictableCount == 0) {
+			return;
+		}
+		//
+		List<R> evicted = new ArrayList<>();
+		Iterator<Entry<R>> iterator = entries.values().iterator();
+		while(excess > 0 && evictableCount > 0 && iterator.hasNext()) {
+			Entry<R> entry = iterator.next();
+			if(entry.isEvictable()) {
+				iterator.remove();
+				keys.remove(entry.resource);
+				evicted.add(entry.resource);
+				evictableCount--;
+				excess--;
+			}
+		}
+		evictionCount += evicted.size();
+		for(R resource : evicted) {
+			disposer.accept(resource);
+		}
+	}
+
+	private static final class Entry<R> {
+
+		private final R resource;
+		private int references;
+		private boolean pinned;
+
+		private Entry(R resource) {
+
+			this.resource = resource;
+		}
+
+		private boolean isEvictable() {
+
+			return references == 0 && !pinned;
+		}
+	}
+}
@@ -15,6 +15,7 @@ package org.eclipse.swtchart;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
@@ -36,9 +37,11 @@ public class Resources {
 	public static final int MEDIUM_FONT_SIZE = 11;
 	public static final int SMALL_FONT_SIZE = 9;
 	public static final String RGB_DELIMITER = ",";
+	public static final int DEFAULT_COLOR_CACHE_CAPACITY = 4096;
+	public static final int DEFAULT_FONT_CACHE_CAPACITY = 256;
 	//
-	private static final Map<RGB, Color> colorMap = new HashMap<>();
-	private static final Map<String, Font> fontMap = new HashMap<>();
+	private static final ResourceCache<RGB, Color> colorCache = new ResourceCache<>(rgb -> new Color(getDisplay(), rgb), Color::dispose, DEFAULT_COLOR_CACHE_CAPACITY);
+	private static final ResourceCache<FontKey, Font> fontCache = new ResourceCache<>(key -> new Font(getDisplay(), key.name, key.height, key.style), Font::dispose, DEFAULT_FONT_CACHE_CAPACITY);
 	private static final Map<String, TextLayout> textLayoutMap = new HashMap<>();
 
 	/*
@@ -95,12 +98,7 @@ public class Resources {
 	 */
 	public static Color getColor(RGB rgb) {
 
-		Color color = colorMap.get(rgb);
-		if(color == null) {
-			color = new Color(getDisplay(), rgb);
-			colorMap.put(rgb, color);
-		}
-		return color;
+		return colorCache.get(rgb);
 	}
 
 	/**
@@ -123,14 +121,98 @@ public class Resources {
 
 	public static Font getFont(String name, int height, int style) {
 
-		String key = getFontKey(name, height, style);
-		Font font = fontMap.get(key);
-		if(font == null) {
-			font = new Font(getDisplay(), name, height, style);
-			fontMap.put(key, font);
+		return fontCache.get(new FontKey(name, height, style));
+	}
+
+	/**
+	 * The color is reference counted. It must be released by
+	 * releaseColor(Color) when it is no longer used. Unlike the colors of
+	 * getColor(...), it is disposed when the cache needs space afterwards.
+	 * 
+	 * @param rgb
+	 * @return color
+	 */
+	public static Color acquireColor(RGB rgb) {
+
+		return colorCache.acquire(rgb);
+	}
+
+	public static void releaseColor(Color color) {
+
+		colorCache.release(color);
+	}
+
+	/**
+	 * The font is reference counted, see acquireColor(RGB).
+	 * 
+	 * @param name
+	 * @param height
+	 * @param style
+	 * @return font
+	 */
+	public static Font acquireFont(String name, int height, int style) {
+
+		return fontCache.acquire(new FontKey(name, height, style));
+	}
+
+	public static void releaseFont(Font font) {
+
+		fontCache.release(font);
+	}
+
+	/**
+	 * The cache can be used to monitor the number of colors and the hit rate
+	 * or to adjust the capacity.
+	 * 
+	 * @return the color cache
+	 */
+	public static ResourceCache<RGB, Color> getColorCache() {
+
+		return colorCache;
+	}
+
+	public static ResourceCache<?, Font> getFontCache() {
+
+		return fontCache;
+	}
+
+	/**
+	 * Rounds each channel to one of the given number of levels. Hence, at most
+	 * levels^3 different colors are returned.
+	 * 
+	 * @param rgb
+	 * @param levels
+	 *            the levels per channel, between 2 and 256
+	 * @return the quantized rgb
+	 */
+	public static RGB quantize(RGB rgb, int levels) {
+
+		return new RGB(quantize(rgb.red, levels), quantize(rgb.green, levels), quantize(rgb.blue, levels));
+	}
+
+	/**
+	 * Maps the colors to a palette of at most levels^3 colors, e.g. to limit
+	 * the number of colors of computed symbol colors, see
+	 * {@link ILineSeries#setSymbolColors(Color[])}. The palette colors are
+	 * mapped and disposed by this color support, like the ones of getColor.
+	 * 
+	 * @param colors
+	 * @param levels
+	 *            the levels per channel, between 2 and 256
+	 * @return the quantized colors
+	 */
+	public static Color[] quantize(Color[] colors, int levels) {
+
+		Color[] quantizedColors = new Color[colors.length];
+		Map<RGB, Color> palette = new HashMap<>();
+		for(int i = 0; i < colors.length; i++) {
+			Color color = colors[i];
+			if(color != null) {
+				RGB rgb = quantize(color.getRGB(), levels);
+				quantizedColors[i] = palette.computeIfAbsent(rgb, Resources::getColor);
+			}
 		}
-		//
-		return font;
+		return quantizedColors;
 	}
 
 	public static TextLayout getTextLayout(String uuid) {
@@ -150,19 +232,11 @@ public class Resources {
 		/*
 		 * Colors
 		 */
-		for(Color color : colorMap.values()) {
-			if(color != null && !color.isDisposed()) {
-				color.dispose();
-			}
-		}
+		colorCache.dispose();
 		/*
 		 * Fonts
 		 */
-		for(Font font : fontMap.values()) {
-			if(font != null && !font.isDisposed()) {
-				font.dispose();
-			}
-		}
+		fontCache.dispose();
 		/*
 		 * Text Layouts
 		 */
@@ -173,20 +247,50 @@ public class Resources {
 		}
 	}
 
-	private static String getFontKey(String name, int height, int style) {
+	private static int quantize(int value, int levels) {
 
-		StringBuilder builder = new StringBuilder();
-		builder.append(name);
-		builder.append("_");
-		builder.append(height);
-		builder.append("_");
-		builder.append(style);
-		//
-		return builder.toString();
+		if(levels < 2 || levels > 256) {
+			throw new IllegalArgumentException("The levels must be between 2 and 256.");
+		}
+		int step = Math.round(value * (levels - 1) / 255.0f);
+		return Math.round(step * 255.0f / (levels - 1));
 	}
 
 	protected static Display getDisplay() {
 
 		return Display.getDefault();
 	}
+
+	private static final class FontKey {
+
+		private final String name;
+		private final int height;
+		private final int style;
+
+		private FontKey(String name, int height, int style) {
+
+			this.name = name;
+			this.height = height;
+			this.style = style;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+
+			if(this == object) {
+				return true;
+			}
+			if(!(object instanceof FontKey)) {
+				return false;
+			}
+			FontKey other = (FontKey)object;
+			return height == other.height && style == other.style && Objects.equals(name, other.name);
+		}
+
+		@Override
+		public int hashCode() {
+
+			return Objects.hash(name, height, style);
+		}
+	}
 }
\ No newline at end of file
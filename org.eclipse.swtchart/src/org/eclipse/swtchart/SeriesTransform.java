@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart;
+
+/**
+ * An affine transform of the X and Y values of a series, i.e. a scale and an
+ * offset per axis: x' = x * scaleX + offsetX, y' = y * scaleY + offsetY.
+ * <p>
+ * The transform is applied when the series is compressed and drawn, hence a
+ * series can be shifted or scaled without copying its data. The transform is
+ * immutable.
+ */
+public final class SeriesTransform {
+
+	/** the transform which doesn't change the values */
+	public static final SeriesTransform IDENTITY = new SeriesTransform(0, 1, 0, 1);
+	//
+	private final double offsetX;
+	private final double scaleX;
+	private final double offsetY;
+	private final double scaleY;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param offsetX
+	 *            the offset added to the scaled X values
+	 * @param scaleX
+	 *            the factor of the X values, not 0
+	 * @param offsetY
+	 *            the offset added to the scaled Y values
+	 * @param scaleY
+	 *            the factor of the Y values, not 0
+	 */
+	public SeriesTransform(double offsetX, double scaleX, double offsetY, double scaleY) {
+
+		if(!Double.isFinite(offsetX) || !Double.isFinite(offsetY)) {
+			throw new IllegalArgumentException("The offsets must be finite."); //$NON-NLS-1$
+		}
+		if(!Double.isFinite(scaleX) || !Double.isFinite(scaleY) || scaleX == 0 || scaleY == 0) {
+			throw new IllegalArgumentException("The scales must be finite and not 0."); //$NON-NLS-1$
+		}
+		this.offsetX = offsetX;
+		this.scaleX = scaleX;
+		this.offsetY = offsetY;
+		this.scaleY = scaleY;
+	}
+
+	public double getOffsetX() {
+
+		return offsetX;
+	}
+
+	public double getScaleX() {
+
+		return scaleX;
+	}
+
+	public double getOffsetY() {
+
+		return offsetY;
+	}
+
+	public double getScaleY() {
+
+		return scaleY;
+	}
+
+	/**
+	 * Returns the transform which additionally shifts the transformed values.
+	 *
+	 * @param shiftX
+	 *            the shift added to the transformed X values
+	 * @param shiftY
+	 *            the shift added to the transformed Y values
+	 * @return the shifted transform
+	 */
+	public SeriesTransform shift(double shiftX, double shiftY) {
+
+		return new SeriesTransform(offsetX + shiftX, scaleX, offsetY + shiftY, scaleY);
+	}
+
+	/**
+	 * Returns the transform which additionally multiplies the transformed
+	 * values.
+	 *
+	 * @param factorX
+	 *            the factor of the transformed X values, not 0
+	 * @param factorY
+	 *            the factor of the transformed Y values, not 0
+	 * @return the scaled transform
+	 */
+	public SeriesTransform scale(double factorX, double factorY) {
+
+		return new SeriesTransform(offsetX * factorX, scaleX * factorX, offsetY * factorY, scaleY * factorY);
+	}
+
+	/**
+	 * Returns the transform with the X values left unchanged.
+	 *
+	 * @return the transform of the Y values only
+	 */
+	public SeriesTransform withIdentityX() {
+
+		return isIdentityX() ? this : new SeriesTransform(0, 1, offsetY, scaleY);
+	}
+
+	/**
+	 * Returns the transform with the Y values left unchanged.
+	 *
+	 * @return the transform of the X values only
+	 */
+	public SeriesTransform withIdentityY() {
+
+		return isIdentityY() ? this : new SeriesTransform(offsetX, scaleX, 0, 1);
+	}
+
+	public boolean isIdentity() {
+
+		return isIdentityX() && isIdentityY();
+	}
+
+	public boolean isIdentityX() {
+
+		return offsetX == 0 && scaleX == 1;
+	}
+
+	public boolean isIdentityY() {
+
+		return offsetY == 0 && scaleY == 1;
+	}
+
+	public double transformX(double x) {
+
+		return x * scaleX + offsetX;
+	}
+
+	public double transformY(double y) {
+
+		return y * scaleY + offsetY;
+	}
+
+	public double inverseX(double x) {
+
+		return (x - offsetX) / scaleX;
+	}
+
+	public double inverseY(double y) {
+
+		return (y - offsetY) / scaleY;
+	}
+
+	/**
+	 * Transforms the given X values into a new array.
+	 *
+	 * @param values
+	 * @param length
+	 *            the number of values to transform
+	 * @return the transformed values
+	 */
+	public double[] transformX(double[] values, int length) {
+
+		double[] result = new double[length];
+		for(int i = 0; i < length; i++) {
+			result[i] = values[i] * scaleX + offsetX;
+		}
+		return result;
+	}
+
+	/**
+	 * Transforms the given Y values into a new array.
+	 *
+	 * @param values
+	 * @param length
+	 *            the number of values to transform
+	 * @return the transformed values
+	 */
+	public double[] transformY(double[] values, int length) {
+
+		double[] result = new double[length];
+		for(int i = 0; i < length; i++) {
+			result[i] = values[i] * scaleY + offsetY;
+		}
+		return result;
+	}
+
+	/**
+	 * Transforms the given X range. The bounds are swapped if the scale is
+	 * negative.
+	 *
+	 * @param range
+	 * @return the transformed range
+	 */
+	public Range transformX(Range range) {
+
+		return new Range(transformX(range.lower), transformX(range.upper));
+	}
+
+	/**
+	 * Transforms the given Y range. The bounds are swapped if the scale is
+	 * negative.
+	 *
+	 * @param range
+	 * @return the transformed range
+	 */
+	public Range transformY(Range range) {
+
+		return new Range(transformY(range.lower), transformY(range.upper));
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if(this == obj) {
+			return true;
+		}
+		if(!(obj instanceof SeriesTransform)) {
+			return false;
+		}
+		SeriesTransform other = (SeriesTransform)obj;
+		return Double.compare(offsetX, other.offsetX) == 0 && Double.compare(scaleX, other.scaleX) == 0 //
+				&& Double.compare(offsetY, other.offsetY) == 0 && Double.compare(scaleY, other.scaleY) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+
+		int result = Double.hashCode(offsetX);
+		result = 31 * result + Double.hashCode(scaleX);
+		result = 31 * result + Double.hashCode(offsetY);
+		result = 31 * result + Double.hashCode(scaleY);
+		return result;
+	}
+
+	@Override
+	public String toString() {
+
+		return "offsetX=" + offsetX + ", scaleX=" + scaleX + ", offsetY=" + offsetY + ", scaleY=" + scaleY; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+}
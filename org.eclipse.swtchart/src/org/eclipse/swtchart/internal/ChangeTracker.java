@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal;
+
+import org.eclipse.swtchart.IChangeTracker;
+
+/**
+ * The change tracker of a chart.
+ */
+public class ChangeTracker implements IChangeTracker {
+
+	/** the components changed since the last redraw */
+	private int dirtyComponents;
+	/** the kinds of change recorded since the last redraw */
+	private int changes;
+	/** the repaint counters indexed by the bit of the component */
+	private final int[] repaintCounts = new int[Integer.bitCount(ALL)];
+
+	/**
+	 * Records a change of the given components.
+	 *
+	 * @param components
+	 *            the changed components
+	 * @param changes
+	 *            the kinds of change, 0 if not specified
+	 */
+	public void markChanged(int components, int changes) {
+
+		this.dirtyComponents |= components & ALL;
+		this.changes |= changes;
+	}
+
+	/**
+	 * Gets and clears the components changed since the last redraw.
+	 *
+	 * @return the changed components
+	 */
+	public int takeDirtyComponents() {
+
+		int components = dirtyComponents;
+		dirtyComponents = 0;
+		changes = 0;
+		return components;
+	}
+
+	/**
+	 * Counts a repaint of the given component.
+	 *
+	 * @param component
+	 *            the component
+	 */
+	public void repainted(int component) {
+
+		int index = getIndex(component);
+		if(index >= 0) {
+			repaintCounts[index]++;
+		}
+	}
+
+	@Override
+	public int getDirtyComponents() {
+
+		return dirtyComponents;
+	}
+
+	@Override
+	public int getChanges() {
+
+		return changes;
+	}
+
+	@Override
+	public int getRepaintCount(int component) {
+
+		int index = getIndex(component);
+		return index >= 0 ? repaintCounts[index] : 0;
+	}
+
+	@Override
+	public void resetRepaintCounts() {
+
+		for(int i = 0; i < repaintCounts.length; i++) {
+			repaintCounts[i] = 0;
+		}
+	}
+
+	private static int getIndex(int component) {
+
+		if(Integer.bitCount(component) != 1 || (component & ALL) == 0) {
+			return -1;
+		}
+		return Integer.numberOfTrailingZeros(component);
+	}
+}
@@ -32,6 +32,7 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.IBarSeries;
+import org.eclipse.swtchart.IChangeTracker;
 import org.eclipse.swtchart.ICircularSeries;
 import org.eclipse.swtchart.ILegend;
 import org.eclipse.swtchart.ILineSeries;
@@ -101,7 +102,7 @@ public class Legend extends Composite implements ILegend, PaintListener {
 			return;
 		}
 		this.visible = visible;
-		chart.updateLayout();
+		chart.updateLayout(IChangeTracker.LEGEND, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -118,7 +119,7 @@ public class Legend extends Composite implements ILegend, PaintListener {
 		} else {
 			super.setFont(font);
 		}
-		chart.updateLayout();
+		chart.updateLayout(IChangeTracker.LEGEND, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -129,6 +130,7 @@ public class Legend extends Composite implements ILegend, PaintListener {
 		} else {
 			super.setForeground(color);
 		}
+		((ChangeTracker)chart.getChangeTracker()).markChanged(IChangeTracker.LEGEND, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -139,6 +141,7 @@ public class Legend extends Composite implements ILegend, PaintListener {
 		} else {
 			super.setBackground(color);
 		}
+		((ChangeTracker)chart.getChangeTracker()).markChanged(IChangeTracker.LEGEND, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -155,7 +158,7 @@ public class Legend extends Composite implements ILegend, PaintListener {
 		} else {
 			position = DEFAULT_POSITION;
 		}
-		chart.updateLayout();
+		chart.updateLayout(IChangeTracker.LEGEND, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -392,7 +395,11 @@ public class Legend extends Composite implements ILegend, PaintListener {
 		if(!visible) {
 			return;
 		}
-		if(series instanceof ILineSeries) {
+		if(series instanceof ILineSeries && ((ILineSeries<?>)series).isDensityEnabled()) {
+			// draw density color bar
+			int size = SYMBOL_WIDTH / 2;
+			((LineSeries<?>)series).drawDensityColorBar(gc, r.x, (int)(r.y - size / 2d + r.height / 2d), SYMBOL_WIDTH, size);
+		} else if(series instanceof ILineSeries) {
 			// draw plot line
 			gc.setForeground(((ILineSeries<?>)series).getLineColor());
 			gc.setLineWidth(LINE_WIDTH);
@@ -432,6 +439,7 @@ public class Legend extends Composite implements ILegend, PaintListener {
 		if(seriesArray.length == 0) {
 			return;
 		}
+		((ChangeTracker)chart.getChangeTracker()).repainted(IChangeTracker.LEGEND);
 		// draw frame
 		gc.fillRectangle(0, 0, getSize().x - 1, getSize().y - 1);
 		gc.setLineStyle(SWT.LINE_SOLID);
@@ -34,9 +34,11 @@ import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.IAxis;
 import org.eclipse.swtchart.IBarSeries;
+import org.eclipse.swtchart.IChangeTracker;
 import org.eclipse.swtchart.ICircularSeries;
 import org.eclipse.swtchart.ICustomPaintListener;
 import org.eclipse.swtchart.ILineSeries;
@@ -68,6 +70,13 @@ public class PlotArea extends Composite implements PaintListener, IPlotArea {
 	private int textPositionY = 0;
 	//
 	private boolean buffered = false;
+	//
+	/** the cached image of the background, grid and series */
+	private Image seriesLayer = null;
+	/** the state indicating if the cached image is up to date */
+	private boolean seriesLayerValid = false;
+	/** the state indicating if the cached image is used */
+	private boolean layerCacheEnabled = true;
 
 	/**
 	 * Constructor.
@@ -100,6 +109,7 @@ public class PlotArea extends Composite implements PaintListener, IPlotArea {
 	public void dispose() {
 
 		chart.removeDisposeListener(disposeListener);
+		disposeSeriesLayer();
 		super.dispose();
 	}
 
@@ -147,6 +157,8 @@ public class PlotArea extends Composite implements PaintListener, IPlotArea {
 		this.image = image;
 		this.imagePositionX = x;
 		this.imagePositionY = y;
+		seriesLayerValid = false;
+		((ChangeTracker)chart.getChangeTracker()).markChanged(IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -163,6 +175,55 @@ public class PlotArea extends Composite implements PaintListener, IPlotArea {
 		this.colorText = color != null ? color : Display.getDefault().getSystemColor(SWT.COLOR_BLACK);
 		this.textPositionX = x;
 		this.textPositionY = y;
+		seriesLayerValid = false;
+		((ChangeTracker)chart.getChangeTracker()).markChanged(IChangeTracker.PLOT_AREA, IChangeTracker.TEXT);
+	}
+
+	@Override
+	public void setBackground(Color color) {
+
+		super.setBackground(color);
+		seriesLayerValid = false;
+		((ChangeTracker)chart.getChangeTracker()).markChanged(IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
+	}
+
+	@Override
+	public void redraw() {
+
+		seriesLayerValid = false;
+		super.redraw();
+	}
+
+	@Override
+	public void redraw(int x, int y, int width, int height, boolean all) {
+
+		seriesLayerValid = false;
+		super.redraw(x, y, width, height, all);
+	}
+
+	@Override
+	public void redrawOverlay() {
+
+		if(!layerCacheEnabled) {
+			redraw();
+			return;
+		}
+		super.redraw();
+	}
+
+	@Override
+	public void setLayerCacheEnabled(boolean enabled) {
+
+		layerCacheEnabled = enabled;
+		if(!enabled) {
+			disposeSeriesLayer();
+		}
+	}
+
+	@Override
+	public boolean isLayerCacheEnabled() {
+
+		return layerCacheEnabled;
 	}
 
 	@Override
@@ -187,11 +248,65 @@ public class PlotArea extends Composite implements PaintListener, IPlotArea {
 	public void paintControl(PaintEvent e) {
 
 		Point sizePlotArea = getSize();
+		GC gc = e.gc;
+		Color oldBackground = gc.getBackground();
+		((ChangeTracker)chart.getChangeTracker()).repainted(IChangeTracker.PLOT_AREA);
+		/*
+		 * Printing and exporting to other devices
+		 * always draw the series again.
+		 */
+		if(layerCacheEnabled && gc.getDevice() == getDisplay() && sizePlotArea.x > 0 && sizePlotArea.y > 0) {
+			if(seriesLayer == null || seriesLayer.isDisposed() || !seriesLayer.getBounds().equals(new Rectangle(0, 0, sizePlotArea.x, sizePlotArea.y))) {
+				disposeSeriesLayer();
+				seriesLayer = new Image(getDisplay(), sizePlotArea.x, sizePlotArea.y);
+				seriesLayerValid = false;
+			}
+			if(!seriesLayerValid) {
+				GC layerGC = new GC(seriesLayer);
+				try {
+					layerGC.setFont(gc.getFont());
+					layerGC.setForeground(gc.getForeground());
+					layerGC.setBackground(gc.getBackground());
+					Event event = new Event();
+					event.widget = this;
+					event.display = getDisplay();
+					event.gc = layerGC;
+					event.width = sizePlotArea.x;
+					event.height = sizePlotArea.y;
+					paintSeriesLayer(new PaintEvent(event), sizePlotArea);
+				} finally {
+					layerGC.dispose();
+				}
+				seriesLayerValid = true;
+			}
+			gc.drawImage(seriesLayer, 0, 0);
+		} else {
+			paintSeriesLayer(e, sizePlotArea);
+		}
+		// draw over series
+		for(ICustomPaintListener listener : paintListeners) {
+			if(!listener.drawBehindSeries()) {
+				listener.paintControl(e);
+			}
+		}
+		e.gc.setBackground(oldBackground);
+	}
+
+	/**
+	 * Draws the background, grid, custom paint listeners drawn behind the
+	 * series and the series.
+	 * 
+	 * @param e
+	 *            the paint event
+	 * @param sizePlotArea
+	 *            the size of the plot area
+	 */
+	private void paintSeriesLayer(PaintEvent e, Point sizePlotArea) {
+
 		GC gc = e.gc;
 		/*
 		 * Draw the plot area background
 		 */
-		Color oldBackground = gc.getBackground();
 		gc.setBackground(getBackground());
 		gc.fillRectangle(0, 0, sizePlotArea.x, sizePlotArea.y);
 		/*
@@ -241,13 +356,6 @@ public class PlotArea extends Composite implements PaintListener, IPlotArea {
 				((Series<?>)series).draw(gc, sizePlotArea.x, sizePlotArea.y);
 			}
 		}
-		// draw over series
-		for(ICustomPaintListener listener : paintListeners) {
-			if(!listener.drawBehindSeries()) {
-				listener.paintControl(e);
-			}
-		}
-		e.gc.setBackground(oldBackground);
 	}
 
 	@Override
@@ -293,6 +401,15 @@ public class PlotArea extends Composite implements PaintListener, IPlotArea {
 		this.buffered = buffered;
 	}
 
+	private void disposeSeriesLayer() {
+
+		if(seriesLayer != null && !seriesLayer.isDisposed()) {
+			seriesLayer.dispose();
+		}
+		seriesLayer = null;
+		seriesLayerValid = false;
+	}
+
 	private int drawImage(GC gc, Point sizePlotArea, Image image, int imagePositionX, int imagePositionY) {
 
 		/*
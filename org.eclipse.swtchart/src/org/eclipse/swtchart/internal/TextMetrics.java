@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * The text metrics of a font. The text extents are measured with a GC which
+ * is shared by all fonts and cached, so that laying out the same labels again
+ * doesn't access the native toolkit. The metrics must be accessed in the UI
+ * thread.
+ */
+public final class TextMetrics {
+
+	/** the maximum number of fonts whose metrics are cached */
+	private static final int MAX_FONTS = 32;
+	/** the maximum number of text extents cached per font */
+	private static final int MAX_EXTENTS = 1024;
+	/** the metrics of the recently used fonts */
+	private static final Map<FontKey, TextMetrics> METRICS = new LinkedHashMap<FontKey, TextMetrics>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 8392418376218458155L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<FontKey, TextMetrics> eldest) {
+
+			return size() > MAX_FONTS;
+		}
+	};
+	/** the image of the shared GC */
+	private static Image image;
+	/** the GC shared to measure the texts */
+	private static GC gc;
+	/** the display on whose disposal the GC is disposed */
+	private static Display disposeDisplay;
+	/** the font */
+	private final Font font;
+	/** the recently measured text extents */
+	private final Map<String, Point> extents = new LinkedHashMap<String, Point>(64, 0.75f, true) {
+
+		private static final long serialVersionUID = -6034412836364958201L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Point> eldest) {
+
+			return size() > MAX_EXTENTS;
+		}
+	};
+	/** the font height or -1 if not yet measured */
+	private int height = -1;
+
+	private TextMetrics(Font font) {
+
+		this.font = font;
+	}
+
+	/**
+	 * Gets the text metrics of the given font.
+	 * 
+	 * @param font
+	 *            the font
+	 * @return the text metrics or <code>null</code> if the font is
+	 *         <code>null</code> or already disposed
+	 */
+	public static TextMetrics getTextMetrics(Font font) {
+
+		if(font == null || font.isDisposed()) {
+			return null;
+		}
+		FontKey key = new FontKey(font);
+		TextMetrics metrics = METRICS.get(key);
+		if(metrics == null) {
+			// forget the metrics of the fonts disposed in the meantime
+			for(Iterator<FontKey> iterator = METRICS.keySet().iterator(); iterator.hasNext();) {
+				if(iterator.next().font.isDisposed()) {
+					iterator.remove();
+				}
+			}
+			metrics = new TextMetrics(font);
+			METRICS.put(key, metrics);
+		}
+		return metrics;
+	}
+
+	/**
+	 * Clears the cached metrics of all fonts.
+	 */
+	public static void clear() {
+
+		METRICS.clear();
+	}
+
+	/**
+	 * Gets the text extent. If the text is <code>null</code> or blank, the
+	 * extent has no width and the font height.
+	 * 
+	 * @param text
+	 *            the text
+	 * @return the text extent, which might be modified by the caller
+	 */
+	public Point getExtent(String text) {
+
+		if(text == null || "".equals(text.trim())) { //$NON-NLS-1$
+			return new Point(0, getHeight());
+		}
+		Point extent = extents.get(text);
+		if(extent == null) {
+			extent = getGC().textExtent(text);
+			extents.put(text, extent);
+		}
+		return new Point(extent.x, extent.y);
+	}
+
+	/**
+	 * Gets the font height.
+	 * 
+	 * @return the font height
+	 */
+	public int getHeight() {
+
+		if(height < 0) {
+			height = getGC().getFontMetrics().getHeight();
+		}
+		return height;
+	}
+
+	/**
+	 * Gets the shared GC with the font of this metrics.
+	 * 
+	 * @return the GC
+	 */
+	private GC getGC() {
+
+		Display display = Display.getCurrent();
+		if(gc == null || gc.isDisposed() || image.getDevice() != display) {
+			disposeGC();
+			int ARBITRARY_WIDTH = 10;
+			int ARBITRARY_HEIGHT = 10;
+			image = new Image(display, ARBITRARY_WIDTH, ARBITRARY_HEIGHT);
+			gc = new GC(image);
+			/*
+			 * The GC is recreated e.g. after it has been disposed,
+			 * but the display only needs to dispose it once.
+			 */
+			if(disposeDisplay != display) {
+				disposeDisplay = display;
+				display.disposeExec(() -> {
+					disposeGC();
+					clear();
+					if(disposeDisplay == display) {
+						disposeDisplay = null;
+					}
+				});
+			}
+		}
+		gc.setFont(font);
+		return gc;
+	}
+
+	private static void disposeGC() {
+
+		if(gc != null) {
+			if(!gc.isDisposed()) {
+				gc.dispose();
+			}
+			image.dispose();
+			gc = null;
+			image = null;
+		}
+	}
+
+	/**
+	 * A key comparing the fonts by identity, as the hash code of a font changes
+	 * when it is disposed.
+	 */
+	private static final class FontKey {
+
+		private final Font font;
+
+		private FontKey(Font font) {
+
+			this.font = font;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			return obj instanceof FontKey && ((FontKey)obj).font == font;
+		}
+
+		@Override
+		public int hashCode() {
+
+			return System.identityHashCode(font);
+		}
+	}
+}
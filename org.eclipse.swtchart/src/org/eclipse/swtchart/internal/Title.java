@@ -30,6 +30,7 @@ import org.eclipse.swt.graphics.TextLayout;
 import org.eclipse.swt.graphics.Transform;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.Chart;
+import org.eclipse.swtchart.IChangeTracker;
 import org.eclipse.swtchart.ITitle;
 import org.eclipse.swtchart.Resources;
 
@@ -90,7 +91,7 @@ public class Title implements ITitle, PaintListener {
 			TextLayout textLayout = Resources.getTextLayout(textLayoutUUID);
 			textLayout.setText(text);
 		}
-		chart.updateLayout();
+		chart.updateLayout(getComponent(), IChangeTracker.TEXT);
 	}
 
 	/**
@@ -103,6 +104,16 @@ public class Title implements ITitle, PaintListener {
 		return DEFAULT_TEXT;
 	}
 
+	/**
+	 * Gets the chart component this title belongs to.
+	 * 
+	 * @return the component, e.g. {@link IChangeTracker#TITLE}
+	 */
+	protected int getComponent() {
+
+		return IChangeTracker.TITLE;
+	}
+
 	@Override
 	public String getText() {
 
@@ -125,7 +136,7 @@ public class Title implements ITitle, PaintListener {
 		} else {
 			this.font = font;
 		}
-		chart.updateLayout();
+		chart.updateLayout(getComponent(), IChangeTracker.STYLE);
 	}
 
 	/**
@@ -158,6 +169,7 @@ public class Title implements ITitle, PaintListener {
 		} else {
 			foreground = color;
 		}
+		((ChangeTracker)chart.getChangeTracker()).markChanged(getComponent(), IChangeTracker.STYLE);
 	}
 
 	/**
@@ -186,7 +198,7 @@ public class Title implements ITitle, PaintListener {
 				}
 			}
 		}
-		chart.updateLayout();
+		chart.updateLayout(getComponent(), IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -202,7 +214,7 @@ public class Title implements ITitle, PaintListener {
 			return;
 		}
 		this.isVisible = isVisible;
-		chart.updateLayout();
+		chart.updateLayout(getComponent(), IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -287,6 +299,15 @@ public class Title implements ITitle, PaintListener {
 		if(text == null || text.equals("") || !isVisible) { //$NON-NLS-1$
 			return;
 		}
+		if(!Util.isDamaged(e, bounds)) {
+			return;
+		}
+		if(getComponent() == IChangeTracker.TITLE) {
+			/*
+			 * The axes are counted by their tick marks.
+			 */
+			((ChangeTracker)chart.getChangeTracker()).repainted(IChangeTracker.TITLE);
+		}
 		Font oldFont = e.gc.getFont();
 		Color oldForeground = getForeground();
 		e.gc.setFont(getFont());
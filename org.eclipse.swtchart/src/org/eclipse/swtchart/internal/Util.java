@@ -14,11 +14,10 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal;
 
+import org.eclipse.swt.events.PaintEvent;
 import org.eclipse.swt.graphics.Font;
-import org.eclipse.swt.graphics.GC;
-import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
-import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.graphics.Rectangle;
 
 /**
  * A utility class providing generic methods.
@@ -38,30 +37,33 @@ public final class Util {
 	 */
 	public static Point getExtentInGC(Font font, String text) {
 
-		if(font == null || font.isDisposed()) {
+		TextMetrics metrics = TextMetrics.getTextMetrics(font);
+		if(metrics == null) {
 			return new Point(0, 0);
 		}
 		/*
-		 * Create a GC
+		 * The extents are cached per font, hence
+		 * repeated labels are measured only once.
 		 */
-		int ARBITRARY_WIDTH = 10;
-		int ARBITRARY_HEIGHT = 10;
-		Image image = new Image(Display.getCurrent(), ARBITRARY_WIDTH, ARBITRARY_HEIGHT);
-		GC gc = new GC(image);
-		// get extent of text with given font
-		gc.setFont(font);
-		Point p;
-		if(text == null || "".equals(text.trim())) { //$NON-NLS-1$
-			p = new Point(0, gc.getFontMetrics().getHeight());
-		} else {
-			p = gc.textExtent(text);
+		return metrics.getExtent(text);
+	}
+
+	/**
+	 * Gets the state indicating if the given bounds have to be painted by the
+	 * paint event. Paint events without a damaged area, e.g. when printing or
+	 * exporting, paint everything.
+	 * 
+	 * @param e
+	 *            the paint event
+	 * @param bounds
+	 *            the bounds to paint
+	 * @return true if the bounds intersect the damaged area
+	 */
+	public static boolean isDamaged(PaintEvent e, Rectangle bounds) {
+
+		if(e.width <= 0 || e.height <= 0) {
+			return true;
 		}
-		/*
-		 * Dispose resources
-		 */
-		image.dispose();
-		gc.dispose();
-		//
-		return p;
+		return bounds.intersects(e.x, e.y, e.width, e.height);
 	}
 }
\ No newline at end of file
@@ -24,11 +24,13 @@ import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.IAxis;
+import org.eclipse.swtchart.IChangeTracker;
 import org.eclipse.swtchart.IDisposeListener;
 import org.eclipse.swtchart.IGrid;
 import org.eclipse.swtchart.ISeries;
 import org.eclipse.swtchart.ITitle;
 import org.eclipse.swtchart.Range;
+import org.eclipse.swtchart.internal.ChangeTracker;
 import org.eclipse.swtchart.internal.Grid;
 import org.eclipse.swtchart.internal.series.Series;
 import org.eclipse.swtchart.internal.series.SeriesSet;
@@ -217,7 +219,9 @@ public class Axis implements IAxis {
 			max = range.upper;
 		}
 		if(update) {
-			chart.updateLayout();
+			chart.updateLayout(IChangeTracker.AXES | IChangeTracker.PLOT_AREA, IChangeTracker.RANGE);
+		} else {
+			((ChangeTracker)chart.getChangeTracker()).markChanged(IChangeTracker.AXES | IChangeTracker.PLOT_AREA, IChangeTracker.RANGE);
 		}
 	}
 
@@ -314,7 +318,7 @@ public class Axis implements IAxis {
 
 		double minimum = Double.NaN;
 		for(ISeries<?> series : chart.getSeriesSet().getSeries()) {
-			if(series.getYSeries().length == 0) {
+			if(((Series<?>)series).getSize() == 0) {
 				continue;
 			}
 			double lower;
@@ -615,7 +619,7 @@ public class Axis implements IAxis {
 			return;
 		}
 		this.reversed = reversed;
-		chart.updateLayout();
+		chart.updateLayout(IChangeTracker.AXES | IChangeTracker.PLOT_AREA, IChangeTracker.RANGE);
 	}
 
 	@Override
@@ -630,6 +634,18 @@ public class Axis implements IAxis {
 		return getPixelCoordinate(dataCoordinate, min, max);
 	}
 
+	/**
+	 * Updates the given transform to give the same pixel coordinates as
+	 * {@link #getPixelCoordinate(double)} for the current range and size.
+	 * 
+	 * @param transform
+	 *            the transform to update
+	 */
+	public void updatePixelTransform(PixelTransform transform) {
+
+		transform.update(isReversed() != isHorizontalAxis, logScaleEnabled, logScaleBase, categoryAxisEnabled, min, max, isHorizontalAxis ? width : height);
+	}
+
 	@Override
 	public int getPixelCoordinate(double dataCoordinate, double lower, double upper) {
 
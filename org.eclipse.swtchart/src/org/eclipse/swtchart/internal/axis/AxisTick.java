@@ -24,6 +24,8 @@ import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.IAxis.Position;
 import org.eclipse.swtchart.IAxisTick;
+import org.eclipse.swtchart.IChangeTracker;
+import org.eclipse.swtchart.internal.ChangeTracker;
 
 /**
  * An axis tick.
@@ -102,6 +104,7 @@ public class AxisTick implements IAxisTick {
 		}
 		axisTickMarks.setForeground(color);
 		axisTickLabels.setForeground(color);
+		((ChangeTracker)chart.getChangeTracker()).markChanged(IChangeTracker.AXES, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -117,7 +120,7 @@ public class AxisTick implements IAxisTick {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		axisTickLabels.setFont(font);
-		chart.updateLayout();
+		chart.updateLayout(IChangeTracker.AXES | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -136,7 +139,7 @@ public class AxisTick implements IAxisTick {
 	public void setVisible(boolean isVisible) {
 
 		this.isVisible = isVisible;
-		chart.updateLayout();
+		chart.updateLayout(IChangeTracker.AXES | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -153,7 +156,7 @@ public class AxisTick implements IAxisTick {
 		} else {
 			this.tickMarkStepHint = tickMarkStepHint;
 		}
-		chart.updateLayout();
+		chart.updateLayout(IChangeTracker.AXES | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -170,7 +173,7 @@ public class AxisTick implements IAxisTick {
 		}
 		if(tickLabelAngle != angle) {
 			tickLabelAngle = angle;
-			chart.updateLayout();
+			chart.updateLayout(IChangeTracker.AXES | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 		}
 	}
 
@@ -178,7 +181,7 @@ public class AxisTick implements IAxisTick {
 	public void setFormat(Format format) {
 
 		axisTickLabels.setFormat(format);
-		chart.updateLayout();
+		chart.updateLayout(IChangeTracker.AXES | IChangeTracker.PLOT_AREA, IChangeTracker.TEXT);
 	}
 
 	@Override
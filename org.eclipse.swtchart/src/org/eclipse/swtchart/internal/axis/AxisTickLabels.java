@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.IntToDoubleFunction;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.PaintEvent;
@@ -41,6 +42,7 @@ import org.eclipse.swtchart.IAxis.Position;
 import org.eclipse.swtchart.ISeries;
 import org.eclipse.swtchart.internal.ChartLayoutData;
 import org.eclipse.swtchart.internal.Util;
+import org.eclipse.swtchart.internal.series.Series;
 
 /**
  * Axis tick labels.
@@ -592,14 +594,15 @@ public class AxisTickLabels implements PaintListener {
 		if(axis.isIntegerDataPointAxis()) {
 			for(ISeries series : (ISeries[])chart.getSeriesSet().getSeries()) {
 				if(axis.getDirection() == Direction.X) {
-					if(series.getXAxisId() == axis.getId() && series.getXSeries().length != 0) {
-						int xSeriesLength = series.getXSeries().length;
-						double upper = series.getXSeries()[xSeriesLength - 1],
-								lower = series.getXSeries()[0];
+					int xSeriesLength = ((Series<?>)series).getSize();
+					if(series.getXAxisId() == axis.getId() && xSeriesLength != 0) {
+						IntToDoubleFunction xSeries = ((Series<?>)series).getXValueFunction();
+						double upper = xSeries.applyAsDouble(xSeriesLength - 1),
+								lower = xSeries.applyAsDouble(0);
 						gridStep = BigDecimal.valueOf((upper - lower) / (xSeriesLength - 1));
 					}
 				} else {
-					if(series.getYAxisId() == axis.getId() && series.getYSeries().length != 0) {
+					if(series.getYAxisId() == axis.getId() && ((Series<?>)series).getSize() != 0) {
 						gridStep = BigDecimal.valueOf(1.0);
 					}
 				}
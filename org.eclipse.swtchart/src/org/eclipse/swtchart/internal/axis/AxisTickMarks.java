@@ -25,7 +25,10 @@ import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.IAxis.Position;
+import org.eclipse.swtchart.IChangeTracker;
+import org.eclipse.swtchart.internal.ChangeTracker;
 import org.eclipse.swtchart.internal.ChartLayoutData;
+import org.eclipse.swtchart.internal.Util;
 
 /**
  * Axis tick marks.
@@ -174,7 +177,8 @@ public class AxisTickMarks implements PaintListener {
 	@Override
 	public void paintControl(PaintEvent e) {
 
-		if(bounds.width > 0 && bounds.height > 0) {
+		if(bounds.width > 0 && bounds.height > 0 && Util.isDamaged(e, new Rectangle(bounds.x, bounds.y, bounds.width + LINE_WIDTH, bounds.height + LINE_WIDTH))) {
+			((ChangeTracker)chart.getChangeTracker()).repainted(IChangeTracker.AXES);
 			ArrayList<Integer> tickLabelPositions = axis.getTick().getAxisTickLabels().getTickLabelPositions();
 			Color oldBackground = e.gc.getBackground();
 			e.gc.setBackground(chart.getBackground());
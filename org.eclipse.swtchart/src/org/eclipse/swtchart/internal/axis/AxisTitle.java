@@ -16,6 +16,7 @@ package org.eclipse.swtchart.internal.axis;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swtchart.Chart;
+import org.eclipse.swtchart.IChangeTracker;
 import org.eclipse.swtchart.IAxis.Direction;
 import org.eclipse.swtchart.Resources;
 import org.eclipse.swtchart.internal.Title;
@@ -66,6 +67,12 @@ public class AxisTitle extends Title {
 		return DEFAULT_TEXT_FOR_YAXIS;
 	}
 
+	@Override
+	protected int getComponent() {
+
+		return IChangeTracker.AXES;
+	}
+
 	@Override
 	protected boolean isHorizontal() {
 
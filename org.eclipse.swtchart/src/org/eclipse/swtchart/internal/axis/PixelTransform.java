@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.axis;
+
+import java.util.Objects;
+
+/**
+ * The transform of data coordinates to pixel coordinates of an axis. It gives
+ * the same pixel coordinates as {@link Axis#getPixelCoordinate(double)}, but
+ * the state of the axis and the logarithms of the range are evaluated once
+ * when being updated instead of for each coordinate. A transform can be reused
+ * by calling {@link Axis#updatePixelTransform(PixelTransform)} again.
+ */
+public final class PixelTransform {
+
+	/** the state indicating if the pixel coordinate grows with the data coordinate */
+	private boolean increasing;
+	/** the state indicating if the axis is log scale */
+	private boolean logScale;
+	/** the state indicating if the axis is a category axis */
+	private boolean category;
+	/** the natural logarithm of the log scale base */
+	private double logOfBase = 1;
+	/** the lower value of the range, or its logarithm if log scale */
+	private double lower;
+	/** the upper value of the range, or its logarithm if log scale */
+	private double upper;
+	/** the divisor of the offset to the lower or upper value */
+	private double divisor = 1;
+	/** the size of the axis in pixels */
+	private int size;
+
+	/**
+	 * Updates the transform.
+	 * 
+	 * @param increasing
+	 *            true if the pixel coordinate grows with the data coordinate
+	 * @param logScale
+	 *            true if the axis is log scale
+	 * @param logScaleBase
+	 *            the log scale base
+	 * @param category
+	 *            true if the axis is a category axis
+	 * @param lower
+	 *            the lower value of the range
+	 * @param upper
+	 *            the upper value of the range
+	 * @param size
+	 *            the size of the axis in pixels
+	 */
+	void update(boolean increasing, boolean logScale, double logScaleBase, boolean category, double lower, double upper, int size) {
+
+		this.increasing = increasing;
+		this.logScale = logScale;
+		this.category = category && !logScale;
+		this.size = size;
+		if(logScale) {
+			logOfBase = Math.log(logScaleBase);
+			this.lower = Math.log(lower) / logOfBase;
+			this.upper = Math.log(upper) / logOfBase;
+			divisor = this.upper - this.lower;
+		} else {
+			this.lower = lower;
+			this.upper = upper;
+			divisor = this.category ? upper + 1 - lower : upper - lower;
+		}
+	}
+
+	/**
+	 * Gets the pixel coordinate corresponding to the given data coordinate.
+	 * 
+	 * @param dataCoordinate
+	 *            the data coordinate
+	 * @return the pixel coordinate
+	 */
+	public int getPixelCoordinate(double dataCoordinate) {
+
+		double value = logScale ? Math.log(dataCoordinate) / logOfBase : dataCoordinate;
+		if(category) {
+			if(increasing) {
+				return (int)((value + 0.5 - lower) / divisor * size);
+			}
+			return (int)((upper - value + 0.5) / divisor * size);
+		}
+		if(increasing) {
+			return (int)((value - lower) / divisor * size);
+		}
+		return (int)((upper - value) / divisor * size);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if(this == obj) {
+			return true;
+		}
+		if(!(obj instanceof PixelTransform other)) {
+			return false;
+		}
+		return increasing == other.increasing && logScale == other.logScale && category == other.category //
+				&& Double.compare(logOfBase, other.logOfBase) == 0 && Double.compare(lower, other.lower) == 0 //
+				&& Double.compare(upper, other.upper) == 0 && size == other.size;
+	}
+
+	@Override
+	public int hashCode() {
+
+		return Objects.hash(increasing, logScale, category, logOfBase, lower, upper, size);
+	}
+}
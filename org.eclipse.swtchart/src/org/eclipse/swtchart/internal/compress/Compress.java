@@ -13,7 +13,8 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.compress;
 
-import java.util.ArrayList;
+import org.eclipse.swtchart.Range;
+import org.eclipse.swtchart.SeriesTransform;
 
 /**
  * A base class for compressor providing default implementations.
@@ -24,7 +25,7 @@ public abstract class Compress implements ICompress {
 	protected int previousXGridIndex;
 	/** the previous Y grid index */
 	protected int previousYGridIndex;
-	/** the configuration for compressor */
+	/** the configuration for compressor, in the coordinates of the source series */
 	protected CompressConfig config;
 	/** the previous configuration for compressor */
 	protected CompressConfig prevConfig;
@@ -34,12 +35,26 @@ public abstract class Compress implements ICompress {
 	protected double[] xSeries = null;
 	/** the source Y series to be compressed */
 	protected double[] ySeries = null;
-	/** the compressed X series */
+	/** the index after the last point of the source series, the arrays might be larger */
+	protected int seriesLength;
+	/** the index of the first point of the source series, the points before have been trimmed but are still in the arrays */
+	protected int firstIndex;
+	/** the index after the last point of the source X series */
+	private int xSeriesLength;
+	/** the index after the last point of the source Y series */
+	private int ySeriesLength;
+	/** the state indicating if the source X series is sorted in increasing order */
+	protected boolean isXMonotoneIncreasing;
+	/** the initial capacity of the compressed series buffers */
+	private static final int INITIAL_CAPACITY = 256;
+	/** the compressed X series buffer, reused between compressions */
 	protected transient double[] compressedXSeries = null;
-	/** the compressed Y series */
+	/** the compressed Y series buffer, reused between compressions */
 	protected transient double[] compressedYSeries = null;
-	/** the compressed series indexes */
+	/** the compressed series indexes buffer, reused between compressions */
 	protected transient int[] compressedIndexes = null;
+	/** the number of valid entries in the compressed series buffers */
+	protected transient int compressedSize;
 	/** the lower value of x range */
 	protected double xLower;
 	/** the upper value of x range */
@@ -56,6 +71,18 @@ public abstract class Compress implements ICompress {
 	private long widthInPixel;
 	/** the plot area height in pixels */
 	private long heightInPixel;
+	/** the number of times the compressed series has been reset */
+	protected int modificationCount;
+	/** the transform applied to the source series when the compressed series is read */
+	protected SeriesTransform transform = SeriesTransform.IDENTITY;
+	/** the transform applied to the compressed series buffers, without the axes whose transformed values are compressed */
+	protected SeriesTransform compressedTransform = SeriesTransform.IDENTITY;
+	/** the transformed X series compressed on a log scale axis, kept until the series or the transform change */
+	private transient double[] transformedXSeries;
+	/** the transformed Y series compressed on a log scale axis, kept until the series or the transform change */
+	private transient double[] transformedYSeries;
+	/** the state indicating if the transformed X series is sorted in increasing order */
+	private boolean isTransformedXMonotoneIncreasing;
 
 	@Override
 	public void setXSeries(double[] xSeries) {
@@ -63,15 +90,26 @@ public abstract class Compress implements ICompress {
 		if(xSeries == null) {
 			return;
 		}
+		removeTrimmedPoints();
 		double[] copiedSeries = new double[xSeries.length];
 		System.arraycopy(xSeries, 0, copiedSeries, 0, xSeries.length);
 		this.xSeries = copiedSeries;
-		compressedXSeries = copiedSeries;
-		compressedIndexes = new int[xSeries.length];
-		for(int i = 0; i < xSeries.length; i++) {
-			compressedIndexes[i] = i;
+		xSeriesLength = xSeries.length;
+		seriesLength = Math.min(xSeriesLength, ySeriesLength);
+		isXMonotoneIncreasing = isXMonotoneIncreasing(0, xSeriesLength);
+		clearTransformedSeries();
+		/*
+		 * Release the buffers if they are much larger than
+		 * needed for the new series.
+		 */
+		if(compressedIndexes != null && compressedIndexes.length > 2 * xSeries.length + INITIAL_CAPACITY) {
+			compressedXSeries = null;
+			compressedYSeries = null;
+			compressedIndexes = null;
 		}
+		compressedSize = 0;
 		compressed = false;
+		modificationCount++;
 	}
 
 	@Override
@@ -80,46 +118,292 @@ public abstract class Compress implements ICompress {
 		if(ySeries == null) {
 			return;
 		}
+		removeTrimmedPoints();
 		double[] copiedSeries = new double[ySeries.length];
 		System.arraycopy(ySeries, 0, copiedSeries, 0, ySeries.length);
 		this.ySeries = copiedSeries;
-		compressedYSeries = copiedSeries;
+		ySeriesLength = ySeries.length;
+		seriesLength = Math.min(xSeriesLength, ySeriesLength);
+		clearTransformedSeries();
+		compressedSize = 0;
 		compressed = false;
+		modificationCount++;
+	}
+
+	@Override
+	public void appendSeries(double[] xSeries, double[] ySeries) {
+
+		if(xSeries == null || ySeries == null) {
+			return;
+		}
+		int length = Math.min(xSeries.length, ySeries.length);
+		if(this.xSeries == null || this.ySeries == null || seriesLength + length > this.xSeries.length || seriesLength + length > this.ySeries.length) {
+			/*
+			 * The trimmed points make room before the buffers grow.
+			 */
+			removeTrimmedPoints();
+		}
+		int fromIndex = seriesLength;
+		int newLength = fromIndex + length;
+		if(this.xSeries == null || this.ySeries == null || newLength > this.xSeries.length || newLength > this.ySeries.length) {
+			int capacity = Math.max(newLength, fromIndex + (fromIndex >> 1));
+			this.xSeries = copyOf(this.xSeries, 0, fromIndex, capacity);
+			this.ySeries = copyOf(this.ySeries, 0, fromIndex, capacity);
+		}
+		System.arraycopy(xSeries, 0, this.xSeries, fromIndex, length);
+		System.arraycopy(ySeries, 0, this.ySeries, fromIndex, length);
+		xSeriesLength = newLength;
+		ySeriesLength = newLength;
+		seriesLength = newLength;
+		isXMonotoneIncreasing = (fromIndex == firstIndex || isXMonotoneIncreasing) && isXMonotoneIncreasing(Math.max(firstIndex, fromIndex - 1), newLength);
+		clearTransformedSeries();
+		/*
+		 * Compress the appended points only, if the compression
+		 * doesn't need to be done again anyway.
+		 */
+		if(compressed && (compressedTransform != transform || !addAppendedPlots(fromIndex))) {
+			compressedSize = 0;
+			compressed = false;
+			modificationCount++;
+		}
+	}
+
+	/**
+	 * Trims the series by moving the first index. The trimmed points are
+	 * removed from the arrays once they take more space than the remaining
+	 * points, hence each point is moved at most once on average. The
+	 * compressed series is kept if it doesn't contain any trimmed point, e.g.
+	 * if the trimmed points are left of the X range.
+	 */
+	@Override
+	public void trimSeries(int count) {
+
+		if(count <= 0 || xSeries == null || ySeries == null) {
+			return;
+		}
+		int removed = Math.min(count, seriesLength - firstIndex);
+		firstIndex += removed;
+		if(compressed) {
+			boolean keepCompressed = true;
+			for(int i = 0; i < compressedSize; i++) {
+				if(compressedIndexes[i] < removed) {
+					keepCompressed = false;
+					break;
+				}
+			}
+			if(keepCompressed) {
+				for(int i = 0; i < compressedSize; i++) {
+					compressedIndexes[i] -= removed;
+				}
+			} else {
+				compressedSize = 0;
+				compressed = false;
+			}
+		}
+		if(firstIndex > seriesLength - firstIndex) {
+			removeTrimmedPoints();
+		}
+		modificationCount++;
+	}
+
+	/**
+	 * Removes the trimmed points from the arrays, so that the first point is
+	 * at index 0 again. The compressed indexes are relative to the first
+	 * point, hence they don't change.
+	 */
+	protected void removeTrimmedPoints() {
+
+		if(firstIndex == 0) {
+			return;
+		}
+		int length = seriesLength - firstIndex;
+		System.arraycopy(xSeries, firstIndex, xSeries, 0, length);
+		System.arraycopy(ySeries, firstIndex, ySeries, 0, length);
+		xSeriesLength = length;
+		ySeriesLength = length;
+		seriesLength = length;
+		firstIndex = 0;
+		clearTransformedSeries();
 	}
 
 	@Override
 	public double[] getCompressedXSeries() {
 
-		if(compressedXSeries == null) {
-			return new double[0];
+		if(!compressed) {
+			int length = xSeriesLength - firstIndex;
+			double[] series = copyOf(xSeries, firstIndex, length, length);
+			return transform.isIdentityX() ? series : transform.transformX(series, length);
 		}
 		//
-		double[] copiedSeries = new double[compressedXSeries.length];
-		System.arraycopy(compressedXSeries, 0, copiedSeries, 0, compressedXSeries.length);
-		return copiedSeries;
+		return compressedTransform.transformX(compressedXSeries, compressedSize);
 	}
 
 	@Override
 	public double[] getCompressedYSeries() {
 
-		if(compressedYSeries == null) {
-			return new double[0];
+		if(!compressed) {
+			int length = ySeriesLength - firstIndex;
+			double[] series = copyOf(ySeries, firstIndex, length, length);
+			return transform.isIdentityY() ? series : transform.transformY(series, length);
 		}
 		//
-		double[] copiedSeries = new double[compressedYSeries.length];
-		System.arraycopy(compressedYSeries, 0, copiedSeries, 0, compressedYSeries.length);
-		return copiedSeries;
+		return compressedTransform.transformY(compressedYSeries, compressedSize);
 	}
 
 	@Override
 	public int[] getCompressedIndexes() {
 
-		if(compressedIndexes == null) {
-			return new int[0];
+		if(!compressed) {
+			int length = xSeriesLength - firstIndex;
+			int[] indexes = new int[length];
+			for(int i = 0; i < length; i++) {
+				indexes[i] = i;
+			}
+			return indexes;
 		}
 		//
-		int[] copiedSeries = new int[compressedIndexes.length];
-		System.arraycopy(compressedIndexes, 0, copiedSeries, 0, compressedIndexes.length);
+		int[] copiedSeries = new int[compressedSize];
+		System.arraycopy(compressedIndexes, 0, copiedSeries, 0, compressedSize);
+		return copiedSeries;
+	}
+
+	@Override
+	public int getCompressedLength() {
+
+		return compressed ? compressedSize : seriesLength - firstIndex;
+	}
+
+	@Override
+	public double getCompressedX(int index) {
+
+		return compressed ? compressedTransform.transformX(compressedXSeries[index]) : transform.transformX(xSeries[firstIndex + index]);
+	}
+
+	@Override
+	public double getCompressedY(int index) {
+
+		return compressed ? compressedTransform.transformY(compressedYSeries[index]) : transform.transformY(ySeries[firstIndex + index]);
+	}
+
+	@Override
+	public void setTransform(SeriesTransform transform) {
+
+		if(transform == null) {
+			transform = SeriesTransform.IDENTITY;
+		}
+		if(transform.equals(this.transform)) {
+			return;
+		}
+		/*
+		 * The source series are kept, only the visible range
+		 * has to be compressed again.
+		 */
+		this.transform = transform;
+		clearTransformedSeries();
+		compressedSize = 0;
+		compressed = false;
+		modificationCount++;
+	}
+
+	@Override
+	public SeriesTransform getTransform() {
+
+		return transform;
+	}
+
+	@Override
+	public int getCompressedIndex(int index) {
+
+		return compressed ? compressedIndexes[index] : index;
+	}
+
+	/**
+	 * Checks if the source X series is sorted in increasing order in the given
+	 * range.
+	 * 
+	 * @param fromIndex
+	 *            the first index
+	 * @param toIndex
+	 *            the index after the last index
+	 * @return true if the X series is sorted in the given range
+	 */
+	private boolean isXMonotoneIncreasing(int fromIndex, int toIndex) {
+
+		for(int i = fromIndex + 1; i < toIndex; i++) {
+			if(xSeries[i - 1] > xSeries[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the index of the first point whose X value is equal to or larger
+	 * than the given value, using a binary search. The X series has to be
+	 * sorted, see {@link #isXMonotoneIncreasing}.
+	 * 
+	 * @param x
+	 *            the X value
+	 * @return the index or the series length if there is no such point
+	 */
+	protected int getLowerIndex(double x) {
+
+		int low = firstIndex;
+		int high = seriesLength;
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+			if(xSeries[middle] < x) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Gets the index of the first point whose X value is larger than the
+	 * given value, using a binary search. The X series has to be sorted, see
+	 * {@link #isXMonotoneIncreasing}.
+	 * 
+	 * @param x
+	 *            the X value
+	 * @return the index or the series length if there is no such point
+	 */
+	protected int getUpperIndex(double x) {
+
+		int low = firstIndex;
+		int high = seriesLength;
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+			if(xSeries[middle] <= x) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Gets a copy of the given series.
+	 * 
+	 * @param series
+	 *            the series, can be null
+	 * @param fromIndex
+	 *            the index of the first point to copy
+	 * @param length
+	 *            the number of points to copy
+	 * @param capacity
+	 *            the length of the copied series
+	 * @return the copied series or an empty array
+	 */
+	private static double[] copyOf(double[] series, int fromIndex, int length, int capacity) {
+
+		double[] copiedSeries = new double[capacity];
+		if(series != null) {
+			System.arraycopy(series, fromIndex, copiedSeries, 0, length);
+		}
 		return copiedSeries;
 	}
 
@@ -131,7 +415,21 @@ public abstract class Compress implements ICompress {
 		}
 		// store the previous configuration
 		prevConfig = new CompressConfig(compressConfig);
-		this.config = compressConfig;
+		/*
+		 * On a log scale axis, the grid of the source values only matches
+		 * for a positive scale without offset. Otherwise, the transformed
+		 * values are compressed.
+		 */
+		compressedTransform = transform;
+		boolean isXTransformed = compressConfig.isXLogScale() && (transform.getOffsetX() != 0 || transform.getScaleX() < 0);
+		boolean isYTransformed = compressConfig.isYLogScale() && (transform.getOffsetY() != 0 || transform.getScaleY() < 0);
+		if(isXTransformed) {
+			compressedTransform = compressedTransform.withIdentityX();
+		}
+		if(isYTransformed) {
+			compressedTransform = compressedTransform.withIdentityY();
+		}
+		this.config = compressedTransform.isIdentity() ? compressConfig : getSourceConfig(compressConfig);
 		// store into fields to improve performance
 		xLower = config.getXLowerValue();
 		xUpper = config.getXUpperValue();
@@ -143,56 +441,159 @@ public abstract class Compress implements ICompress {
 		heightInPixel = config.getHeightInPixel();
 		previousXGridIndex = -1;
 		previousYGridIndex = -1;
-		ArrayList<Double> xList = new ArrayList<Double>();
-		ArrayList<Double> yList = new ArrayList<Double>();
-		ArrayList<Integer> indexList = new ArrayList<Integer>();
-		// add necessary plots to the array
-		addNecessaryPlots(xList, yList, indexList);
-		compressedXSeries = new double[xList.size()];
-		compressedYSeries = new double[yList.size()];
-		compressedIndexes = new int[indexList.size()];
-		for(int i = 0; i < xList.size(); i++) {
-			compressedXSeries[i] = xList.get(i);
-			compressedYSeries[i] = yList.get(i);
-			compressedIndexes[i] = indexList.get(i);
+		// add necessary plots to the reused buffers
+		compressedSize = 0;
+		ensureCapacity(INITIAL_CAPACITY);
+		if(isXTransformed || isYTransformed) {
+			addTransformedPlots(isXTransformed, isYTransformed);
+		} else {
+			addNecessaryPlots();
 		}
 		compressed = true;
+		modificationCount++;
 		return true;
 	}
 
 	/**
-	 * Adds the necessary plots.
+	 * Adds the necessary plots of the transformed values of the given axes.
+	 * The source series are replaced by the transformed ones while the plots
+	 * are added. The transformed series are kept for the next compression,
+	 * e.g. when the chart is zoomed or resized.
 	 * 
-	 * @param xList
-	 *            the array in which x coordinate for necessary plot is stored
-	 * @param yList
-	 *            the array in which y coordinate for necessary plot is stored
-	 * @param indexList
-	 *            the array in which series index for necessary plot is stored
+	 * @param isXTransformed
+	 *            true if the X values are transformed
+	 * @param isYTransformed
+	 *            true if the Y values are transformed
 	 */
-	abstract protected void addNecessaryPlots(ArrayList<Double> xList, ArrayList<Double> yList, ArrayList<Integer> indexList);
+	private void addTransformedPlots(boolean isXTransformed, boolean isYTransformed) {
+
+		double[] sourceXSeries = xSeries;
+		double[] sourceYSeries = ySeries;
+		boolean isSourceXMonotoneIncreasing = isXMonotoneIncreasing;
+		try {
+			if(isXTransformed) {
+				if(transformedXSeries == null) {
+					xSeries = transform.transformX(sourceXSeries, seriesLength);
+					transformedXSeries = xSeries;
+					isTransformedXMonotoneIncreasing = isXMonotoneIncreasing(firstIndex, seriesLength);
+				}
+				xSeries = transformedXSeries;
+				isXMonotoneIncreasing = isTransformedXMonotoneIncreasing;
+			}
+			if(isYTransformed) {
+				if(transformedYSeries == null) {
+					transformedYSeries = transform.transformY(sourceYSeries, seriesLength);
+				}
+				ySeries = transformedYSeries;
+			}
+			addNecessaryPlots();
+		} finally {
+			xSeries = sourceXSeries;
+			ySeries = sourceYSeries;
+			isXMonotoneIncreasing = isSourceXMonotoneIncreasing;
+		}
+	}
+
+	private void clearTransformedSeries() {
+
+		transformedXSeries = null;
+		transformedYSeries = null;
+	}
 
 	/**
-	 * Adds the given coordinate to list.
+	 * Gets the configuration in the coordinates of the compressed series, by
+	 * applying the inverse transform to the ranges. As the transform is
+	 * linear, the grid indexes of the source points are the same as those of
+	 * the transformed points. On a log scale axis, this holds only for a
+	 * positive scale without offset, the other axes are compressed with the
+	 * transformed values, see {@link #compressedTransform}.
+	 * 
+	 * @param compressConfig
+	 *            the configuration of the transformed series
+	 * @return the configuration of the compressed series
+	 */
+	private CompressConfig getSourceConfig(CompressConfig compressConfig) {
+
+		CompressConfig sourceConfig = new CompressConfig(compressConfig);
+		Range xRange = new Range(compressedTransform.inverseX(compressConfig.getXLowerValue()), compressedTransform.inverseX(compressConfig.getXUpperValue()));
+		Range yRange = new Range(compressedTransform.inverseY(compressConfig.getYLowerValue()), compressedTransform.inverseY(compressConfig.getYUpperValue()));
+		sourceConfig.setXRange(xRange.lower, xRange.upper);
+		sourceConfig.setYRange(yRange.lower, yRange.upper);
+		return sourceConfig;
+	}
+
+	@Override
+	public int getModificationCount() {
+
+		return modificationCount;
+	}
+
+	/**
+	 * Adds the necessary plots to the compressed series buffers by calling
+	 * {@link #addToBuffer(double, double, int)}.
+	 */
+	abstract protected void addNecessaryPlots();
+
+	/**
+	 * Adds the necessary plots of the points which have been appended to the
+	 * compressed series. The configuration is the same as for the previous
+	 * compression.
+	 * 
+	 * @param fromIndex
+	 *            the index of the first appended point
+	 * @return false if the series has to be compressed again instead
+	 */
+	protected boolean addAppendedPlots(int fromIndex) {
+
+		return false;
+	}
+
+	/**
+	 * Adds the given coordinate to the compressed series buffers.
 	 * 
-	 * @param xList
-	 *            the list to store the X coordinate
-	 * @param yList
-	 *            the list to store the Y coordinate
-	 * @param indexList
-	 *            the list to store the series index
 	 * @param x
 	 *            the X coordinate
 	 * @param y
 	 *            the Y coordinate
 	 * @param index
-	 *            the series index
+	 *            the index in the source series arrays
+	 */
+	protected void addToBuffer(double x, double y, int index) {
+
+		if(compressedSize == compressedIndexes.length) {
+			ensureCapacity(compressedSize + 1);
+		}
+		compressedXSeries[compressedSize] = x;
+		compressedYSeries[compressedSize] = y;
+		compressedIndexes[compressedSize] = index - firstIndex;
+		compressedSize++;
+	}
+
+	/**
+	 * Grows the compressed series buffers so that they can hold at least the
+	 * given number of points. The buffers are kept between compressions.
+	 * 
+	 * @param capacity
+	 *            the required capacity
 	 */
-	protected void addToList(ArrayList<Double> xList, ArrayList<Double> yList, ArrayList<Integer> indexList, double x, double y, int index) {
+	protected void ensureCapacity(int capacity) {
 
-		xList.add(x);
-		yList.add(y);
-		indexList.add(index);
+		int length = compressedIndexes == null ? 0 : compressedIndexes.length;
+		if(capacity <= length) {
+			return;
+		}
+		int newLength = Math.max(capacity, Math.max(INITIAL_CAPACITY, length + (length >> 1)));
+		double[] newXSeries = new double[newLength];
+		double[] newYSeries = new double[newLength];
+		int[] newIndexes = new int[newLength];
+		if(compressedSize > 0) {
+			System.arraycopy(compressedXSeries, 0, newXSeries, 0, compressedSize);
+			System.arraycopy(compressedYSeries, 0, newYSeries, 0, compressedSize);
+			System.arraycopy(compressedIndexes, 0, newIndexes, 0, compressedSize);
+		}
+		compressedXSeries = newXSeries;
+		compressedYSeries = newYSeries;
+		compressedIndexes = newIndexes;
 	}
 
 	/**
@@ -206,16 +607,8 @@ public abstract class Compress implements ICompress {
 	 */
 	protected boolean isInSameGridAsPrevious(double x, double y) {
 
-		int xGridIndex;
+		int xGridIndex = getXGridIndex(x);
 		int yGridIndex;
-		// calculate the X grid index
-		if(isXLogScale) {
-			double lower = Math.log10(xLower);
-			double upper = Math.log10(xUpper);
-			xGridIndex = (int)((Math.log10(x) - lower) / (upper - lower) * widthInPixel);
-		} else {
-			xGridIndex = (int)((x - xLower) / (xUpper - xLower) * widthInPixel);
-		}
 		// calculate the Y grid index
 		if(isYLogScale) {
 			double lower = Math.log10(yLower);
@@ -231,4 +624,21 @@ public abstract class Compress implements ICompress {
 		previousYGridIndex = yGridIndex;
 		return isInSameGridAsPrevious;
 	}
+
+	/**
+	 * Gets the X grid index, i.e. the pixel column, of the given coordinate.
+	 * 
+	 * @param x
+	 *            the X coordinate
+	 * @return the X grid index
+	 */
+	protected int getXGridIndex(double x) {
+
+		if(isXLogScale) {
+			double lower = Math.log10(xLower);
+			double upper = Math.log10(xUpper);
+			return (int)((Math.log10(x) - lower) / (upper - lower) * widthInPixel);
+		}
+		return (int)((x - xLower) / (xUpper - xLower) * widthInPixel);
+	}
 }
\ No newline at end of file
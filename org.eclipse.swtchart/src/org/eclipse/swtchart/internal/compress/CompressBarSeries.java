@@ -12,20 +12,18 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.compress;
 
-import java.util.ArrayList;
-
 /**
  * A compressor for bar series data.
  */
 public class CompressBarSeries extends Compress {
 
 	@Override
-	protected void addNecessaryPlots(ArrayList<Double> xList, ArrayList<Double> yList, ArrayList<Integer> indexList) {
+	protected void addNecessaryPlots() {
 
-		double prevX = xSeries[0];
+		double prevX = xSeries[firstIndex];
 		double maxY = Double.NaN;
-		int prevIndex = 0;
-		for(int i = 0; i < xSeries.length && i < ySeries.length; i++) {
+		int prevIndex = firstIndex;
+		for(int i = firstIndex; i < seriesLength; i++) {
 			if(xSeries[i] >= config.getXLowerValue()) {
 				if(isInSameGridXAsPrevious(xSeries[i])) {
 					if(maxY < ySeries[i]) {
@@ -33,7 +31,7 @@ public class CompressBarSeries extends Compress {
 					}
 				} else {
 					if(!Double.isNaN(maxY)) {
-						addToList(xList, yList, indexList, prevX, maxY, prevIndex);
+						addToBuffer(prevX, maxY, prevIndex);
 					}
 					prevX = xSeries[i];
 					maxY = ySeries[i];
@@ -44,7 +42,7 @@ public class CompressBarSeries extends Compress {
 				break;
 			}
 		}
-		addToList(xList, yList, indexList, prevX, maxY, prevIndex);
+		addToBuffer(prevX, maxY, prevIndex);
 	}
 
 	/**
@@ -26,6 +26,8 @@ public class CompressCircularSeries extends Compress {
 
 	private NodeDataModel nodeDataModel;
 	private int maxTreeDepth;
+	/** the colors acquired by the last update */
+	private List<Color> colors = new ArrayList<>();
 
 	public CompressCircularSeries(NodeDataModel nodeDataModel) {
 
@@ -33,7 +35,7 @@ public class CompressCircularSeries extends Compress {
 	}
 
 	@Override
-	protected void addNecessaryPlots(ArrayList<Double> xList, ArrayList<Double> yList, ArrayList<Integer> indexList) {
+	protected void addNecessaryPlots() {
 
 	}
 
@@ -46,11 +48,15 @@ public class CompressCircularSeries extends Compress {
 	 * sets the color series of the multiLevel Pie chart.
 	 * Uses HSB color model to enable smooth transition of colors across the chart.
 	 * Brightness decreases as level of node increases.
+	 * The hue is rounded to full degrees, so that the number of colors is
+	 * bounded. The colors of the previous update are released afterwards.
 	 */
 	private void updateColors() {
 
 		maxTreeDepth = nodeDataModel.getRootPointer().getMaxSubTreeDepth() - 1;
 		List<Node>[] nodes = nodeDataModel.getNodes();
+		List<Color> previousColors = colors;
+		colors = new ArrayList<>();
 		/*
 		 * Traversing each level
 		 */
@@ -59,10 +65,15 @@ public class CompressCircularSeries extends Compress {
 			float anglePerNode = 360.0f / length;
 			float brightness = Math.max(0, (i - 1) / ((float)maxTreeDepth));
 			for(int j = 0; j != length; j++) {
-				RGB rgb = new RGB(anglePerNode * j, 1, 1 - brightness);
-				Color color = Resources.getColor(rgb);
+				RGB rgb = new RGB(Math.round(anglePerNode * j) % 360, 1, 1 - brightness);
+				Color color = Resources.acquireColor(rgb);
+				colors.add(color);
 				nodes[i].get(j).setSliceColor(color);
 			}
 		}
+		//
+		for(Color color : previousColors) {
+			Resources.releaseColor(color);
+		}
 	}
 }
\ No newline at end of file
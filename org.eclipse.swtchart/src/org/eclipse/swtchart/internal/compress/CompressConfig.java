@@ -13,11 +13,15 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.compress;
 
+import org.eclipse.swtchart.CompressMode;
+
 /**
  * Configuration for compression.
  */
 public class CompressConfig {
 
+	/** the number of grids per pixel in each direction of the plot area */
+	public static final int PRECISION = 2;
 	/** the width in pixels */
 	private long widthInPixels;
 	/** the height in pixels */
@@ -34,6 +38,10 @@ public class CompressConfig {
 	private boolean xLogScale;
 	/** the state indicating whether the Y axis is log scale */
 	private boolean yLogScale;
+	/** the compress mode */
+	private CompressMode compressMode;
+	/** the state indicating whether the compression may run in parallel */
+	private boolean parallel;
 
 	/**
 	 * Constructor.
@@ -43,6 +51,7 @@ public class CompressConfig {
 		heightInPixels = 512;
 		xLogScale = false;
 		yLogScale = false;
+		compressMode = CompressMode.GRID;
 	}
 
 	/**
@@ -60,6 +69,8 @@ public class CompressConfig {
 		yUpperValue = config.getYUpperValue();
 		xLogScale = config.isXLogScale();
 		yLogScale = config.isYLogScale();
+		compressMode = config.getCompressMode();
+		parallel = config.isParallel();
 	}
 
 	@Override
@@ -94,6 +105,9 @@ public class CompressConfig {
 		if(config.isYLogScale() != yLogScale) {
 			return false;
 		}
+		if(config.getCompressMode() != compressMode) {
+			return false;
+		}
 		return true;
 	}
 
@@ -247,9 +261,53 @@ public class CompressConfig {
 		this.yLogScale = value;
 	}
 
+	/**
+	 * Gets the compress mode.
+	 * 
+	 * @return the compress mode
+	 */
+	public CompressMode getCompressMode() {
+
+		return compressMode;
+	}
+
+	/**
+	 * Sets the compress mode.
+	 * 
+	 * @param compressMode
+	 *            the compress mode
+	 */
+	public void setCompressMode(CompressMode compressMode) {
+
+		this.compressMode = compressMode == null ? CompressMode.GRID : compressMode;
+	}
+
+	/**
+	 * Gets the state indicating whether the compression may run in parallel.
+	 * 
+	 * @return true if the compression may run in parallel
+	 */
+	public boolean isParallel() {
+
+		return parallel;
+	}
+
+	/**
+	 * Sets the state indicating whether the compression may run in parallel.
+	 * This doesn't change the compressed series, hence it isn't considered by
+	 * {@link #equals(Object)}.
+	 * 
+	 * @param parallel
+	 *            true if the compression may run in parallel
+	 */
+	public void setParallel(boolean parallel) {
+
+		this.parallel = parallel;
+	}
+
 	@Override
 	public String toString() {
 
-		return "pixelWidth = " + widthInPixels + ", " + "pixelHeight = " + heightInPixels + ", " + "xLowerValue = " + xLowerValue + ", " + "xUpperValue = " + xUpperValue + ", " + "yLowerValue = " + yLowerValue + ", " + "yUpperValue = " + yUpperValue + ", " + yLogScale; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$
+		return "pixelWidth = " + widthInPixels + ", " + "pixelHeight = " + heightInPixels + ", " + "xLowerValue = " + xLowerValue + ", " + "xUpperValue = " + xUpperValue + ", " + "yLowerValue = " + yLowerValue + ", " + "yUpperValue = " + yUpperValue + ", " + yLogScale + ", " + "compressMode = " + compressMode; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$ //$NON-NLS-14$
 	}
 }
@@ -12,7 +12,11 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.compress;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.eclipse.swtchart.CompressMode;
 
 /**
  * A compressor for line series data.
@@ -41,38 +45,149 @@ public class CompressLineSeries extends Compress {
 		SteppingInRange;
 	}
 
+	/** the minimum number of points per chunk when compressing in parallel */
+	private static final int PARALLEL_CHUNK_SIZE = 1 << 18;
 	/** the flag indicating whether the previous point is out of range */
 	private boolean isPrevOutOfRange;
+	/** the flag indicating whether a point beyond the x range has been reached */
+	private boolean isBeyondXRange;
+	/** the flag indicating whether the level of detail index is used */
+	private boolean levelOfDetailEnabled;
+	/** the level of detail index of the Y series, created on demand */
+	private MinMaxPyramid pyramid;
+	/** the number of points of the Y series which are in the index */
+	private int pyramidLength;
+
+	/**
+	 * Enables the level of detail index. If enabled and the X series is sorted
+	 * in increasing order, the minimum and maximum of each pixel column are
+	 * looked up in a precomputed min/max pyramid instead of iterating over all
+	 * points in the X range, regardless of the compress mode.
+	 * 
+	 * @param enabled
+	 *            true if enabling the level of detail index
+	 */
+	public void setLevelOfDetailEnabled(boolean enabled) {
+
+		if(levelOfDetailEnabled == enabled) {
+			return;
+		}
+		levelOfDetailEnabled = enabled;
+		if(!enabled) {
+			pyramid = null;
+			pyramidLength = 0;
+		}
+		compressedSize = 0;
+		compressed = false;
+		modificationCount++;
+	}
+
+	/**
+	 * Gets the state indicating if the level of detail index is enabled.
+	 * 
+	 * @return true if the level of detail index is enabled
+	 */
+	public boolean isLevelOfDetailEnabled() {
+
+		return levelOfDetailEnabled;
+	}
 
 	@Override
-	protected void addNecessaryPlots(ArrayList<Double> xList, ArrayList<Double> yList, ArrayList<Integer> indexList) {
+	public void setYSeries(double[] ySeries) {
 
+		super.setYSeries(ySeries);
+		pyramidLength = 0;
+	}
+
+	@Override
+	protected void removeTrimmedPoints() {
+
+		super.removeTrimmedPoints();
+		pyramidLength = 0;
+	}
+
+	@Override
+	protected void addNecessaryPlots() {
+
+		if(levelOfDetailEnabled && isXMonotoneIncreasing) {
+			addPyramidPlots();
+			return;
+		}
+		if(config.getCompressMode() == CompressMode.MIN_MAX) {
+			addMinMaxPlots();
+			return;
+		}
+		//
 		isPrevOutOfRange = true;
-		for(int i = 0; i < xSeries.length && i < ySeries.length; i++) {
+		isBeyondXRange = false;
+		/*
+		 * The points left of the X range don't add any plots,
+		 * hence the compression starts with the first point in range.
+		 */
+		addGridPlots(isXMonotoneIncreasing ? getLowerIndex(xLower) : firstIndex);
+	}
+
+	@Override
+	protected boolean addAppendedPlots(int fromIndex) {
+
+		if(levelOfDetailEnabled || config.getCompressMode() == CompressMode.MIN_MAX) {
+			return false;
+		}
+		/*
+		 * The appended points aren't drawn if a point
+		 * beyond the x range has been reached already.
+		 */
+		if(!isBeyondXRange) {
+			addGridPlots(fromIndex);
+		}
+		return true;
+	}
+
+	/**
+	 * Adds the plots of the points from the given index, which are not in the
+	 * same grid as the previous point.
+	 * 
+	 * @param fromIndex
+	 *            the index of the first point
+	 */
+	private void addGridPlots(int fromIndex) {
+
+		/*
+		 * The points after the first point right of the X range
+		 * don't add any plots.
+		 */
+		int toIndex = seriesLength;
+		if(isXMonotoneIncreasing) {
+			toIndex = Math.min(seriesLength, getUpperIndex(xUpper) + 1);
+			isBeyondXRange = toIndex < seriesLength;
+		}
+		for(int i = fromIndex; i < toIndex; i++) {
 			STATE state = getState(i);
 			switch(state) {
 				case SteppingOutOfYRange:
-					addToList(xList, yList, indexList, xSeries[i], ySeries[i], i);
+					addToBuffer(xSeries[i], ySeries[i], i);
 					break;
 				case SteppingOverYRange:
 				case SteppingInRange:
 				case SteppingInXRange:
-					addToList(xList, yList, indexList, xSeries[i - 1], ySeries[i - 1], i - 1);
-					addToList(xList, yList, indexList, xSeries[i], ySeries[i], i);
+					addToBuffer(xSeries[i - 1], ySeries[i - 1], i - 1);
+					addToBuffer(xSeries[i], ySeries[i], i);
 					break;
 				case SteppingOverXRange:
 				case SteppingOutOfXRange:
-					addToList(xList, yList, indexList, xSeries[i - 1], ySeries[i - 1], i - 1);
-					addToList(xList, yList, indexList, xSeries[i], ySeries[i], i);
-					i = xSeries.length;
+					addToBuffer(xSeries[i - 1], ySeries[i - 1], i - 1);
+					addToBuffer(xSeries[i], ySeries[i], i);
+					i = seriesLength;
+					isBeyondXRange = true;
 					break;
 				case SteppingOutOfRange:
-					addToList(xList, yList, indexList, xSeries[i], ySeries[i], i);
-					i = xSeries.length;
+					addToBuffer(xSeries[i], ySeries[i], i);
+					i = seriesLength;
+					isBeyondXRange = true;
 					break;
 				case InRangeAgain:
 					if(!isInSameGridAsPrevious(xSeries[i], ySeries[i])) {
-						addToList(xList, yList, indexList, xSeries[i], ySeries[i], i);
+						addToBuffer(xSeries[i], ySeries[i], i);
 					}
 					break;
 				case OutOfRangeAgain:
@@ -83,6 +198,251 @@ public class CompressLineSeries extends Compress {
 		}
 	}
 
+	/**
+	 * Adds the first, minimum, maximum and last plot of each pixel column
+	 * (M4). This keeps at most 4 plots per column and, other than the grid
+	 * based compression, doesn't drop spikes within a column. The last plot
+	 * left of and the first plot right of the X range are kept, so that the
+	 * line is drawn up to the plot area border.
+	 */
+	private void addMinMaxPlots() {
+
+		if(config.isParallel() && isXMonotoneIncreasing && addParallelMinMaxPlots()) {
+			return;
+		}
+		int length = seriesLength;
+		int column = -1;
+		int first = -1;
+		int min = -1;
+		int max = -1;
+		int last = -1;
+		// start with the last plot left of the range
+		int i = isXMonotoneIncreasing ? Math.max(firstIndex, getLowerIndex(xLower) - 1) : firstIndex;
+		for(; i < length; i++) {
+			double x = xSeries[i];
+			if(x < xLower) {
+				// keep only the last plot left of the range
+				if(i + 1 < length && xSeries[i + 1] >= xLower) {
+					addToBuffer(x, ySeries[i], i);
+				}
+				continue;
+			}
+			if(x > xUpper) {
+				break;
+			}
+			int gridIndex = getColumnIndex(x);
+			if(gridIndex != column) {
+				addColumn(first, min, max, last);
+				column = gridIndex;
+				first = i;
+				min = i;
+				max = i;
+			} else {
+				if(ySeries[i] < ySeries[min]) {
+					min = i;
+				}
+				if(ySeries[i] > ySeries[max]) {
+					max = i;
+				}
+			}
+			last = i;
+		}
+		addColumn(first, min, max, last);
+		// add the first plot right of the range
+		if(i < length) {
+			addToBuffer(xSeries[i], ySeries[i], i);
+		}
+	}
+
+	/**
+	 * Adds the same plots as {@link #addMinMaxPlots()}, but splits the points
+	 * in the X range at pixel column borders into chunks, which are scanned
+	 * concurrently. The X series has to be sorted.
+	 * 
+	 * @return false if there are too few points to be split
+	 */
+	private boolean addParallelMinMaxPlots() {
+
+		int lowerIndex = getLowerIndex(xLower);
+		int upperIndex = getUpperIndex(xUpper);
+		int chunks = Math.min(ForkJoinPool.getCommonPoolParallelism(), (upperIndex - lowerIndex) / PARALLEL_CHUNK_SIZE);
+		if(chunks < 2) {
+			return false;
+		}
+		/*
+		 * The chunks mustn't share a column, hence each chunk
+		 * starts with the first point of a column.
+		 */
+		int[] bounds = new int[chunks + 1];
+		bounds[0] = lowerIndex;
+		for(int i = 1; i < chunks; i++) {
+			int index = lowerIndex + (int)((long)(upperIndex - lowerIndex) * i / chunks);
+			bounds[i] = Math.max(bounds[i - 1], getNextColumnIndex(index - 1, upperIndex));
+		}
+		bounds[chunks] = upperIndex;
+		int[][] columns = new int[chunks][];
+		IntStream.range(0, chunks).parallel().forEach(i -> columns[i] = getColumns(bounds[i], bounds[i + 1]));
+		// add the last plot left of the range
+		if(lowerIndex > firstIndex && lowerIndex < seriesLength) {
+			addToBuffer(xSeries[lowerIndex - 1], ySeries[lowerIndex - 1], lowerIndex - 1);
+		}
+		for(int[] chunk : columns) {
+			for(int i = 0; i < chunk.length; i += 4) {
+				addColumn(chunk[i], chunk[i + 1], chunk[i + 2], chunk[i + 3]);
+			}
+		}
+		// add the first plot right of the range
+		if(upperIndex < seriesLength) {
+			addToBuffer(xSeries[upperIndex], ySeries[upperIndex], upperIndex);
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the first, minimum, maximum and last index of each pixel column in
+	 * the given range. This doesn't change any state and can be called
+	 * concurrently.
+	 * 
+	 * @param fromIndex
+	 *            the first index, which is the first point of a column
+	 * @param toIndex
+	 *            the index after the last index
+	 * @return the 4 indexes of each column
+	 */
+	private int[] getColumns(int fromIndex, int toIndex) {
+
+		int[] columns = new int[64];
+		int size = 0;
+		int column = -1;
+		for(int i = fromIndex; i < toIndex; i++) {
+			int gridIndex = getColumnIndex(xSeries[i]);
+			if(gridIndex != column) {
+				if(size + 4 > columns.length) {
+					columns = Arrays.copyOf(columns, 2 * columns.length);
+				}
+				column = gridIndex;
+				columns[size] = i;
+				columns[size + 1] = i;
+				columns[size + 2] = i;
+				size += 4;
+			} else {
+				if(ySeries[i] < ySeries[columns[size - 3]]) {
+					columns[size - 3] = i;
+				}
+				if(ySeries[i] > ySeries[columns[size - 2]]) {
+					columns[size - 2] = i;
+				}
+			}
+			columns[size - 1] = i;
+		}
+		return Arrays.copyOf(columns, size);
+	}
+
+	/**
+	 * Gets the pixel column of the given coordinate. The grid is finer than
+	 * the pixels, see {@link CompressConfig#PRECISION}, hence several grid
+	 * columns make up a pixel column.
+	 * 
+	 * @param x
+	 *            the X coordinate
+	 * @return the pixel column
+	 */
+	private int getColumnIndex(double x) {
+
+		return Math.floorDiv(getXGridIndex(x), CompressConfig.PRECISION);
+	}
+
+	/**
+	 * Gets the index of the first point of the pixel column after the column
+	 * of the given point, using a binary search. The X series has to be
+	 * sorted.
+	 * 
+	 * @param index
+	 *            the index of a point
+	 * @param toIndex
+	 *            the index after the last index to search
+	 * @return the index or toIndex if there is no further column
+	 */
+	private int getNextColumnIndex(int index, int toIndex) {
+
+		int column = getColumnIndex(xSeries[index]);
+		int low = index + 1;
+		int high = toIndex;
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+			if(getColumnIndex(xSeries[middle]) == column) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Adds the same plots as {@link #addMinMaxPlots()}, but finds the end of
+	 * each pixel column with a binary search and its minimum and maximum with
+	 * the level of detail index. This takes O(pixels * log n) instead of O(n)
+	 * for the n points in the X range. The X series has to be sorted.
+	 */
+	private void addPyramidPlots() {
+
+		if(pyramid == null) {
+			pyramid = new MinMaxPyramid();
+		}
+		if(pyramidLength != seriesLength) {
+			pyramid.update(ySeries, seriesLength, Math.min(pyramidLength, seriesLength));
+			pyramidLength = seriesLength;
+		}
+		int lowerIndex = getLowerIndex(xLower);
+		int upperIndex = getUpperIndex(xUpper);
+		// add the last plot left of the range
+		if(lowerIndex > firstIndex && lowerIndex < seriesLength) {
+			addToBuffer(xSeries[lowerIndex - 1], ySeries[lowerIndex - 1], lowerIndex - 1);
+		}
+		int first = lowerIndex;
+		while(first < upperIndex) {
+			int next = getNextColumnIndex(first, upperIndex);
+			addColumn(first, pyramid.getMinIndex(first, next), pyramid.getMaxIndex(first, next), next - 1);
+			first = next;
+		}
+		// add the first plot right of the range
+		if(upperIndex < seriesLength) {
+			addToBuffer(xSeries[upperIndex], ySeries[upperIndex], upperIndex);
+		}
+	}
+
+	/**
+	 * Adds the plots of a pixel column in the order of their series index.
+	 * 
+	 * @param first
+	 *            the index of the first plot or -1 if the column is empty
+	 * @param min
+	 *            the index of the plot with the minimum Y value
+	 * @param max
+	 *            the index of the plot with the maximum Y value
+	 * @param last
+	 *            the index of the last plot
+	 */
+	private void addColumn(int first, int min, int max, int last) {
+
+		if(first < 0) {
+			return;
+		}
+		addToBuffer(xSeries[first], ySeries[first], first);
+		int lower = Math.min(min, max);
+		int upper = Math.max(min, max);
+		if(lower != first && lower != last) {
+			addToBuffer(xSeries[lower], ySeries[lower], lower);
+		}
+		if(upper != lower && upper != first && upper != last) {
+			addToBuffer(xSeries[upper], ySeries[upper], upper);
+		}
+		if(last != first) {
+			addToBuffer(xSeries[last], ySeries[last], last);
+		}
+	}
+
 	/**
 	 * Gets the state for each plot.
 	 * 
@@ -95,16 +455,16 @@ public class CompressLineSeries extends Compress {
 		STATE state;
 		if(xLower <= xSeries[index] && xSeries[index] <= xUpper) {
 			if(yLower <= ySeries[index] && ySeries[index] <= yUpper) {
-				if(index > 0 && isPrevOutOfRange) {
+				if(index > firstIndex && isPrevOutOfRange) {
 					state = STATE.SteppingInRange;
 				} else {
 					state = STATE.InRangeAgain;
 				}
 			} else {
 				if(isPrevOutOfRange) {
-					if(index > 0 && ((ySeries[index - 1] < yLower && ySeries[index] > yUpper) || ySeries[index - 1] > yUpper && ySeries[index] < yLower)) {
+					if(index > firstIndex && ((ySeries[index - 1] < yLower && ySeries[index] > yUpper) || ySeries[index - 1] > yUpper && ySeries[index] < yLower)) {
 						state = STATE.SteppingOverYRange;
-					} else if(index > 0 && xSeries[index - 1] < xLower && xSeries[index] > xLower) {
+					} else if(index > firstIndex && xSeries[index - 1] < xLower && xSeries[index] > xLower) {
 						state = STATE.SteppingInXRange;
 					} else {
 						state = STATE.OutOfRangeAgain;
@@ -116,9 +476,9 @@ public class CompressLineSeries extends Compress {
 		} else {
 			if(!isPrevOutOfRange) {
 				state = STATE.SteppingOutOfRange;
-			} else if(index > 0 && xSeries[index - 1] < xUpper && xSeries[index] > xUpper) {
+			} else if(index > firstIndex && xSeries[index - 1] < xUpper && xSeries[index] > xUpper) {
 				state = STATE.SteppingOutOfXRange;
-			} else if(index > 0 && xSeries[index - 1] < xLower && xSeries[index] > xUpper) {
+			} else if(index > firstIndex && xSeries[index - 1] < xLower && xSeries[index] > xUpper) {
 				state = STATE.SteppingOverXRange;
 			} else {
 				state = STATE.OutOfRangeAgain;
@@ -12,7 +12,9 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.compress;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 /**
  * A compressor for scatter series data
@@ -21,18 +23,26 @@ public class CompressScatterSeries extends Compress {
 
 	/** the state indicating if line is visible */
 	private boolean isLineVisible;
-	/** flag indicating whether the grid is occupied */
-	private boolean occupied[][];
+	/** flag indicating whether the grid is occupied, reused between compressions */
+	private boolean occupied[];
+	/** the number of grid columns */
+	private int gridWidth;
+	/** the number of grid rows */
+	private int gridHeight;
+	/** the state indicating if the points per grid are counted */
+	private boolean isDensityEnabled;
+	/** the number of points per grid, reused between compressions */
+	private DensityGrid densityGrid;
+	/** the minimum number of points per chunk when counting in parallel */
+	private static final int PARALLEL_CHUNK_SIZE = 1 << 18;
+	/** the maximum number of grids counted by all chunks together, if each chunk needs the whole grid */
+	private static final int MAX_PARALLEL_GRIDS = 1 << 22;
 
 	@Override
-	protected void addNecessaryPlots(ArrayList<Double> xList, ArrayList<Double> yList, ArrayList<Integer> indexList) {
+	protected void addNecessaryPlots() {
 
 		if(isLineVisible) {
-			for(int i = 0; i < xSeries.length && i < ySeries.length; i++) {
-				if(!isInSameGridAsPrevious(xSeries[i], ySeries[i])) {
-					addToList(xList, yList, indexList, xSeries[i], ySeries[i], i);
-				}
-			}
+			addGridPlots(firstIndex);
 		} else {
 			int width = (int)config.getWidthInPixel();
 			int height = (int)config.getHeightInPixel();
@@ -40,25 +50,179 @@ public class CompressScatterSeries extends Compress {
 				return;
 			}
 			// initialize flag
-			occupied = new boolean[width][height];
-			for(int i = 0; i < xSeries.length && i < ySeries.length; i++) {
-				if(xSeries[i] >= xLower && xSeries[i] <= xUpper && ySeries[i] >= yLower && ySeries[i] <= yUpper && !isOccupied(xSeries[i], ySeries[i])) {
-					addToList(xList, yList, indexList, xSeries[i], ySeries[i], i);
+			int size = width * height;
+			if(occupied == null || occupied.length != size) {
+				occupied = new boolean[size];
+			} else {
+				Arrays.fill(occupied, false);
+			}
+			gridWidth = width;
+			gridHeight = height;
+			if(isDensityEnabled) {
+				if(densityGrid == null) {
+					densityGrid = new DensityGrid();
+				}
+				densityGrid.reset(config, width, height, compressedTransform);
+				if(config.isParallel() && addParallelCounts()) {
+					addOccupiedPlots(firstIndex, false);
+					return;
 				}
 			}
+			addOccupiedPlots(firstIndex, isDensityEnabled);
+		}
+	}
+
+	@Override
+	protected boolean addAppendedPlots(int fromIndex) {
+
+		if(isLineVisible) {
+			addGridPlots(fromIndex);
+		} else if(occupied != null && gridWidth == config.getWidthInPixel() && gridHeight == config.getHeightInPixel()) {
+			if(isDensityEnabled && (densityGrid == null || densityGrid.getWidth() != gridWidth || densityGrid.getHeight() != gridHeight)) {
+				return false;
+			}
+			addOccupiedPlots(fromIndex, isDensityEnabled);
+		} else {
+			return false;
 		}
+		return true;
 	}
 
 	/**
-	 * check if the grid is already occupied
+	 * Adds the plots from the given index, which are not in the same grid as
+	 * the previous point.
+	 * 
+	 * @param fromIndex
+	 *            the index of the first point
+	 */
+	private void addGridPlots(int fromIndex) {
+
+		int toIndex = seriesLength;
+		if(isXMonotoneIncreasing) {
+			/*
+			 * Only the points in the X range and one
+			 * neighbor on each side are needed.
+			 */
+			fromIndex = Math.max(fromIndex, getLowerIndex(xLower) - 1);
+			toIndex = Math.min(seriesLength, getUpperIndex(xUpper) + 1);
+		}
+		for(int i = fromIndex; i < toIndex; i++) {
+			if(!isInSameGridAsPrevious(xSeries[i], ySeries[i])) {
+				addToBuffer(xSeries[i], ySeries[i], i);
+			}
+		}
+	}
+
+	/**
+	 * Adds the plots from the given index, which are in range and whose grid is
+	 * not occupied yet.
+	 * 
+	 * @param fromIndex
+	 *            the index of the first point
+	 * @param count
+	 *            true if counting the points per grid
+	 */
+	private void addOccupiedPlots(int fromIndex, boolean count) {
+
+		int toIndex = seriesLength;
+		if(isXMonotoneIncreasing) {
+			fromIndex = Math.max(fromIndex, getLowerIndex(xLower));
+			toIndex = getUpperIndex(xUpper);
+		}
+		int[] counts = count ? densityGrid.getCounts() : null;
+		for(int i = fromIndex; i < toIndex; i++) {
+			if(xSeries[i] >= xLower && xSeries[i] <= xUpper && ySeries[i] >= yLower && ySeries[i] <= yUpper) {
+				int gridIndex = getGridIndex(xSeries[i], ySeries[i]);
+				if(counts != null) {
+					counts[gridIndex]++;
+				}
+				if(!occupied[gridIndex]) {
+					occupied[gridIndex] = true;
+					addToBuffer(xSeries[i], ySeries[i], i);
+				}
+			}
+		}
+		if(counts != null) {
+			densityGrid.countsChanged();
+		}
+	}
+
+	/**
+	 * Counts the points per grid in chunks, which are counted concurrently
+	 * into separate grids and summed up afterwards. The grids of the chunks
+	 * are released afterwards. If the X series is sorted, the grid of a chunk
+	 * only covers the columns of its points. Otherwise, each chunk needs the
+	 * whole grid, hence the number of chunks is limited.
+	 * 
+	 * @return false if there are too few points to be split
+	 */
+	private boolean addParallelCounts() {
+
+		int fromIndex = firstIndex;
+		int toIndex = seriesLength;
+		if(isXMonotoneIncreasing) {
+			fromIndex = getLowerIndex(xLower);
+			toIndex = getUpperIndex(xUpper);
+		}
+		int[] counts = densityGrid.getCounts();
+		int chunks = Math.min(ForkJoinPool.getCommonPoolParallelism(), (toIndex - fromIndex) / PARALLEL_CHUNK_SIZE);
+		if(!isXMonotoneIncreasing) {
+			chunks = Math.min(chunks, MAX_PARALLEL_GRIDS / Math.max(1, counts.length));
+		}
+		if(chunks < 2) {
+			return false;
+		}
+		int[] bounds = new int[chunks + 1];
+		for(int i = 0; i <= chunks; i++) {
+			bounds[i] = fromIndex + (int)((long)(toIndex - fromIndex) * i / chunks);
+		}
+		int[][] chunkCounts = new int[chunks][];
+		int[] chunkOffsets = new int[chunks];
+		IntStream.range(0, chunks).parallel().forEach(i -> {
+			int lower = 0;
+			int upper = counts.length;
+			if(isXMonotoneIncreasing && bounds[i] < bounds[i + 1]) {
+				lower = getGridIndex(xSeries[bounds[i]], yLower) / gridHeight * gridHeight;
+				upper = (getGridIndex(xSeries[bounds[i + 1] - 1], yLower) / gridHeight + 1) * gridHeight;
+			}
+			int[] chunkCount = new int[upper - lower];
+			for(int j = bounds[i]; j < bounds[i + 1]; j++) {
+				if(xSeries[j] >= xLower && xSeries[j] <= xUpper && ySeries[j] >= yLower && ySeries[j] <= yUpper) {
+					chunkCount[getGridIndex(xSeries[j], ySeries[j]) - lower]++;
+				}
+			}
+			chunkCounts[i] = chunkCount;
+			chunkOffsets[i] = lower;
+		});
+		// sum up the chunks, split into ranges of grids
+		int step = (counts.length + chunks - 1) / chunks;
+		IntStream.range(0, chunks).parallel().forEach(i -> {
+			int lower = i * step;
+			int upper = Math.min(counts.length, lower + step);
+			for(int k = 0; k < chunkCounts.length; k++) {
+				int[] chunkCount = chunkCounts[k];
+				int offset = chunkOffsets[k];
+				int from = Math.max(lower, offset);
+				int to = Math.min(upper, offset + chunkCount.length);
+				for(int j = from; j < to; j++) {
+					counts[j] += chunkCount[j - offset];
+				}
+			}
+		});
+		densityGrid.countsChanged();
+		return true;
+	}
+
+	/**
+	 * Gets the index of the grid containing the given point.
 	 * 
 	 * @param x
 	 *            the X coordinate
 	 * @param y
 	 *            the Y coordinate
-	 * @return true if the grid is already occupied
+	 * @return the grid index
 	 */
-	private boolean isOccupied(double x, double y) {
+	private int getGridIndex(double x, double y) {
 
 		int xGridIndex;
 		int yGridIndex;
@@ -78,9 +242,10 @@ public class CompressScatterSeries extends Compress {
 		} else {
 			yGridIndex = (int)((y - config.getYLowerValue()) / (config.getYUpperValue() - config.getYLowerValue()) * config.getHeightInPixel());
 		}
-		boolean isOccupied = occupied[xGridIndex][yGridIndex];
-		occupied[xGridIndex][yGridIndex] = true;
-		return isOccupied;
+		// points on the upper bound belong to the last grid
+		xGridIndex = Math.min(Math.max(xGridIndex, 0), gridWidth - 1);
+		yGridIndex = Math.min(Math.max(yGridIndex, 0), gridHeight - 1);
+		return xGridIndex * gridHeight + yGridIndex;
 	}
 
 	/**
@@ -93,4 +258,29 @@ public class CompressScatterSeries extends Compress {
 
 		isLineVisible = visible;
 	}
+
+	/**
+	 * Sets the state indicating if the points per grid are counted. The points
+	 * are only counted if the line is not visible.
+	 * 
+	 * @param enabled
+	 *            true if counting the points per grid
+	 */
+	public void setDensityEnabled(boolean enabled) {
+
+		isDensityEnabled = enabled;
+	}
+
+	/**
+	 * Gets the number of points per grid of the last compression.
+	 * 
+	 * @return the density grid or null if the points haven't been counted
+	 */
+	public DensityGrid getDensityGrid() {
+
+		if(!isDensityEnabled || isLineVisible || !compressed) {
+			return null;
+		}
+		return densityGrid;
+	}
 }
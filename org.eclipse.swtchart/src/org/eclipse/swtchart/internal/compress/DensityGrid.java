@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.compress;
+
+import java.util.Arrays;
+
+import org.eclipse.swtchart.SeriesTransform;
+
+/**
+ * The number of points per grid of a compressed scatter series. The grid has
+ * the size and the ranges of the compress configuration and is reused between
+ * compressions. The ranges are in the coordinates of the source series, the
+ * values of the columns and rows are transformed like the compressed series.
+ */
+public class DensityGrid {
+
+	/** the number of grid columns */
+	private int width;
+	/** the number of grid rows */
+	private int height;
+	/** the number of points per grid, indexed by column * height + row */
+	private int[] counts = new int[0];
+	/** the lower value of x range */
+	private double xLower;
+	/** the upper value of x range */
+	private double xUpper;
+	/** the lower value of y range */
+	private double yLower;
+	/** the upper value of y range */
+	private double yUpper;
+	/** the state indicating if x axis is log scale */
+	private boolean isXLogScale;
+	/** the state indicating if y axis is log scale */
+	private boolean isYLogScale;
+	/** the transform of the series */
+	private SeriesTransform transform = SeriesTransform.IDENTITY;
+	/** the number of times the counts have been changed */
+	private int modificationCount;
+
+	/**
+	 * Clears the grid and adapts it to the given configuration.
+	 *
+	 * @param config
+	 *            the compress configuration
+	 * @param width
+	 *            the number of grid columns
+	 * @param height
+	 *            the number of grid rows
+	 * @param transform
+	 *            the transform of the series
+	 */
+	void reset(CompressConfig config, int width, int height, SeriesTransform transform) {
+
+		int size = width * height;
+		if(counts.length != size) {
+			counts = new int[size];
+		} else {
+			Arrays.fill(counts, 0);
+		}
+		this.width = width;
+		this.height = height;
+		xLower = config.getXLowerValue();
+		xUpper = config.getXUpperValue();
+		yLower = config.getYLowerValue();
+		yUpper = config.getYUpperValue();
+		isXLogScale = config.isXLogScale();
+		isYLogScale = config.isYLogScale();
+		this.transform = transform;
+		modificationCount++;
+	}
+
+	/**
+	 * Notifies that the counts have been changed.
+	 */
+	void countsChanged() {
+
+		modificationCount++;
+	}
+
+	/**
+	 * Gets the number of times the grid has been changed. The number changes
+	 * whenever the counts are changed, hence an image of the grid can be reused
+	 * as long as the number stays the same.
+	 *
+	 * @return the modification count
+	 */
+	public int getModificationCount() {
+
+		return modificationCount;
+	}
+
+	/**
+	 * Gets the counts without copying them. The count of the grid in the given
+	 * column and row is at index <tt>column * height + row</tt>.
+	 *
+	 * @return the counts
+	 */
+	int[] getCounts() {
+
+		return counts;
+	}
+
+	/**
+	 * Gets the number of grid columns.
+	 *
+	 * @return the number of grid columns
+	 */
+	public int getWidth() {
+
+		return width;
+	}
+
+	/**
+	 * Gets the number of grid rows.
+	 *
+	 * @return the number of grid rows
+	 */
+	public int getHeight() {
+
+		return height;
+	}
+
+	/**
+	 * Gets the number of points in the given grid.
+	 *
+	 * @param column
+	 *            the column, starting at the lower X value
+	 * @param row
+	 *            the row, starting at the lower Y value
+	 * @return the number of points
+	 */
+	public int getCount(int column, int row) {
+
+		return counts[column * height + row];
+	}
+
+	/**
+	 * Gets the X value at the center of the given column.
+	 *
+	 * @param column
+	 *            the column
+	 * @return the X value
+	 */
+	public double getX(int column) {
+
+		return transform.transformX(getValue(column, width, xLower, xUpper, isXLogScale));
+	}
+
+	/**
+	 * Gets the Y value at the center of the given row.
+	 *
+	 * @param row
+	 *            the row
+	 * @return the Y value
+	 */
+	public double getY(int row) {
+
+		return transform.transformY(getValue(row, height, yLower, yUpper, isYLogScale));
+	}
+
+	private static double getValue(int index, int length, double lower, double upper, boolean isLogScale) {
+
+		double ratio = (index + 0.5) / length;
+		if(isLogScale) {
+			double logLower = Math.log10(lower);
+			double logUpper = Math.log10(upper);
+			return Math.pow(10, logLower + ratio * (logUpper - logLower));
+		}
+		return lower + ratio * (upper - lower);
+	}
+}
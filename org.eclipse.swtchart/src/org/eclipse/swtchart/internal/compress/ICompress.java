@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.compress;
 
+import org.eclipse.swtchart.SeriesTransform;
+
 /**
  * A Compressor.
  */
@@ -38,6 +40,45 @@ public interface ICompress {
 	 */
 	public abstract int[] getCompressedIndexes();
 
+	/**
+	 * Gets the number of points in the compressed series.
+	 * <p>
+	 * Together with {@link #getCompressedX(int)}, {@link #getCompressedY(int)}
+	 * and {@link #getCompressedIndex(int)}, this gives read access to the
+	 * compressed series without copying it, e.g. for renderers which access
+	 * the compressed series on every paint.
+	 * 
+	 * @return the number of points in the compressed series
+	 */
+	public abstract int getCompressedLength();
+
+	/**
+	 * Gets the X value of the compressed series at the given position.
+	 * 
+	 * @param index
+	 *            the position in the compressed series
+	 * @return the X value
+	 */
+	public abstract double getCompressedX(int index);
+
+	/**
+	 * Gets the Y value of the compressed series at the given position.
+	 * 
+	 * @param index
+	 *            the position in the compressed series
+	 * @return the Y value
+	 */
+	public abstract double getCompressedY(int index);
+
+	/**
+	 * Gets the series index of the compressed series at the given position.
+	 * 
+	 * @param index
+	 *            the position in the compressed series
+	 * @return the series index
+	 */
+	public abstract int getCompressedIndex(int index);
+
 	/**
 	 * Sets X series which have to be sorted.
 	 * 
@@ -54,6 +95,43 @@ public interface ICompress {
 	 */
 	public abstract void setYSeries(double[] ySeries);
 
+	/**
+	 * Appends the given points to the X and Y series. If the series is
+	 * already compressed, only the appended points are compressed if possible.
+	 * 
+	 * @param xSeries
+	 *            the X series to append
+	 * @param ySeries
+	 *            the Y series to append
+	 */
+	public abstract void appendSeries(double[] xSeries, double[] ySeries);
+
+	/**
+	 * Removes the given number of points from the start of the X and Y series.
+	 * 
+	 * @param count
+	 *            the number of points to remove
+	 */
+	public abstract void trimSeries(int count);
+
+	/**
+	 * Sets the transform which is applied to the X and Y series. The series
+	 * are compressed in their own coordinates and the compressed series are
+	 * transformed when they are read, hence changing the transform doesn't
+	 * copy the series.
+	 * 
+	 * @param transform
+	 *            the transform
+	 */
+	public abstract void setTransform(SeriesTransform transform);
+
+	/**
+	 * Gets the transform which is applied to the X and Y series.
+	 * 
+	 * @return the transform
+	 */
+	public abstract SeriesTransform getTransform();
+
 	/**
 	 * Ignores the points which are in the same grid as the previous point.
 	 * 
@@ -62,4 +140,13 @@ public interface ICompress {
 	 * @return true if the compression succeeds
 	 */
 	public abstract boolean compress(CompressConfig config);
+
+	/**
+	 * Gets the modification count. It is incremented each time the compressed
+	 * series might have been changed apart from points being appended, so
+	 * that data derived from the compressed series can be cached.
+	 * 
+	 * @return the modification count
+	 */
+	public abstract int getModificationCount();
 }
\ No newline at end of file
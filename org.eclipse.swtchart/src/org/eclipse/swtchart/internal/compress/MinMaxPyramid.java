@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.compress;
+
+/**
+ * A multi-resolution index of the minimum and maximum values of a series.
+ * <p>
+ * Level 0 stores the indexes of the minimum and maximum value of each block
+ * of {@link #BLOCK_SIZE} values, each further level combines two blocks of
+ * the level below. The minimum and maximum of any index range can then be
+ * found in O(log n) instead of scanning the range.
+ */
+public class MinMaxPyramid {
+
+	/** the number of values covered by a block of level 0, as power of 2 */
+	private static final int BLOCK_SHIFT = 6;
+	/** the number of values covered by a block of level 0 */
+	static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+	/** the indexed values */
+	private double[] values;
+	/** the number of indexed values */
+	private int length;
+	/** the index of the minimum value of each block, per level */
+	private int[][] minIndexes = new int[0][];
+	/** the index of the maximum value of each block, per level */
+	private int[][] maxIndexes = new int[0][];
+
+	/**
+	 * Updates the index for the given values.
+	 * 
+	 * @param values
+	 *            the values, which might be larger than the given length
+	 * @param length
+	 *            the number of values
+	 * @param fromIndex
+	 *            the index of the first value which has changed, the values
+	 *            before must not have been changed
+	 */
+	public void update(double[] values, int length, int fromIndex) {
+
+		this.values = values;
+		this.length = length;
+		int levels = 0;
+		for(int blocks = length >> BLOCK_SHIFT; blocks > 0; blocks >>= 1) {
+			levels++;
+		}
+		if(minIndexes.length != levels) {
+			int[][] newMinIndexes = new int[levels][];
+			int[][] newMaxIndexes = new int[levels][];
+			System.arraycopy(minIndexes, 0, newMinIndexes, 0, Math.min(levels, minIndexes.length));
+			System.arraycopy(maxIndexes, 0, newMaxIndexes, 0, Math.min(levels, maxIndexes.length));
+			minIndexes = newMinIndexes;
+			maxIndexes = newMaxIndexes;
+		}
+		/*
+		 * Only complete blocks are indexed and only
+		 * the blocks from the changed one are updated.
+		 */
+		int fromBlock = fromIndex >> BLOCK_SHIFT;
+		for(int level = 0; level < levels; level++) {
+			int blocks = length >> (BLOCK_SHIFT + level);
+			int[] levelMinIndexes = ensureLength(minIndexes, level, blocks);
+			int[] levelMaxIndexes = ensureLength(maxIndexes, level, blocks);
+			for(int block = fromBlock; block < blocks; block++) {
+				if(level == 0) {
+					int start = block << BLOCK_SHIFT;
+					int min = start;
+					int max = start;
+					for(int i = start + 1; i < start + BLOCK_SIZE; i++) {
+						min = getMin(min, i);
+						max = getMax(max, i);
+					}
+					levelMinIndexes[block] = min;
+					levelMaxIndexes[block] = max;
+				} else {
+					int[] lowerMinIndexes = minIndexes[level - 1];
+					int[] lowerMaxIndexes = maxIndexes[level - 1];
+					levelMinIndexes[block] = getMin(lowerMinIndexes[2 * block], lowerMinIndexes[2 * block + 1]);
+					levelMaxIndexes[block] = getMax(lowerMaxIndexes[2 * block], lowerMaxIndexes[2 * block + 1]);
+				}
+			}
+			fromBlock >>= 1;
+		}
+	}
+
+	/**
+	 * Gets the index of the minimum value in the given range. If there are
+	 * several, the first one is returned.
+	 * 
+	 * @param fromIndex
+	 *            the first index
+	 * @param toIndex
+	 *            the index after the last index
+	 * @return the index of the minimum value
+	 */
+	public int getMinIndex(int fromIndex, int toIndex) {
+
+		return find(fromIndex, toIndex, true);
+	}
+
+	/**
+	 * Gets the index of the maximum value in the given range. If there are
+	 * several, the first one is returned.
+	 * 
+	 * @param fromIndex
+	 *            the first index
+	 * @param toIndex
+	 *            the index after the last index
+	 * @return the index of the maximum value
+	 */
+	public int getMaxIndex(int fromIndex, int toIndex) {
+
+		return find(fromIndex, toIndex, false);
+	}
+
+	/**
+	 * Gets the number of indexed values.
+	 * 
+	 * @return the number of values
+	 */
+	public int getLength() {
+
+		return length;
+	}
+
+	private int find(int fromIndex, int toIndex, boolean minimum) {
+
+		int result = fromIndex;
+		int i = fromIndex + 1;
+		while(i < toIndex) {
+			/*
+			 * Use the largest block which starts at the
+			 * current index and ends within the range.
+			 */
+			int level = -1;
+			if((i & (BLOCK_SIZE - 1)) == 0) {
+				while(level + 1 < minIndexes.length) {
+					int size = BLOCK_SIZE << (level + 1);
+					if((i & (size - 1)) != 0 || i + size > toIndex || i + size > length) {
+						break;
+					}
+					level++;
+				}
+			}
+			int candidate;
+			if(level < 0) {
+				candidate = i;
+				i++;
+			} else {
+				int block = i >> (BLOCK_SHIFT + level);
+				candidate = minimum ? minIndexes[level][block] : maxIndexes[level][block];
+				i += BLOCK_SIZE << level;
+			}
+			result = minimum ? getMin(result, candidate) : getMax(result, candidate);
+		}
+		return result;
+	}
+
+	private int getMin(int index, int other) {
+
+		return values[other] < values[index] ? other : index;
+	}
+
+	private int getMax(int index, int other) {
+
+		return values[other] > values[index] ? other : index;
+	}
+
+	private static int[] ensureLength(int[][] indexes, int level, int length) {
+
+		int[] levelIndexes = indexes[level];
+		if(levelIndexes == null || levelIndexes.length < length) {
+			int[] newIndexes = new int[Math.max(length, levelIndexes == null ? 0 : levelIndexes.length + (levelIndexes.length >> 1))];
+			if(levelIndexes != null) {
+				System.arraycopy(levelIndexes, 0, newIndexes, 0, levelIndexes.length);
+			}
+			indexes[level] = newIndexes;
+			levelIndexes = newIndexes;
+		}
+		return levelIndexes;
+	}
+}
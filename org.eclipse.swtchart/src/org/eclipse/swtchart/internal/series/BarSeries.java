@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.series;
 
+import java.util.function.IntToDoubleFunction;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.GC;
@@ -24,13 +26,13 @@ import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.IAxis.Direction;
 import org.eclipse.swtchart.IBarSeries;
+import org.eclipse.swtchart.IChangeTracker;
 import org.eclipse.swtchart.Range;
 import org.eclipse.swtchart.Resources;
 import org.eclipse.swtchart.internal.axis.Axis;
 import org.eclipse.swtchart.internal.compress.CompressBarSeries;
 import org.eclipse.swtchart.internal.compress.CompressScatterSeries;
 import org.eclipse.swtchart.model.CartesianSeriesModel;
-import org.eclipse.swtchart.model.DoubleArraySeriesModel;
 
 /**
  * Bar series.
@@ -90,6 +92,7 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	public void setBarWidthStyle(BarWidthStyle style) {
 
 		this.barWidthStyle = style;
+		markChanged(IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -105,6 +108,7 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		this.barWidth = width;
+		markChanged(IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -120,6 +124,7 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		this.padding = padding;
+		markChanged(IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -132,6 +137,7 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	public void setBarOverlay(boolean barOverlay) {
 
 		this.barOverlay = barOverlay;
+		markChanged(IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -154,6 +160,7 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 		} else {
 			this.barColor = color;
 		}
+		markChanged(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -163,12 +170,12 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 		if(((Axis)chart.getAxisSet().getXAxis(xAxisId)).isValidCategoryAxis()) {
 			return compressedBounds;
 		}
-		double[] xSeries = getXSeries();
-		Rectangle[] rs = new Rectangle[xSeries.length];
-		double[] comporessedXSeries = compressor.getCompressedXSeries();
+		IntToDoubleFunction xSeries = getXValueFunction();
+		Rectangle[] rs = new Rectangle[getSize()];
+		int compressedLength = compressor.getCompressedLength();
 		int cnt = 0;
-		for(int i = 0; i < xSeries.length; i++) {
-			if(cnt < comporessedXSeries.length && comporessedXSeries[cnt] == xSeries[i]) {
+		for(int i = 0; i < rs.length; i++) {
+			if(cnt < compressedLength && compressor.getCompressedX(cnt) == xSeries.applyAsDouble(i)) {
 				if(compressedBounds[cnt].width != 0 && compressedBounds[cnt].height != 0) {
 					rs[i] = compressedBounds[cnt];
 				}
@@ -187,24 +194,20 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 
 		Axis xAxis = (Axis)chart.getAxisSet().getXAxis(xAxisId);
 		Axis yAxis = (Axis)chart.getAxisSet().getYAxis(yAxisId);
-		// get x and y series
-		double[] xseries = compressor.getCompressedXSeries();
-		double[] yseries = compressor.getCompressedYSeries();
-		int[] indexes = compressor.getCompressedIndexes();
-		if(xAxis.isValidCategoryAxis()) {
-			for(int i = 0; i < xseries.length; i++) {
-				xseries[i] = indexes[i];
-			}
-		}
-		Rectangle[] rectangles = new Rectangle[xseries.length];
+		// access the compressed series without copying it
+		int length = compressor.getCompressedLength();
+		boolean isCategory = xAxis.isValidCategoryAxis();
+		IntToDoubleFunction xseries = i -> getCompressedX(i, isCategory);
+		Rectangle[] rectangles = new Rectangle[length];
 		Range xRange = xAxis.getRange();
 		Range yRange = yAxis.getRange();
-		for(int i = 0; i < xseries.length; i++) {
-			int x = xAxis.getPixelCoordinate(xseries[i]);
-			int y = yAxis.getPixelCoordinate(isValidStackSeries() ? stackSeries[indexes[i]] : yseries[i]);
+		for(int i = 0; i < length; i++) {
+			double yValue = compressor.getCompressedY(i);
+			int x = xAxis.getPixelCoordinate(xseries.applyAsDouble(i));
+			int y = yAxis.getPixelCoordinate(isValidStackSeries() ? stackSeries[compressor.getCompressedIndex(i)] : yValue);
 			double baseYCoordinate = yAxis.getRange().lower > 0 ? yAxis.getRange().lower : 0;
-			double riserwidth = getRiserWidth(xseries, i, xAxis, xRange.lower, xRange.upper);
-			double riserHeight = Math.abs(yAxis.getPixelCoordinate(yseries[i], yRange.lower, yRange.upper) - yAxis.getPixelCoordinate(yAxis.isLogScaleEnabled() ? yRange.lower : baseYCoordinate, yRange.lower, yRange.upper));
+			double riserwidth = getRiserWidth(xseries, length, i, xAxis, xRange.lower, xRange.upper);
+			double riserHeight = Math.abs(yAxis.getPixelCoordinate(yValue, yRange.lower, yRange.upper) - yAxis.getPixelCoordinate(yAxis.isLogScaleEnabled() ? yRange.lower : baseYCoordinate, yRange.lower, yRange.upper));
 			// adjust riser x coordinate and riser width for multiple series
 			int riserCnt = xAxis.getNumRisers();
 			if(riserCnt > 1 && !barOverlay) {
@@ -295,11 +298,9 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	protected void setCompressor() {
 
 		CartesianSeriesModel<T> dataModel = getDataModel();
-		if(dataModel instanceof DoubleArraySeriesModel) {
-			if(((DoubleArraySeriesModel)dataModel).isXMonotoneIncreasing()) {
-				compressor = new CompressBarSeries();
-				return;
-			}
+		if(dataModel != null && dataModel.isXMonotoneIncreasing()) {
+			compressor = new CompressBarSeries();
+			return;
 		}
 		compressor = new CompressScatterSeries();
 	}
@@ -312,10 +313,11 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 		int lowerPlotMargin;
 		int upperPlotMargin;
 		if(axis.getDirection() == Direction.X) {
-			double[] xSeries = getXSeries();
+			IntToDoubleFunction xSeries = getXValueFunction();
+			int size = getSize();
 			Range xRange = getXRange();
-			double lowerRiserWidth = getRiserWidth(xSeries, 0, axis, xRange.lower, xRange.upper);
-			double upperRiserWidth = getRiserWidth(xSeries, xSeries.length - 1, axis, xRange.lower, xRange.upper);
+			double lowerRiserWidth = getRiserWidth(xSeries, size, 0, axis, xRange.lower, xRange.upper);
+			double upperRiserWidth = getRiserWidth(xSeries, size, size - 1, axis, xRange.lower, xRange.upper);
 			lowerPlotMargin = (int)(lowerRiserWidth / 2d + MARGIN_AT_MIN_MAX_PLOT);
 			upperPlotMargin = (int)(upperRiserWidth / 2d + MARGIN_AT_MIN_MAX_PLOT);
 			range = getXRange();
@@ -338,6 +340,8 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	 *
 	 * @param series
 	 *            the X series
+	 * @param length
+	 *            the length of the X series
 	 * @param index
 	 *            the series index
 	 * @param xAxis
@@ -348,23 +352,23 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	 *            the max value of range
 	 * @return the raiser width in pixels
 	 */
-	private int getRiserWidth(double[] series, int index, Axis xAxis, double min, double max) {
+	private int getRiserWidth(IntToDoubleFunction series, int length, int index, Axis xAxis, double min, double max) {
 
-		if(series.length == 0) {
+		if(length == 0) {
 			return 1;
 		}
 		// get two x coordinates
 		double upper;
 		double lower;
-		if(series.length == 1) {
-			upper = series[0] + 0.5;
-			lower = series[0] - 0.5;
-		} else if(index != series.length - 1 && (index == 0 || series[index + 1] - series[index] < series[index] - series[index - 1])) {
-			upper = series[index + 1];
-			lower = series[index];
+		if(length == 1) {
+			upper = series.applyAsDouble(0) + 0.5;
+			lower = series.applyAsDouble(0) - 0.5;
+		} else if(index != length - 1 && (index == 0 || series.applyAsDouble(index + 1) - series.applyAsDouble(index) < series.applyAsDouble(index) - series.applyAsDouble(index - 1))) {
+			upper = series.applyAsDouble(index + 1);
+			lower = series.applyAsDouble(index);
 		} else {
-			upper = series[index];
-			lower = series[index - 1];
+			upper = series.applyAsDouble(index);
+			lower = series.applyAsDouble(index - 1);
 		}
 		if(barWidthStyle == BarWidthStyle.STRETCHED) {
 			// get riser width without padding
@@ -411,30 +415,29 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 		}
 		// draw label and error bars
 		if(seriesLabel.isVisible() || xErrorBar.isVisible() || yErrorBar.isVisible()) {
-			double[] xSeries = getXSeries();
-			double[] ySeries = getYSeries();
-			double[] yseries = compressor.getCompressedYSeries();
-			int[] indexes = compressor.getCompressedIndexes();
+			IntToDoubleFunction xSeries = getXValueFunction();
+			IntToDoubleFunction ySeries = getYValueFunction();
 			for(int i = 0; i < rs.length; i++) {
-				seriesLabel.draw(gc, rs[i].x + rs[i].width / 2, rs[i].y + rs[i].height / 2, yseries[i], indexes[i], SWT.CENTER);
+				int index = compressor.getCompressedIndex(i);
+				seriesLabel.draw(gc, rs[i].x + rs[i].width / 2, rs[i].y + rs[i].height / 2, compressor.getCompressedY(i), index, SWT.CENTER);
 				int h, v;
 				if(xAxis.isHorizontalAxis()) {
 					if(xAxis.isCategoryEnabled()) {
 						h = rs[i].x + rs[i].width / 2;
 					} else {
-						h = xAxis.getPixelCoordinate(xSeries[indexes[i]]);
+						h = xAxis.getPixelCoordinate(xSeries.applyAsDouble(index));
 					}
-					v = yAxis.getPixelCoordinate(ySeries[indexes[i]]);
+					v = yAxis.getPixelCoordinate(ySeries.applyAsDouble(index));
 				} else {
 					if(xAxis.isCategoryEnabled()) {
 						v = rs[i].y + rs[i].height / 2;
 					} else {
-						v = xAxis.getPixelCoordinate(xSeries[indexes[i]]);
+						v = xAxis.getPixelCoordinate(xSeries.applyAsDouble(index));
 					}
-					h = yAxis.getPixelCoordinate(ySeries[indexes[i]]);
+					h = yAxis.getPixelCoordinate(ySeries.applyAsDouble(index));
 				}
-				xErrorBar.draw(gc, h, v, xAxis, indexes[i]);
-				yErrorBar.draw(gc, h, v, yAxis, indexes[i]);
+				xErrorBar.draw(gc, h, v, xAxis, index);
+				yErrorBar.draw(gc, h, v, yAxis, index);
 			}
 		}
 	}
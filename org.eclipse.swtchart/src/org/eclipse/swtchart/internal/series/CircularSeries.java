@@ -41,6 +41,9 @@ public abstract class CircularSeries extends Series implements ICircularSeries {
 	private int borderWidthHighlight = 3;
 	private int borderStyleHighlight = SWT.LINE_SOLID;
 	//
+	private int aggregationThreshold = 1;
+	private Color aggregatedSliceColor = Display.getDefault().getSystemColor(SWT.COLOR_GRAY);
+	//
 	private Chart chart;
 	private NodeDataModel nodeDataModel;
 	private Node rootNode;
@@ -157,6 +160,30 @@ public abstract class CircularSeries extends Series implements ICircularSeries {
 		this.borderStyleHighlight = borderStyle;
 	}
 
+	@Override
+	public int getAggregationThreshold() {
+
+		return aggregationThreshold;
+	}
+
+	@Override
+	public void setAggregationThreshold(int aggregationThreshold) {
+
+		this.aggregationThreshold = Math.max(0, aggregationThreshold);
+	}
+
+	@Override
+	public Color getAggregatedSliceColor() {
+
+		return aggregatedSliceColor;
+	}
+
+	@Override
+	public void setAggregatedSliceColor(Color aggregatedSliceColor) {
+
+		this.aggregatedSliceColor = aggregatedSliceColor;
+	}
+
 	@Override
 	public Compress getCompressor() {
 
@@ -341,10 +368,12 @@ public abstract class CircularSeries extends Series implements ICircularSeries {
 			int xWidth = xAxis.getPixelCoordinate(level) - xStart;
 			int yWidth = yAxis.getPixelCoordinate(-level) - yStart;
 			//
-			int angleStart = highlightedNode.getAngleBounds().x;
-			int angleWidth = highlightedNode.getAngleBounds().y;
+			double angleStart = highlightedNode.getAngleStart();
+			double angleWidth = highlightedNode.getAngleWidth();
+			int arcStart = highlightedNode.getAngleBounds().x;
+			int arcWidth = highlightedNode.getAngleBounds().y;
 			// drawing the inner and outer arcs of the highlighted node.
-			gc.drawArc(xStart, yStart, xWidth, yWidth, angleStart, angleWidth);
+			gc.drawArc(xStart, yStart, xWidth, yWidth, arcStart, arcWidth);
 			if(highlightedNode == getRootPointer()) {
 				return;
 			}
@@ -353,7 +382,7 @@ public abstract class CircularSeries extends Series implements ICircularSeries {
 			int yParentStart = yAxis.getPixelCoordinate(level - 1);
 			int xParentWidth = xAxis.getPixelCoordinate(level - 1) - xParentStart;
 			int yParentWidth = yAxis.getPixelCoordinate(-level + 1) - yParentStart;
-			gc.drawArc(xParentStart, yParentStart, xParentWidth, yParentWidth, angleStart, angleWidth);
+			gc.drawArc(xParentStart, yParentStart, xParentWidth, yParentWidth, arcStart, arcWidth);
 			// the coordinates where the inner arc begins
 			double xParentStartCoordinate = (level - 1) * Math.cos(Math.toRadians(angleStart));
 			double yParentStartCoordinate = (level - 1) * Math.sin(Math.toRadians(angleStart));
@@ -385,6 +414,144 @@ public abstract class CircularSeries extends Series implements ICircularSeries {
 
 	protected abstract void drawNode(Node rootNode, GC gc, Axis xAxis, Axis yAxis);
 
+	/**
+	 * Draws the children of the node on the given level. Adjacent visible
+	 * children which are narrower than the aggregation threshold are drawn as
+	 * one slice, without their children. Hence, the number of slices drawn
+	 * depends on the size of the chart instead of the number of nodes.
+	 * 
+	 * @param node
+	 * @param level
+	 *            the level on which the children are drawn
+	 * @param gc
+	 * @param xAxis
+	 * @param yAxis
+	 */
+	protected void drawChildren(Node node, int level, GC gc, Axis xAxis, Axis yAxis) {
+
+		List<Node> children = node.getChildren();
+		if(children.isEmpty()) {
+			return;
+		}
+		// the width of one degree on the outer arc in pixels
+		double pixelsPerDegree = Math.toRadians(1) * Math.abs(xAxis.getPixelCoordinate(level) - xAxis.getPixelCoordinate(0));
+		double minAngleWidth = pixelsPerDegree > 0 ? aggregationThreshold / pixelsPerDegree : 0;
+		Node aggregatedNode = null;
+		double aggregatedWidth = 0;
+		int aggregatedNodes = 0;
+		for(Node child : children) {
+			if(child.isVisible() && child.getAngleWidth() < minAngleWidth) {
+				if(aggregatedNodes == 0) {
+					aggregatedNode = child;
+				}
+				aggregatedWidth = child.getAngleStart() + child.getAngleWidth() - aggregatedNode.getAngleStart();
+				aggregatedNodes++;
+			} else {
+				if(aggregatedNodes > 0) {
+					drawAggregatedSlice(aggregatedNode, aggregatedWidth, aggregatedNodes, level, gc, xAxis, yAxis);
+					aggregatedNodes = 0;
+				}
+				drawNode(child, gc, xAxis, yAxis);
+			}
+		}
+		//
+		if(aggregatedNodes > 0) {
+			drawAggregatedSlice(aggregatedNode, aggregatedWidth, aggregatedNodes, level, gc, xAxis, yAxis);
+		}
+	}
+
+	/**
+	 * Draws a slice with straight boundaries from the center. The arc is filled
+	 * with integer angles, which are rounded such that adjacent slices don't
+	 * overlap. The boundaries are drawn with the exact angles.
+	 * 
+	 * @param node
+	 * @param level
+	 * @param angleStart
+	 * @param angleWidth
+	 * @param color
+	 * @param gc
+	 * @param xAxis
+	 * @param yAxis
+	 */
+	protected void drawSlice(Node node, int level, double angleStart, double angleWidth, Color color, GC gc, Axis xAxis, Axis yAxis) {
+
+		/*
+		 * the center of the chart is (0,0). The x and y axis are set such that
+		 * a node at level = i, will be drawn starting from (-level,level), till (level,-level).
+		 */
+		int xStart = xAxis.getPixelCoordinate(-level);
+		int yStart = yAxis.getPixelCoordinate(level);
+		int xWidth = xAxis.getPixelCoordinate(level) - xStart;
+		int yWidth = yAxis.getPixelCoordinate(-level) - yStart;
+		int xZero = xAxis.getPixelCoordinate(0);
+		int yZero = yAxis.getPixelCoordinate(0);
+		int arcStart = (int)Math.round(angleStart);
+		int arcWidth = (int)Math.round(angleStart + angleWidth) - arcStart;
+		/*
+		 * Slice/Bounds
+		 */
+		gc.setBackground(color);
+		gc.fillArc(xStart, yStart, xWidth, yWidth, arcStart, arcWidth);
+		gc.drawArc(xStart, yStart, xWidth, yWidth, arcStart, arcWidth);
+		//
+		if(node == getRootPointer()) {
+			return;
+		}
+		/*
+		 * drawing the start boundary
+		 */
+		double xStartCoordinate = level * Math.cos(Math.toRadians(angleStart));
+		double yStartCoordinate = level * Math.sin(Math.toRadians(angleStart));
+		gc.drawLine(xZero, yZero, xAxis.getPixelCoordinate(xStartCoordinate), yAxis.getPixelCoordinate(yStartCoordinate));
+		/*
+		 * drawing the end boundary
+		 */
+		double xEndCoordinate = level * Math.cos(Math.toRadians(angleStart + angleWidth));
+		double yEndCoordinate = level * Math.sin(Math.toRadians(angleStart + angleWidth));
+		gc.drawLine(xZero, yZero, xAxis.getPixelCoordinate(xEndCoordinate), yAxis.getPixelCoordinate(yEndCoordinate));
+	}
+
+	/**
+	 * Returns the node of the list whose bounds contain the angle. The nodes of
+	 * a level are sorted by their start angle, hence they are searched binary.
+	 * 
+	 * @param nodes
+	 * @param angle
+	 *            the angle in degrees
+	 * @return the node or null
+	 */
+	protected Node findNode(List<Node> nodes, double angle) {
+
+		int low = 0;
+		int high = nodes.size() - 1;
+		Node node = null;
+		while(low <= high) {
+			int middle = (low + high) >>> 1;
+			Node nodeX = nodes.get(middle);
+			if(nodeX.getAngleStart() + nodeX.getAngleWidth() < angle) {
+				low = middle + 1;
+			} else {
+				if(nodeX.getAngleStart() <= angle) {
+					node = nodeX;
+				}
+				high = middle - 1;
+			}
+		}
+		//
+		return node;
+	}
+
+	/**
+	 * Draws the aggregated slice starting at the first node. A single node
+	 * keeps its color, but its children are not drawn either.
+	 */
+	private void drawAggregatedSlice(Node firstNode, double angleWidth, int nodes, int level, GC gc, Axis xAxis, Axis yAxis) {
+
+		Color color = nodes == 1 ? firstNode.getSliceColor() : aggregatedSliceColor;
+		drawSlice(firstNode, level, firstNode.getAngleStart(), angleWidth, color, gc, xAxis, yAxis);
+	}
+
 	@Override
 	protected void setCompressor() {
 
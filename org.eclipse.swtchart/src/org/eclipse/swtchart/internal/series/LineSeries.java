@@ -15,25 +15,36 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.series;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntToDoubleFunction;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.Path;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.IAxis.Direction;
+import org.eclipse.swtchart.IChangeTracker;
 import org.eclipse.swtchart.ILineSeries;
 import org.eclipse.swtchart.LineStyle;
 import org.eclipse.swtchart.Range;
+import org.eclipse.swtchart.Resources;
 import org.eclipse.swtchart.internal.axis.Axis;
+import org.eclipse.swtchart.internal.axis.PixelTransform;
 import org.eclipse.swtchart.internal.compress.CompressLineSeries;
 import org.eclipse.swtchart.internal.compress.CompressScatterSeries;
+import org.eclipse.swtchart.internal.compress.DensityGrid;
 import org.eclipse.swtchart.model.CartesianSeriesModel;
-import org.eclipse.swtchart.model.DoubleArraySeriesModel;
 
 public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 
@@ -47,6 +58,9 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	private boolean areaEnabled = false;
 	private boolean areaStrict = false;
 	private boolean stepEnabled = false;
+	private boolean levelOfDetailEnabled = false;
+	private boolean densityEnabled = false;
+	private Color[] densityColors = new Color[0];
 	private int antialias = DEFAULT_ANTIALIAS;
 	private String extendedSymbolType = "😂"; //$NON-NLS-1$
 	private static final int ALPHA = 50;
@@ -58,6 +72,52 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	private static final PlotSymbolType DEFAULT_SYMBOL_TYPE = PlotSymbolType.CIRCLE;
 	private static final int DEFAULT_ANTIALIAS = SWT.DEFAULT;
 	private static final int MARGIN_AT_MIN_MAX_PLOT = 6;
+	/** the default density colors from the lowest to the highest density */
+	private static final RGB[] DEFAULT_DENSITY_COLORS = {new RGB(68, 1, 84), new RGB(59, 82, 139), new RGB(33, 145, 140), new RGB(94, 201, 98), new RGB(253, 231, 37)};
+	/** the number of density colors */
+	private static final int DENSITY_LEVELS = 256;
+	/** the transform of the X values to pixel coordinates, reused between paints */
+	private final PixelTransform xTransform = new PixelTransform();
+	/** the transform of the Y values to pixel coordinates, reused between paints */
+	private final PixelTransform yTransform = new PixelTransform();
+	/** the pixel coordinates of the compressed series, reused between paints */
+	private int[] pixels = new int[0];
+	/** the indexes of the compressed points sorted by symbol color, reused between paints */
+	private int[] symbolOrder = new int[0];
+	/** the symbol color slot of each compressed point, reused between paints */
+	private int[] symbolSlots = new int[0];
+	/** the polyline drawn with line style, reused between paints */
+	private int[] polyline = new int[0];
+	/** the exact-length copy of the polyline passed to the graphics context, reused while its length is unchanged */
+	private int[] drawnPolyline = new int[0];
+	/** the points of a line segment and its area */
+	private final int[] linePoints = new int[8];
+	/** the polygon of the area of a line segment */
+	private final int[] areaPoints = new int[10];
+	/** the number of points per pixel of the density image, reused between paints */
+	private int[] densityPixels = new int[0];
+	/** the density image, reused as long as the grid and the pixel transforms are unchanged */
+	private Image densityImage;
+	/** the state indicating if the density image is up to date, a null image then means no points */
+	private boolean isDensityImageValid;
+	/** the device of the density image */
+	private Device densityImageDevice;
+	/** the grid of the density image */
+	private DensityGrid densityImageGrid;
+	/** the modification count of the grid of the density image */
+	private int densityImageModificationCount;
+	/** the width of the density image */
+	private int densityImageWidth;
+	/** the height of the density image */
+	private int densityImageHeight;
+	/** the state indicating if the density image was created for a horizontal X axis */
+	private boolean isDensityImageHorizontal;
+	/** the density colors of the density image */
+	private RGB[] densityImageStops;
+	/** the transform of the X values to pixel coordinates of the density image */
+	private final PixelTransform densityImageXTransform = new PixelTransform();
+	/** the transform of the Y values to pixel coordinates of the density image */
+	private final PixelTransform densityImageYTransform = new PixelTransform();
 
 	/**
 	 * Constructor.
@@ -82,13 +142,14 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	@Override
 	public void setLineStyle(LineStyle style) {
 
+		markChanged(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 		if(style == null) {
 			this.lineStyle = DEFAULT_LINE_STYLE;
 			return;
 		}
 		this.lineStyle = style;
 		if(compressor instanceof CompressScatterSeries compressScatterSeries) {
-			compressScatterSeries.setLineVisible(style != LineStyle.NONE);
+			compressScatterSeries.setLineVisible(style != LineStyle.NONE && !densityEnabled);
 		}
 	}
 
@@ -112,6 +173,7 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 		} else {
 			this.lineColor = color;
 		}
+		markChanged(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -128,6 +190,7 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 		} else {
 			this.lineWidth = width;
 		}
+		markChanged(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -144,6 +207,7 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 		} else {
 			this.symbolType = type;
 		}
+		markChanged(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -156,6 +220,7 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	public void setExtendedPlotSymbolType(String type) {
 
 		extendedSymbolType = type;
+		markChanged(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -172,6 +237,7 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 		} else {
 			this.symbolSize = size;
 		}
+		markChanged(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -191,6 +257,7 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 		} else {
 			this.symbolColor = color;
 		}
+		markChanged(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -204,6 +271,7 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	@Override
 	public void setSymbolColors(Color[] colors) {
 
+		markChanged(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 		if(colors == null) {
 			symbolColors = new Color[0];
 			return;
@@ -221,20 +289,21 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	protected void setCompressor() {
 
 		CartesianSeriesModel<T> dataModel = getDataModel();
-		if(dataModel instanceof DoubleArraySeriesModel doubleArraySeriesModel) {
-			if(doubleArraySeriesModel.isXMonotoneIncreasing()) {
-				compressor = new CompressLineSeries();
-				return;
-			}
+		if(dataModel != null && dataModel.isXMonotoneIncreasing() && !densityEnabled) {
+			compressor = new CompressLineSeries();
+			((CompressLineSeries)compressor).setLevelOfDetailEnabled(levelOfDetailEnabled);
+			return;
 		}
 		compressor = new CompressScatterSeries();
-		((CompressScatterSeries)compressor).setLineVisible(getLineStyle() != LineStyle.NONE);
+		((CompressScatterSeries)compressor).setLineVisible(getLineStyle() != LineStyle.NONE && !densityEnabled);
+		((CompressScatterSeries)compressor).setDensityEnabled(densityEnabled);
 	}
 
 	@Override
 	public void enableArea(boolean enabled) {
 
 		areaEnabled = enabled;
+		markChanged(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -253,12 +322,14 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	public void setAreaStrict(boolean areaStrict) {
 
 		this.areaStrict = areaStrict;
+		markChanged(IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
 	public void enableStep(boolean enabled) {
 
 		stepEnabled = enabled;
+		markChanged(IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -267,6 +338,73 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 		return stepEnabled;
 	}
 
+	@Override
+	public void enableLevelOfDetail(boolean enabled) {
+
+		levelOfDetailEnabled = enabled;
+		if(compressor instanceof CompressLineSeries compressLineSeries) {
+			compressLineSeries.setLevelOfDetailEnabled(enabled);
+		}
+	}
+
+	@Override
+	public boolean isLevelOfDetailEnabled() {
+
+		return levelOfDetailEnabled;
+	}
+
+	@Override
+	public void enableDensity(boolean enabled) {
+
+		if(densityEnabled == enabled) {
+			return;
+		}
+		densityEnabled = enabled;
+		if(!enabled) {
+			disposeDensityImage();
+		}
+		/*
+		 * Sorted series need the scatter compressor to count the points.
+		 */
+		setCompressor();
+		compressor.setXSeries(getSourceXValues());
+		compressor.setYSeries(getSourceYValues());
+		compressor.setTransform(getCompressorTransform());
+		((SeriesSet)chart.getSeriesSet()).compressAllSeries();
+		markChanged(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
+	}
+
+	@Override
+	public boolean isDensityEnabled() {
+
+		return densityEnabled;
+	}
+
+	@Override
+	public void setDensityColors(Color[] colors) {
+
+		if(colors == null) {
+			densityColors = new Color[0];
+		} else {
+			for(Color color : colors) {
+				if(color == null || color.isDisposed()) {
+					SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+				}
+			}
+			densityColors = new Color[colors.length];
+			System.arraycopy(colors, 0, densityColors, 0, colors.length);
+		}
+		markChanged(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
+	}
+
+	@Override
+	public Color[] getDensityColors() {
+
+		Color[] copiedDensityColors = new Color[densityColors.length];
+		System.arraycopy(densityColors, 0, copiedDensityColors, 0, densityColors.length);
+		return copiedDensityColors;
+	}
+
 	@Override
 	public Range getAdjustedRange(Axis axis, int length) {
 
@@ -294,56 +432,108 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		this.antialias = antialias;
+		markChanged(IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	/**
-	 * Gets the line points to draw line and area.
+	 * Gets the line points to draw line and area. The pixel transforms have to
+	 * be updated before.
 	 *
-	 * @param xseries
-	 *            the horizontal series
-	 * @param yseries
-	 *            the vertical series
-	 * @param indexes
-	 *            the series indexes
-	 * @param index
-	 *            the index of series
-	 * @param xAxis
-	 *            the X axis
+	 * @param x1
+	 *            the X value of the first point
+	 * @param y1
+	 *            the Y value of the first point
+	 * @param index1
+	 *            the series index of the first point
+	 * @param x2
+	 *            the X value of the second point
+	 * @param y2
+	 *            the Y value of the second point
+	 * @param index2
+	 *            the series index of the second point
 	 * @param yAxis
 	 *            the Y axis
-	 * @return the line points
+	 * @param isHorizontal
+	 *            true if orientation is horizontal
+	 * @param p
+	 *            the array to store the 8 line points
 	 */
-	private int[] getLinePoints(double[] xseries, double[] yseries, int[] indexes, int index, Axis xAxis, Axis yAxis) {
-
-		int x1 = xAxis.getPixelCoordinate(xseries[index]);
-		int x2 = xAxis.getPixelCoordinate(xseries[index + 1]);
-		int x3 = x2;
-		int x4 = x1;
-		int y1 = yAxis.getPixelCoordinate(yseries[index]);
-		int y2 = yAxis.getPixelCoordinate(yseries[index + 1]);
-		int y3, y4;
+	private void getLinePoints(double x1, double y1, int index1, double x2, double y2, int index2, Axis yAxis, boolean isHorizontal, int[] p) {
+
+		int px1 = xTransform.getPixelCoordinate(x1);
+		int px2 = xTransform.getPixelCoordinate(x2);
+		int px3 = px2;
+		int px4 = px1;
+		int py1 = yTransform.getPixelCoordinate(y1);
+		int py2 = yTransform.getPixelCoordinate(y2);
+		int py3, py4;
 		double baseYCoordinate = yAxis.getRange().lower > 0 ? yAxis.getRange().lower : 0;
 		if(yAxis.isLogScaleEnabled()) {
-			y3 = yAxis.getPixelCoordinate(yAxis.getRange().lower);
-			y4 = y3;
+			py3 = yTransform.getPixelCoordinate(yAxis.getRange().lower);
+			py4 = py3;
 		} else if(isValidStackSeries()) {
-			y1 = yAxis.getPixelCoordinate(stackSeries[indexes[index]]);
-			y2 = yAxis.getPixelCoordinate(stackSeries[indexes[index + 1]]);
-			y3 = yAxis.getPixelCoordinate(stackSeries[indexes[index + 1]]) + Math.abs(yAxis.getPixelCoordinate(yseries[index + 1]) - yAxis.getPixelCoordinate(0)) * (xAxis.isHorizontalAxis() ? 1 : -1);
-			y4 = yAxis.getPixelCoordinate(stackSeries[indexes[index]]) + Math.abs(yAxis.getPixelCoordinate(yseries[index]) - yAxis.getPixelCoordinate(0)) * (xAxis.isHorizontalAxis() ? 1 : -1);
+			int py0 = yTransform.getPixelCoordinate(0);
+			py3 = yTransform.getPixelCoordinate(stackSeries[index2]) + Math.abs(py2 - py0) * (isHorizontal ? 1 : -1);
+			py4 = yTransform.getPixelCoordinate(stackSeries[index1]) + Math.abs(py1 - py0) * (isHorizontal ? 1 : -1);
+			py1 = yTransform.getPixelCoordinate(stackSeries[index1]);
+			py2 = yTransform.getPixelCoordinate(stackSeries[index2]);
+		} else {
+			py3 = yTransform.getPixelCoordinate(baseYCoordinate);
+			py4 = py3;
+		}
+		if(isHorizontal) {
+			setPoints(p, px1, py1, px2, py2, px3, py3, px4, py4);
 		} else {
-			y3 = yAxis.getPixelCoordinate(baseYCoordinate);
-			y4 = y3;
+			setPoints(p, py1, px1, py2, px2, py3, px3, py4, px4);
+		}
+	}
+
+	private static void setPoints(int[] p, int p0, int p1, int p2, int p3, int p4, int p5, int p6, int p7) {
+
+		p[0] = p0;
+		p[1] = p1;
+		p[2] = p2;
+		p[3] = p3;
+		p[4] = p4;
+		p[5] = p5;
+		p[6] = p6;
+		p[7] = p7;
+	}
+
+	/**
+	 * Transforms the compressed series to pixel coordinates. The pixel
+	 * transforms have to be updated before. The returned buffer is reused
+	 * between paints, so that no garbage is produced.
+	 *
+	 * @param length
+	 *            the length of the compressed series
+	 * @param isCategory
+	 *            true if the x axis is a valid category axis
+	 * @return the X and Y pixel coordinate of each point, the buffer might be
+	 *         larger than needed
+	 */
+	private int[] getPixelCoordinates(int length, boolean isCategory) {
+
+		if(pixels.length < length * 2) {
+			pixels = new int[length * 2];
 		}
-		if(xAxis.isHorizontalAxis()) {
-			return new int[]{x1, y1, x2, y2, x3, y3, x4, y4};
+		for(int i = 0; i < length; i++) {
+			pixels[i * 2] = xTransform.getPixelCoordinate(getCompressedX(i, isCategory));
+			pixels[i * 2 + 1] = yTransform.getPixelCoordinate(compressor.getCompressedY(i));
 		}
-		return new int[]{y1, x1, y2, x2, y3, x3, y4, x4};
+		return pixels;
 	}
 
 	@Override
 	protected void draw(GC gc, int width, int height, Axis xAxis, Axis yAxis) {
 
+		if(densityEnabled && compressor instanceof CompressScatterSeries compressScatterSeries) {
+			DensityGrid densityGrid = compressScatterSeries.getDensityGrid();
+			if(densityGrid != null) {
+				drawDensity(gc, width, height, xAxis, yAxis, densityGrid);
+				return;
+			}
+		}
 		int oldAntialias = gc.getAntialias();
 		int oldLineWidth = gc.getLineWidth();
 		gc.setAntialias(antialias);
@@ -362,7 +552,7 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	}
 
 	/**
-	 * Draws the line and area.
+	 * Draws the number of points per pixel as an image.
 	 *
 	 * @param gc
 	 *            the graphics context
@@ -374,50 +564,290 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	 *            the x axis
 	 * @param yAxis
 	 *            the y axis
+	 * @param densityGrid
+	 *            the number of points per grid
 	 */
-	private void drawLineAndArea(GC gc, int width, int height, Axis xAxis, Axis yAxis) {
+	private void drawDensity(GC gc, int width, int height, Axis xAxis, Axis yAxis, DensityGrid densityGrid) {
 
-		// get x and y series
-		double[] xseries = compressor.getCompressedXSeries();
-		double[] yseries = compressor.getCompressedYSeries();
-		if(xseries.length == 0 || yseries.length == 0) {
+		if(width <= 0 || height <= 0) {
 			return;
 		}
-		//
-		int[] indexes = compressor.getCompressedIndexes();
-		if(xAxis.isValidCategoryAxis()) {
-			for(int i = 0; i < xseries.length; i++) {
-				xseries[i] = indexes[i];
+		boolean isHorizontal = xAxis.isHorizontalAxis();
+		xAxis.updatePixelTransform(xTransform);
+		yAxis.updatePixelTransform(yTransform);
+		RGB[] stops = getDensityStops();
+		Device device = gc.getDevice();
+		/*
+		 * The image is only created again if the counts or
+		 * the mapping of the values to pixels have changed.
+		 */
+		boolean isValid = isDensityImageValid && densityImageDevice == device //
+				&& densityImageGrid == densityGrid && densityImageModificationCount == densityGrid.getModificationCount() //
+				&& densityImageWidth == width && densityImageHeight == height && isDensityImageHorizontal == isHorizontal //
+				&& xTransform.equals(densityImageXTransform) && yTransform.equals(densityImageYTransform) //
+				&& Arrays.equals(stops, densityImageStops);
+		if(!isValid) {
+			disposeDensityImage();
+			ImageData imageData = createDensityImageData(width, height, isHorizontal, densityGrid, stops);
+			densityImage = imageData == null ? null : new Image(device, imageData);
+			isDensityImageValid = true;
+			densityImageDevice = device;
+			densityImageGrid = densityGrid;
+			densityImageModificationCount = densityGrid.getModificationCount();
+			densityImageWidth = width;
+			densityImageHeight = height;
+			isDensityImageHorizontal = isHorizontal;
+			densityImageStops = stops;
+			xAxis.updatePixelTransform(densityImageXTransform);
+			yAxis.updatePixelTransform(densityImageYTransform);
+		}
+		if(densityImage != null) {
+			gc.drawImage(densityImage, 0, 0);
+		}
+	}
+
+	/**
+	 * Creates the density image data, whose pixels are colored by the
+	 * logarithm of the number of points per pixel. The pixel transforms must
+	 * be updated before.
+	 *
+	 * @param width
+	 *            the width of the image
+	 * @param height
+	 *            the height of the image
+	 * @param isHorizontal
+	 *            true if the X axis is horizontal
+	 * @param densityGrid
+	 *            the number of points per grid
+	 * @param stops
+	 *            the density colors to interpolate
+	 * @return the image data, or null if there are no points to draw
+	 */
+	private ImageData createDensityImageData(int width, int height, boolean isHorizontal, DensityGrid densityGrid, RGB[] stops) {
+
+		int size = width * height;
+		if(densityPixels.length < size) {
+			densityPixels = new int[size];
+		} else {
+			Arrays.fill(densityPixels, 0, size, 0);
+		}
+		/*
+		 * The grid is finer than the pixels, hence the
+		 * counts of several grids are summed up per pixel.
+		 */
+		int columns = densityGrid.getWidth();
+		int rows = densityGrid.getHeight();
+		int[] rowPixels = new int[rows];
+		for(int row = 0; row < rows; row++) {
+			rowPixels[row] = yTransform.getPixelCoordinate(densityGrid.getY(row));
+		}
+		int max = 0;
+		for(int column = 0; column < columns; column++) {
+			int columnPixel = xTransform.getPixelCoordinate(densityGrid.getX(column));
+			for(int row = 0; row < rows; row++) {
+				int count = densityGrid.getCount(column, row);
+				if(count == 0) {
+					continue;
+				}
+				int h = isHorizontal ? columnPixel : rowPixels[row];
+				int v = isHorizontal ? rowPixels[row] : columnPixel;
+				if(h < 0 || h >= width || v < 0 || v >= height) {
+					continue;
+				}
+				int index = v * width + h;
+				int sum = densityPixels[index] + count;
+				densityPixels[index] = sum;
+				if(sum > max) {
+					max = sum;
+				}
+			}
+		}
+		if(max == 0) {
+			return null;
+		}
+		byte[] levels = new byte[DENSITY_LEVELS * 3];
+		for(int i = 0; i < DENSITY_LEVELS; i++) {
+			RGB rgb = getDensityRGB(stops, i / (double)(DENSITY_LEVELS - 1));
+			levels[i * 3] = (byte)rgb.red;
+			levels[i * 3 + 1] = (byte)rgb.green;
+			levels[i * 3 + 2] = (byte)rgb.blue;
+		}
+		/*
+		 * The pixels are written directly, with the red
+		 * byte first as defined by the palette masks.
+		 */
+		ImageData imageData = new ImageData(width, height, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+		byte[] data = imageData.data;
+		byte[] alphaData = new byte[size];
+		double logMax = Math.log1p(max);
+		for(int v = 0; v < height; v++) {
+			int lineOffset = v * imageData.bytesPerLine;
+			for(int h = 0; h < width; h++) {
+				int index = v * width + h;
+				int count = densityPixels[index];
+				if(count > 0) {
+					int level = (int)(Math.log1p(count) / logMax * (DENSITY_LEVELS - 1)) * 3;
+					int offset = lineOffset + h * 3;
+					data[offset] = levels[level];
+					data[offset + 1] = levels[level + 1];
+					data[offset + 2] = levels[level + 2];
+					alphaData[index] = (byte)0xFF;
+				}
+			}
+		}
+		imageData.alphaData = alphaData;
+		return imageData;
+	}
+
+	/**
+	 * Disposes the density image.
+	 */
+	private void disposeDensityImage() {
+
+		if(densityImage != null) {
+			densityImage.dispose();
+			densityImage = null;
+		}
+		isDensityImageValid = false;
+		densityImageGrid = null;
+		densityImageDevice = null;
+	}
+
+	@Override
+	protected void dispose() {
+
+		disposeDensityImage();
+		super.dispose();
+	}
+
+	/**
+	 * Draws the density colors as color bar, from the lowest density on the
+	 * left to the highest density on the right.
+	 *
+	 * @param gc
+	 *            the graphics context
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @param width
+	 *            the width
+	 * @param height
+	 *            the height
+	 */
+	public void drawDensityColorBar(GC gc, int x, int y, int width, int height) {
+
+		Color[] colors = densityColors;
+		if(colors.length == 0) {
+			colors = new Color[DEFAULT_DENSITY_COLORS.length];
+			for(int i = 0; i < colors.length; i++) {
+				colors[i] = Resources.getColor(DEFAULT_DENSITY_COLORS[i]);
+			}
+		}
+		Color oldForeground = gc.getForeground();
+		Color oldBackground = gc.getBackground();
+		if(colors.length == 1) {
+			gc.setBackground(colors[0]);
+			gc.fillRectangle(x, y, width, height);
+		} else {
+			int segments = colors.length - 1;
+			for(int i = 0; i < segments; i++) {
+				int left = x + width * i / segments;
+				int right = x + width * (i + 1) / segments;
+				gc.setForeground(colors[i]);
+				gc.setBackground(colors[i + 1]);
+				gc.fillGradientRectangle(left, y, right - left, height, false);
 			}
 		}
+		gc.setForeground(oldForeground);
+		gc.setBackground(oldBackground);
+	}
+
+	/**
+	 * Gets the density colors to interpolate.
+	 *
+	 * @return the density colors
+	 */
+	private RGB[] getDensityStops() {
+
+		if(densityColors.length == 0) {
+			return DEFAULT_DENSITY_COLORS;
+		}
+		RGB[] stops = new RGB[densityColors.length];
+		for(int i = 0; i < stops.length; i++) {
+			stops[i] = densityColors[i].getRGB();
+		}
+		return stops;
+	}
+
+	/**
+	 * Gets the interpolated density color.
+	 *
+	 * @param stops
+	 *            the density colors to interpolate
+	 * @param ratio
+	 *            the ratio between the lowest (0) and highest (1) density
+	 * @return the color
+	 */
+	private static RGB getDensityRGB(RGB[] stops, double ratio) {
+
+		if(stops.length == 1) {
+			return stops[0];
+		}
+		double position = ratio * (stops.length - 1);
+		int index = Math.min((int)position, stops.length - 2);
+		double fraction = position - index;
+		RGB lower = stops[index];
+		RGB upper = stops[index + 1];
+		return new RGB( //
+				(int)Math.round(lower.red + (upper.red - lower.red) * fraction), //
+				(int)Math.round(lower.green + (upper.green - lower.green) * fraction), //
+				(int)Math.round(lower.blue + (upper.blue - lower.blue) * fraction));
+	}
+
+	/**
+	 * Draws the line and area.
+	 *
+	 * @param gc
+	 *            the graphics context
+	 * @param width
+	 *            the width to draw series
+	 * @param height
+	 *            the height to draw series
+	 * @param xAxis
+	 *            the x axis
+	 * @param yAxis
+	 *            the y axis
+	 */
+	private void drawLineAndArea(GC gc, int width, int height, Axis xAxis, Axis yAxis) {
+
+		// access the compressed series without copying it
+		int compressedLength = compressor.getCompressedLength();
+		if(compressedLength == 0) {
+			return;
+		}
+		boolean isCategory = xAxis.isValidCategoryAxis();
 		//
 		gc.setLineStyle(lineStyle.value());
 		Color oldForeground = gc.getForeground();
 		gc.setForeground(getLineColor());
 		boolean isHorizontal = xAxis.isHorizontalAxis();
+		xAxis.updatePixelTransform(xTransform);
+		yAxis.updatePixelTransform(yTransform);
 		if(stepEnabled || areaEnabled || stackEnabled) {
 			/*
 			 * Area Strict
 			 * If true, the area is not drawn to the Y or X zero line.
 			 */
 			boolean useAreaStrict = isUseAreaStrict();
-			int length = xseries.length - 1;
+			int length = compressedLength - 1;
 			int numberValues = 4;
 			int[] points = useAreaStrict ? new int[length * numberValues] : null;
-			/*
-			 * Additionally get the first and last point array of the
-			 * full range. Otherwise, the polygon would only show
-			 * the min ranges of the selection, which leads to an
-			 * odd display if zoomed in.
-			 */
-			double[] x = getXSeries();
-			double[] y = getYSeries();
-			int[] idx = useAreaStrict ? IntStream.range(0, x.length - 1).toArray() : null;
-			int[] p0 = useAreaStrict ? getLinePoints(x, y, idx, 0, xAxis, yAxis) : null;
-			int[] pn = useAreaStrict ? getLinePoints(x, y, idx, idx.length - 1, xAxis, yAxis) : null;
+			int[] p = linePoints;
 			//
 			for(int i = 0; i < length; i++) {
-				int[] p = getLinePoints(xseries, yseries, indexes, i, xAxis, yAxis);
+				getLinePoints(getCompressedX(i, isCategory), compressor.getCompressedY(i), compressor.getCompressedIndex(i), //
+						getCompressedX(i + 1, isCategory), compressor.getCompressedY(i + 1), compressor.getCompressedIndex(i + 1), yAxis, isHorizontal, p);
 				/*
 				 * Draw Line
 				 */
@@ -457,18 +887,30 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 				 * even if zoomed in.
 				 */
 				if(points.length > 2) {
-					points[0] = p0[0];
-					points[1] = p0[1];
-					points[points.length - 2] = pn[2];
-					points[points.length - 1] = pn[3];
+					/*
+					 * Additionally get the first and last point array of the
+					 * full range. Otherwise, the polygon would only show
+					 * the min ranges of the selection, which leads to an
+					 * odd display if zoomed in.
+					 */
+					IntToDoubleFunction x = getXValueFunction();
+					IntToDoubleFunction y = getYValueFunction();
+					int n = getSize() - 1;
+					getLinePoints(x.applyAsDouble(0), y.applyAsDouble(0), 0, x.applyAsDouble(1), y.applyAsDouble(1), 1, yAxis, isHorizontal, p);
+					points[0] = p[0];
+					points[1] = p[1];
+					getLinePoints(x.applyAsDouble(n - 1), y.applyAsDouble(n - 1), n - 1, x.applyAsDouble(n), y.applyAsDouble(n), n, yAxis, isHorizontal, p);
+					points[points.length - 2] = p[2];
+					points[points.length - 1] = p[3];
 					drawAreaStrict(gc, points, isHorizontal);
 				}
 			}
 		} else {
+			int[] pixelCoordinates = getPixelCoordinates(compressedLength, isCategory);
 			if(lineStyle == LineStyle.SOLID) {
-				drawLine(gc, xAxis, yAxis, xseries, yseries, isHorizontal);
+				drawLine(gc, pixelCoordinates, compressedLength, isHorizontal);
 			} else if(lineStyle != LineStyle.NONE) {
-				drawLineWithStyle(gc, xAxis, yAxis, xseries, yseries, isHorizontal);
+				drawLineWithStyle(gc, pixelCoordinates, compressedLength, isHorizontal);
 			}
 		}
 		gc.setForeground(oldForeground);
@@ -487,21 +929,17 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	 * for solid line style until that bug is fixed and the workaround is
 	 * removed.
 	 */
-	private static void drawLine(GC gc, Axis xAxis, Axis yAxis, double[] xseries, double[] yseries, boolean isHorizontal) {
-
-		double xLower = xAxis.getRange().lower;
-		double xUpper = xAxis.getRange().upper;
-		double yLower = yAxis.getRange().lower;
-		double yUpper = yAxis.getRange().upper;
-		int prevX = xAxis.getPixelCoordinate(xseries[0], xLower, xUpper);
-		int prevY = yAxis.getPixelCoordinate(yseries[0], yLower, yUpper);
+	private void drawLine(GC gc, int[] pixelCoordinates, int length, boolean isHorizontal) {
+
+		int prevX = pixelCoordinates[0];
+		int prevY = pixelCoordinates[1];
 		boolean drawVerticalLine = false;
 		int verticalLineYLower = 0;
 		int verticalLineYUpper = 0;
-		for(int i = 0; i < xseries.length - 1; i++) {
-			int x = xAxis.getPixelCoordinate(xseries[i + 1], xLower, xUpper);
-			int y = yAxis.getPixelCoordinate(yseries[i + 1], yLower, yUpper);
-			if(x == prevX && i < xseries.length - 2) {
+		for(int i = 0; i < length - 1; i++) {
+			int x = pixelCoordinates[(i + 1) * 2];
+			int y = pixelCoordinates[(i + 1) * 2 + 1];
+			if(x == prevX && i < length - 2) {
 				if(drawVerticalLine) {
 					// extend vertical line
 					verticalLineYLower = Math.min(verticalLineYLower, y);
@@ -547,35 +985,31 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	 * 
 	 * @param gc
 	 *            the graphic context
-	 * @param xAxis
-	 *            the x axis
-	 * @param yAxis
-	 *            the y axis
-	 * @param xseries
-	 *            the x series
-	 * @param yseries
-	 *            the y series
+	 * @param pixelCoordinates
+	 *            the X and Y pixel coordinate of each point
+	 * @param length
+	 *            the length of the compressed series
 	 * @param isHorizontal
 	 *            true if orientation is horizontal
 	 */
-	private static void drawLineWithStyle(GC gc, Axis xAxis, Axis yAxis, double[] xseries, double[] yseries, boolean isHorizontal) {
-
-		double xLower = xAxis.getRange().lower;
-		double xUpper = xAxis.getRange().upper;
-		double yLower = yAxis.getRange().lower;
-		double yUpper = yAxis.getRange().upper;
-		List<Integer> pointList = new ArrayList<Integer>();
-		int prevX = xAxis.getPixelCoordinate(xseries[0], xLower, xUpper);
-		int prevY = yAxis.getPixelCoordinate(yseries[0], yLower, yUpper);
+	private void drawLineWithStyle(GC gc, int[] pixelCoordinates, int length, boolean isHorizontal) {
+
+		// each point adds at most 4 points to the polyline
+		if(polyline.length < (length - 1) * 8 + 2) {
+			polyline = new int[(length - 1) * 8 + 2];
+		}
+		int size = 0;
+		int prevX = pixelCoordinates[0];
+		int prevY = pixelCoordinates[1];
 		// add initial point
-		addPoint(pointList, prevX, prevY, isHorizontal);
+		size = addPoint(polyline, size, prevX, prevY, isHorizontal);
 		boolean drawVerticalLine = false;
 		int verticalLineYLower = 0;
 		int verticalLineYUpper = 0;
-		for(int i = 0; i < xseries.length - 1; i++) {
-			int x = xAxis.getPixelCoordinate(xseries[i + 1], xLower, xUpper);
-			int y = yAxis.getPixelCoordinate(yseries[i + 1], yLower, yUpper);
-			if(x == prevX && i < xseries.length - 2) {
+		for(int i = 0; i < length - 1; i++) {
+			int x = pixelCoordinates[(i + 1) * 2];
+			int y = pixelCoordinates[(i + 1) * 2 + 1];
+			if(x == prevX && i < length - 2) {
 				if(drawVerticalLine) {
 					// extend vertical line
 					verticalLineYLower = Math.min(verticalLineYLower, y);
@@ -589,36 +1023,42 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 			} else {
 				// add vertical line
 				if(drawVerticalLine) {
-					addPoint(pointList, prevX, verticalLineYLower, isHorizontal);
-					addPoint(pointList, prevX, verticalLineYUpper, isHorizontal);
-					addPoint(pointList, prevX, prevY, isHorizontal);
+					size = addPoint(polyline, size, prevX, verticalLineYLower, isHorizontal);
+					size = addPoint(polyline, size, prevX, verticalLineYUpper, isHorizontal);
+					size = addPoint(polyline, size, prevX, prevY, isHorizontal);
 				}
 				// add non-vertical line
-				addPoint(pointList, x, y, isHorizontal);
+				size = addPoint(polyline, size, x, y, isHorizontal);
 				drawVerticalLine = false;
 			}
 			prevX = x;
 			prevY = y;
 		}
-		int[] polyline = new int[pointList.size()];
-		for(int i = 0; i < polyline.length; i++) {
-			polyline[i] = pointList.get(i);
+		/*
+		 * The buffer may be larger than the polyline, which is usually much
+		 * shorter than the compressed series. The polyline is drawn at once,
+		 * so that the dashes continue across all segments.
+		 */
+		if(drawnPolyline.length != size) {
+			drawnPolyline = new int[size];
 		}
+		System.arraycopy(polyline, 0, drawnPolyline, 0, size);
 		boolean advanced = gc.getAdvanced();
 		gc.setAdvanced(true); // workaround
-		gc.drawPolyline(polyline);
+		gc.drawPolyline(drawnPolyline);
 		gc.setAdvanced(advanced);
 	}
 
-	private static void addPoint(List<Integer> pointList, int x, int y, boolean isHorizontal) {
+	private static int addPoint(int[] polyline, int size, int x, int y, boolean isHorizontal) {
 
 		if(isHorizontal) {
-			pointList.add(Integer.valueOf(x));
-			pointList.add(Integer.valueOf(y));
+			polyline[size] = x;
+			polyline[size + 1] = y;
 		} else {
-			pointList.add(Integer.valueOf(y));
-			pointList.add(Integer.valueOf(x));
+			polyline[size] = y;
+			polyline[size + 1] = x;
 		}
+		return size + 2;
 	}
 
 	/**
@@ -638,16 +1078,18 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 		Color oldBackground = gc.getBackground();
 		gc.setBackground(getLineColor());
 		//
-		int[] pointArray;
+		int[] pointArray = areaPoints;
 		if(stepEnabled) {
 			if(isHorizontal) {
-				pointArray = new int[]{p[0], p[1], p[2], p[1], p[4], p[7], p[6], p[7], p[0], p[1]};
+				setPoints(pointArray, p[0], p[1], p[2], p[1], p[4], p[7], p[6], p[7]);
 			} else {
-				pointArray = new int[]{p[0], p[1], p[0], p[3], p[6], p[5], p[6], p[7], p[0], p[1]};
+				setPoints(pointArray, p[0], p[1], p[0], p[3], p[6], p[5], p[6], p[7]);
 			}
 		} else {
-			pointArray = new int[]{p[0], p[1], p[2], p[3], p[4], p[5], p[6], p[7], p[0], p[1]};
+			setPoints(pointArray, p[0], p[1], p[2], p[3], p[4], p[5], p[6], p[7]);
 		}
+		pointArray[8] = p[0];
+		pointArray[9] = p[1];
 		//
 		gc.fillPolygon(pointArray);
 		gc.setAlpha(alpha);
@@ -681,41 +1123,225 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	 */
 	private void drawSymbolAndLabel(GC gc, int width, int height, Axis xAxis, Axis yAxis) {
 
-		// get x and y series
-		double[] xseries = compressor.getCompressedXSeries();
-		double[] yseries = compressor.getCompressedYSeries();
-		int[] indexes = compressor.getCompressedIndexes();
-		if(xAxis.isValidCategoryAxis()) {
-			boolean isValidStackSeries = isValidStackSeries();
-			for(int i = 0; i < xseries.length; i++) {
-				xseries[i] = indexes[i];
-				if(isValidStackSeries) {
-					yseries[i] = stackSeries[indexes[i]];
-				}
+		// access the compressed series without copying it
+		int length = compressor.getCompressedLength();
+		boolean isCategory = xAxis.isValidCategoryAxis();
+		boolean isValidStackSeries = isCategory && isValidStackSeries();
+		boolean isHorizontal = xAxis.isHorizontalAxis();
+		xAxis.updatePixelTransform(xTransform);
+		yAxis.updatePixelTransform(yTransform);
+		if(pixels.length < length * 2) {
+			pixels = new int[length * 2];
+		}
+		for(int i = 0; i < length; i++) {
+			int index = compressor.getCompressedIndex(i);
+			double xValue = isCategory ? index : compressor.getCompressedX(i);
+			double yValue = isValidStackSeries ? stackSeries[index] : compressor.getCompressedY(i);
+			int x = xTransform.getPixelCoordinate(xValue);
+			int y = yTransform.getPixelCoordinate(yValue);
+			pixels[i * 2] = isHorizontal ? x : y;
+			pixels[i * 2 + 1] = isHorizontal ? y : x;
+		}
+		// draw symbol
+		if(getSymbolType() != PlotSymbolType.NONE) {
+			drawSymbols(gc, pixels, length);
+		}
+		// draw label and error bars on top of the symbols
+		if(seriesLabel.isVisible() || xErrorBar.isVisible() || yErrorBar.isVisible()) {
+			for(int i = 0; i < length; i++) {
+				int index = compressor.getCompressedIndex(i);
+				double yValue = isValidStackSeries ? stackSeries[index] : compressor.getCompressedY(i);
+				int h = pixels[i * 2];
+				int v = pixels[i * 2 + 1];
+				seriesLabel.draw(gc, h, v, yValue, index, SWT.BOTTOM);
+				xErrorBar.draw(gc, h, v, xAxis, index);
+				yErrorBar.draw(gc, h, v, yAxis, index);
 			}
 		}
-		// draw symbol and label
-		for(int i = 0; i < xseries.length; i++) {
-			Color color;
-			if(symbolColors.length > indexes[i]) {
-				color = symbolColors[indexes[i]];
-			} else {
-				color = getSymbolColor();
+	}
+
+	/**
+	 * Draws the symbols of the compressed series. The points are grouped by
+	 * their symbol color, so that the GC state is set once per color, and the
+	 * symbols of each color are filled as a single path if advanced graphics
+	 * are available. Points at the same pixel as the previous point of the
+	 * same color are skipped.
+	 *
+	 * @param gc
+	 *            the graphics context
+	 * @param pixels
+	 *            the horizontal and vertical pixel coordinate of each point
+	 * @param length
+	 *            the length of the compressed series
+	 */
+	private void drawSymbols(GC gc, int[] pixels, int length) {
+
+		if(symbolOrder.length < length) {
+			symbolOrder = new int[length];
+		}
+		/*
+		 * Sort the points by their color, keeping the order
+		 * of the points with the same color (counting sort).
+		 */
+		Color[] colors;
+		int[] starts;
+		if(symbolColors.length == 0) {
+			colors = new Color[]{getSymbolColor()};
+			starts = new int[]{0, length};
+			for(int i = 0; i < length; i++) {
+				symbolOrder[i] = i;
 			}
-			int h, v;
-			if(xAxis.isHorizontalAxis()) {
-				h = xAxis.getPixelCoordinate(xseries[i]);
-				v = yAxis.getPixelCoordinate(yseries[i]);
-			} else {
-				v = xAxis.getPixelCoordinate(xseries[i]);
-				h = yAxis.getPixelCoordinate(yseries[i]);
+		} else {
+			Map<Color, Integer> slots = new HashMap<>();
+			if(symbolSlots.length < length) {
+				symbolSlots = new int[length];
+			}
+			for(int i = 0; i < length; i++) {
+				int index = compressor.getCompressedIndex(i);
+				Color color = symbolColors.length > index ? symbolColors[index] : getSymbolColor();
+				Integer slot = slots.get(color);
+				if(slot == null) {
+					slot = slots.size();
+					slots.put(color, slot);
+				}
+				symbolSlots[i] = slot;
+			}
+			colors = new Color[slots.size()];
+			for(Map.Entry<Color, Integer> entry : slots.entrySet()) {
+				colors[entry.getValue()] = entry.getKey();
+			}
+			starts = new int[colors.length + 1];
+			for(int i = 0; i < length; i++) {
+				starts[symbolSlots[i] + 1]++;
+			}
+			for(int i = 0; i < colors.length; i++) {
+				starts[i + 1] += starts[i];
+			}
+			int[] positions = starts.clone();
+			for(int i = 0; i < length; i++) {
+				symbolOrder[positions[symbolSlots[i]]++] = i;
+			}
+		}
+		//
+		int oldAntialias = gc.getAntialias();
+		Color oldForeground = gc.getForeground();
+		Color oldBackground = gc.getBackground();
+		int oldFillRule = gc.getFillRule();
+		boolean advanced = gc.getAdvanced();
+		gc.setAntialias(SWT.ON);
+		if(symbolType == PlotSymbolType.CROSS || symbolType == PlotSymbolType.PLUS) {
+			gc.setLineStyle(SWT.LINE_SOLID);
+		}
+		// the symbols of a path may overlap
+		gc.setFillRule(SWT.FILL_WINDING);
+		for(int i = 0; i < colors.length; i++) {
+			gc.setForeground(colors[i]);
+			gc.setBackground(colors[i]);
+			Path path = symbolType == PlotSymbolType.EMOJI ? null : createPath(gc);
+			int prevH = Integer.MIN_VALUE;
+			int prevV = Integer.MIN_VALUE;
+			for(int j = starts[i]; j < starts[i + 1]; j++) {
+				int h = pixels[symbolOrder[j] * 2];
+				int v = pixels[symbolOrder[j] * 2 + 1];
+				if(h == prevH && v == prevV) {
+					continue;
+				}
+				if(path == null) {
+					drawSymbol(gc, h, v);
+				} else {
+					addSymbol(path, h, v);
+				}
+				prevH = h;
+				prevV = v;
 			}
-			if(getSymbolType() != PlotSymbolType.NONE) {
-				drawSeriesSymbol(gc, h, v, color);
+			if(path != null) {
+				if(symbolType == PlotSymbolType.CROSS || symbolType == PlotSymbolType.PLUS) {
+					gc.drawPath(path);
+				} else {
+					gc.fillPath(path);
+				}
+				path.dispose();
 			}
-			seriesLabel.draw(gc, h, v, yseries[i], indexes[i], SWT.BOTTOM);
-			xErrorBar.draw(gc, h, v, xAxis, indexes[i]);
-			yErrorBar.draw(gc, h, v, yAxis, indexes[i]);
+		}
+		gc.setFillRule(oldFillRule);
+		gc.setAdvanced(advanced);
+		gc.setAntialias(oldAntialias);
+		gc.setBackground(oldBackground);
+		gc.setForeground(oldForeground);
+	}
+
+	/**
+	 * Creates a path to draw the symbols, if supported by the GC.
+	 *
+	 * @param gc
+	 *            the GC object
+	 * @return the path or null if advanced graphics are not available
+	 */
+	private static Path createPath(GC gc) {
+
+		try {
+			return new Path(gc.getDevice());
+		} catch(SWTException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Adds a symbol to the given path.
+	 *
+	 * @param path
+	 *            the path
+	 * @param h
+	 *            the horizontal coordinate of the symbol
+	 * @param v
+	 *            the vertical coordinate of the symbol
+	 */
+	private void addSymbol(Path path, int h, int v) {
+
+		switch(symbolType) {
+			case CIRCLE:
+				path.moveTo(h + symbolSize, v);
+				path.addArc(h - symbolSize, v - symbolSize, symbolSize * 2, symbolSize * 2, 0, 360);
+				path.close();
+				break;
+			case SQUARE:
+				path.addRectangle(h - symbolSize, v - symbolSize, symbolSize * 2, symbolSize * 2);
+				break;
+			case DIAMOND:
+				path.moveTo(h, v - symbolSize);
+				path.lineTo(h + symbolSize, v);
+				path.lineTo(h, v + symbolSize);
+				path.lineTo(h - symbolSize, v);
+				path.close();
+				break;
+			case TRIANGLE:
+				path.moveTo(h, v - symbolSize);
+				path.lineTo(h + symbolSize, v + symbolSize);
+				path.lineTo(h - symbolSize, v + symbolSize);
+				path.close();
+				break;
+			case INVERTED_TRIANGLE:
+				path.moveTo(h, v + symbolSize);
+				path.lineTo(h + symbolSize, v - symbolSize);
+				path.lineTo(h - symbolSize, v - symbolSize);
+				path.close();
+				break;
+			case CROSS:
+				path.moveTo(h - symbolSize, v - symbolSize);
+				path.lineTo(h + symbolSize, v + symbolSize);
+				path.moveTo(h - symbolSize, v + symbolSize);
+				path.lineTo(h + symbolSize, v - symbolSize);
+				break;
+			case PLUS:
+				path.moveTo(h, v - symbolSize);
+				path.lineTo(h, v + symbolSize);
+				path.moveTo(h - symbolSize, v);
+				path.lineTo(h + symbolSize, v);
+				break;
+			case EMOJI:
+			case NONE:
+			default:
+				break;
 		}
 	}
 
@@ -739,6 +1365,27 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 		gc.setForeground(color);
 		Color oldBackground = gc.getBackground();
 		gc.setBackground(color);
+		if(symbolType == PlotSymbolType.CROSS || symbolType == PlotSymbolType.PLUS) {
+			gc.setLineStyle(SWT.LINE_SOLID);
+		}
+		drawSymbol(gc, h, v);
+		gc.setAntialias(oldAntialias);
+		gc.setBackground(oldBackground);
+		gc.setForeground(oldForeground);
+	}
+
+	/**
+	 * Draws series symbol with the current colors of the GC.
+	 *
+	 * @param gc
+	 *            the GC object
+	 * @param h
+	 *            the horizontal coordinate to draw symbol
+	 * @param v
+	 *            the vertical coordinate to draw symbol
+	 */
+	private void drawSymbol(GC gc, int h, int v) {
+
 		switch(symbolType) {
 			case CIRCLE:
 				gc.fillOval(h - symbolSize, v - symbolSize, symbolSize * 2, symbolSize * 2);
@@ -759,12 +1406,10 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 				gc.fillPolygon(invertedTriangleArray);
 				break;
 			case CROSS:
-				gc.setLineStyle(SWT.LINE_SOLID);
 				gc.drawLine(h - symbolSize, v - symbolSize, h + symbolSize, v + symbolSize);
 				gc.drawLine(h - symbolSize, v + symbolSize, h + symbolSize, v - symbolSize);
 				break;
 			case PLUS:
-				gc.setLineStyle(SWT.LINE_SOLID);
 				gc.drawLine(h, v - symbolSize, h, v + symbolSize);
 				gc.drawLine(h - symbolSize, v, h + symbolSize, v);
 				break;
@@ -777,8 +1422,5 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 			default:
 				break;
 		}
-		gc.setAntialias(oldAntialias);
-		gc.setBackground(oldBackground);
-		gc.setForeground(oldForeground);
 	}
 }
\ No newline at end of file
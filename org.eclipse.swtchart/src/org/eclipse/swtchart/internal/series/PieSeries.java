@@ -40,54 +40,15 @@ public class PieSeries extends CircularSeries {
 	 */
 	protected void drawNode(Node node, GC gc, Axis xAxis, Axis yAxis) {
 
+		int level = node.getLevel() - getRootPointer().getLevel();
 		// children drawn first as parent overrides it's section of drawing
-		if(!node.getChildren().isEmpty()) {
-			for(Node nodes : node.getChildren()) {
-				drawNode(nodes, gc, xAxis, yAxis);
-			}
-		}
+		drawChildren(node, level + 1, gc, xAxis, yAxis);
 		//
 		if(node.isVisible() == false) {
 			return;
 		}
 		//
-		int level = node.getLevel() - getRootPointer().getLevel();
-		/*
-		 * the center of the chart is (0,0). The x and y axis are set such that
-		 * a node at level = i, will be drawn starting from (-level,level), till (level,-level).
-		 */
-		int xStart = xAxis.getPixelCoordinate(-level);
-		int yStart = yAxis.getPixelCoordinate(level);
-		int xWidth = xAxis.getPixelCoordinate(level) - xStart;
-		int yWidth = yAxis.getPixelCoordinate(-level) - yStart;
-		int xZero = xAxis.getPixelCoordinate(0);
-		int yZero = yAxis.getPixelCoordinate(0);
-		int angleStart = node.getAngleBounds().x;
-		int angleWidth = node.getAngleBounds().y;
-		gc.setBackground(node.getSliceColor());
-		/*
-		 * Slice/Bounds
-		 */
-		gc.fillArc(xStart, yStart, xWidth, yWidth, angleStart, angleWidth);
-		gc.drawArc(xStart, yStart, xWidth, yWidth, angleStart, angleWidth);
-		/*
-		 * drawing the start boundary
-		 */
-		double xStartCoordinate = level * Math.cos(Math.toRadians(angleStart));
-		double yStartCoordinate = level * Math.sin(Math.toRadians(angleStart));
-		int xStartPixelCoordinate = xAxis.getPixelCoordinate(xStartCoordinate);
-		int yStartPixelCoordinate = yAxis.getPixelCoordinate(yStartCoordinate);
-		//
-		gc.drawLine(xZero, yZero, xStartPixelCoordinate, yStartPixelCoordinate);
-		/*
-		 * drawing the end boundary
-		 */
-		double xEndCoordinate = level * Math.cos(Math.toRadians(angleStart + angleWidth));
-		double yEndCoordinate = level * Math.sin(Math.toRadians(angleStart + angleWidth));
-		int xEndPixelCoordinate = xAxis.getPixelCoordinate(xEndCoordinate);
-		int yEndPixelCoordinate = yAxis.getPixelCoordinate(yEndCoordinate);
-		//
-		gc.drawLine(xZero, yZero, xEndPixelCoordinate, yEndPixelCoordinate);
+		drawSlice(node, level, node.getAngleStart(), node.getAngleWidth(), node.getSliceColor(), gc, xAxis, yAxis);
 	}
 
 	/**
@@ -142,14 +103,7 @@ public class PieSeries extends CircularSeries {
 		}
 		//
 		if(level < getNodeDataModel().getNodes().length) {
-			for(Node nodeX : getNodeDataModel().getNodes()[level]) {
-				double lowerBound = (nodeX.getAngleBounds().x * Math.PI) / (double)180.0;
-				double upperBound = ((nodeX.getAngleBounds().x + nodeX.getAngleBounds().y) * Math.PI) / (double)180.0;
-				if((lowerBound <= angleOfInspection) && (upperBound >= angleOfInspection)) {
-					node = nodeX;
-					break;
-				}
-			}
+			node = findNode(getNodeDataModel().getNodes()[level], Math.toDegrees(angleOfInspection));
 		}
 		//
 		return node;
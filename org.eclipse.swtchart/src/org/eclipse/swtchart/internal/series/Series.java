@@ -17,26 +17,33 @@ import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.function.IntToDoubleFunction;
 import java.util.stream.StreamSupport;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.IAxis;
 import org.eclipse.swtchart.IAxis.Direction;
+import org.eclipse.swtchart.IChangeTracker;
 import org.eclipse.swtchart.IDisposeListener;
 import org.eclipse.swtchart.IErrorBar;
 import org.eclipse.swtchart.ISeries;
 import org.eclipse.swtchart.ISeriesLabel;
 import org.eclipse.swtchart.Range;
+import org.eclipse.swtchart.SeriesTransform;
+import org.eclipse.swtchart.internal.ChangeTracker;
 import org.eclipse.swtchart.internal.axis.Axis;
+import org.eclipse.swtchart.internal.axis.PixelTransform;
 import org.eclipse.swtchart.internal.compress.ICompress;
 import org.eclipse.swtchart.model.CartesianSeriesModel;
 import org.eclipse.swtchart.model.DateArraySeriesModel;
 import org.eclipse.swtchart.model.DoubleArraySeriesModel;
 import org.eclipse.swtchart.model.IndexedSeriesModel;
+import org.eclipse.swtchart.model.RingBufferSeriesModel;
 
 /**
  * Series.
@@ -45,6 +52,8 @@ abstract public class Series<T> implements ISeries<T> {
 
 	/** the default series type */
 	protected static final SeriesType DEFAULT_SERIES_TYPE = SeriesType.LINE;
+	/** the series returned if there is no data model */
+	private static final double[] EMPTY_SERIES = new double[0];
 	/** the minimum value of x series */
 	protected String id;
 	/** the compressor */
@@ -78,6 +87,28 @@ abstract public class Series<T> implements ISeries<T> {
 	/** the list of dispose listeners */
 	private List<IDisposeListener> listeners;
 	private CartesianSeriesModel<T> model;
+	/** the transform applied to the data model when the series is compressed and drawn */
+	private SeriesTransform transform = SeriesTransform.IDENTITY;
+	/** the transformed X values, created on demand */
+	private double[] transformedXValues;
+	/** the transformed Y values, created on demand */
+	private double[] transformedYValues;
+	/** the spatial index of the compressed series, built lazily */
+	private SpatialIndex spatialIndex;
+	/** the horizontal pixel transform the spatial index has been built with */
+	private PixelTransform indexedHTransform;
+	/** the vertical pixel transform the spatial index has been built with */
+	private PixelTransform indexedVTransform;
+	/** the compressor the spatial index has been built for */
+	private ICompress indexedCompressor;
+	/** the modification count of the compressor when the spatial index has been built */
+	private int indexedModificationCount;
+	/** the compressed length when the spatial index has been built */
+	private int indexedLength;
+	/** the stack series the spatial index has been built with */
+	private double[] indexedStackSeries;
+	/** the state indicating if the spatial index has been built for a category axis */
+	private boolean indexedCategory;
 
 	/**
 	 * Constructor.
@@ -120,6 +151,7 @@ abstract public class Series<T> implements ISeries<T> {
 		}
 		this.visible = visible;
 		((SeriesSet)chart.getSeriesSet()).updateStackAndRiserData();
+		markChanged(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -162,9 +194,62 @@ abstract public class Series<T> implements ISeries<T> {
 	public void setDataModel(CartesianSeriesModel<T> model) {
 
 		this.model = model;
+		clearTransformedValues();
 		setCompressor();
-		compressor.setXSeries(getXSeries());
-		compressor.setYSeries(getYSeries());
+		/*
+		 * The compressor copies the values, hence there is no need to copy them here.
+		 */
+		compressor.setXSeries(getSourceXValues());
+		compressor.setYSeries(getSourceYValues());
+		compressor.setTransform(getCompressorTransform());
+		checkRange();
+		markChanged(IChangeTracker.PLOT_AREA, IChangeTracker.DATA);
+	}
+
+	/**
+	 * Appends the given X and Y series. The data model is replaced by a
+	 * {@link RingBufferSeriesModel} on the first call, unless it is one
+	 * already. Further calls only copy and compress the appended data.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public void appendSeries(double[] xSeries, double[] ySeries) {
+
+		if(xSeries == null || ySeries == null) {
+			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+			return; // to suppress warning...
+		}
+		if(xSeries.length != ySeries.length) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		if(!(model instanceof RingBufferSeriesModel)) {
+			RingBufferSeriesModel ringBufferModel = new RingBufferSeriesModel();
+			ringBufferModel.append(getSourceXValues(), getSourceYValues());
+			setDataModel((CartesianSeriesModel<T>)ringBufferModel);
+		}
+		RingBufferSeriesModel ringBufferModel = (RingBufferSeriesModel)model;
+		boolean isXMonotoneIncreasing = ringBufferModel.isXMonotoneIncreasing();
+		int removed = ringBufferModel.append(xSeries, ySeries);
+		if(isXMonotoneIncreasing != ringBufferModel.isXMonotoneIncreasing()) {
+			/*
+			 * Another compressor is needed.
+			 */
+			setDataModel(model);
+			return;
+		}
+		clearTransformedValues();
+		compressor.appendSeries(xSeries, ySeries);
+		compressor.trimSeries(removed);
+		checkRange();
+		markChanged(IChangeTracker.PLOT_AREA, IChangeTracker.DATA);
+	}
+
+	/**
+	 * Disables the log scale of the axes and the stack, if the series contains
+	 * values which are not positive.
+	 */
+	private void checkRange() {
+
 		Range xRange = getXRange();
 		if(xRange.lower <= 0) {
 			IAxis axis = chart.getAxisSet().getXAxis(xAxisId);
@@ -185,8 +270,7 @@ abstract public class Series<T> implements ISeries<T> {
 	@Override
 	public void enableStack(boolean enabled) {
 
-		Number minY = getDataModel().getMinY();
-		if(enabled && (minY != null && minY.doubleValue() < 0)) {
+		if(enabled && getYRange().lower < 0) {
 			throw new IllegalStateException(Messages.getString(Messages.STACKED_SERIES_CANT_CONTAIN_NEGATIVE_VALUES));
 		}
 		if(stackEnabled == enabled) {
@@ -206,10 +290,11 @@ abstract public class Series<T> implements ISeries<T> {
 		}
 		double[] xSeries = new double[series.length];
 		System.arraycopy(series, 0, xSeries, 0, series.length);
-		double[] ySeries = getYSeries();
+		double[] ySeries = getSourceYValues();
 		if(ySeries.length != xSeries.length) {
 			ySeries = new double[xSeries.length];
 		}
+		transform = transform.withIdentityX();
 		DoubleArraySeriesModel arraySeriesModel = new DoubleArraySeriesModel(xSeries, ySeries);
 		setDataModel((CartesianSeriesModel<T>)arraySeriesModel);
 	}
@@ -218,10 +303,11 @@ abstract public class Series<T> implements ISeries<T> {
 	@Override
 	public void setXDateSeries(Date[] series) {
 
-		double[] ySeries = getYSeries();
+		double[] ySeries = getSourceYValues();
 		if(ySeries.length != series.length) {
 			ySeries = new double[series.length];
 		}
+		transform = transform.withIdentityX();
 		setDataModel((CartesianSeriesModel<T>)new DateArraySeriesModel(series, ySeries));
 	}
 
@@ -240,10 +326,11 @@ abstract public class Series<T> implements ISeries<T> {
 	@Override
 	public void setXLocalDateSeries(LocalDate[] series, ZoneOffset zoneOffset) {
 
-		double[] ySeries = getYSeries();
+		double[] ySeries = getSourceYValues();
 		if(ySeries.length != series.length) {
 			ySeries = new double[series.length];
 		}
+		transform = transform.withIdentityX();
 		setDataModel((CartesianSeriesModel<T>)new DateArraySeriesModel(series, ySeries, zoneOffset));
 	}
 
@@ -262,12 +349,89 @@ abstract public class Series<T> implements ISeries<T> {
 	@Override
 	public double[] getXSeries() {
 
+		return getXValues().clone();
+	}
+
+	/**
+	 * Gets the transformed X series without copying it, if the data model
+	 * supports it. If the X values are transformed, the transformed values are
+	 * kept until the data or the transform changes. The returned array must
+	 * not be modified.
+	 *
+	 * @return the X series
+	 */
+	public double[] getXValues() {
+
+		double[] values = getSourceXValues();
+		if(transform.isIdentityX()) {
+			return values;
+		}
+		if(transformedXValues == null) {
+			transformedXValues = transform.transformX(values, values.length);
+		}
+		return transformedXValues;
+	}
+
+	/**
+	 * Gets the number of data points without copying the series.
+	 *
+	 * @return the number of data points
+	 */
+	public int getSize() {
+
+		if(getDataModel() instanceof RingBufferSeriesModel ringBufferModel) {
+			return ringBufferModel.size();
+		}
+		return getSourceXValues().length;
+	}
+
+	/**
+	 * Gets the access to the transformed X values by index. Unlike
+	 * {@link #getXValues()}, the values of a streaming series are neither
+	 * copied nor transformed in advance.
+	 *
+	 * @return the X value of an index, see {@link #getSize()}
+	 */
+	public IntToDoubleFunction getXValueFunction() {
+
+		if(getDataModel() instanceof RingBufferSeriesModel ringBufferModel) {
+			SeriesTransform xTransform = transform;
+			return xTransform.isIdentityX() ? ringBufferModel::getXAt : i -> xTransform.transformX(ringBufferModel.getXAt(i));
+		}
+		double[] values = getXValues();
+		return i -> values[i];
+	}
+
+	/**
+	 * Gets the access to the transformed Y values by index. Unlike
+	 * {@link #getYValues()}, the values of a streaming series are neither
+	 * copied nor transformed in advance.
+	 *
+	 * @return the Y value of an index, see {@link #getSize()}
+	 */
+	public IntToDoubleFunction getYValueFunction() {
+
+		if(getDataModel() instanceof RingBufferSeriesModel ringBufferModel) {
+			SeriesTransform yTransform = transform;
+			return yTransform.isIdentityY() ? ringBufferModel::getYAt : i -> yTransform.transformY(ringBufferModel.getYAt(i));
+		}
+		double[] values = getYValues();
+		return i -> values[i];
+	}
+
+	/**
+	 * Gets the X series of the data model without copying it, if the data
+	 * model supports it. The returned array must not be modified.
+	 *
+	 * @return the X series before the transform
+	 */
+	protected double[] getSourceXValues() {
+
 		CartesianSeriesModel<T> dataModel = getDataModel();
 		if(dataModel == null) {
-			return new double[0];
+			return EMPTY_SERIES;
 		}
-		return StreamSupport.stream(dataModel.spliterator(), false).filter(t -> dataModel.getX(t) != null) //
-				.mapToDouble(value -> dataModel.getX(value).doubleValue()).toArray();
+		return dataModel.getXValues();
 	}
 
 	@SuppressWarnings("unchecked")
@@ -278,7 +442,7 @@ abstract public class Series<T> implements ISeries<T> {
 			SWT.error(SWT.ERROR_NULL_ARGUMENT);
 			return; // to suppress warning...
 		}
-		double[] xSeries = getXSeries();
+		double[] xSeries = getSourceXValues();
 		double[] ySeries = new double[series.length];
 		System.arraycopy(series, 0, ySeries, 0, series.length);
 		if(ySeries.length != xSeries.length) {
@@ -287,6 +451,7 @@ abstract public class Series<T> implements ISeries<T> {
 				xSeries[i] = i;
 			}
 		}
+		transform = transform.withIdentityY();
 		DoubleArraySeriesModel arraySeriesModel = new DoubleArraySeriesModel(xSeries, ySeries);
 		setDataModel((CartesianSeriesModel<T>)arraySeriesModel);
 	}
@@ -294,12 +459,95 @@ abstract public class Series<T> implements ISeries<T> {
 	@Override
 	public double[] getYSeries() {
 
+		return getYValues().clone();
+	}
+
+	/**
+	 * Gets the transformed Y series without copying it, if the data model
+	 * supports it. If the Y values are transformed, the transformed values are
+	 * kept until the data or the transform changes. The returned array must
+	 * not be modified.
+	 *
+	 * @return the Y series
+	 */
+	public double[] getYValues() {
+
+		double[] values = getSourceYValues();
+		if(transform.isIdentityY()) {
+			return values;
+		}
+		if(transformedYValues == null) {
+			transformedYValues = transform.transformY(values, values.length);
+		}
+		return transformedYValues;
+	}
+
+	/**
+	 * Gets the Y series of the data model without copying it, if the data
+	 * model supports it. The returned array must not be modified.
+	 *
+	 * @return the Y series before the transform
+	 */
+	protected double[] getSourceYValues() {
+
 		CartesianSeriesModel<T> dataModel = getDataModel();
 		if(dataModel == null) {
-			return new double[0];
+			return EMPTY_SERIES;
+		}
+		return dataModel.getYValues();
+	}
+
+	@Override
+	public SeriesTransform getTransform() {
+
+		return transform;
+	}
+
+	@Override
+	public void setTransform(SeriesTransform transform) {
+
+		if(transform == null) {
+			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+			return; // to suppress warning...
+		}
+		if(this.transform.equals(transform)) {
+			return;
+		}
+		/*
+		 * The data model isn't touched, the compressor applies
+		 * the transform to the compressed series.
+		 */
+		this.transform = transform;
+		clearTransformedValues();
+		if(compressor != null) {
+			compressor.setTransform(getCompressorTransform());
+		}
+		checkRange();
+		if(stackEnabled) {
+			((SeriesSet)chart.getSeriesSet()).updateStackAndRiserData();
+		}
+		markChanged(IChangeTracker.PLOT_AREA, IChangeTracker.DATA);
+	}
+
+	/**
+	 * Gets the transform applied by the compressor. The X series of a
+	 * category axis are the category indexes, which are not transformed.
+	 *
+	 * @return the transform
+	 */
+	protected SeriesTransform getCompressorTransform() {
+
+		IAxis xAxis = chart.getAxisSet().getXAxis(xAxisId);
+		if(xAxis instanceof Axis axis && axis.isValidCategoryAxis()) {
+			return transform.withIdentityX();
 		}
-		return StreamSupport.stream(dataModel.spliterator(), false).filter(t -> dataModel.getY(t) != null) //
-				.mapToDouble(value -> dataModel.getY(value).doubleValue()).toArray();
+		return transform;
+	}
+
+	private void clearTransformedValues() {
+
+		transformedXValues = null;
+		transformedYValues = null;
 	}
 
 	/**
@@ -329,7 +577,11 @@ abstract public class Series<T> implements ISeries<T> {
 			number = dataModel.getMaxX();
 			maxX = number == null ? 0 : number.doubleValue();
 		}
-		return new Range(minX, maxX);
+		/*
+		 * The extent of the data model is transformed, without
+		 * scanning the values.
+		 */
+		return transform.transformX(new Range(minX, maxX));
 	}
 
 	/**
@@ -360,6 +612,11 @@ abstract public class Series<T> implements ISeries<T> {
 			number = dataModel.getMaxY();
 			max = number == null ? 0 : number.doubleValue();
 		}
+		if(!transform.isIdentityY()) {
+			Range range = transform.transformY(new Range(min, max));
+			min = range.lower;
+			max = range.upper;
+		}
 		Axis xAxis = (Axis)chart.getAxisSet().getXAxis(xAxisId);
 		if(isValidStackSeries() && xAxis.isValidCategoryAxis()) {
 			for(int i = 0; i < stackSeries.length; i++) {
@@ -386,6 +643,22 @@ abstract public class Series<T> implements ISeries<T> {
 	 */
 	protected abstract void setCompressor();
 
+	/**
+	 * Gets the X value of the compressed series at the given position without
+	 * copying the compressed series.
+	 *
+	 * @param index
+	 *            the position in the compressed series
+	 * @param isCategory
+	 *            true if the X axis is a valid category axis, in which case the
+	 *            series index is used as X value
+	 * @return the X value
+	 */
+	protected double getCompressedX(int index, boolean isCategory) {
+
+		return isCategory ? compressor.getCompressedIndex(index) : compressor.getCompressedX(index);
+	}
+
 	@Override
 	public int getXAxisId() {
 
@@ -490,7 +763,7 @@ abstract public class Series<T> implements ISeries<T> {
 					if(index < 0 || indexedModel.size() <= index) {
 						throw new IllegalArgumentException("Series index is out of range."); //$NON-NLS-1$
 					}
-					dataCoordinate = dataModel.getX(indexedModel.itemAt(index)).doubleValue();
+					dataCoordinate = transform.transformX(dataModel.getX(indexedModel.itemAt(index)).doubleValue());
 				}
 			} else if(axis.getDirection() == Direction.Y) {
 				if(isValidStackSeries()) {
@@ -502,7 +775,7 @@ abstract public class Series<T> implements ISeries<T> {
 					if(index < 0 || indexedModel.size() <= index) {
 						throw new IllegalArgumentException("Series index is out of range."); //$NON-NLS-1$
 					}
-					dataCoordinate = dataModel.getY(indexedModel.itemAt(index)).doubleValue();
+					dataCoordinate = transform.transformY(dataModel.getY(indexedModel.itemAt(index)).doubleValue());
 				}
 			} else {
 				throw new IllegalStateException("unknown axis direction"); //$NON-NLS-1$
@@ -514,6 +787,78 @@ abstract public class Series<T> implements ISeries<T> {
 		}
 	}
 
+	@Override
+	public int getNearestIndex(int x, int y, int maxDistance) {
+
+		SpatialIndex index = getSpatialIndex();
+		return index == null ? -1 : index.getNearestIndex(x, y, maxDistance);
+	}
+
+	@Override
+	public int[] getIndexes(Rectangle rectangle) {
+
+		SpatialIndex index = getSpatialIndex();
+		return index == null ? new int[0] : index.getIndexes(rectangle);
+	}
+
+	/**
+	 * Gets the spatial index of the compressed series. The index is rebuilt
+	 * only if the compressed series, the stack series or the pixel transforms
+	 * have been changed since it has been built.
+	 *
+	 * @return the spatial index, or <tt>null</tt> if the axes don't exist
+	 */
+	private SpatialIndex getSpatialIndex() {
+
+		Axis xAxis = (Axis)chart.getAxisSet().getXAxis(xAxisId);
+		Axis yAxis = (Axis)chart.getAxisSet().getYAxis(yAxisId);
+		if(xAxis == null || yAxis == null || compressor == null) {
+			return null;
+		}
+		boolean isHorizontal = chart.getOrientation() == SWT.HORIZONTAL;
+		PixelTransform hTransform = new PixelTransform();
+		PixelTransform vTransform = new PixelTransform();
+		(isHorizontal ? xAxis : yAxis).updatePixelTransform(hTransform);
+		(isHorizontal ? yAxis : xAxis).updatePixelTransform(vTransform);
+		boolean isCategory = xAxis.isValidCategoryAxis();
+		// the same condition as when the series is drawn
+		double[] validStackSeries = isCategory && isValidStackSeries() ? stackSeries : null;
+		int length = compressor.getCompressedLength();
+		if(spatialIndex != null && compressor == indexedCompressor && compressor.getModificationCount() == indexedModificationCount //
+				&& length == indexedLength && validStackSeries == indexedStackSeries && isCategory == indexedCategory //
+				&& hTransform.equals(indexedHTransform) && vTransform.equals(indexedVTransform)) {
+			return spatialIndex;
+		}
+		/*
+		 * Transform the compressed series like it is drawn.
+		 */
+		int[] pixels = new int[length * 2];
+		int[] indexes = new int[length];
+		PixelTransform xTransform = isHorizontal ? hTransform : vTransform;
+		PixelTransform yTransform = isHorizontal ? vTransform : hTransform;
+		for(int i = 0; i < length; i++) {
+			int index = compressor.getCompressedIndex(i);
+			int x = xTransform.getPixelCoordinate(isCategory ? index : compressor.getCompressedX(i));
+			int y = yTransform.getPixelCoordinate(validStackSeries != null ? validStackSeries[index] : compressor.getCompressedY(i));
+			pixels[i * 2] = isHorizontal ? x : y;
+			pixels[i * 2 + 1] = isHorizontal ? y : x;
+			indexes[i] = index;
+		}
+		if(spatialIndex == null) {
+			spatialIndex = new SpatialIndex();
+		}
+		Point size = chart.getPlotArea().getSize();
+		spatialIndex.build(pixels, indexes, length, size.x, size.y);
+		indexedHTransform = hTransform;
+		indexedVTransform = vTransform;
+		indexedCompressor = compressor;
+		indexedModificationCount = compressor.getModificationCount();
+		indexedLength = length;
+		indexedStackSeries = validStackSeries;
+		indexedCategory = isCategory;
+		return spatialIndex;
+	}
+
 	/**
 	 * Gets the range with given margin.
 	 *
@@ -545,6 +890,7 @@ abstract public class Series<T> implements ISeries<T> {
 	public void setVisibleInLegend(boolean visible) {
 
 		visibleInLegend = visible;
+		markChanged(IChangeTracker.LEGEND, IChangeTracker.STYLE);
 	}
 
 	@Override
@@ -557,6 +903,7 @@ abstract public class Series<T> implements ISeries<T> {
 	public void setDescription(String description) {
 
 		this.description = description;
+		markChanged(IChangeTracker.LEGEND, IChangeTracker.TEXT);
 	}
 
 	@Override
@@ -565,6 +912,20 @@ abstract public class Series<T> implements ISeries<T> {
 		return description;
 	}
 
+	/**
+	 * Records a change of the series.
+	 * 
+	 * @param components
+	 *            the components showing the change, e.g.
+	 *            {@link IChangeTracker#PLOT_AREA}
+	 * @param changes
+	 *            the kinds of change
+	 */
+	protected void markChanged(int components, int changes) {
+
+		((ChangeTracker)chart.getChangeTracker()).markChanged(components, changes);
+	}
+
 	/**
 	 * Disposes SWT resources.
 	 */
@@ -19,6 +19,8 @@ import java.math.BigDecimal;
 import java.util.LinkedHashMap;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.DisposeEvent;
@@ -27,6 +29,7 @@ import org.eclipse.swt.graphics.Point;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.IAxis;
 import org.eclipse.swtchart.IAxis.Direction;
+import org.eclipse.swtchart.IChangeTracker;
 import org.eclipse.swtchart.ISeries;
 import org.eclipse.swtchart.ISeries.SeriesType;
 import org.eclipse.swtchart.ISeriesSet;
@@ -104,7 +107,7 @@ public class SeriesSet implements ISeriesSet {
 			updateStackAndRiserData();
 		}
 		// legend will be shown if there is previously no series.
-		chart.updateLayout();
+		chart.updateLayout(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.DATA);
 		return series;
 	}
 
@@ -138,7 +141,7 @@ public class SeriesSet implements ISeriesSet {
 		seriesMap.remove(trimmedId);
 		updateStackAndRiserData();
 		// legend will be hidden if this is the last series
-		chart.updateLayout();
+		chart.updateLayout(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.DATA);
 	}
 
 	@Override
@@ -163,7 +166,7 @@ public class SeriesSet implements ISeriesSet {
 		}
 		seriesMap = newSeriesMap;
 		updateStackAndRiserData();
-		chart.updateLayout();
+		chart.updateLayout(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.DATA);
 	}
 
 	@Override
@@ -174,7 +177,7 @@ public class SeriesSet implements ISeriesSet {
 		seriesMap.remove(trimmedId);
 		seriesMap.put(series.getId(), series);
 		updateStackAndRiserData();
-		chart.updateLayout();
+		chart.updateLayout(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.DATA);
 	}
 
 	@Override
@@ -195,7 +198,7 @@ public class SeriesSet implements ISeriesSet {
 		}
 		seriesMap = newSeriesMap;
 		updateStackAndRiserData();
-		chart.updateLayout();
+		chart.updateLayout(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.DATA);
 	}
 
 	@Override
@@ -211,7 +214,7 @@ public class SeriesSet implements ISeriesSet {
 		}
 		seriesMap = newSeriesMap;
 		updateStackAndRiserData();
-		chart.updateLayout();
+		chart.updateLayout(IChangeTracker.LEGEND | IChangeTracker.PLOT_AREA, IChangeTracker.DATA);
 	}
 
 	/**
@@ -244,7 +247,9 @@ public class SeriesSet implements ISeriesSet {
 	}
 
 	/**
-	 * Compresses all series data.
+	 * Compresses all series data. If enabled, the series are compressed in
+	 * parallel, see {@link Chart#enableParallelCompress(boolean)}, but the
+	 * method returns only when all series are compressed.
 	 */
 	public void compressAllSeries() {
 
@@ -253,13 +258,20 @@ public class SeriesSet implements ISeriesSet {
 		}
 		//
 		try {
-			CompressConfig config = new CompressConfig();
-			final int PRECISION = 2;
 			Point p = chart.getPlotArea().getSize();
-			int width = p.x * PRECISION;
-			int height = p.y * PRECISION;
-			config.setSizeInPixel(width, height);
-			for(ISeries<?> series : getSeries()) {
+			int width = p.x * CompressConfig.PRECISION;
+			int height = p.y * CompressConfig.PRECISION;
+			boolean parallel = chart.isParallelCompressEnabled();
+			/*
+			 * The configurations are collected on the UI thread, as they need
+			 * the axes, while the compression itself only works on the
+			 * arrays of the compressors.
+			 */
+			ISeries<?>[] allSeries = getSeries();
+			ICompress[] compressors = new ICompress[allSeries.length];
+			CompressConfig[] configs = new CompressConfig[allSeries.length];
+			int size = 0;
+			for(ISeries<?> series : allSeries) {
 				int xAxisId = series.getXAxisId();
 				int yAxisId = series.getYAxisId();
 				IAxis xAxis = chart.getAxisSet().getXAxis(xAxisId);
@@ -276,6 +288,10 @@ public class SeriesSet implements ISeriesSet {
 				double xMax = xRange.upper;
 				double yMin = yRange.lower;
 				double yMax = yRange.upper;
+				CompressConfig config = new CompressConfig();
+				config.setSizeInPixel(width, height);
+				config.setCompressMode(chart.getCompressMode());
+				config.setParallel(parallel);
 				config.setXLogScale(xAxis.isLogScaleEnabled());
 				config.setYLogScale(yAxis.isLogScaleEnabled());
 				double lower = xMin - (xMax - xMin) * 0.015;
@@ -290,8 +306,16 @@ public class SeriesSet implements ISeriesSet {
 					lower = ((Series<?>)series).getYRange().lower;
 				}
 				config.setYRange(lower, upper);
-				ICompress compressor = ((Series<?>)series).getCompressor();
-				compressor.compress(config);
+				compressors[size] = ((Series<?>)series).getCompressor();
+				configs[size] = config;
+				size++;
+			}
+			if(parallel && size > 1) {
+				IntStream.range(0, size).parallel().forEach(i -> compressors[i].compress(configs[i]));
+			} else {
+				for(int i = 0; i < size; i++) {
+					compressors[i].compress(configs[i]);
+				}
 			}
 		} catch(Exception e) {
 			e.printStackTrace();
@@ -326,9 +350,10 @@ public class SeriesSet implements ISeriesSet {
 					xSeries[i] = i;
 				}
 				compressor.setXSeries(xSeries);
-			} else if(((Series<?>)series).getXSeries() != null) {
-				compressor.setXSeries(((Series<?>)series).getXSeries());
+			} else {
+				compressor.setXSeries(((Series<?>)series).getSourceXValues());
 			}
+			compressor.setTransform(((Series<?>)series).getCompressorTransform());
 		}
 		compressAllSeries();
 	}
@@ -405,15 +430,16 @@ public class SeriesSet implements ISeriesSet {
 	 */
 	private static void setStackSeries(double[] stackSeries, ISeries<?> series) {
 
-		double[] ySeries = series.getYSeries();
-		if(ySeries == null || stackSeries == null) {
+		if(stackSeries == null) {
 			return;
 		}
+		IntToDoubleFunction ySeries = ((Series<?>)series).getYValueFunction();
+		int size = ((Series<?>)series).getSize();
 		for(int i = 0; i < stackSeries.length; i++) {
-			if(i >= ySeries.length) {
+			if(i >= size) {
 				break;
 			}
-			stackSeries[i] = BigDecimal.valueOf(stackSeries[i]).add(BigDecimal.valueOf(ySeries[i])).doubleValue();
+			stackSeries[i] = BigDecimal.valueOf(stackSeries[i]).add(BigDecimal.valueOf(ySeries.applyAsDouble(i))).doubleValue();
 		}
 		double[] copiedStackSeries = new double[stackSeries.length];
 		System.arraycopy(stackSeries, 0, copiedStackSeries, 0, stackSeries.length);
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.series;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * The spatial index of the points of a series in pixel coordinates. The plot
+ * area is divided into square buckets, and the points of each bucket are
+ * stored next to each other, so that a query only visits the points of the
+ * buckets overlapping the queried area. Points outside of the plot area are
+ * not indexed. The index is reused between builds.
+ */
+public class SpatialIndex {
+
+	/** the size of a bucket in pixels */
+	static final int BUCKET_SIZE = 16;
+	/** the number of bucket columns */
+	private int columns;
+	/** the number of bucket rows */
+	private int rows;
+	/** the position of the first point of each bucket, indexed by row * columns + column */
+	private int[] bucketStarts = new int[1];
+	/** the X pixel coordinates sorted by bucket */
+	private int[] xPixels = new int[0];
+	/** the Y pixel coordinates sorted by bucket */
+	private int[] yPixels = new int[0];
+	/** the series indexes sorted by bucket */
+	private int[] seriesIndexes = new int[0];
+	/** the number of indexed points */
+	private int size;
+
+	/**
+	 * Builds the index.
+	 *
+	 * @param pixels
+	 *            the X and Y pixel coordinate of each point
+	 * @param indexes
+	 *            the series index of each point
+	 * @param length
+	 *            the number of points
+	 * @param width
+	 *            the width of the plot area in pixels
+	 * @param height
+	 *            the height of the plot area in pixels
+	 */
+	public void build(int[] pixels, int[] indexes, int length, int width, int height) {
+
+		columns = Math.max(1, (width + BUCKET_SIZE - 1) / BUCKET_SIZE);
+		rows = Math.max(1, (height + BUCKET_SIZE - 1) / BUCKET_SIZE);
+		int buckets = columns * rows;
+		if(bucketStarts.length != buckets + 1) {
+			bucketStarts = new int[buckets + 1];
+		} else {
+			Arrays.fill(bucketStarts, 0);
+		}
+		/*
+		 * Count the points per bucket, then turn the counts into
+		 * the start positions and place the points.
+		 */
+		size = 0;
+		for(int i = 0; i < length; i++) {
+			int bucket = getBucket(pixels[i * 2], pixels[i * 2 + 1], width, height);
+			if(bucket >= 0) {
+				bucketStarts[bucket + 1]++;
+				size++;
+			}
+		}
+		for(int i = 0; i < buckets; i++) {
+			bucketStarts[i + 1] += bucketStarts[i];
+		}
+		if(xPixels.length < size) {
+			xPixels = new int[size];
+			yPixels = new int[size];
+			seriesIndexes = new int[size];
+		}
+		int[] positions = Arrays.copyOf(bucketStarts, buckets);
+		for(int i = 0; i < length; i++) {
+			int x = pixels[i * 2];
+			int y = pixels[i * 2 + 1];
+			int bucket = getBucket(x, y, width, height);
+			if(bucket >= 0) {
+				int position = positions[bucket]++;
+				xPixels[position] = x;
+				yPixels[position] = y;
+				seriesIndexes[position] = indexes[i];
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of indexed points.
+	 *
+	 * @return the number of indexed points
+	 */
+	public int size() {
+
+		return size;
+	}
+
+	/**
+	 * Gets the series index of the point nearest to the given pixel
+	 * coordinates. Only the points whose horizontal and vertical distance are
+	 * both not larger than the given maximum distance are taken into account.
+	 *
+	 * @param x
+	 *            the X pixel coordinate
+	 * @param y
+	 *            the Y pixel coordinate
+	 * @param maxDistance
+	 *            the maximum distance in pixels
+	 * @return the series index, or -1 if there is no point in the distance
+	 */
+	public int getNearestIndex(int x, int y, int maxDistance) {
+
+		int nearestIndex = -1;
+		long nearestDistance = Long.MAX_VALUE;
+		int firstColumn = Math.max(0, Math.floorDiv(x - maxDistance, BUCKET_SIZE));
+		int lastColumn = Math.min(columns - 1, Math.floorDiv(x + maxDistance, BUCKET_SIZE));
+		int firstRow = Math.max(0, Math.floorDiv(y - maxDistance, BUCKET_SIZE));
+		int lastRow = Math.min(rows - 1, Math.floorDiv(y + maxDistance, BUCKET_SIZE));
+		for(int row = firstRow; row <= lastRow; row++) {
+			for(int column = firstColumn; column <= lastColumn; column++) {
+				int bucket = row * columns + column;
+				for(int i = bucketStarts[bucket]; i < bucketStarts[bucket + 1]; i++) {
+					long dx = xPixels[i] - x;
+					long dy = yPixels[i] - y;
+					if(Math.abs(dx) > maxDistance || Math.abs(dy) > maxDistance) {
+						continue;
+					}
+					long distance = dx * dx + dy * dy;
+					if(distance < nearestDistance || (distance == nearestDistance && seriesIndexes[i] < nearestIndex)) {
+						nearestDistance = distance;
+						nearestIndex = seriesIndexes[i];
+					}
+				}
+			}
+		}
+		return nearestIndex;
+	}
+
+	/**
+	 * Gets the series indexes of the points in the given rectangle.
+	 *
+	 * @param rectangle
+	 *            the rectangle in pixel coordinates
+	 * @return the series indexes in increasing order
+	 */
+	public int[] getIndexes(Rectangle rectangle) {
+
+		if(rectangle.width <= 0 || rectangle.height <= 0) {
+			return new int[0];
+		}
+		int firstColumn = Math.max(0, Math.floorDiv(rectangle.x, BUCKET_SIZE));
+		int lastColumn = Math.min(columns - 1, Math.floorDiv(rectangle.x + rectangle.width - 1, BUCKET_SIZE));
+		int firstRow = Math.max(0, Math.floorDiv(rectangle.y, BUCKET_SIZE));
+		int lastRow = Math.min(rows - 1, Math.floorDiv(rectangle.y + rectangle.height - 1, BUCKET_SIZE));
+		int[] result = new int[16];
+		int count = 0;
+		for(int row = firstRow; row <= lastRow; row++) {
+			for(int column = firstColumn; column <= lastColumn; column++) {
+				int bucket = row * columns + column;
+				for(int i = bucketStarts[bucket]; i < bucketStarts[bucket + 1]; i++) {
+					if(rectangle.contains(xPixels[i], yPixels[i])) {
+						if(count == result.length) {
+							result = Arrays.copyOf(result, count * 2);
+						}
+						result[count++] = seriesIndexes[i];
+					}
+				}
+			}
+		}
+		result = Arrays.copyOf(result, count);
+		Arrays.sort(result);
+		return result;
+	}
+
+	private int getBucket(int x, int y, int width, int height) {
+
+		if(x < 0 || x >= width || y < 0 || y >= height) {
+			return -1;
+		}
+		return (y / BUCKET_SIZE) * columns + x / BUCKET_SIZE;
+	}
+}
@@ -48,6 +48,37 @@ public interface CartesianSeriesModel<T> extends SeriesModel<T> {
 	 */
 	Number getY(T data);
 
+	/**
+	 * 
+	 * @return true if the x values are sorted in increasing order, the default implementation returns false
+	 */
+	default boolean isXMonotoneIncreasing() {
+
+		return false;
+	}
+
+	/**
+	 * Returns the x values of all valid data items. The returned array must not be modified, as
+	 * implementations might return their internal array.
+	 * 
+	 * @return the x values, subclasses might provide more efficient implementation
+	 */
+	default double[] getXValues() {
+
+		return StreamSupport.stream(this.spliterator(), false).filter(v -> getX(v) != null).mapToDouble(v -> getX(v).doubleValue()).toArray();
+	}
+
+	/**
+	 * Returns the y values of all valid data items. The returned array must not be modified, as
+	 * implementations might return their internal array.
+	 * 
+	 * @return the y values, subclasses might provide more efficient implementation
+	 */
+	default double[] getYValues() {
+
+		return StreamSupport.stream(this.spliterator(), false).filter(v -> getY(v) != null).mapToDouble(v -> getY(v).doubleValue()).toArray();
+	}
+
 	/**
 	 * 
 	 * @return the minimum x value, subclasses might provide more efficient implementation
@@ -76,6 +76,7 @@ public class DoubleArraySeriesModel implements IndexedSeriesModel<Integer>, Cart
 		}
 	}
 
+	@Override
 	public boolean isXMonotoneIncreasing() {
 
 		return isXMonotoneIncreasing;
@@ -121,6 +122,18 @@ public class DoubleArraySeriesModel implements IndexedSeriesModel<Integer>, Cart
 		}
 	}
 
+	@Override
+	public double[] getXValues() {
+
+		return xdata;
+	}
+
+	@Override
+	public double[] getYValues() {
+
+		return ydata;
+	}
+
 	@Override
 	public Number getMaxX() {
 
@@ -47,6 +47,15 @@ public class Node {
 	private List<Node> children;
 	/** the angle extremities between which the Pie "slice" is drawn. */
 	private Point angleBounds;
+	/** the exact start and width of the slice in degrees */
+	private double angleStart;
+	private double angleWidth;
+	/** the sum of the values of the preceding siblings */
+	private double valueOffset;
+	/** the offset has been set by the layout of the parent */
+	private boolean laidOut;
+	/** the layout version of the data model the angles are valid for */
+	private int layoutVersion = -1;
 	/** this color is just the color constant from SWT */
 	private Color sliceColor;
 	private boolean isVisible;
@@ -55,6 +64,10 @@ public class Node {
 	private Node parent;
 	/** the depth of the tree starting from this node. The tree includes node also */
 	private int maxSubTreeDepth;
+	/** the sum of the children values */
+	private double childrenTotal;
+	/** the value of this node or a descendant has changed since the last layout */
+	private boolean layoutPending;
 	/** application defined data associated with the slice */
 	private Object data;
 
@@ -98,6 +111,7 @@ public class Node {
 		this.model = parent.model;
 		setSliceColor(Display.getDefault().getSystemColor(SWT.COLOR_RED));
 		model.getTree().put(id, this);
+		model.setStructureChanged();
 		this.getParent().getChildren().add(this);
 	}
 
@@ -134,14 +148,34 @@ public class Node {
 	/**
 	 * The angleBounds.x is the min angle boundary.
 	 * The angleBounds.y is the angular width the node will occupy.
+	 * Both are rounded such that the bounds of the siblings don't overlap.
 	 * 
 	 * @return angleBounds of the node
 	 */
 	public Point getAngleBounds() {
 
+		updateAngles();
 		return angleBounds;
 	}
 
+	/**
+	 * @return the exact min angle boundary in degrees
+	 */
+	public double getAngleStart() {
+
+		updateAngles();
+		return angleStart;
+	}
+
+	/**
+	 * @return the exact angular width in degrees
+	 */
+	public double getAngleWidth() {
+
+		updateAngles();
+		return angleWidth;
+	}
+
 	/**
 	 * @return List of children nodes.
 	 */
@@ -210,8 +244,9 @@ public class Node {
 
 	public void setValue(double value) {
 
+		double oldValue = this.value;
 		this.value = value;
-		update();
+		model.updateValue(this, oldValue);
 	}
 
 	public void setId(String label) {
@@ -222,6 +257,19 @@ public class Node {
 	public void setAngleBounds(Point point) {
 
 		this.angleBounds = point;
+		this.angleStart = point.x;
+		this.angleWidth = point.y;
+	}
+
+	/**
+	 * Sets the exact angular bounds in degrees.
+	 * 
+	 * @param angleStart
+	 * @param angleWidth
+	 */
+	public void setAngleBounds(double angleStart, double angleWidth) {
+
+		setAngles(angleStart, angleStart + angleWidth);
 	}
 
 	public void changeParent(Node parent) {
@@ -318,6 +366,7 @@ public class Node {
 		// first go to leaves, then come towards the rootNode.
 		if(this.children.isEmpty()) {
 			maxSubTreeDepth = 1;
+			childrenTotal = 0;
 			if(this.value <= 0) {
 				// throw error
 			}
@@ -330,53 +379,131 @@ public class Node {
 			total += node.value;
 			maxSubTreeDepth = Math.max(maxSubTreeDepth, node.maxSubTreeDepth + 1);
 		}
+		childrenTotal = total;
 		// updating only if children cannot be drawn.
 		if(total > this.value) {
 			this.value = total;
 		}
 	}
 
+	/**
+	 * Propagates the changed value of this node to the ancestors, like
+	 * updateValues() but only along the path to the root. The nodes whose value
+	 * has changed are marked to be laid out again.
+	 * 
+	 * @param oldValue
+	 * @return the highest node whose value has changed
+	 */
+	Node propagateValue(double oldValue) {
+
+		if(!children.isEmpty() && childrenTotal > value) {
+			value = childrenTotal;
+		}
+		layoutPending = true;
+		Node node = this;
+		double delta = value - oldValue;
+		while(delta != 0 && node.parent != null && node.parent != node) {
+			Node parentNode = node.parent;
+			double parentValue = parentNode.value;
+			parentNode.childrenTotal += delta;
+			if(parentNode.childrenTotal > parentNode.value) {
+				parentNode.value = parentNode.childrenTotal;
+			}
+			delta = parentNode.value - parentValue;
+			if(delta != 0) {
+				parentNode.layoutPending = true;
+				node = parentNode;
+			}
+		}
+		return node;
+	}
+
 	/**
 	 * It is to be called after every method that introduces a change in the node.
 	 * This function is called after calling updateValues() method.
-	 * It sets the lower angular extremity and width of a pie "slice".
-	 * Each node's angular bounds are of the form of a Point.
-	 * Point.x is minimum, Point.y is width
+	 * It lays out the children, which derive the lower angular extremity and
+	 * width of their pie "slice" from it. The angles are exact, hence the
+	 * children never cover more than the parent, even if there are thousands
+	 * of them. Slices too narrow to be seen are aggregated when the chart is
+	 * drawn.
 	 */
 	public void updateAngularBounds() {
 
+		updateAngularBounds(true);
+	}
+
+	/**
+	 * Sets the offsets of the children within this node. If the nodes are not
+	 * collected per level, only the subtrees whose values have changed are
+	 * laid out again.
+	 * 
+	 * @param collectLevels
+	 *            add the nodes to the level lists of the data model
+	 */
+	void updateAngularBounds(boolean collectLevels) {
+
+		layoutPending = false;
 		Iterable<Node> nodes = children;
 		if(nodes == null)
 			return;
 		//
-		int start = angleBounds.x;
-		double diff = 0, required = 0;
+		double offset = 0;
 		for(Node node : nodes) {
-			// calculates the angle covered
-			int angleCovered = (int)((node.getValue() * angleBounds.y) / this.getValue());
-			// ensures that no non zero node value goes without being drawn
-			if(angleCovered == 0 && node.getValue() != 0) {
-				angleCovered = 1;
-				required -= 1.0;
-			} else {
-				diff = ((node.getValue() * angleBounds.y) / this.value) - angleCovered;
-				required += diff;
-				// so that errors in double value calculations do not lead
-				// to less than 360 degree total angle.
-				if(required > 0.999) {
-					required -= 1.0;
-					angleCovered++;
-				}
-			}
-			node.setAngleBounds(new Point(start, angleCovered));
-			model.getNodes()[node.getLevel() - model.getRootPointer().getLevel()].add(node);
+			node.valueOffset = offset;
+			node.laidOut = true;
+			model.countLayout();
 			// the DFS call to children after this node data is set.
-			node.updateAngularBounds();
+			if(collectLevels) {
+				model.getNodes()[node.getLevel() - model.getRootPointer().getLevel()].add(node);
+				node.updateAngularBounds(true);
+			} else if(node.layoutPending) {
+				node.updateAngularBounds(false);
+			}
 			// updating for the next child node.
-			start += angleCovered;
+			offset += node.getValue();
 		}
 	}
 
+	/**
+	 * The angles are derived from the angles of the parent when they are
+	 * requested. Hence, a changed value doesn't require to lay out the
+	 * subtrees of the siblings again.
+	 */
+	private void updateAngles() {
+
+		int modelVersion = model.getLayoutVersion();
+		if(layoutVersion == modelVersion) {
+			return;
+		}
+		layoutVersion = modelVersion;
+		if(!laidOut || parent == null || parent == this || this == model.getRootPointer()) {
+			return;
+		}
+		//
+		parent.updateAngles();
+		if(parent.angleBounds == null) {
+			return;
+		}
+		double scale = parent.value > 0 ? parent.angleWidth / parent.value : 0;
+		double start = parent.angleStart + valueOffset * scale;
+		double end = parent.angleStart + (valueOffset + value) * scale;
+		if(angleBounds == null || start != angleStart || end - start != angleWidth) {
+			setAngles(start, end);
+		}
+	}
+
+	/**
+	 * The end is the start of the next sibling, hence the rounded bounds of
+	 * the siblings neither overlap nor leave gaps.
+	 */
+	private void setAngles(double start, double end) {
+
+		int roundedStart = (int)Math.round(start);
+		this.angleBounds = new Point(roundedStart, (int)Math.round(end) - roundedStart);
+		this.angleStart = start;
+		this.angleWidth = end - start;
+	}
+
 	public void update() {
 
 		model.update();
@@ -14,8 +14,11 @@
 package org.eclipse.swtchart.model;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Point;
@@ -41,6 +44,16 @@ public class NodeDataModel {
 	/** stores nodes in order of the levels they are in. */
 	private List<Node> nodesAtLevels[];
 	private CompressCircularSeries compressCircularSeries;
+	/** the update is suspended while nodes are added or changed in a batch */
+	private boolean updateSuspended;
+	/** nodes have been added or removed since the last update */
+	private boolean structureChanged = true;
+	/** the nodes whose children have to be laid out again when the update is resumed */
+	private final Set<Node> layoutNodes = new LinkedHashSet<>();
+	/** incremented after each layout, the nodes derive their angles again then */
+	private int layoutVersion;
+	/** the number of nodes which have been laid out, the work of the updates */
+	private long layoutCount;
 
 	public NodeDataModel() {
 
@@ -120,6 +133,53 @@ public class NodeDataModel {
 		rootNode.setId(id);
 	}
 
+	/**
+	 * Suspends the update of the hierarchy while a large number of nodes are
+	 * added or changed. The update is done once when it is resumed.
+	 * 
+	 * <pre>
+	 * try {
+	 *     dataModel.suspendUpdate(true);
+	 *     for(...) {
+	 *         parent.addChild(label, value);
+	 *     }
+	 * } finally {
+	 *     dataModel.suspendUpdate(false);
+	 * }
+	 * </pre>
+	 * 
+	 * @param suspend
+	 *            true to suspend the update of the hierarchy
+	 */
+	public void suspendUpdate(boolean suspend) {
+
+		if(updateSuspended == suspend) {
+			return;
+		}
+		updateSuspended = suspend;
+		if(!suspend) {
+			if(structureChanged || nodesAtLevels == null) {
+				update();
+			} else {
+				/*
+				 * Lay out the upper nodes first, the lower ones are mostly done then.
+				 */
+				List<Node> nodes = new ArrayList<>(layoutNodes);
+				nodes.sort(Comparator.comparingInt(Node::getLevel));
+				for(Node node : nodes) {
+					node.updateAngularBounds(false);
+				}
+				layoutVersion++;
+			}
+			layoutNodes.clear();
+		}
+	}
+
+	public boolean isUpdateSuspended() {
+
+		return updateSuspended;
+	}
+
 	/**
 	 * update functions that ensures the changes made by user do make sense, and
 	 * handles those which do not make sense. If changes can't be made, throws error.
@@ -127,18 +187,28 @@ public class NodeDataModel {
 	@SuppressWarnings("unchecked")
 	public void update() {
 
+		if(updateSuspended) {
+			structureChanged = true;
+			return;
+		}
+		//
 		getRootPointer().updateValues();
 		/*
-		 * update nodes length
+		 * update nodes length, the level lists are reused if possible
 		 */
 		int maxTreeDepth = rootPointer.getMaxSubTreeDepth() - 1;
-		setNodes(new ArrayList[maxTreeDepth + 1]);
-		//
 		ArrayList<Node>[] node = (ArrayList<Node>[])getNodes();
-		for(int i = 0; i <= maxTreeDepth; i++) {
-			node[i] = new ArrayList<Node>();
+		if(node == null || node.length != maxTreeDepth + 1) {
+			node = new ArrayList[maxTreeDepth + 1];
+			for(int i = 0; i <= maxTreeDepth; i++) {
+				node[i] = new ArrayList<Node>();
+			}
+			setNodes(node);
+		} else {
+			for(int i = 0; i <= maxTreeDepth; i++) {
+				node[i].clear();
+			}
 		}
-		setNodes(node);
 		/*
 		 * angular bounds
 		 */
@@ -147,7 +217,75 @@ public class NodeDataModel {
 		//
 		getRootPointer().setVisible(true);
 		//
+		layoutVersion++;
 		compressCircularSeries.update();
+		structureChanged = false;
+		layoutNodes.clear();
+	}
+
+	/**
+	 * Updates the hierarchy after the value of the node has changed. Only the
+	 * values of the ancestors and the angular bounds of the affected siblings
+	 * are updated. The level lists and colors don't change.
+	 * 
+	 * @param node
+	 * @param oldValue
+	 */
+	void updateValue(Node node, double oldValue) {
+
+		if(structureChanged || nodesAtLevels == null) {
+			update();
+			return;
+		}
+		/*
+		 * The children of the lowest unchanged ancestor are laid out again.
+		 * Only the subtree of the root pointer is drawn.
+		 */
+		Node changedNode = node.propagateValue(oldValue);
+		Node layoutNode = changedNode.getParent() == changedNode ? changedNode : changedNode.getParent();
+		if(!isAncestor(rootPointer, layoutNode)) {
+			layoutNode = isAncestor(rootPointer, node) ? rootPointer : null;
+		}
+		if(layoutNode != null) {
+			if(updateSuspended) {
+				layoutNodes.add(layoutNode);
+			} else {
+				layoutNode.updateAngularBounds(false);
+				layoutVersion++;
+			}
+		}
+	}
+
+	void setStructureChanged() {
+
+		structureChanged = true;
+	}
+
+	int getLayoutVersion() {
+
+		return layoutVersion;
+	}
+
+	long getLayoutCount() {
+
+		return layoutCount;
+	}
+
+	void countLayout() {
+
+		layoutCount++;
+	}
+
+	private static boolean isAncestor(Node ancestor, Node node) {
+
+		while(node != ancestor) {
+			Node parent = node.getParent();
+			if(parent == null || parent == node) {
+				return false;
+			}
+			node = parent;
+		}
+		return true;
 	}
 
 	public CompressCircularSeries getCompressor() {
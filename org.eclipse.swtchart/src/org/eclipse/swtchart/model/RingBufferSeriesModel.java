@@ -0,0 +1,469 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import java.util.Iterator;
+import java.util.stream.IntStream;
+
+/**
+ * A series model for streaming data, which is based on primitive ring buffers.
+ * Data points are appended in amortized constant time. If the model has a
+ * capacity, the oldest data points are removed when new data points are
+ * appended to a full model. If the model has a span, data points are removed
+ * when their x value is older than the span, measured from the last appended
+ * data point (sliding window).
+ * <p>
+ * The minimum and maximum values are available in constant time. If data
+ * points can be removed, they are tracked with monotonic deques, otherwise
+ * with running values.
+ */
+public class RingBufferSeriesModel implements IndexedSeriesModel<Integer>, CartesianSeriesModel<Integer> {
+
+	private static final int INITIAL_CAPACITY = 256;
+	//
+	private final int capacity;
+	private final double span;
+	private double[] xdata;
+	private double[] ydata;
+	/*
+	 * The position of the oldest data point in the buffers.
+	 */
+	private int head;
+	private int size;
+	/*
+	 * The number of data points appended so far, used
+	 * to identify the data points in the deques.
+	 */
+	private long appended;
+	//
+	/*
+	 * The deques are only needed if data points are removed,
+	 * i.e. if the model has a capacity or a span.
+	 */
+	private final MonotonicDeque minX;
+	private final MonotonicDeque maxX;
+	private final MonotonicDeque minY;
+	private final MonotonicDeque maxY;
+	private double minXValue = Double.NaN;
+	private double maxXValue = Double.NaN;
+	private double minYValue = Double.NaN;
+	private double maxYValue = Double.NaN;
+	private boolean isXMonotoneIncreasing = true;
+
+	/**
+	 * Creates a model without capacity, which grows as data points are
+	 * appended.
+	 */
+	public RingBufferSeriesModel() {
+
+		this(0);
+	}
+
+	/**
+	 * Creates a model, which keeps at most the given number of data points.
+	 * 
+	 * @param capacity
+	 *            the maximum number of data points or 0 if the model shall grow
+	 */
+	public RingBufferSeriesModel(int capacity) {
+
+		this(capacity, 0);
+	}
+
+	/**
+	 * Creates a model, which keeps at most the given number of data points
+	 * and only the data points within the given x span. The x values are
+	 * expected to be increasing, e.g. time stamps.
+	 * 
+	 * @param capacity
+	 *            the maximum number of data points or 0 if the model shall grow
+	 * @param span
+	 *            the x span to keep or 0 to keep all data points
+	 */
+	public RingBufferSeriesModel(int capacity, double span) {
+
+		if(capacity < 0 || span < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.capacity = capacity;
+		this.span = span;
+		int length = capacity > 0 ? capacity : INITIAL_CAPACITY;
+		xdata = new double[length];
+		ydata = new double[length];
+		if(capacity > 0 || span > 0) {
+			minX = new MonotonicDeque(false);
+			maxX = new MonotonicDeque(true);
+			minY = new MonotonicDeque(false);
+			maxY = new MonotonicDeque(true);
+		} else {
+			minX = null;
+			maxX = null;
+			minY = null;
+			maxY = null;
+		}
+	}
+
+	/**
+	 * Appends the given data points.
+	 * 
+	 * @param xSeries
+	 *            the x values
+	 * @param ySeries
+	 *            the y values
+	 * @return the number of data points which have been removed, including
+	 *         given data points which haven't been kept
+	 */
+	public int append(double[] xSeries, double[] ySeries) {
+
+		if(xSeries.length != ySeries.length) {
+			throw new IllegalArgumentException(Messages.getString(Messages.X_Y_LENGTH_DOESNT_MATCH));
+		}
+		int expectedSize = size + xSeries.length;
+		if(capacity > 0) {
+			removeFirst(Math.min(size, Math.max(0, expectedSize - capacity)));
+		} else {
+			ensureCapacity(expectedSize);
+		}
+		/*
+		 * Only the last data points are kept if there are
+		 * more than fitting into the buffers.
+		 */
+		int offset = Math.max(0, xSeries.length - xdata.length);
+		appended += offset;
+		for(int i = offset; i < xSeries.length; i++) {
+			add(xSeries[i], ySeries[i]);
+		}
+		/*
+		 * Sliding window
+		 */
+		if(span > 0 && size > 0) {
+			double lower = getXAt(size - 1) - span;
+			int count = 0;
+			while(count < size && getXAt(count) < lower) {
+				count++;
+			}
+			removeFirst(count);
+		}
+		return expectedSize - size;
+	}
+
+	/**
+	 * Returns the maximum number of data points.
+	 * 
+	 * @return the capacity or 0 if the model grows
+	 */
+	public int getCapacity() {
+
+		return capacity;
+	}
+
+	/**
+	 * Returns the x span of the sliding window.
+	 * 
+	 * @return the span or 0 if all data points are kept
+	 */
+	public double getSpan() {
+
+		return span;
+	}
+
+	@Override
+	public boolean isXMonotoneIncreasing() {
+
+		return isXMonotoneIncreasing;
+	}
+
+	private void add(double x, double y) {
+
+		if(size > 0 && getXAt(size - 1) > x) {
+			isXMonotoneIncreasing = false;
+		}
+		int index = getBufferIndex(size);
+		xdata[index] = x;
+		ydata[index] = y;
+		if(minX != null) {
+			minX.add(appended, x);
+			maxX.add(appended, x);
+			minY.add(appended, y);
+			maxY.add(appended, y);
+		} else {
+			if(!Double.isNaN(x)) {
+				minXValue = Double.isNaN(minXValue) ? x : Math.min(minXValue, x);
+				maxXValue = Double.isNaN(maxXValue) ? x : Math.max(maxXValue, x);
+			}
+			if(!Double.isNaN(y)) {
+				minYValue = Double.isNaN(minYValue) ? y : Math.min(minYValue, y);
+				maxYValue = Double.isNaN(maxYValue) ? y : Math.max(maxYValue, y);
+			}
+		}
+		appended++;
+		size++;
+	}
+
+	private void removeFirst(int count) {
+
+		if(count <= 0) {
+			return;
+		}
+		head = getBufferIndex(count);
+		size -= count;
+		long position = appended - size;
+		/*
+		 * Data points are only removed with a capacity or a span,
+		 * hence the deques exist.
+		 */
+		minX.removeBefore(position);
+		maxX.removeBefore(position);
+		minY.removeBefore(position);
+		maxY.removeBefore(position);
+	}
+
+	private void ensureCapacity(int length) {
+
+		if(length <= xdata.length) {
+			return;
+		}
+		/*
+		 * There is no capacity, hence the head is always at 0
+		 * unless data points are removed by the sliding window.
+		 */
+		int newLength = Math.max(length, xdata.length + (xdata.length >> 1));
+		xdata = toArray(xdata, newLength);
+		ydata = toArray(ydata, newLength);
+		head = 0;
+	}
+
+	/**
+	 * Gets the x value at the given index without copying the values.
+	 * 
+	 * @param index
+	 *            the index of the data point, the oldest one has the index 0
+	 * @return the x value
+	 */
+	public double getXAt(int index) {
+
+		return xdata[getBufferIndex(index)];
+	}
+
+	/**
+	 * Gets the y value at the given index without copying the values.
+	 * 
+	 * @param index
+	 *            the index of the data point, the oldest one has the index 0
+	 * @return the y value
+	 */
+	public double getYAt(int index) {
+
+		return ydata[getBufferIndex(index)];
+	}
+
+	private int getBufferIndex(int index) {
+
+		int bufferIndex = head + index;
+		if(bufferIndex >= xdata.length) {
+			bufferIndex -= xdata.length;
+		}
+		return bufferIndex;
+	}
+
+	private double[] toArray(double[] data, int length) {
+
+		double[] values = new double[length];
+		int count = Math.min(size, data.length - head);
+		System.arraycopy(data, head, values, 0, count);
+		System.arraycopy(data, 0, values, count, size - count);
+		return values;
+	}
+
+	private Number getExtreme(MonotonicDeque deque, double value) {
+
+		if(size == 0) {
+			return 0;
+		}
+		if(deque == null) {
+			return value;
+		}
+		return deque.isEmpty() ? Double.NaN : deque.get();
+	}
+
+	@Override
+	public Iterator<Integer> iterator() {
+
+		return IntStream.range(0, size).iterator();
+	}
+
+	@Override
+	public int size() {
+
+		return size;
+	}
+
+	@Override
+	public Integer itemAt(int index) throws IndexOutOfBoundsException {
+
+		return index;
+	}
+
+	@Override
+	public Number getX(Integer data) {
+
+		int value = data.intValue();
+		if(value >= 0 && value < size) {
+			return getXAt(value);
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public Number getY(Integer data) {
+
+		int value = data.intValue();
+		if(value >= 0 && value < size) {
+			return getYAt(value);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns a copy of the x values, as the values are not stored in order.
+	 * Use {@link #getXAt(int)} to access the values without copying them.
+	 */
+	@Override
+	public double[] getXValues() {
+
+		return toArray(xdata, size);
+	}
+
+	/**
+	 * Returns a copy of the y values, as the values are not stored in order.
+	 * Use {@link #getYAt(int)} to access the values without copying them.
+	 */
+	@Override
+	public double[] getYValues() {
+
+		return toArray(ydata, size);
+	}
+
+	@Override
+	public Number getMaxX() {
+
+		return getExtreme(maxX, maxXValue);
+	}
+
+	@Override
+	public Number getMinX() {
+
+		return getExtreme(minX, minXValue);
+	}
+
+	@Override
+	public Number getMaxY() {
+
+		return getExtreme(maxY, maxYValue);
+	}
+
+	@Override
+	public Number getMinY() {
+
+		return getExtreme(minY, minYValue);
+	}
+
+	/**
+	 * A deque of the candidates for the minimum or maximum of a sliding
+	 * window. The values are stored in monotonic order, so that the first
+	 * value is the extreme value. Each value is added and removed once,
+	 * hence the operations take amortized constant time.
+	 */
+	private static final class MonotonicDeque {
+
+		private final boolean maximum;
+		private long[] positions = new long[16];
+		private double[] values = new double[16];
+		private int first;
+		private int count;
+
+		private MonotonicDeque(boolean maximum) {
+
+			this.maximum = maximum;
+		}
+
+		private void add(long position, double value) {
+
+			if(Double.isNaN(value)) {
+				return;
+			}
+			/*
+			 * Values which can't be the extreme anymore are dropped.
+			 */
+			while(count > 0) {
+				double last = values[getIndex(count - 1)];
+				if(maximum ? last <= value : last >= value) {
+					count--;
+				} else {
+					break;
+				}
+			}
+			if(count == values.length) {
+				grow();
+			}
+			int index = getIndex(count);
+			positions[index] = position;
+			values[index] = value;
+			count++;
+		}
+
+		private void removeBefore(long position) {
+
+			while(count > 0 && positions[first] < position) {
+				first = getIndex(1);
+				count--;
+			}
+		}
+
+		private boolean isEmpty() {
+
+			return count == 0;
+		}
+
+		private double get() {
+
+			return values[first];
+		}
+
+		private int getIndex(int index) {
+
+			int bufferIndex = first + index;
+			if(bufferIndex >= values.length) {
+				bufferIndex -= values.length;
+			}
+			return bufferIndex;
+		}
+
+		private void grow() {
+
+			int length = values.length * 2;
+			long[] newPositions = new long[length];
+			double[] newValues = new double[length];
+			for(int i = 0; i < count; i++) {
+				int index = getIndex(i);
+				newPositions[i] = positions[index];
+				newValues[i] = values[index];
+			}
+			positions = newPositions;
+			values = newValues;
+			first = 0;
+		}
+	}
+}